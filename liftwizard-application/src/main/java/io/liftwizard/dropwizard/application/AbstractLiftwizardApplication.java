@@ -16,7 +16,9 @@
 
 package io.liftwizard.dropwizard.application;
 
+import java.time.Clock;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nonnull;
 
@@ -34,9 +36,12 @@ import io.liftwizard.dropwizard.bundle.environment.config.EnvironmentConfigBundl
 import io.liftwizard.dropwizard.bundle.uuid.UUIDBundle;
 import io.liftwizard.dropwizard.configuration.clock.ClockFactoryProvider;
 import io.liftwizard.dropwizard.configuration.factory.JsonConfigurationFactoryFactory;
+import io.liftwizard.dropwizard.configuration.reladomo.ReladomoFactoryProvider;
+import io.liftwizard.dropwizard.configuration.reladomo.ReladomoHealthCheckFactory;
 import io.liftwizard.dropwizard.configuration.uuid.UUIDSupplierFactoryProvider;
 import io.liftwizard.dropwizard.healthcheck.reladomo.ReladomoHealthCheck;
 import io.liftwizard.dropwizard.task.reladomo.clear.cache.ReladomoClearCacheTask;
+import io.liftwizard.dropwizard.task.reladomo.clear.cache.ReladomoClearClassCacheTask;
 import io.liftwizard.reladomo.rollback.ReladomoRollbackCommand;
 
 public abstract class AbstractLiftwizardApplication<
@@ -98,7 +103,7 @@ public abstract class AbstractLiftwizardApplication<
 	@Override
 	public void run(@Nonnull T configuration, @Nonnull Environment environment) throws Exception {
 		this.registerJacksonModules(environment);
-		this.registerHealthChecks(environment);
+		this.registerHealthChecks(configuration, environment);
 		this.registerTasks(environment);
 	}
 
@@ -106,11 +111,39 @@ public abstract class AbstractLiftwizardApplication<
 		environment.getObjectMapper().registerModule(new JacksonReladomoModule());
 	}
 
-	protected void registerHealthChecks(@Nonnull Environment environment) {
-		environment.healthChecks().register("reladomo", new ReladomoHealthCheck());
+	protected void registerHealthChecks(@Nonnull T configuration, @Nonnull Environment environment) {
+		// One thread is enough, since concurrent checks share one run of the probes
+		ExecutorService executorService = environment
+			.lifecycle()
+			.executorService("reladomo-health-check-%d")
+			.minThreads(1)
+			.maxThreads(1)
+			.build();
+		environment
+			.healthChecks()
+			.register("reladomo", this.createReladomoHealthCheck(configuration, executorService));
+	}
+
+	@Nonnull
+	protected ReladomoHealthCheck createReladomoHealthCheck(
+		@Nonnull T configuration,
+		@Nonnull ExecutorService executorService
+	) {
+		ReladomoHealthCheckFactory healthCheckFactory = configuration instanceof ReladomoFactoryProvider provider
+			? provider.getReladomoFactory().getHealthCheck()
+			: new ReladomoHealthCheckFactory();
+		return new ReladomoHealthCheck(
+			Clock.systemUTC(),
+			executorService,
+			healthCheckFactory.isConnectionProbes(),
+			healthCheckFactory.isFinderProbe(),
+			healthCheckFactory.getTimeout().toJavaDuration(),
+			healthCheckFactory.getCacheTtl().toJavaDuration()
+		);
 	}
 
 	protected void registerTasks(@Nonnull Environment environment) {
 		environment.admin().addTask(new ReladomoClearCacheTask());
+		environment.admin().addTask(new ReladomoClearClassCacheTask());
 	}
 }
@@ -22,6 +22,8 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auto.service.AutoService;
 import io.dropwizard.auth.AuthDynamicFeature;
 import io.dropwizard.auth.AuthFilter;
@@ -49,7 +51,11 @@ public class AuthFilterBundle implements PrioritizedBundle {
 
 		List<AuthFilterFactory> authFilterFactories = authFilterFactoryProvider.getAuthFilterFactories();
 
-		List<AuthFilter<?, ? extends Principal>> authFilters = this.getAuthFilters(authFilterFactories);
+		List<AuthFilter<?, ? extends Principal>> authFilters = this.getAuthFilters(
+			authFilterFactories,
+			environment.metrics(),
+			environment.getObjectMapper()
+		);
 
 		if (authFilters.isEmpty()) {
 			LOGGER.warn("{} disabled.", this.getClass().getSimpleName());
@@ -72,10 +78,14 @@ public class AuthFilterBundle implements PrioritizedBundle {
 	}
 
 	@Nonnull
-	private List<AuthFilter<?, ? extends Principal>> getAuthFilters(List<AuthFilterFactory> authFilterFactories) {
+	private List<AuthFilter<?, ? extends Principal>> getAuthFilters(
+		List<AuthFilterFactory> authFilterFactories,
+		MetricRegistry metricRegistry,
+		ObjectMapper objectMapper
+	) {
 		return authFilterFactories
 			.stream()
-			.map(AuthFilterFactory::createAuthFilter)
+			.map((authFilterFactory) -> authFilterFactory.createAuthFilter(metricRegistry, objectMapper))
 			.collect(Collectors.toUnmodifiableList());
 	}
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies Firebase ID tokens with the Firebase Admin SDK.
+ */
+public class FirebaseAdminIdTokenVerifier implements FirebaseIdTokenVerifier {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FirebaseAdminIdTokenVerifier.class);
+
+	private final FirebaseAuth firebaseAuth;
+
+	public FirebaseAdminIdTokenVerifier(FirebaseAuth firebaseAuth) {
+		this.firebaseAuth = Objects.requireNonNull(firebaseAuth);
+	}
+
+	@Nonnull
+	@Override
+	public Optional<VerifiedFirebaseToken> verify(@Nonnull String idToken) {
+		try {
+			FirebaseToken firebaseToken = this.firebaseAuth.verifyIdToken(idToken);
+			return Optional.of(VerifiedFirebaseToken.fromClaims(firebaseToken.getClaims()));
+		} catch (FirebaseAuthException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof UnknownHostException) {
+				throw new RuntimeException(e);
+			}
+			if (cause instanceof SocketTimeoutException) {
+				throw new RuntimeException(e);
+			}
+			LOGGER.warn("Could not verify Firebase ID token: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+}
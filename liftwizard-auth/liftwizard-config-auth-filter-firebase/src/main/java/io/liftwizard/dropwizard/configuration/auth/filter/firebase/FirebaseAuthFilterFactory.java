@@ -16,10 +16,14 @@
 
 package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
 
+import java.time.Clock;
+
 import javax.annotation.Nonnull;
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
@@ -32,6 +36,7 @@ import com.google.firebase.database.FirebaseDatabase;
 import io.dropwizard.auth.AuthFilter;
 import io.dropwizard.auth.Authenticator;
 import io.dropwizard.auth.oauth.OAuthCredentialAuthFilter;
+import io.dropwizard.util.Duration;
 import io.dropwizard.validation.ValidationMethod;
 import io.liftwizard.dropwizard.configuration.auth.filter.AuthFilterFactory;
 import io.liftwizard.firebase.principal.FirebasePrincipal;
@@ -44,14 +49,40 @@ public class FirebaseAuthFilterFactory implements AuthFilterFactory {
 
 	private @Valid @NotNull String databaseUrl;
 
+	// 0 disables the cache and verifies every request
+	@Min(0)
+	private long cacheMaximumSize = 10_000;
+
+	@NotNull
+	private Duration cacheMaximumTtl = Duration.hours(1);
+
+	@Valid
+	@NotNull
+	private FirebaseLocalVerificationFactory localVerification = new FirebaseLocalVerificationFactory();
+
 	private FirebaseAuth firebaseAuthFactory;
 
 	@Nonnull
 	@Override
 	public AuthFilter<?, FirebasePrincipal> createAuthFilter() {
-		com.google.firebase.auth.FirebaseAuth firebaseAuth = this.createFirebaseAuth();
+		return this.createAuthFilter(new MetricRegistry(), new ObjectMapper());
+	}
 
-		Authenticator<String, FirebasePrincipal> authenticator = new FirebaseOAuthAuthenticator(firebaseAuth);
+	@Nonnull
+	@Override
+	public AuthFilter<?, FirebasePrincipal> createAuthFilter(MetricRegistry metricRegistry, ObjectMapper objectMapper) {
+		Clock clock = Clock.systemUTC();
+		FirebaseIdTokenVerifier verifier = this.localVerification.isEnabled()
+			? this.localVerification.createVerifier(clock, objectMapper)
+			: new FirebaseAdminIdTokenVerifier(this.createFirebaseAuth());
+
+		Authenticator<String, FirebasePrincipal> authenticator = new FirebaseOAuthAuthenticator(
+			verifier,
+			this.cacheMaximumSize,
+			this.cacheMaximumTtl.toJavaDuration(),
+			metricRegistry,
+			clock
+		);
 
 		return new OAuthCredentialAuthFilter.Builder<FirebasePrincipal>()
 			.setAuthenticator(authenticator)
@@ -97,6 +128,9 @@ public class FirebaseAuthFilterFactory implements AuthFilterFactory {
 	@ValidationMethod(message = "FIREBASE_CONFIG environment variable is not set")
 	@JsonIgnore
 	public boolean isFirebaseConfigEnvSet() {
+		if (this.localVerification.isEnabled()) {
+			return true;
+		}
 		String envValue = System.getenv(FIREBASE_CONFIG_ENV_VAR);
 		return envValue != null && !envValue.isEmpty();
 	}
@@ -125,4 +159,34 @@ public class FirebaseAuthFilterFactory implements AuthFilterFactory {
 	public void setDatabaseUrl(String databaseUrl) {
 		this.databaseUrl = databaseUrl;
 	}
+
+	@JsonProperty
+	public long getCacheMaximumSize() {
+		return this.cacheMaximumSize;
+	}
+
+	@JsonProperty
+	public void setCacheMaximumSize(long cacheMaximumSize) {
+		this.cacheMaximumSize = cacheMaximumSize;
+	}
+
+	@JsonProperty
+	public Duration getCacheMaximumTtl() {
+		return this.cacheMaximumTtl;
+	}
+
+	@JsonProperty
+	public void setCacheMaximumTtl(Duration cacheMaximumTtl) {
+		this.cacheMaximumTtl = cacheMaximumTtl;
+	}
+
+	@JsonProperty
+	public FirebaseLocalVerificationFactory getLocalVerification() {
+		return this.localVerification;
+	}
+
+	@JsonProperty
+	public void setLocalVerification(FirebaseLocalVerificationFactory localVerification) {
+		this.localVerification = localVerification;
+	}
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Verifies Firebase ID tokens.
+ *
+ * <p>
+ * Implementations return an empty Optional for tokens that are invalid or expired, and throw for infrastructure failures like an unreachable key server, so that callers can tell a bad credential from an outage.
+ */
+public interface FirebaseIdTokenVerifier {
+	@Nonnull
+	Optional<VerifiedFirebaseToken> verify(@Nonnull String idToken);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import io.dropwizard.validation.ValidationMethod;
+
+public class FirebaseLocalVerificationFactory {
+
+	private boolean enabled;
+
+	private String projectId;
+
+	@NotNull
+	private URI publicKeysUri = FirebasePublicKeys.GOOGLE_JWKS_URI;
+
+	@NotNull
+	@MinDuration(1)
+	private Duration refreshInterval = Duration.hours(1);
+
+	@JsonProperty
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@JsonProperty
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@JsonProperty
+	public String getProjectId() {
+		return this.projectId;
+	}
+
+	@JsonProperty
+	public void setProjectId(String projectId) {
+		this.projectId = projectId;
+	}
+
+	@JsonProperty
+	public URI getPublicKeysUri() {
+		return this.publicKeysUri;
+	}
+
+	@JsonProperty
+	public void setPublicKeysUri(URI publicKeysUri) {
+		this.publicKeysUri = publicKeysUri;
+	}
+
+	@JsonProperty
+	public Duration getRefreshInterval() {
+		return this.refreshInterval;
+	}
+
+	@JsonProperty
+	public void setRefreshInterval(Duration refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
+	@ValidationMethod(message = "Local verification requires a projectId")
+	@JsonIgnore
+	public boolean isValidProjectId() {
+		return !this.enabled || this.projectId != null && !this.projectId.isEmpty();
+	}
+
+	public FirebaseIdTokenVerifier createVerifier(Clock clock, ObjectMapper objectMapper) {
+		var publicKeys = new FirebasePublicKeys(
+			this.publicKeysUri,
+			this.refreshInterval.toJavaDuration(),
+			clock,
+			objectMapper,
+			Executors.newSingleThreadExecutor(FirebaseLocalVerificationFactory::newRefreshThread)
+		);
+		return new LocalFirebaseIdTokenVerifier(this.projectId, publicKeys, clock, objectMapper);
+	}
+
+	// A daemon, so the idle refresh thread never keeps the JVM alive
+	private static Thread newRefreshThread(Runnable runnable) {
+		var thread = new Thread(runnable, "firebase-public-keys-refresh");
+		thread.setDaemon(true);
+		return thread;
+	}
+}
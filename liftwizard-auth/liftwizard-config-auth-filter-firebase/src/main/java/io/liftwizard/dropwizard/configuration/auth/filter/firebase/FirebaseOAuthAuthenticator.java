@@ -16,65 +16,127 @@
 
 package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
 
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Objects;
 import java.util.Optional;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.google.firebase.auth.FirebaseAuth;
-import com.google.firebase.auth.FirebaseAuthException;
-import com.google.firebase.auth.FirebaseToken;
 import io.dropwizard.auth.Authenticator;
 import io.liftwizard.firebase.principal.FirebasePrincipal;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
+/**
+ * Authenticates Firebase ID tokens, optionally remembering verified principals.
+ *
+ * <p>
+ * The same ID token is usually presented on many requests during its lifetime, so verified tokens are cached under a SHA-256 hash of the token. An entry lives no longer than the configured time-to-live and never past the token's {@code exp} claim. Tokens that fail verification are never cached.
+ */
 public class FirebaseOAuthAuthenticator implements Authenticator<String, FirebasePrincipal> {
 
-	private static final Logger LOGGER = LoggerFactory.getLogger(FirebaseOAuthAuthenticator.class);
+	private final FirebaseIdTokenVerifier verifier;
+	private final Clock clock;
+
+	@Nullable
+	private final Cache<String, VerifiedFirebaseToken> cache;
 
-	private final FirebaseAuth firebaseAuth;
+	private final Meter hits;
+	private final Meter misses;
+	private final Timer verification;
 
 	public FirebaseOAuthAuthenticator(FirebaseAuth firebaseAuth) {
-		this.firebaseAuth = firebaseAuth;
+		this(new FirebaseAdminIdTokenVerifier(firebaseAuth), 0, Duration.ZERO, new MetricRegistry(), Clock.systemUTC());
+	}
+
+	/**
+	 * @param cacheMaximumSize the maximum number of verified tokens to remember, or 0 to verify every request
+	 */
+	public FirebaseOAuthAuthenticator(
+		@Nonnull FirebaseIdTokenVerifier verifier,
+		long cacheMaximumSize,
+		@Nonnull Duration cacheMaximumTtl,
+		@Nonnull MetricRegistry metricRegistry,
+		@Nonnull Clock clock
+	) {
+		this.verifier = Objects.requireNonNull(verifier);
+		this.clock = Objects.requireNonNull(clock);
+		if (cacheMaximumSize > 0) {
+			this.cache = Caffeine.newBuilder()
+				.maximumSize(cacheMaximumSize)
+				.expireAfter(new TokenExpiry(cacheMaximumTtl, clock))
+				.build();
+		} else {
+			this.cache = null;
+		}
+
+		this.hits = metricRegistry.meter(MetricRegistry.name("liftwizard", "auth", "firebase", "cache", "hits"));
+		this.misses = metricRegistry.meter(MetricRegistry.name("liftwizard", "auth", "firebase", "cache", "misses"));
+		this.verification = metricRegistry.timer(MetricRegistry.name("liftwizard", "auth", "firebase", "verification"));
 	}
 
 	@Override
 	public Optional<FirebasePrincipal> authenticate(String credentials) {
-		try {
-			FirebaseToken firebaseToken = this.firebaseAuth.verifyIdToken(credentials);
-			FirebasePrincipal firebasePrincipal = getFirebasePrincipal(firebaseToken);
-
-			return Optional.of(firebasePrincipal);
-		} catch (FirebaseAuthException e) {
-			Throwable cause = e.getCause();
-			if (cause instanceof UnknownHostException) {
-				throw new RuntimeException(e);
-			}
-			if (cause instanceof SocketTimeoutException) {
-				throw new RuntimeException(e);
-			}
-			LOGGER.warn(credentials, e.getMessage());
-			return Optional.empty();
+		if (this.cache == null) {
+			return this.verify(credentials).map(VerifiedFirebaseToken::principal);
+		}
+
+		String key = hash(credentials);
+		VerifiedFirebaseToken cachedToken = this.cache.getIfPresent(key);
+		if (cachedToken != null && this.clock.instant().isBefore(cachedToken.expiresAt())) {
+			this.hits.mark();
+			return Optional.of(cachedToken.principal());
 		}
+
+		this.misses.mark();
+		Optional<VerifiedFirebaseToken> verifiedToken = this.verify(credentials);
+		verifiedToken.ifPresent((token) -> this.cache.put(key, token));
+		return verifiedToken.map(VerifiedFirebaseToken::principal);
 	}
 
-	@Nonnull
-	private static FirebasePrincipal getFirebasePrincipal(@Nonnull FirebaseToken firebaseToken) {
-		Map<String, Object> claims = firebaseToken.getClaims();
+	private Optional<VerifiedFirebaseToken> verify(String credentials) {
+		try (Timer.Context ignored = this.verification.time()) {
+			return this.verifier.verify(credentials);
+		}
+	}
+
+	private static String hash(String credentials) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			byte[] digest = messageDigest.digest(credentials.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
 
-		var firebase = (Map<String, Object>) claims.get("firebase");
-		var signInProvider = (String) firebase.get("sign_in_provider");
+	private record TokenExpiry(Duration maximumTtl, Clock clock) implements Expiry<String, VerifiedFirebaseToken> {
+		@Override
+		public long expireAfterCreate(String key, VerifiedFirebaseToken value, long currentTime) {
+			Duration untilExpiry = Duration.between(this.clock.instant(), value.expiresAt());
+			Duration ttl = untilExpiry.compareTo(this.maximumTtl) < 0 ? untilExpiry : this.maximumTtl;
+			return ttl.isNegative() ? 0 : ttl.toNanos();
+		}
 
-		String uid = firebaseToken.getUid();
-		String name = firebaseToken.getName();
-		String email = firebaseToken.getEmail();
-		boolean emailVerified = firebaseToken.isEmailVerified();
-		String issuer = firebaseToken.getIssuer();
-		String picture = firebaseToken.getPicture();
+		@Override
+		public long expireAfterUpdate(String key, VerifiedFirebaseToken value, long currentTime, long currentDuration) {
+			return this.expireAfterCreate(key, value, currentTime);
+		}
 
-		return new FirebasePrincipal(uid, name, email, emailVerified, issuer, picture, signInProvider);
+		@Override
+		public long expireAfterRead(String key, VerifiedFirebaseToken value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URLConnection;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The RSA public keys that sign Firebase ID tokens, loaded from a JSON Web Key Set.
+ *
+ * <p>
+ * The location may be an {@code https} URI like Google's published key set, or a {@code file} URI for tests and air-gapped deployments. Only the first lookup waits for the keys to load. Once the keys are older than the refresh interval, lookups keep using them while the executor reloads them in the background. A token signed with an unknown key id triggers an immediate reload, at most once per {@link #MISSING_KEY_REFRESH_INTERVAL}, so tokens signed with a newly rotated key verify without waiting for the next refresh. When a reload fails, the previous keys stay in use and the failure is logged.
+ */
+public class FirebasePublicKeys {
+
+	public static final URI GOOGLE_JWKS_URI = URI.create(
+		"https://www.googleapis.com/service_accounts/v1/jwk/securetoken@system.gserviceaccount.com"
+	);
+
+	public static final Duration MISSING_KEY_REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FirebasePublicKeys.class);
+
+	private static final int TIMEOUT_MILLIS = 10_000;
+
+	private final URI location;
+	private final Duration refreshInterval;
+	private final Clock clock;
+	private final ObjectMapper objectMapper;
+	private final Executor executor;
+
+	private final AtomicReference<KeySet> keySet = new AtomicReference<>();
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+	private final Object reloadLock = new Object();
+
+	// Guarded by reloadLock
+	private Instant lastReloadAttempt = Instant.MIN;
+
+	public FirebasePublicKeys(
+		@Nonnull URI location,
+		@Nonnull Duration refreshInterval,
+		@Nonnull Clock clock,
+		@Nonnull ObjectMapper objectMapper,
+		@Nonnull Executor executor
+	) {
+		this.location = Objects.requireNonNull(location);
+		this.refreshInterval = Objects.requireNonNull(refreshInterval);
+		this.clock = Objects.requireNonNull(clock);
+		this.objectMapper = Objects.requireNonNull(objectMapper);
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Nullable
+	public PublicKey getPublicKey(@Nonnull String keyId) {
+		KeySet current = this.getKeySet();
+		if (!this.clock.instant().isBefore(current.loadedAt().plus(this.refreshInterval))) {
+			this.refreshInBackground();
+		}
+
+		PublicKey publicKey = current.keys().get(keyId);
+		if (publicKey != null) {
+			return publicKey;
+		}
+		return this.reloadForMissingKey(keyId, current);
+	}
+
+	private KeySet getKeySet() {
+		KeySet current = this.keySet.get();
+		if (current != null) {
+			return current;
+		}
+
+		synchronized (this.reloadLock) {
+			current = this.keySet.get();
+			if (current != null) {
+				return current;
+			}
+
+			this.lastReloadAttempt = this.clock.instant();
+			try {
+				return this.loadKeySet();
+			} catch (IOException | GeneralSecurityException e) {
+				throw new IllegalStateException("Could not load Firebase public keys from " + this.location, e);
+			}
+		}
+	}
+
+	private void refreshInBackground() {
+		if (!this.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			this.executor.execute(() -> {
+				try {
+					synchronized (this.reloadLock) {
+						this.reload();
+					}
+				} finally {
+					this.refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			this.refreshing.set(false);
+			LOGGER.warn("Could not schedule a reload of the Firebase public keys from {}.", this.location, e);
+		}
+	}
+
+	@Nullable
+	private PublicKey reloadForMissingKey(String keyId, KeySet seen) {
+		synchronized (this.reloadLock) {
+			KeySet current = this.keySet.get();
+			if (current != seen) {
+				return current.keys().get(keyId);
+			}
+
+			if (this.clock.instant().isBefore(this.lastReloadAttempt.plus(MISSING_KEY_REFRESH_INTERVAL))) {
+				return null;
+			}
+
+			LOGGER.debug("Reloading Firebase public keys from {} to look for key id {}.", this.location, keyId);
+			return this.reload().keys().get(keyId);
+		}
+	}
+
+	// Called with reloadLock held
+	private KeySet reload() {
+		this.lastReloadAttempt = this.clock.instant();
+		KeySet current = this.keySet.get();
+		try {
+			return this.loadKeySet();
+		} catch (IOException | GeneralSecurityException e) {
+			LOGGER.warn("Could not reload Firebase public keys from {}. Keeping the previous keys.", this.location, e);
+			var retained = new KeySet(current.keys(), this.clock.instant());
+			this.keySet.set(retained);
+			return retained;
+		}
+	}
+
+	private KeySet loadKeySet() throws IOException, GeneralSecurityException {
+		var loaded = new KeySet(this.load(), this.clock.instant());
+		this.keySet.set(loaded);
+		LOGGER.debug("Loaded {} Firebase public keys from {}.", loaded.keys().size(), this.location);
+		return loaded;
+	}
+
+	private Map<String, PublicKey> load() throws IOException, GeneralSecurityException {
+		URLConnection connection = this.location.toURL().openConnection();
+		connection.setConnectTimeout(TIMEOUT_MILLIS);
+		connection.setReadTimeout(TIMEOUT_MILLIS);
+
+		JsonNode jwks;
+		try (InputStream inputStream = connection.getInputStream()) {
+			jwks = this.objectMapper.readTree(inputStream);
+		}
+
+		KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+		Base64.Decoder decoder = Base64.getUrlDecoder();
+		Map<String, PublicKey> result = new HashMap<>();
+		for (JsonNode key : jwks.path("keys")) {
+			if (!"RSA".equals(key.path("kty").asText())) {
+				continue;
+			}
+			var modulus = new BigInteger(1, decoder.decode(key.path("n").asText()));
+			var exponent = new BigInteger(1, decoder.decode(key.path("e").asText()));
+			result.put(key.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+		}
+		if (result.isEmpty()) {
+			throw new IOException("No RSA keys found in " + this.location);
+		}
+		return Map.copyOf(result);
+	}
+
+	private record KeySet(Map<String, PublicKey> keys, Instant loadedAt) {}
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies Firebase ID tokens in-process, without calling the Firebase Admin SDK.
+ *
+ * <p>
+ * Follows Firebase's rules for verifying ID tokens with a third-party JWT library: the header must name the RS256 algorithm and a known key id, the signature must match that key, the audience and issuer must match the project, the subject must be non-empty, and the token must be issued in the past and not yet expired.
+ *
+ * @see <a href="https://firebase.google.com/docs/auth/admin/verify-id-tokens#verify_id_tokens_using_a_third-party_jwt_library">https://firebase.google.com/docs/auth/admin/verify-id-tokens#verify_id_tokens_using_a_third-party_jwt_library</a>
+ */
+public class LocalFirebaseIdTokenVerifier implements FirebaseIdTokenVerifier {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LocalFirebaseIdTokenVerifier.class);
+
+	private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+	private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {};
+
+	private final String projectId;
+	private final String issuer;
+	private final FirebasePublicKeys publicKeys;
+	private final Clock clock;
+	private final ObjectMapper objectMapper;
+
+	public LocalFirebaseIdTokenVerifier(
+		@Nonnull String projectId,
+		@Nonnull FirebasePublicKeys publicKeys,
+		@Nonnull Clock clock,
+		@Nonnull ObjectMapper objectMapper
+	) {
+		this.projectId = Objects.requireNonNull(projectId);
+		this.issuer = "https://securetoken.google.com/" + projectId;
+		this.publicKeys = Objects.requireNonNull(publicKeys);
+		this.clock = Objects.requireNonNull(clock);
+		this.objectMapper = Objects.requireNonNull(objectMapper);
+	}
+
+	@Nonnull
+	@Override
+	public Optional<VerifiedFirebaseToken> verify(@Nonnull String idToken) {
+		String[] parts = idToken.split("\\.", -1);
+		if (parts.length != 3) {
+			return reject("the token is not a JWS compact serialization");
+		}
+
+		try {
+			Base64.Decoder decoder = Base64.getUrlDecoder();
+			JsonNode header = this.objectMapper.readTree(decoder.decode(parts[0]));
+			if (!"RS256".equals(header.path("alg").asText())) {
+				return reject("unexpected algorithm " + header.path("alg"));
+			}
+
+			String keyId = header.path("kid").asText();
+			PublicKey publicKey = this.publicKeys.getPublicKey(keyId);
+			if (publicKey == null) {
+				return reject("unknown key id " + keyId);
+			}
+
+			Signature signature = Signature.getInstance("SHA256withRSA");
+			signature.initVerify(publicKey);
+			signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+			if (!signature.verify(decoder.decode(parts[2]))) {
+				return reject("invalid signature");
+			}
+
+			Map<String, Object> claims = this.objectMapper.readValue(decoder.decode(parts[1]), CLAIMS_TYPE);
+			return this.verifyClaims(claims);
+		} catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+			return reject("malformed token: " + e.getMessage());
+		}
+	}
+
+	private Optional<VerifiedFirebaseToken> verifyClaims(Map<String, Object> claims) {
+		if (!this.projectId.equals(claims.get("aud"))) {
+			return reject("unexpected audience " + claims.get("aud"));
+		}
+		if (!this.issuer.equals(claims.get("iss"))) {
+			return reject("unexpected issuer " + claims.get("iss"));
+		}
+		if (!(claims.get("sub") instanceof String subject) || subject.isEmpty() || subject.length() > 128) {
+			return reject("invalid subject");
+		}
+
+		Instant now = this.clock.instant();
+		if (!(claims.get("exp") instanceof Number exp) || !now.isBefore(epochSecond(exp).plus(CLOCK_SKEW))) {
+			return reject("the token has expired");
+		}
+		if (!(claims.get("iat") instanceof Number iat) || epochSecond(iat).isAfter(now.plus(CLOCK_SKEW))) {
+			return reject("the token was issued in the future");
+		}
+		if (claims.get("auth_time") instanceof Number authTime && epochSecond(authTime).isAfter(now.plus(CLOCK_SKEW))) {
+			return reject("the user authenticated in the future");
+		}
+
+		return Optional.of(VerifiedFirebaseToken.fromClaims(claims));
+	}
+
+	private static Instant epochSecond(Number number) {
+		return Instant.ofEpochSecond(number.longValue());
+	}
+
+	// Rejected tokens are routine, like expired sessions and bots, so they are logged at DEBUG to keep them from flooding the logs
+	private static Optional<VerifiedFirebaseToken> reject(String reason) {
+		LOGGER.debug("Could not verify Firebase ID token: {}", reason);
+		return Optional.empty();
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.liftwizard.firebase.principal.FirebasePrincipal;
+
+/**
+ * A {@link FirebasePrincipal} whose ID token passed verification, together with the token's {@code exp} claim.
+ */
+public record VerifiedFirebaseToken(@Nonnull FirebasePrincipal principal, @Nonnull Instant expiresAt) {
+	public VerifiedFirebaseToken {
+		Objects.requireNonNull(principal);
+		Objects.requireNonNull(expiresAt);
+	}
+
+	/**
+	 * Reads the principal from verified claims.
+	 *
+	 * @throws IllegalArgumentException if {@code sub} or {@code exp} is missing, or a claim has the wrong JSON type
+	 */
+	@Nonnull
+	public static VerifiedFirebaseToken fromClaims(@Nonnull Map<String, Object> claims) {
+		Map<?, ?> firebase = getClaim(claims, "firebase", Map.class);
+		String signInProvider = firebase == null ? null : getClaim(firebase, "sign_in_provider", String.class);
+
+		String uid = Objects.requireNonNull(getClaim(claims, "sub", String.class), "sub");
+		String name = getClaim(claims, "name", String.class);
+		String email = getClaim(claims, "email", String.class);
+		boolean emailVerified = Boolean.TRUE.equals(getClaim(claims, "email_verified", Boolean.class));
+		String issuer = getClaim(claims, "iss", String.class);
+		String picture = getClaim(claims, "picture", String.class);
+
+		var principal = new FirebasePrincipal(uid, name, email, emailVerified, issuer, picture, signInProvider);
+		Number exp = Objects.requireNonNull(getClaim(claims, "exp", Number.class), "exp");
+		return new VerifiedFirebaseToken(principal, Instant.ofEpochSecond(exp.longValue()));
+	}
+
+	@Nullable
+	private static <T> T getClaim(Map<?, ?> claims, String name, Class<T> type) {
+		Object value = claims.get(name);
+		if (value == null || type.isInstance(value)) {
+			return type.cast(value);
+		}
+		throw new IllegalArgumentException(
+			"Expected claim " + name + " to be a " + type.getSimpleName() + " but got " + value.getClass().getSimpleName()
+		);
+	}
+}
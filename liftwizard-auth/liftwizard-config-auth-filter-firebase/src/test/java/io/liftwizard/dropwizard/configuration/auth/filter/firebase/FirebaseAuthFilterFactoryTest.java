@@ -20,6 +20,7 @@ import java.util.List;
 
 import javax.validation.Validator;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.configuration.JsonConfigurationFactory;
 import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
@@ -68,6 +69,19 @@ class FirebaseAuthFilterFactoryTest {
 		assertThat(authFilterFactory).isInstanceOf(FirebaseAuthFilterFactory.class);
 	}
 
+	@Test
+	void firebaseAuthFilterWithLocalVerification() throws Exception {
+		AuthFilterFactory authFilterFactory = this.factory.build(
+			new ResourceConfigurationSourceProvider(),
+			"config-test-local-verification.json5"
+		);
+		assertThat(authFilterFactory).isInstanceOf(FirebaseAuthFilterFactory.class);
+
+		var firebaseAuthFilterFactory = (FirebaseAuthFilterFactory) authFilterFactory;
+		assertThat(firebaseAuthFilterFactory.getLocalVerification().getProjectId()).isEqualTo("liftwizard-test");
+		assertThat(firebaseAuthFilterFactory.createAuthFilter(new MetricRegistry(), this.objectMapper)).isNotNull();
+	}
+
 	private static ObjectMapper newObjectMapper() {
 		ObjectMapper objectMapper = Jackson.newObjectMapper();
 		ObjectMapperConfig.configure(objectMapper);
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.liftwizard.firebase.principal.FirebasePrincipal;
+import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirebaseOAuthAuthenticatorTest {
+
+	private static final String PROJECT_ID = "liftwizard-test";
+	private static final String KEY_ID = "test-key";
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	@RegisterExtension
+	private final LogMarkerTestExtension logMarkerTestExtension = new LogMarkerTestExtension();
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@TempDir
+	private Path tempDir;
+
+	private KeyPair keyPair;
+	private FirebaseOAuthAuthenticator authenticator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		this.keyPair = keyPairGenerator.generateKeyPair();
+
+		var publicKey = (RSAPublicKey) this.keyPair.getPublic();
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		Map<String, Object> jwk = Map.of(
+			"kty",
+			"RSA",
+			"alg",
+			"RS256",
+			"kid",
+			KEY_ID,
+			"n",
+			encoder.encodeToString(publicKey.getModulus().toByteArray()),
+			"e",
+			encoder.encodeToString(publicKey.getPublicExponent().toByteArray())
+		);
+		Path jwksPath = this.tempDir.resolve("jwks.json");
+		Files.writeString(jwksPath, this.objectMapper.writeValueAsString(Map.of("keys", List.of(jwk))));
+
+		var publicKeys = new FirebasePublicKeys(
+			jwksPath.toUri(),
+			Duration.ofHours(1),
+			this.clock,
+			this.objectMapper,
+			Runnable::run
+		);
+		var verifier = new LocalFirebaseIdTokenVerifier(PROJECT_ID, publicKeys, this.clock, this.objectMapper);
+		this.authenticator = new FirebaseOAuthAuthenticator(
+			verifier,
+			100,
+			Duration.ofHours(1),
+			this.metricRegistry,
+			this.clock
+		);
+	}
+
+	@Test
+	void validTokenIsVerifiedOnceAndThenCached() throws Exception {
+		String token = this.sign(this.claims(PROJECT_ID, NOW.plusSeconds(3600)));
+
+		Optional<FirebasePrincipal> first = this.authenticator.authenticate(token);
+		Optional<FirebasePrincipal> second = this.authenticator.authenticate(token);
+
+		assertThat(first).hasValueSatisfying((principal) -> assertThat(principal.getName()).isEqualTo("user-id"));
+		assertThat(second).containsSame(first.orElseThrow());
+		assertThat(this.metricRegistry.meter("liftwizard.auth.firebase.cache.misses").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.meter("liftwizard.auth.firebase.cache.hits").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.timer("liftwizard.auth.firebase.verification").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void expiredToken() throws Exception {
+		String token = this.sign(this.claims(PROJECT_ID, NOW.minusSeconds(3600)));
+		assertThat(this.authenticator.authenticate(token)).isEmpty();
+	}
+
+	@Test
+	void wrongAudience() throws Exception {
+		String token = this.sign(this.claims("other-project", NOW.plusSeconds(3600)));
+		assertThat(this.authenticator.authenticate(token)).isEmpty();
+	}
+
+	@Test
+	void tamperedPayload() throws Exception {
+		String token = this.sign(this.claims(PROJECT_ID, NOW.plusSeconds(3600)));
+		String[] parts = token.split("\\.");
+		String otherPayload = this.encode(this.claims(PROJECT_ID, NOW.plusSeconds(7200)));
+		String tamperedToken = parts[0] + "." + otherPayload + "." + parts[2];
+
+		assertThat(this.authenticator.authenticate(tamperedToken)).isEmpty();
+		assertThat(this.metricRegistry.meter("liftwizard.auth.firebase.cache.misses").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void claimWithTheWrongType() throws Exception {
+		Map<String, Object> claims = new HashMap<>(this.claims(PROJECT_ID, NOW.plusSeconds(3600)));
+		claims.put("email", List.of("user@example.com"));
+		String token = this.sign(claims);
+
+		assertThat(this.authenticator.authenticate(token)).isEmpty();
+	}
+
+	private Map<String, Object> claims(String audience, Instant expiresAt) {
+		return Map.of(
+			"aud",
+			audience,
+			"iss",
+			"https://securetoken.google.com/" + audience,
+			"sub",
+			"user-id",
+			"email",
+			"user@example.com",
+			"email_verified",
+			true,
+			"iat",
+			NOW.minusSeconds(60).getEpochSecond(),
+			"exp",
+			expiresAt.getEpochSecond(),
+			"firebase",
+			Map.of("sign_in_provider", "password")
+		);
+	}
+
+	private String sign(Map<String, Object> claims) throws Exception {
+		String header = this.encode(Map.of("alg", "RS256", "kid", KEY_ID, "typ", "JWT"));
+		String payload = this.encode(claims);
+
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(this.keyPair.getPrivate());
+		signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+		return header + "." + payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+	}
+
+	private String encode(Map<String, Object> json) throws Exception {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(this.objectMapper.writeValueAsBytes(json));
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.auth.filter.firebase;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FirebasePublicKeysTest {
+
+	private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MutableClock clock = new MutableClock();
+	private final List<Runnable> scheduled = new ArrayList<>();
+	private final Map<String, PublicKey> keys = new LinkedHashMap<>();
+
+	@TempDir
+	private Path tempDir;
+
+	private Path jwksPath;
+	private FirebasePublicKeys publicKeys;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		this.jwksPath = this.tempDir.resolve("jwks.json");
+		this.publish("a");
+		this.publicKeys = new FirebasePublicKeys(
+			this.jwksPath.toUri(),
+			Duration.ofHours(1),
+			this.clock,
+			this.objectMapper,
+			this.scheduled::add
+		);
+	}
+
+	@Test
+	void staleKeysAreReloadedInTheBackground() throws Exception {
+		assertThat(this.publicKeys.getPublicKey("a")).isEqualTo(this.keys.get("a"));
+		this.publish("b");
+
+		this.clock.advance(Duration.ofHours(1));
+		assertThat(this.publicKeys.getPublicKey("a")).isEqualTo(this.keys.get("a"));
+		assertThat(this.publicKeys.getPublicKey("a")).isEqualTo(this.keys.get("a"));
+		assertThat(this.scheduled).hasSize(1);
+
+		this.scheduled.get(0).run();
+
+		assertThat(this.publicKeys.getPublicKey("b")).isEqualTo(this.keys.get("b"));
+	}
+
+	@Test
+	void unknownKeyIdsReloadAtMostOncePerInterval() throws Exception {
+		assertThat(this.publicKeys.getPublicKey("a")).isEqualTo(this.keys.get("a"));
+		this.publish("b");
+
+		this.clock.advance(Duration.ofSeconds(10));
+		assertThat(this.publicKeys.getPublicKey("b")).isNull();
+
+		this.clock.advance(FirebasePublicKeys.MISSING_KEY_REFRESH_INTERVAL);
+		assertThat(this.publicKeys.getPublicKey("b")).isEqualTo(this.keys.get("b"));
+
+		this.publish("c");
+		this.clock.advance(Duration.ofSeconds(10));
+		assertThat(this.publicKeys.getPublicKey("c")).isNull();
+		assertThat(this.scheduled).isEmpty();
+	}
+
+	@Test
+	void failedReloadsKeepThePreviousKeys() throws Exception {
+		assertThat(this.publicKeys.getPublicKey("a")).isEqualTo(this.keys.get("a"));
+		Files.writeString(this.jwksPath, "{\"keys\": []}");
+
+		this.clock.advance(FirebasePublicKeys.MISSING_KEY_REFRESH_INTERVAL);
+		assertThat(this.publicKeys.getPublicKey("b")).isNull();
+		assertThat(this.publicKeys.getPublicKey("a")).isEqualTo(this.keys.get("a"));
+	}
+
+	// Adds a new key and rewrites the key set with every key so far
+	private void publish(String keyId) throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		this.keys.put(keyId, keyPairGenerator.generateKeyPair().getPublic());
+
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		List<Map<String, Object>> jwks = new ArrayList<>();
+		this.keys.forEach((kid, publicKey) -> {
+			var rsaPublicKey = (RSAPublicKey) publicKey;
+			jwks.add(
+				Map.of(
+					"kty",
+					"RSA",
+					"kid",
+					kid,
+					"n",
+					encoder.encodeToString(rsaPublicKey.getModulus().toByteArray()),
+					"e",
+					encoder.encodeToString(rsaPublicKey.getPublicExponent().toByteArray())
+				)
+			);
+		});
+		Files.writeString(this.jwksPath, this.objectMapper.writeValueAsString(Map.of("keys", jwks)));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = START;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+	}
+}
@@ -18,7 +18,9 @@ package io.liftwizard.dropwizard.configuration.auth.filter;
 
 import java.security.Principal;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.auto.service.AutoService;
 import io.dropwizard.auth.AuthFilter;
 import io.dropwizard.jackson.Discoverable;
@@ -27,4 +29,11 @@ import io.dropwizard.jackson.Discoverable;
 @AutoService(Discoverable.class)
 public interface AuthFilterFactory extends Discoverable {
 	AuthFilter<?, ? extends Principal> createAuthFilter();
+
+	/**
+	 * Creates the auth filter, registering any metrics it keeps in the given registry and parsing any JSON with the given mapper.
+	 */
+	default AuthFilter<?, ? extends Principal> createAuthFilter(MetricRegistry metricRegistry, ObjectMapper objectMapper) {
+		return this.createAuthFilter();
+	}
 }
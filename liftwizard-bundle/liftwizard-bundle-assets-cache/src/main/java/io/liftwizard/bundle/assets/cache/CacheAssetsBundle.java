@@ -6,14 +6,22 @@ import java.time.temporal.TemporalUnit;
 
 import io.dropwizard.assets.AssetsBundle;
 import io.dropwizard.servlets.assets.AssetServlet;
+import io.liftwizard.servlet.assets.cache.AssetIndex;
 import io.liftwizard.servlet.assets.cache.CacheAssetServlet;
 
+/**
+ * An {@link AssetsBundle} whose servlet adds caching headers. At startup, it indexes the assets under the resource path so that they can be served from memory with strong ETags and precompressed variants.
+ */
 public class CacheAssetsBundle extends AssetsBundle {
 
 	private final long amountToAdd;
 	private final TemporalUnit temporalUnit;
 	private final Clock clock;
+	private final long maxIndexedAssetSize;
 
+	/**
+	 * @param maxIndexedAssetSize assets larger than this many bytes are not held in memory, and are streamed from their directory or jar on each request instead.
+	 */
 	public CacheAssetsBundle(
 		String resourcePath,
 		String uriPath,
@@ -21,12 +29,35 @@ public class CacheAssetsBundle extends AssetsBundle {
 		String assetsName,
 		long amountToAdd,
 		TemporalUnit temporalUnit,
-		Clock clock
+		Clock clock,
+		long maxIndexedAssetSize
 	) {
 		super(resourcePath, uriPath, indexFile, assetsName);
 		this.amountToAdd = amountToAdd;
 		this.temporalUnit = temporalUnit;
 		this.clock = clock;
+		this.maxIndexedAssetSize = maxIndexedAssetSize;
+	}
+
+	public CacheAssetsBundle(
+		String resourcePath,
+		String uriPath,
+		String indexFile,
+		String assetsName,
+		long amountToAdd,
+		TemporalUnit temporalUnit,
+		Clock clock
+	) {
+		this(
+			resourcePath,
+			uriPath,
+			indexFile,
+			assetsName,
+			amountToAdd,
+			temporalUnit,
+			clock,
+			AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE
+		);
 	}
 
 	public CacheAssetsBundle(
@@ -42,6 +73,7 @@ public class CacheAssetsBundle extends AssetsBundle {
 
 	@Override
 	protected AssetServlet createServlet() {
+		AssetIndex assetIndex = AssetIndex.scan(this.getResourcePath(), this.maxIndexedAssetSize);
 		return new CacheAssetServlet(
 			this.getResourcePath(),
 			this.getUriPath(),
@@ -49,7 +81,8 @@ public class CacheAssetsBundle extends AssetsBundle {
 			StandardCharsets.UTF_8,
 			this.amountToAdd,
 			this.temporalUnit,
-			this.clock
+			this.clock,
+			assetIndex
 		);
 	}
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package graphql.kickstart.servlet;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Creates kickstart's stock {@link HttpRequestHandler} with another {@link HttpRequestInvoker}.
+ *
+ * <p>
+ * The handler parses GET, JSON POST, {@code application/graphql}, and multipart requests and notifies the servlet listeners, but its constructor that takes an invoker is package-private. This class lives in kickstart's package so {@code StreamingGraphQLHttpServlet} can reuse that handler with a streaming response writer.
+ */
+public final class HttpRequestHandlers {
+
+	private HttpRequestHandlers() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	@Nonnull
+	public static HttpRequestHandler create(
+		@Nonnull GraphQLConfiguration configuration,
+		@Nonnull HttpRequestInvoker requestInvoker
+	) {
+		return new HttpRequestHandlerImpl(configuration, requestInvoker);
+	}
+}
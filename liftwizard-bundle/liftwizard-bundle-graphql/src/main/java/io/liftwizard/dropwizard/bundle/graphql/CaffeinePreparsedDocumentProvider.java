@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smoketurner.dropwizard.graphql.CachingPreparsedDocumentProvider;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+/**
+ * A {@link PreparsedDocumentProvider} that caches parsed and validated documents in a bounded Caffeine cache, keyed by {@link GraphQLQuerySignature}.
+ *
+ * <p>
+ * Only documents without errors are cached, so invalid queries cannot crowd out valid ones. Registers {@code hits}, {@code misses}, and {@code evictions} meters, a {@code load} timer for parsing and validation, and a {@code size} gauge. Misses are also marked on the {@code cache-misses} meter of {@link CachingPreparsedDocumentProvider}, which this class replaces.
+ */
+public class CaffeinePreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+	private final Cache<String, PreparsedDocumentEntry> cache;
+
+	private final Meter hits;
+	private final Meter misses;
+	private final Meter evictions;
+	private final Meter legacyCacheMisses;
+	private final Timer load;
+
+	public CaffeinePreparsedDocumentProvider(long maximumSize, MetricRegistry metricRegistry) {
+		this(maximumSize, metricRegistry, ForkJoinPool.commonPool());
+	}
+
+	// Caffeine evicts on its executor, so tests pass a direct executor to observe evictions synchronously
+	CaffeinePreparsedDocumentProvider(long maximumSize, MetricRegistry metricRegistry, Executor executor) {
+		this.hits = metricRegistry.meter(MetricRegistry.name(CaffeinePreparsedDocumentProvider.class, "hits"));
+		this.misses = metricRegistry.meter(MetricRegistry.name(CaffeinePreparsedDocumentProvider.class, "misses"));
+		this.evictions = metricRegistry.meter(
+			MetricRegistry.name(CaffeinePreparsedDocumentProvider.class, "evictions")
+		);
+		this.legacyCacheMisses = metricRegistry.meter(
+			MetricRegistry.name(CachingPreparsedDocumentProvider.class, "cache-misses")
+		);
+		this.load = metricRegistry.timer(MetricRegistry.name(CaffeinePreparsedDocumentProvider.class, "load"));
+
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.executor(executor)
+			.evictionListener((key, value, cause) -> this.evictions.mark())
+			.build();
+		metricRegistry.gauge(MetricRegistry.name(CaffeinePreparsedDocumentProvider.class, "size"), () ->
+			this.cache::estimatedSize
+		);
+	}
+
+	@Override
+	public PreparsedDocumentEntry getDocument(
+		ExecutionInput executionInput,
+		Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+	) {
+		String signature = GraphQLQuerySignature.of(executionInput.getQuery());
+
+		PreparsedDocumentEntry cachedEntry = this.cache.getIfPresent(signature);
+		if (cachedEntry != null) {
+			this.hits.mark();
+			return cachedEntry;
+		}
+
+		this.misses.mark();
+		this.legacyCacheMisses.mark();
+		PreparsedDocumentEntry entry = this.load.timeSupplier(() -> parseAndValidateFunction.apply(executionInput));
+		if (!entry.hasErrors()) {
+			this.cache.put(signature, entry);
+		}
+		return entry;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.annotation.Nonnull;
+import javax.servlet.http.HttpServletResponse;
+
+import graphql.kickstart.execution.BatchedDataLoaderGraphQLBuilder;
+import graphql.kickstart.execution.FutureExecutionResult;
+import graphql.kickstart.execution.GraphQLInvoker;
+import graphql.kickstart.execution.GraphQLQueryResult;
+import graphql.kickstart.execution.config.GraphQLBuilder;
+import graphql.kickstart.execution.input.GraphQLInvocationInput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link GraphQLInvoker} that starts each execution on an {@link Executor} and returns its pending result right away.
+ *
+ * <p>
+ * In async mode, the kickstart servlet only cancels executions whose result it has already received, and otherwise leaves the request suspended. Handing the result back before any work starts means the servlet always holds it by the time the async timeout can fire, while parsing, validation, and data fetching run off the container thread.
+ *
+ * <p>
+ * When the executor rejects the execution, the request is answered with 503 Service Unavailable.
+ */
+public class ExecutorGraphQLInvoker extends GraphQLInvoker {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ExecutorGraphQLInvoker.class);
+
+	@Nonnull
+	private final Executor executor;
+
+	public ExecutorGraphQLInvoker(@Nonnull GraphQLBuilder graphQLBuilder, @Nonnull Executor executor) {
+		super(Objects.requireNonNull(graphQLBuilder), new BatchedDataLoaderGraphQLBuilder());
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	@Override
+	public FutureExecutionResult execute(GraphQLInvocationInput invocationInput) {
+		CompletableFuture<FutureExecutionResult> started;
+		try {
+			started = CompletableFuture.supplyAsync(() -> super.execute(invocationInput), this.executor);
+		} catch (RejectedExecutionException e) {
+			LOGGER.warn("Rejected GraphQL execution because the async executor is saturated.", e);
+			return FutureExecutionResult.error(
+				GraphQLQueryResult.createError(
+					HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+					"The GraphQL executor is saturated. Retry later."
+				)
+			);
+		}
+		return new StartedExecutionResult(invocationInput, started);
+	}
+
+	private static final class StartedExecutionResult implements FutureExecutionResult {
+
+		private final GraphQLInvocationInput invocationInput;
+		private final CompletableFuture<FutureExecutionResult> started;
+		private final CompletableFuture<GraphQLQueryResult> queryResult;
+
+		private StartedExecutionResult(
+			GraphQLInvocationInput invocationInput,
+			CompletableFuture<FutureExecutionResult> started
+		) {
+			this.invocationInput = invocationInput;
+			this.started = started;
+			this.queryResult = started.thenCompose(FutureExecutionResult::thenApplyQueryResult);
+		}
+
+		@Override
+		public CompletableFuture<GraphQLQueryResult> thenApplyQueryResult() {
+			return this.queryResult;
+		}
+
+		@Override
+		public GraphQLInvocationInput getInvocationInput() {
+			return this.invocationInput;
+		}
+
+		// Fails the result with a CancellationException, skips executions that are still queued, and cancels executions that already returned their future
+		@Override
+		public void cancel() {
+			this.queryResult.cancel(true);
+			this.started.cancel(true);
+			this.started.thenAccept(FutureExecutionResult::cancel);
+		}
+	}
+}
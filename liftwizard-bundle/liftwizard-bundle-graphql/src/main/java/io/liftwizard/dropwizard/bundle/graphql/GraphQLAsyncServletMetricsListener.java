@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import graphql.kickstart.servlet.core.GraphQLServletListener;
+
+/**
+ * Tracks GraphQL requests that the servlet suspends while execution completes asynchronously.
+ *
+ * <p>
+ * Registers a {@code suspended} counter of requests in flight, a {@code duration} timer from request to response, and a {@code timeouts} meter of requests cancelled by the async timeout.
+ */
+public class GraphQLAsyncServletMetricsListener implements GraphQLServletListener {
+
+	private final Counter suspended;
+	private final Timer duration;
+	private final Meter timeouts;
+
+	public GraphQLAsyncServletMetricsListener(MetricRegistry metricRegistry) {
+		this.suspended = metricRegistry.counter(MetricRegistry.name("liftwizard", "graphql", "servlet", "suspended"));
+		this.duration = metricRegistry.timer(MetricRegistry.name("liftwizard", "graphql", "servlet", "duration"));
+		this.timeouts = metricRegistry.meter(MetricRegistry.name("liftwizard", "graphql", "servlet", "timeouts"));
+	}
+
+	@Override
+	public RequestCallback onRequest(HttpServletRequest request, HttpServletResponse response) {
+		this.suspended.inc();
+		return new MetricsRequestCallback(this.duration.time());
+	}
+
+	private final class MetricsRequestCallback implements RequestCallback {
+
+		private final Timer.Context timerContext;
+		// Parse errors skip onFinally, so either callback may be the last one
+		private final AtomicBoolean finished = new AtomicBoolean();
+
+		private MetricsRequestCallback(Timer.Context timerContext) {
+			this.timerContext = timerContext;
+		}
+
+		@Override
+		public void onParseError(HttpServletRequest request, HttpServletResponse response, Throwable throwable) {
+			this.finish();
+		}
+
+		// On async timeout, the kickstart servlet cancels the execution's future and reports the resulting CancellationException here before onFinally
+		@Override
+		public void onError(HttpServletRequest request, HttpServletResponse response, Throwable throwable) {
+			if (throwable instanceof CancellationException) {
+				GraphQLAsyncServletMetricsListener.this.timeouts.mark();
+			}
+		}
+
+		@Override
+		public void onFinally(HttpServletRequest request, HttpServletResponse response) {
+			this.finish();
+		}
+
+		private void finish() {
+			if (this.finished.compareAndSet(false, true)) {
+				this.timerContext.stop();
+				GraphQLAsyncServletMetricsListener.this.suspended.dec();
+			}
+		}
+	}
+}
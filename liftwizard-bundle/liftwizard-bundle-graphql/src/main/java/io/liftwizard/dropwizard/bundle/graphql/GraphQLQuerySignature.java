@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+/**
+ * Computes a cache key for GraphQL query text that is stable across formatting.
+ *
+ * <p>
+ * Comments, commas, and whitespace are insignificant in GraphQL, so they are dropped or collapsed. String literals are kept verbatim. The top-level definitions are then sorted, so documents that list the same operations and fragments in a different order share a signature. A single pass over the text is much cheaper than parsing it.
+ */
+final class GraphQLQuerySignature {
+
+	private GraphQLQuerySignature() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	static String of(String query) {
+		MutableList<String> definitions = Lists.mutable.empty();
+		var definition = new StringBuilder(query.length());
+		int depth = 0;
+		boolean pendingSpace = false;
+
+		int index = 0;
+		while (index < query.length()) {
+			char character = query.charAt(index);
+			if (character == '#') {
+				index = GraphQLQuerySignature.lineEnd(query, index);
+				pendingSpace = true;
+				continue;
+			}
+			if (GraphQLQuerySignature.isIgnored(character)) {
+				index++;
+				pendingSpace = true;
+				continue;
+			}
+
+			if (
+				pendingSpace
+				&& !definition.isEmpty()
+				&& !GraphQLQuerySignature.isPunctuator(definition.charAt(definition.length() - 1))
+				&& !GraphQLQuerySignature.isPunctuator(character)
+			) {
+				definition.append(' ');
+			}
+			pendingSpace = false;
+
+			if (character == '"') {
+				int stringEnd = GraphQLQuerySignature.stringEnd(query, index);
+				definition.append(query, index, stringEnd);
+				index = stringEnd;
+				continue;
+			}
+
+			definition.append(character);
+			index++;
+			if (character == '{') {
+				depth++;
+			} else if (character == '}') {
+				depth--;
+				if (depth == 0) {
+					definitions.add(definition.toString());
+					definition.setLength(0);
+				}
+			}
+		}
+
+		if (!definition.isEmpty()) {
+			definitions.add(definition.toString());
+		}
+		return definitions.sortThis().makeString(" ");
+	}
+
+	private static boolean isIgnored(char character) {
+		return character == ' '
+			|| character == '\t'
+			|| character == '\n'
+			|| character == '\r'
+			|| character == ','
+			|| character == '\uFEFF';
+	}
+
+	// Whitespace next to these is never significant. Names, numbers, strings, and the dots of a spread keep their separating space.
+	private static boolean isPunctuator(char character) {
+		return switch (character) {
+			case '{', '}', '(', ')', '[', ']', ':', '=', '!', '$', '@', '|', '&' -> true;
+			default -> false;
+		};
+	}
+
+	private static int lineEnd(String query, int index) {
+		int result = index;
+		while (result < query.length() && query.charAt(result) != '\n' && query.charAt(result) != '\r') {
+			result++;
+		}
+		return result;
+	}
+
+	private static int stringEnd(String query, int index) {
+		if (query.startsWith("\"\"\"", index)) {
+			int result = index + 3;
+			while (result < query.length()) {
+				if (query.startsWith("\\\"\"\"", result)) {
+					result += 4;
+				} else if (query.startsWith("\"\"\"", result)) {
+					return result + 3;
+				} else {
+					result++;
+				}
+			}
+			return query.length();
+		}
+
+		int result = index + 1;
+		while (result < query.length()) {
+			char character = query.charAt(result);
+			if (character == '\\') {
+				result += 2;
+			} else if (character == '"') {
+				return result + 1;
+			} else if (character == '\n' || character == '\r') {
+				return result;
+			} else {
+				result++;
+			}
+		}
+		return query.length();
+	}
+}
@@ -18,18 +18,28 @@ package io.liftwizard.dropwizard.bundle.graphql;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 import javax.servlet.ServletRegistration.Dynamic;
+import javax.servlet.http.HttpServletRequest;
 
+import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
-import com.smoketurner.dropwizard.graphql.CachingPreparsedDocumentProvider;
 import com.smoketurner.dropwizard.graphql.GraphQLBundle;
 import com.smoketurner.dropwizard.graphql.GraphQLFactory;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.ChainedInstrumentation;
 import graphql.execution.instrumentation.Instrumentation;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
 import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.kickstart.execution.GraphQLObjectMapper;
 import graphql.kickstart.execution.GraphQLQueryInvoker;
+import graphql.kickstart.execution.config.GraphQLBuilder;
 import graphql.kickstart.servlet.GraphQLConfiguration;
 import graphql.kickstart.servlet.GraphQLHttpServlet;
 import graphql.scalars.java.JavaPrimitives;
@@ -41,11 +51,23 @@ import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import io.liftwizard.dropwizard.configuration.clock.ClockFactory;
 import io.liftwizard.dropwizard.configuration.clock.ClockFactoryProvider;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLDocumentCacheFactory;
 import io.liftwizard.dropwizard.configuration.graphql.GraphQLFactoryProvider;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLPersistedQueriesFactory;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLFieldCostCalculatorFactory;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLQueryCostFactory;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLResponseFactory;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLServletFactory;
+import io.liftwizard.dropwizard.configuration.graphql.LiftwizardGraphQLFactory;
+import io.liftwizard.graphql.instrumentation.cost.DefaultGraphQLFieldCostCalculator;
+import io.liftwizard.graphql.instrumentation.cost.GraphQLFieldCostCalculator;
+import io.liftwizard.graphql.instrumentation.cost.GraphQLQueryCost;
+import io.liftwizard.graphql.instrumentation.cost.LiftwizardGraphQLCostInstrumentation;
 import io.liftwizard.graphql.instrumentation.logging.LiftwizardGraphQLLoggingInstrumentation;
 import io.liftwizard.graphql.instrumentation.metrics.LiftwizardGraphQLMetricsInstrumentation;
 import io.liftwizard.graphql.scalar.temporal.GraphQLLocalDateScalar;
 import io.liftwizard.graphql.scalar.temporal.GraphQLTemporalScalar;
+import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.slf4j.Logger;
@@ -57,7 +79,10 @@ import org.slf4j.MDC.MDCCloseable;
  * The bundle registers the GraphIQL UI at /graphiql and the GraphQL Playground UI at /graphql-playground, by delegating to AssetsBundle. This overrides the behavior of the smoketurner bundle {@link GraphQLBundle}, which registers just one UI (graphiql in older versions, and graphql-playground in newer versions) and registers the UI at the root.
  *
  * <p>
- * The bundle also registers two instrumentations for logging and metrics.
+ * The bundle also registers instrumentations for logging, metrics, and query cost limits, caches parsed and validated documents with {@link CaffeinePreparsedDocumentProvider}, and serves persisted queries with {@link PersistedQueryDocumentProvider}.
+ *
+ * <p>
+ * If the configuration supplies a {@link LiftwizardGraphQLFactory} with {@code servlet.asyncSupported} enabled, the servlet runs in async mode, executes queries on a managed pool of {@code servlet.asyncThreads} threads with {@link ExecutorGraphQLInvoker}, answers with 503 once {@code servlet.asyncQueueCapacity} executions are queued, and registers {@link GraphQLAsyncServletMetricsListener}. With {@code response.streaming} enabled, the servlet is a {@link StreamingGraphQLHttpServlet}, which serializes results straight to the response output stream.
  *
  * @see <a href="https://liftwizard.io/docs/graphql/bundle#liftwizardgraphqlbundle">https://liftwizard.io/docs/graphql/bundle#liftwizardgraphqlbundle</a>
  */
@@ -94,27 +119,140 @@ public class LiftwizardGraphQLBundle<T extends Configuration & GraphQLFactoryPro
 	public void run(T configuration, Environment environment) {
 		GraphQLFactory factory = this.getGraphQLFactory(configuration);
 
-		PreparsedDocumentProvider provider = new CachingPreparsedDocumentProvider(
-			factory.getQueryCache(),
-			environment.metrics()
-		);
-
 		GraphQLSchema schema = factory.build();
 
+		GraphQLPersistedQueriesFactory persistedQueriesFactory = LiftwizardGraphQLBundle.getPersistedQueriesFactory(
+			factory
+		);
+		PreparsedDocumentProvider provider = LiftwizardGraphQLBundle.getPreparsedDocumentProvider(
+			factory,
+			persistedQueriesFactory,
+			schema,
+			environment
+		);
+
 		GraphQLQueryInvoker queryInvoker = GraphQLQueryInvoker.newBuilder()
 			.withPreparsedDocumentProvider(provider)
 			.withInstrumentation(factory.getInstrumentations())
 			.build();
 
-		GraphQLConfiguration config = GraphQLConfiguration.with(schema).with(queryInvoker).build();
+		GraphQLServletFactory servletFactory = LiftwizardGraphQLBundle.getServletFactory(factory);
+		GraphQLResponseFactory responseFactory = LiftwizardGraphQLBundle.getResponseFactory(factory);
+
+		var objectMapperConfigurer = new LiftwizardGraphQLObjectMapperConfigurer(
+			responseFactory.isPrettyPrint(),
+			persistedQueriesFactory.isEnabled()
+		);
+		GraphQLConfiguration.Builder configBuilder = GraphQLConfiguration.with(schema)
+			.with(queryInvoker)
+			.with(GraphQLObjectMapper.newBuilder().withObjectMapperConfigurer(objectMapperConfigurer).build());
+		if (servletFactory.isAsyncSupported()) {
+			Meter rejected = environment.metrics().meter("liftwizard.graphql.servlet.rejected");
+			ExecutorService asyncExecutor = environment
+				.lifecycle()
+				.executorService("graphql-async-%d")
+				.minThreads(servletFactory.getAsyncThreads())
+				.maxThreads(servletFactory.getAsyncThreads())
+				.workQueue(new ArrayBlockingQueue<>(servletFactory.getAsyncQueueCapacity()))
+				.rejectedExecutionHandler((runnable, executor) -> {
+					rejected.mark();
+					throw new RejectedExecutionException("GraphQL async queue is full");
+				})
+				.build();
+			Instrumentation instrumentation = new ChainedInstrumentation(factory.getInstrumentations());
+			GraphQLBuilder graphQLBuilder = new GraphQLBuilder()
+				.preparsedDocumentProvider(() -> provider)
+				.instrumentation(() -> instrumentation);
+			configBuilder
+				.asyncTimeout(servletFactory.getAsyncTimeout().toMilliseconds())
+				// The container thread only hands the execution to the pool, and the response is written from the completion callback
+				.with((Executor) Runnable::run)
+				.with(new ExecutorGraphQLInvoker(graphQLBuilder, asyncExecutor))
+				.with(List.of(new GraphQLAsyncServletMetricsListener(environment.metrics())));
+		}
+		GraphQLConfiguration config = configBuilder.build();
 
-		GraphQLHttpServlet servlet = GraphQLHttpServlet.with(config);
+		GraphQLHttpServlet servlet = responseFactory.isStreaming()
+			? new StreamingGraphQLHttpServlet(config, Math.toIntExact(responseFactory.getBufferSize().toBytes()))
+			: GraphQLHttpServlet.with(config);
 
 		Dynamic servletRegistration = environment.servlets().addServlet("graphql", servlet);
-		servletRegistration.setAsyncSupported(false);
+		servletRegistration.setAsyncSupported(servletFactory.isAsyncSupported());
 		servletRegistration.addMapping("/graphql", "/schema.json");
 	}
 
+	@Nonnull
+	private static PreparsedDocumentProvider getPreparsedDocumentProvider(
+		GraphQLFactory factory,
+		GraphQLPersistedQueriesFactory persistedQueriesFactory,
+		GraphQLSchema schema,
+		Environment environment
+	) {
+		PreparsedDocumentProvider documentCacheProvider = LiftwizardGraphQLBundle.getDocumentCacheProvider(
+			factory,
+			environment.metrics()
+		);
+		if (!persistedQueriesFactory.isEnabled()) {
+			return documentCacheProvider;
+		}
+
+		// Parses and validates the registered documents now, so invalid documents fail startup
+		PersistedQueryRegistry registry = PersistedQueryRegistry.load(
+			schema,
+			environment.getObjectMapper(),
+			persistedQueriesFactory.getDocuments()
+		);
+		long automaticMaximumSize = persistedQueriesFactory.isAutomatic()
+			? persistedQueriesFactory.getMaximumSize()
+			: 0;
+		return new PersistedQueryDocumentProvider(
+			registry,
+			automaticMaximumSize,
+			persistedQueriesFactory.isAllowListOnly(),
+			documentCacheProvider,
+			environment.metrics()
+		);
+	}
+
+	@Nonnull
+	private static PreparsedDocumentProvider getDocumentCacheProvider(
+		GraphQLFactory factory,
+		MetricRegistry metricRegistry
+	) {
+		GraphQLDocumentCacheFactory documentCacheFactory = new GraphQLDocumentCacheFactory();
+		if (factory instanceof LiftwizardGraphQLFactory liftwizardGraphQLFactory) {
+			documentCacheFactory = liftwizardGraphQLFactory.getDocumentCache();
+		}
+		if (!documentCacheFactory.isEnabled()) {
+			return NoOpPreparsedDocumentProvider.INSTANCE;
+		}
+		return new CaffeinePreparsedDocumentProvider(documentCacheFactory.getMaximumSize(), metricRegistry);
+	}
+
+	@Nonnull
+	private static GraphQLResponseFactory getResponseFactory(GraphQLFactory factory) {
+		if (factory instanceof LiftwizardGraphQLFactory liftwizardGraphQLFactory) {
+			return liftwizardGraphQLFactory.getResponse();
+		}
+		return new GraphQLResponseFactory();
+	}
+
+	@Nonnull
+	private static GraphQLPersistedQueriesFactory getPersistedQueriesFactory(GraphQLFactory factory) {
+		if (factory instanceof LiftwizardGraphQLFactory liftwizardGraphQLFactory) {
+			return liftwizardGraphQLFactory.getPersistedQueries();
+		}
+		return new GraphQLPersistedQueriesFactory();
+	}
+
+	@Nonnull
+	private static GraphQLServletFactory getServletFactory(GraphQLFactory factory) {
+		if (factory instanceof LiftwizardGraphQLFactory liftwizardGraphQLFactory) {
+			return liftwizardGraphQLFactory.getServlet();
+		}
+		return new GraphQLServletFactory();
+	}
+
 	@Nonnull
 	@Override
 	public GraphQLFactory getGraphQLFactory(@Nonnull T configuration) {
@@ -148,8 +286,62 @@ public class LiftwizardGraphQLBundle<T extends Configuration & GraphQLFactoryPro
 		var metricsInstrumentation = new LiftwizardGraphQLMetricsInstrumentation(this.metricRegistry, clock);
 		var loggingInstrumentation = new LiftwizardGraphQLLoggingInstrumentation();
 
-		List<Instrumentation> instrumentations = List.of(metricsInstrumentation, loggingInstrumentation);
-		return instrumentations;
+		GraphQLQueryCostFactory queryCostFactory = LiftwizardGraphQLBundle.getQueryCostFactory(
+			configuration.getGraphQLFactory()
+		);
+		if (!queryCostFactory.isEnabled()) {
+			return List.of(metricsInstrumentation, loggingInstrumentation);
+		}
+
+		var configuredCalculator = new DefaultGraphQLFieldCostCalculator(
+			queryCostFactory.getDefaultFieldCost(),
+			queryCostFactory.getDefaultListSize(),
+			queryCostFactory.getFieldCosts(),
+			queryCostFactory.getListSizes()
+		);
+		GraphQLFieldCostCalculatorFactory fieldCostCalculatorFactory = queryCostFactory.getFieldCostCalculator();
+		GraphQLFieldCostCalculator fieldCostCalculator = fieldCostCalculatorFactory == null
+			? configuredCalculator
+			: fieldCostCalculatorFactory.createFieldCostCalculator(configuredCalculator);
+		// Runs first, so rejected operations never reach the other instrumentations' execution callbacks
+		var costInstrumentation = new LiftwizardGraphQLCostInstrumentation(
+			this.metricRegistry,
+			this.getFieldCostCalculator(configuration, fieldCostCalculator),
+			queryCostFactory.getMaxDepth(),
+			queryCostFactory.getMaxCost(),
+			LiftwizardGraphQLBundle::logQueryCost
+		);
+		return List.of(costInstrumentation, metricsInstrumentation, loggingInstrumentation);
+	}
+
+	/**
+	 * Returns the calculator used by query cost analysis. The {@code configuredCalculator} comes from {@code queryCost}, including its {@code fieldCostCalculator}. Override to cost fields from metadata that configuration can't reach.
+	 */
+	@Nonnull
+	protected GraphQLFieldCostCalculator getFieldCostCalculator(
+		@Nonnull T configuration,
+		@Nonnull GraphQLFieldCostCalculator configuredCalculator
+	) {
+		return configuredCalculator;
+	}
+
+	@Nonnull
+	private static GraphQLQueryCostFactory getQueryCostFactory(GraphQLFactory factory) {
+		if (factory instanceof LiftwizardGraphQLFactory liftwizardGraphQLFactory) {
+			return liftwizardGraphQLFactory.getQueryCost();
+		}
+		return new GraphQLQueryCostFactory();
+	}
+
+	// Adds the cost to the structured request log written by ServerLoggingFilter, when it's installed
+	private static void logQueryCost(GraphQLContext graphQLContext, GraphQLQueryCost queryCost) {
+		HttpServletRequest request = graphQLContext.get(HttpServletRequest.class);
+		if (request != null && request.getAttribute("structuredArguments") instanceof StructuredArguments arguments) {
+			arguments
+				.getRequest()
+				.getOrCreateGraphQL()
+				.addOperation(queryCost.operationName(), queryCost.depth(), queryCost.cost());
+		}
 	}
 
 	@Nonnull
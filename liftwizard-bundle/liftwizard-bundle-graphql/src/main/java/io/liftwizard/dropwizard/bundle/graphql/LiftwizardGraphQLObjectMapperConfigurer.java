@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import graphql.kickstart.execution.config.GraphQLServletObjectMapperConfigurer;
+import graphql.kickstart.execution.error.DefaultGraphQLServletObjectMapperConfigurer;
+
+/**
+ * Configures the servlet's {@link ObjectMapper} like kickstart's {@link DefaultGraphQLServletObjectMapperConfigurer}, so GraphQL output is the same whether or not responses are streamed.
+ *
+ * <p>
+ * On top of the defaults, it indents output when {@code prettyPrint} is enabled, and reads the {@code persistedQuery} extension when persisted queries are enabled.
+ */
+public class LiftwizardGraphQLObjectMapperConfigurer implements GraphQLServletObjectMapperConfigurer {
+
+	private final boolean prettyPrint;
+	private final boolean persistedQueries;
+
+	public LiftwizardGraphQLObjectMapperConfigurer(boolean prettyPrint, boolean persistedQueries) {
+		this.prettyPrint = prettyPrint;
+		this.persistedQueries = persistedQueries;
+	}
+
+	@Override
+	public void configure(ObjectMapper mapper) {
+		new DefaultGraphQLServletObjectMapperConfigurer().configure(mapper);
+		if (this.prettyPrint) {
+			mapper.enable(SerializationFeature.INDENT_OUTPUT);
+		}
+		if (this.persistedQueries) {
+			mapper.registerModule(new PersistedQueryModule());
+		}
+	}
+}
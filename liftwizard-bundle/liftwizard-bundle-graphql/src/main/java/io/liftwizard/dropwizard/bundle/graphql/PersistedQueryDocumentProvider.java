@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ErrorType;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+/**
+ * A {@link PreparsedDocumentProvider} that serves persisted queries, identified by the {@code persistedQuery.sha256Hash} extension. Hashes are compared in lower case.
+ *
+ * <p>
+ * Documents in the {@link PersistedQueryRegistry} are served without parsing or validation. When automatic persisted queries are enabled, a request with an unknown hash and no query text fails with {@code PersistedQueryNotFound}, and the client retries with the query text, which is checked against the hash and registered. When the registry is an allow list, every other query is rejected, including queries sent as text that aren't registered. Requests without a hash are otherwise passed to the delegate.
+ *
+ * <p>
+ * Registers {@code hits}, {@code misses}, {@code registrations}, and {@code rejected} meters.
+ */
+public class PersistedQueryDocumentProvider implements PreparsedDocumentProvider {
+
+	@Nonnull
+	private final PersistedQueryRegistry registry;
+
+	@Nullable
+	private final Cache<String, PreparsedDocumentEntry> automaticDocuments;
+
+	private final boolean allowListOnly;
+
+	@Nonnull
+	private final PreparsedDocumentProvider delegate;
+
+	private final Meter hits;
+	private final Meter misses;
+	private final Meter registrations;
+	private final Meter rejected;
+
+	/**
+	 * @param automaticMaximumSize the number of queries registered at runtime to keep, or 0 to disable automatic persisted queries
+	 */
+	public PersistedQueryDocumentProvider(
+		@Nonnull PersistedQueryRegistry registry,
+		long automaticMaximumSize,
+		boolean allowListOnly,
+		@Nonnull PreparsedDocumentProvider delegate,
+		@Nonnull MetricRegistry metricRegistry
+	) {
+		if (allowListOnly && automaticMaximumSize > 0) {
+			throw new IllegalArgumentException("An allow list requires automatic persisted queries to be disabled");
+		}
+
+		this.registry = Objects.requireNonNull(registry);
+		this.automaticDocuments = automaticMaximumSize > 0
+			? Caffeine.newBuilder().maximumSize(automaticMaximumSize).build()
+			: null;
+		this.allowListOnly = allowListOnly;
+		this.delegate = Objects.requireNonNull(delegate);
+
+		this.hits = metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, "hits"));
+		this.misses = metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, "misses"));
+		this.registrations = metricRegistry.meter(
+			MetricRegistry.name(PersistedQueryDocumentProvider.class, "registrations")
+		);
+		this.rejected = metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, "rejected"));
+	}
+
+	@Override
+	public PreparsedDocumentEntry getDocument(
+		ExecutionInput executionInput,
+		Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+	) {
+		String queryId = PersistedQueryDocumentProvider.getPersistedQueryId(executionInput);
+		String query = PersistedQueryDocumentProvider.getQuery(executionInput);
+
+		if (queryId == null) {
+			if (!this.allowListOnly) {
+				return this.delegate.getDocument(executionInput, parseAndValidateFunction);
+			}
+			// Clients of an allow list may still send the full text of a registered document
+			queryId = query == null ? "" : PersistedQueryRegistry.hash(query);
+		}
+
+		PreparsedDocumentEntry registeredEntry = this.getRegisteredDocument(queryId);
+		if (registeredEntry != null) {
+			this.hits.mark();
+			return registeredEntry;
+		}
+
+		if (this.allowListOnly) {
+			this.rejected.mark();
+			return new PreparsedDocumentEntry(
+				GraphqlErrorBuilder.newError()
+					.errorType(ErrorType.ValidationError)
+					.message("Only registered persisted queries are allowed")
+					.build()
+			);
+		}
+
+		if (query == null) {
+			this.misses.mark();
+			PersistedQueryNotFound notFound = new PersistedQueryNotFound(queryId);
+			return PersistedQueryDocumentProvider.toEntry(notFound, notFound.getExtensions());
+		}
+
+		if (!queryId.equals(PersistedQueryRegistry.hash(query))) {
+			this.rejected.mark();
+			PersistedQueryIdInvalid idInvalid = new PersistedQueryIdInvalid(queryId);
+			return PersistedQueryDocumentProvider.toEntry(idInvalid, idInvalid.getExtensions());
+		}
+
+		PreparsedDocumentEntry entry = this.delegate.getDocument(executionInput, parseAndValidateFunction);
+		if (this.automaticDocuments != null && !entry.hasErrors()) {
+			this.automaticDocuments.put(queryId, entry);
+			this.registrations.mark();
+		}
+		return entry;
+	}
+
+	@Nullable
+	private PreparsedDocumentEntry getRegisteredDocument(String queryId) {
+		PreparsedDocumentEntry registeredEntry = this.registry.getDocument(queryId);
+		if (registeredEntry != null || this.automaticDocuments == null) {
+			return registeredEntry;
+		}
+		return this.automaticDocuments.getIfPresent(queryId);
+	}
+
+	@Nullable
+	private static String getPersistedQueryId(ExecutionInput executionInput) {
+		if (
+			executionInput.getExtensions().get("persistedQuery") instanceof Map<?, ?> persistedQuery
+			&& persistedQuery.get("sha256Hash") instanceof String queryId
+		) {
+			return PersistedQueryRegistry.normalize(queryId);
+		}
+		return null;
+	}
+
+	// Hash-only requests arrive with no query text, which PersistedQueryModule replaces with a marker
+	@Nullable
+	private static String getQuery(ExecutionInput executionInput) {
+		String query = executionInput.getQuery();
+		if (query.isBlank() || query.equals(PersistedQuerySupport.PERSISTED_QUERY_MARKER)) {
+			return null;
+		}
+		return query;
+	}
+
+	private static PreparsedDocumentEntry toEntry(PersistedQueryError error, Map<String, Object> extensions) {
+		return new PreparsedDocumentEntry(
+			GraphqlErrorBuilder.newError().errorType(error).message(error.getMessage()).extensions(extensions).build()
+		);
+	}
+}
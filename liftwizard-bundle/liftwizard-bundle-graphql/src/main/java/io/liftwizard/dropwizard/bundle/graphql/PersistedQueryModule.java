@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.kickstart.execution.GraphQLRequest;
+
+/**
+ * Lets the servlet accept requests that send only a persisted query hash, with no query text.
+ *
+ * <p>
+ * GraphQL Java requires query text on every {@code ExecutionInput}, so a request body without a {@code query} gets {@link PersistedQuerySupport#PERSISTED_QUERY_MARKER} instead, which {@link PersistedQueryDocumentProvider} treats as missing.
+ */
+public class PersistedQueryModule extends SimpleModule {
+
+	public PersistedQueryModule() {
+		super("PersistedQueries");
+		this.setDeserializerModifier(new GraphQLRequestDeserializerModifier());
+	}
+
+	private static final class GraphQLRequestDeserializerModifier extends BeanDeserializerModifier {
+
+		@Override
+		public JsonDeserializer<?> modifyDeserializer(
+			DeserializationConfig config,
+			BeanDescription beanDescription,
+			JsonDeserializer<?> deserializer
+		) {
+			if (beanDescription.getBeanClass() != GraphQLRequest.class) {
+				return deserializer;
+			}
+			return new GraphQLRequestDeserializer(deserializer);
+		}
+	}
+
+	private static final class GraphQLRequestDeserializer extends DelegatingDeserializer {
+
+		private GraphQLRequestDeserializer(JsonDeserializer<?> delegate) {
+			super(delegate);
+		}
+
+		@Override
+		protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+			return new GraphQLRequestDeserializer(newDelegatee);
+		}
+
+		@Override
+		public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			GraphQLRequest request = (GraphQLRequest) super.deserialize(parser, context);
+			if (request.getQuery() == null) {
+				request.setQuery(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+			}
+			return request;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ParseAndValidate;
+import graphql.ParseAndValidateResult;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.schema.GraphQLSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persisted query documents, keyed by query id, and parsed and validated against the schema when they are loaded. Query ids are case-insensitive, since clients may send hashes in upper case hex.
+ *
+ * <p>
+ * Loading fails fast on a missing resource, an invalid document, or two different documents with the same id, so a broken registry stops the application at startup instead of failing requests.
+ */
+public final class PersistedQueryRegistry {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PersistedQueryRegistry.class);
+
+	private static final TypeReference<Map<String, String>> MANIFEST_TYPE = new TypeReference<>() {};
+
+	private static final String FILE_PREFIX = "file:";
+
+	private final Map<String, PreparsedDocumentEntry> documents;
+
+	public PersistedQueryRegistry(@Nonnull Map<String, PreparsedDocumentEntry> documents) {
+		Map<String, PreparsedDocumentEntry> normalizedDocuments = new LinkedHashMap<>();
+		documents.forEach((queryId, document) -> {
+			if (normalizedDocuments.put(PersistedQueryRegistry.normalize(queryId), document) != null) {
+				throw new IllegalArgumentException(
+					String.format("Persisted query id %s differs from another only by case", queryId)
+				);
+			}
+		});
+		this.documents = Map.copyOf(normalizedDocuments);
+	}
+
+	/**
+	 * Loads classpath resources, or files for names that start with {@code file:}. A resource ending in {@code .json} is a manifest that maps query ids to query text. Any other resource is a single GraphQL document, registered under {@link #hash(String)} of its text.
+	 */
+	@Nonnull
+	public static PersistedQueryRegistry load(
+		@Nonnull GraphQLSchema schema,
+		@Nonnull ObjectMapper objectMapper,
+		@Nonnull List<String> resourceNames
+	) {
+		Map<String, String> queries = new LinkedHashMap<>();
+		for (String resourceName : resourceNames) {
+			LOGGER.info("Loading persisted GraphQL queries: {}", resourceName);
+			Map<String, String> resourceQueries = PersistedQueryRegistry.readResource(objectMapper, resourceName);
+			resourceQueries.forEach((queryId, query) -> {
+				String existingQuery = queries.putIfAbsent(PersistedQueryRegistry.normalize(queryId), query);
+				if (existingQuery != null && !existingQuery.equals(query)) {
+					throw new IllegalStateException(
+						String.format("Persisted query id %s is registered with two different documents", queryId)
+					);
+				}
+			});
+		}
+
+		Map<String, PreparsedDocumentEntry> documents = new LinkedHashMap<>();
+		queries.forEach((queryId, query) ->
+			documents.put(queryId, PersistedQueryRegistry.parseAndValidate(schema, queryId, query))
+		);
+		LOGGER.info("Registered {} persisted GraphQL queries", documents.size());
+		return new PersistedQueryRegistry(documents);
+	}
+
+	@Nullable
+	public PreparsedDocumentEntry getDocument(@Nonnull String queryId) {
+		return this.documents.get(PersistedQueryRegistry.normalize(queryId));
+	}
+
+	public int size() {
+		return this.documents.size();
+	}
+
+	/**
+	 * Returns the lowercase hex SHA-256 hash of the query text, the id used by automatic persisted queries.
+	 */
+	@Nonnull
+	public static String hash(@Nonnull String query) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			byte[] digest = messageDigest.digest(query.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new AssertionError("SHA-256 is required on every Java platform", e);
+		}
+	}
+
+	/**
+	 * Returns the query id in lower case, the form of {@link #hash(String)}.
+	 */
+	@Nonnull
+	public static String normalize(@Nonnull String queryId) {
+		return queryId.toLowerCase(Locale.ROOT);
+	}
+
+	@Nonnull
+	private static Map<String, String> readResource(ObjectMapper objectMapper, String resourceName) {
+		try (InputStream inputStream = PersistedQueryRegistry.openResource(resourceName)) {
+			if (inputStream == null) {
+				throw new IllegalArgumentException("Persisted query resource not found: " + resourceName);
+			}
+			if (resourceName.endsWith(".json")) {
+				return objectMapper.readValue(inputStream, MANIFEST_TYPE);
+			}
+			String query = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+			return Map.of(PersistedQueryRegistry.hash(query), query);
+		} catch (IOException e) {
+			throw new UncheckedIOException(resourceName, e);
+		}
+	}
+
+	@Nullable
+	private static InputStream openResource(String resourceName) throws IOException {
+		if (resourceName.startsWith(FILE_PREFIX)) {
+			Path path = Path.of(resourceName.substring(FILE_PREFIX.length()));
+			return Files.isRegularFile(path) ? Files.newInputStream(path) : null;
+		}
+
+		ClassLoader classLoader = Objects.requireNonNullElse(
+			Thread.currentThread().getContextClassLoader(),
+			PersistedQueryRegistry.class.getClassLoader()
+		);
+		return classLoader.getResourceAsStream(resourceName);
+	}
+
+	@Nonnull
+	private static PreparsedDocumentEntry parseAndValidate(GraphQLSchema schema, String queryId, String query) {
+		ExecutionInput executionInput = ExecutionInput.newExecutionInput(query).build();
+		ParseAndValidateResult result = ParseAndValidate.parseAndValidate(schema, executionInput);
+		if (result.isFailure()) {
+			throw new IllegalStateException(
+				String.format("Persisted query %s is invalid: %s", queryId, result.getErrors())
+			);
+		}
+		return new PreparsedDocumentEntry(result.getDocument());
+	}
+}
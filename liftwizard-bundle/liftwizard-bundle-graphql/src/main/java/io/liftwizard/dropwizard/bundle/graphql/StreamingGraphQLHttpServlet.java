@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import graphql.kickstart.servlet.GraphQLConfiguration;
+import graphql.kickstart.servlet.GraphQLHttpServlet;
+import graphql.kickstart.servlet.HttpRequestHandler;
+import graphql.kickstart.servlet.HttpRequestHandlers;
+import graphql.kickstart.servlet.HttpRequestInvokerImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link GraphQLHttpServlet} that writes results with {@link StreamingQueryResponseWriter}.
+ *
+ * <p>
+ * Requests go through kickstart's stock request handler, so they are parsed and passed to listeners exactly as in {@link GraphQLHttpServlet}. Only the handler's invoker differs: an {@link HttpRequestInvokerImpl} with a {@link StreamingQueryResponseWriterFactory}.
+ */
+public class StreamingGraphQLHttpServlet extends GraphQLHttpServlet {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(StreamingGraphQLHttpServlet.class);
+
+	@Nonnull
+	private final GraphQLConfiguration configuration;
+
+	@Nonnull
+	private final HttpRequestHandler requestHandler;
+
+	public StreamingGraphQLHttpServlet(@Nonnull GraphQLConfiguration configuration, int bufferSize) {
+		this.configuration = Objects.requireNonNull(configuration);
+		this.requestHandler = HttpRequestHandlers.create(
+			configuration,
+			new HttpRequestInvokerImpl(
+				configuration,
+				configuration.getGraphQLInvoker(),
+				new StreamingQueryResponseWriterFactory(bufferSize)
+			)
+		);
+	}
+
+	@Override
+	protected GraphQLConfiguration getConfiguration() {
+		return this.configuration;
+	}
+
+	@Override
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) {
+		this.handle(request, response);
+	}
+
+	@Override
+	protected void doPost(HttpServletRequest request, HttpServletResponse response) {
+		this.handle(request, response);
+	}
+
+	// Matches the stock servlet, which logs failures instead of passing them to the container
+	private void handle(HttpServletRequest request, HttpServletResponse response) {
+		try {
+			this.requestHandler.handle(request, response);
+		} catch (IOException | RuntimeException e) {
+			LOGGER.error("Error executing GraphQL request!", e);
+		}
+	}
+}
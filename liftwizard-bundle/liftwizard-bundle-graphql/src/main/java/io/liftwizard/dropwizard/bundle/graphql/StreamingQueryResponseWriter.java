@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import graphql.ExecutionResult;
+import graphql.kickstart.execution.GraphQLObjectMapper;
+import graphql.kickstart.servlet.HttpRequestHandler;
+import graphql.kickstart.servlet.QueryResponseWriter;
+
+/**
+ * Writes execution results straight to the servlet output stream with a {@link JsonGenerator}, as the result tree is walked.
+ *
+ * <p>
+ * The stock writers serialize each result into a byte array to set {@code Content-Length}, which holds the serialized response in heap next to the result tree. This writer sends the response with chunked encoding instead, flushing each time {@code bufferSize} bytes are buffered. Once the first chunk is flushed, a serialization failure can only truncate the response.
+ */
+public class StreamingQueryResponseWriter implements QueryResponseWriter {
+
+	@Nonnull
+	private final List<ExecutionResult> results;
+
+	private final boolean batched;
+
+	@Nonnull
+	private final GraphQLObjectMapper graphQLObjectMapper;
+
+	private final int bufferSize;
+
+	public StreamingQueryResponseWriter(
+		@Nonnull List<ExecutionResult> results,
+		boolean batched,
+		@Nonnull GraphQLObjectMapper graphQLObjectMapper,
+		int bufferSize
+	) {
+		this.results = Objects.requireNonNull(results);
+		this.batched = batched;
+		this.graphQLObjectMapper = Objects.requireNonNull(graphQLObjectMapper);
+		this.bufferSize = bufferSize;
+	}
+
+	@Override
+	public void write(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setContentType(HttpRequestHandler.APPLICATION_JSON_UTF8);
+		response.setStatus(HttpRequestHandler.STATUS_OK);
+		response.setBufferSize(this.bufferSize);
+
+		ObjectWriter objectWriter = this.graphQLObjectMapper.getJacksonMapper().writer();
+		try (
+			JsonGenerator generator = objectWriter.createGenerator(response.getOutputStream(), JsonEncoding.UTF8)
+		) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			if (this.batched) {
+				generator.writeStartArray();
+			}
+			for (ExecutionResult result : this.results) {
+				objectWriter.writeValue(generator, this.graphQLObjectMapper.createResultFromExecutionResult(result));
+			}
+			if (this.batched) {
+				generator.writeEndArray();
+			}
+		}
+		response.flushBuffer();
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.List;
+
+import graphql.kickstart.execution.GraphQLQueryResult;
+import graphql.kickstart.execution.input.GraphQLInvocationInput;
+import graphql.kickstart.servlet.GraphQLConfiguration;
+import graphql.kickstart.servlet.QueryResponseWriter;
+import graphql.kickstart.servlet.QueryResponseWriterFactory;
+import graphql.kickstart.servlet.QueryResponseWriterFactoryImpl;
+
+/**
+ * Creates a {@link StreamingQueryResponseWriter} for single and batched results. Subscriptions and error results use the stock writers.
+ */
+public class StreamingQueryResponseWriterFactory implements QueryResponseWriterFactory {
+
+	private final QueryResponseWriterFactory delegate = new QueryResponseWriterFactoryImpl();
+
+	private final int bufferSize;
+
+	public StreamingQueryResponseWriterFactory(int bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	@Override
+	public QueryResponseWriter createWriter(
+		GraphQLInvocationInput invocationInput,
+		GraphQLQueryResult result,
+		GraphQLConfiguration configuration
+	) {
+		if (result.isBatched()) {
+			return new StreamingQueryResponseWriter(
+				result.getResults(),
+				true,
+				configuration.getObjectMapper(),
+				this.bufferSize
+			);
+		}
+		if (result.isAsynchronous() || result.isError()) {
+			return this.delegate.createWriter(invocationInput, result, configuration);
+		}
+		return new StreamingQueryResponseWriter(
+			List.of(result.getResult()),
+			false,
+			configuration.getObjectMapper(),
+			this.bufferSize
+		);
+	}
+}
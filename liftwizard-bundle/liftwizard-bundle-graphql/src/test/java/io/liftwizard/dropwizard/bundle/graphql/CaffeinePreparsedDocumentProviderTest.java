@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.codahale.metrics.MetricRegistry;
+import com.smoketurner.dropwizard.graphql.CachingPreparsedDocumentProvider;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeinePreparsedDocumentProviderTest {
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final List<String> parsedQueries = new ArrayList<>();
+
+	private final Function<ExecutionInput, PreparsedDocumentEntry> parseFunction = (executionInput) -> {
+		String query = executionInput.getQuery();
+		this.parsedQueries.add(query);
+		try {
+			return new PreparsedDocumentEntry(Parser.parse(query));
+		} catch (InvalidSyntaxException e) {
+			return new PreparsedDocumentEntry(e.toInvalidSyntaxError());
+		}
+	};
+
+	@Test
+	void cachesDocumentsBySignature() {
+		var provider = new CaffeinePreparsedDocumentProvider(10, this.metricRegistry, Runnable::run);
+
+		PreparsedDocumentEntry first = this.getDocument(provider, "{ hello }");
+		PreparsedDocumentEntry second = this.getDocument(provider, "{\n\thello\n}");
+
+		assertThat(second).isSameAs(first);
+		assertThat(this.parsedQueries).containsExactly("{ hello }");
+		assertThat(this.meterCount("misses")).isEqualTo(1);
+		assertThat(this.meterCount("hits")).isEqualTo(1);
+		assertThat(this.metricRegistry.timer(this.name("load")).getCount()).isEqualTo(1);
+		String legacyCacheMisses = MetricRegistry.name(CachingPreparsedDocumentProvider.class, "cache-misses");
+		assertThat(this.metricRegistry.meter(legacyCacheMisses).getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void doesNotCacheDocumentsWithErrors() {
+		var provider = new CaffeinePreparsedDocumentProvider(10, this.metricRegistry, Runnable::run);
+
+		assertThat(this.getDocument(provider, "{ hello").hasErrors()).isTrue();
+		assertThat(this.getDocument(provider, "{ hello").hasErrors()).isTrue();
+
+		assertThat(this.parsedQueries).hasSize(2);
+		assertThat(this.meterCount("misses")).isEqualTo(2);
+		assertThat(this.meterCount("hits")).isZero();
+		assertThat(this.metricRegistry.getGauges().get(this.name("size")).getValue()).isEqualTo(0L);
+	}
+
+	@Test
+	void evictsDocumentsBeyondTheMaximumSize() {
+		var provider = new CaffeinePreparsedDocumentProvider(1, this.metricRegistry, Runnable::run);
+
+		this.getDocument(provider, "{ hello }");
+		this.getDocument(provider, "{ goodbye }");
+		this.getDocument(provider, "{ goodbye }");
+
+		assertThat(this.meterCount("evictions")).isEqualTo(1);
+		assertThat(this.metricRegistry.getGauges().get(this.name("size")).getValue()).isEqualTo(1L);
+		assertThat(this.meterCount("hits")).isEqualTo(1);
+	}
+
+	private PreparsedDocumentEntry getDocument(CaffeinePreparsedDocumentProvider provider, String query) {
+		return provider.getDocument(ExecutionInput.newExecutionInput(query).build(), this.parseFunction);
+	}
+
+	private long meterCount(String name) {
+		return this.metricRegistry.meter(this.name(name)).getCount();
+	}
+
+	private String name(String name) {
+		return MetricRegistry.name(CaffeinePreparsedDocumentProvider.class, name);
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import graphql.kickstart.execution.FutureExecutionResult;
+import graphql.kickstart.execution.GraphQLQueryResult;
+import graphql.kickstart.execution.config.GraphQLBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExecutorGraphQLInvokerTest {
+
+	@Test
+	void rejectedExecutionsAreAnsweredWithServiceUnavailable() {
+		Executor saturated = (runnable) -> {
+			throw new RejectedExecutionException("full");
+		};
+		var invoker = new ExecutorGraphQLInvoker(new GraphQLBuilder(), saturated);
+
+		FutureExecutionResult futureResult = invoker.execute(null);
+		GraphQLQueryResult queryResult = futureResult.thenApplyQueryResult().join();
+
+		assertThat(queryResult.isError()).isTrue();
+		assertThat(queryResult.getStatusCode()).isEqualTo(503);
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+
+import com.codahale.metrics.MetricRegistry;
+import graphql.kickstart.servlet.core.GraphQLServletListener.RequestCallback;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQLAsyncServletMetricsListenerTest {
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final GraphQLAsyncServletMetricsListener listener = new GraphQLAsyncServletMetricsListener(
+		this.metricRegistry
+	);
+
+	@Test
+	void countsSuspendedRequestsUntilFinished() {
+		RequestCallback first = this.listener.onRequest(null, null);
+		RequestCallback second = this.listener.onRequest(null, null);
+
+		assertThat(this.getSuspended()).isEqualTo(2);
+
+		first.onSuccess(null, null);
+		first.onFinally(null, null);
+
+		assertThat(this.getSuspended()).isEqualTo(1);
+		assertThat(this.getDurationCount()).isEqualTo(1);
+
+		second.onFinally(null, null);
+
+		assertThat(this.getSuspended()).isZero();
+		assertThat(this.getDurationCount()).isEqualTo(2);
+		assertThat(this.getTimeouts()).isZero();
+	}
+
+	@Test
+	void parseErrorFinishesTheRequestOnce() {
+		RequestCallback callback = this.listener.onRequest(null, null);
+
+		callback.onParseError(null, null, new IOException("bad body"));
+		callback.onFinally(null, null);
+
+		assertThat(this.getSuspended()).isZero();
+		assertThat(this.getDurationCount()).isEqualTo(1);
+	}
+
+	@Test
+	void onlyCancellationCountsAsTimeout() {
+		RequestCallback failed = this.listener.onRequest(null, null);
+		failed.onError(null, null, new IllegalStateException("data fetcher failed"));
+		failed.onFinally(null, null);
+
+		assertThat(this.getTimeouts()).isZero();
+
+		RequestCallback timedOut = this.listener.onRequest(null, null);
+		timedOut.onError(null, null, new CancellationException());
+		timedOut.onFinally(null, null);
+
+		assertThat(this.getTimeouts()).isEqualTo(1);
+		assertThat(this.getSuspended()).isZero();
+	}
+
+	private long getSuspended() {
+		return this.metricRegistry.counter("liftwizard.graphql.servlet.suspended").getCount();
+	}
+
+	private long getDurationCount() {
+		return this.metricRegistry.timer("liftwizard.graphql.servlet.duration").getCount();
+	}
+
+	private long getTimeouts() {
+		return this.metricRegistry.meter("liftwizard.graphql.servlet.timeouts").getCount();
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GraphQLQuerySignatureTest {
+
+	@Test
+	void collapsesWhitespaceCommasAndComments() {
+		String compact = "query Q($id: ID!) { person(id: $id) { name, age } }";
+		String formatted = """
+			# Look up a person
+			query Q(
+				$id: ID!
+			) {
+				person(id: $id) {
+					name # the display name
+					age
+				}
+			}
+			""";
+
+		assertThat(GraphQLQuerySignature.of(formatted)).isEqualTo(GraphQLQuerySignature.of(compact));
+		assertThat(GraphQLQuerySignature.of(compact)).isEqualTo("query Q($id:ID!){person(id:$id){name age}}");
+	}
+
+	@Test
+	void sortsTopLevelDefinitions() {
+		String first = "query A { a } query B { ...F } fragment F on Query { b }";
+		String second = "fragment F on Query { b } query B { ...F } query A { a }";
+
+		assertThat(GraphQLQuerySignature.of(first)).isEqualTo(GraphQLQuerySignature.of(second));
+	}
+
+	@Test
+	void keepsSelectionOrder() {
+		assertThat(GraphQLQuerySignature.of("{ a b }")).isNotEqualTo(GraphQLQuerySignature.of("{ b a }"));
+	}
+
+	@Test
+	void keepsStringLiteralsVerbatim() {
+		String spaced = "{ person(name: \"a  # b, c\") { name } }";
+		String collapsed = "{ person(name: \"a # b c\") { name } }";
+
+		assertThat(GraphQLQuerySignature.of(spaced)).contains("\"a  # b, c\"");
+		assertThat(GraphQLQuerySignature.of(spaced)).isNotEqualTo(GraphQLQuerySignature.of(collapsed));
+		assertThat(GraphQLQuerySignature.of("{ f(s: \"\"\" x } \\\"\"\" y \"\"\") }")).isEqualTo(
+			"{f(s:\"\"\" x } \\\"\"\" y \"\"\")}"
+		);
+	}
+
+	@Test
+	void keepsSignificantWhitespace() {
+		assertThat(GraphQLQuerySignature.of("{ ... on Query { a } }")).isEqualTo("{... on Query{a}}");
+		assertThat(GraphQLQuerySignature.of("{ f(a: - 1) }")).isNotEqualTo(GraphQLQuerySignature.of("{ f(a: -1) }"));
+		assertThat(GraphQLQuerySignature.of("{ f(a: [\"\" \"x\"]) }")).isNotEqualTo(
+			GraphQLQuerySignature.of("{ f(a: [\"\"\"x\"]) }")
+		);
+	}
+}
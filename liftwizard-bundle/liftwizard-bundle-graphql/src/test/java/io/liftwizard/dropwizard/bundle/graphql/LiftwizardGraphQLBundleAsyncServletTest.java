@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import javax.servlet.FilterRegistration.Dynamic;
+
+import com.codahale.metrics.MetricRegistry;
+import com.smoketurner.dropwizard.graphql.GraphQLFactory;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLFactoryProvider;
+import io.liftwizard.dropwizard.configuration.graphql.LiftwizardGraphQLFactory;
+import io.liftwizard.servlet.logging.feature.LoggingConfig;
+import io.liftwizard.servlet.logging.filter.ServerLoggingFilter;
+import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(30)
+class LiftwizardGraphQLBundleAsyncServletTest {
+
+	private final LiftwizardGraphQLFactory graphQLFactory = new LiftwizardGraphQLFactory();
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private final CountDownLatch blockingStarted = new CountDownLatch(1);
+	private final CountDownLatch blockingLatch = new CountDownLatch(1);
+	private final BlockingQueue<StructuredArguments> logged = new LinkedBlockingQueue<>();
+
+	private MetricRegistry metricRegistry;
+	private Server server;
+
+	@BeforeEach
+	void setUp() {
+		this.graphQLFactory.setSchemaFiles(List.of("graphql/async-servlet.graphqls"));
+		this.graphQLFactory.getServlet().setAsyncThreads(2);
+		this.graphQLFactory.getServlet().setAsyncTimeout(Duration.seconds(5));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (this.server != null) {
+			this.server.stop();
+		}
+	}
+
+	@Test
+	void asyncModeExecutesOffTheContainerThread() throws Exception {
+		this.graphQLFactory.getServlet().setAsyncSupported(true);
+		this.start();
+
+		HttpResponse<String> response = this.post("{ threadName }");
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.body()).contains("\"threadName\":\"graphql-async-");
+		assertThat(awaitCount(this::getSuspended, 0)).isZero();
+		assertThat(awaitCount(this::getDurationCount, 1)).isEqualTo(1);
+		assertThat(this.getTimeouts()).isZero();
+	}
+
+	@Test
+	void asyncRequestsAreLoggedOnceTheResponseIsComplete() throws Exception {
+		this.graphQLFactory.getServlet().setAsyncSupported(true);
+		this.start();
+
+		HttpResponse<String> response = this.post("{ threadName }");
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		StructuredArguments structuredArguments = this.logged.poll(5, TimeUnit.SECONDS);
+		assertThat(structuredArguments).isNotNull();
+		assertThat(structuredArguments.getRequest().getHttp().getBody()).contains("threadName");
+		assertThat(structuredArguments.getResponse().getHttp().getStatus().getCode()).isEqualTo(200);
+		assertThat(structuredArguments.getResponse().getHttp().getBody()).isEqualTo(response.body());
+		assertThat(this.logged).isEmpty();
+	}
+
+	@Test
+	void syncModeExecutesOnTheContainerThread() throws Exception {
+		this.start();
+
+		HttpResponse<String> response = this.post("{ threadName }");
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.body()).contains("\"threadName\":\"").doesNotContain("graphql-async-");
+		assertThat(this.metricRegistry.getTimers()).doesNotContainKey("liftwizard.graphql.servlet.duration");
+	}
+
+	@Test
+	void asyncTimeoutAnswersWithAnErrorAndMarksTheTimeoutMeter() throws Exception {
+		this.graphQLFactory.getServlet().setAsyncSupported(true);
+		this.graphQLFactory.getServlet().setAsyncTimeout(Duration.seconds(1));
+		this.start();
+
+		HttpResponse<String> response = this.post("{ never }");
+
+		assertThat(response.body()).contains("\"errors\"").doesNotContain("\"never\"");
+		assertThat(awaitCount(this::getTimeouts, 1)).isEqualTo(1);
+		assertThat(awaitCount(this::getSuspended, 0)).isZero();
+
+		HttpResponse<String> next = this.post("{ threadName }");
+
+		assertThat(next.body()).contains("\"threadName\":\"graphql-async-");
+		assertThat(this.getTimeouts()).isEqualTo(1);
+	}
+
+	@Test
+	void timeoutBeforeExecutionStartsStillCompletesTheRequest() throws Exception {
+		this.graphQLFactory.getServlet().setAsyncSupported(true);
+		this.graphQLFactory.getServlet().setAsyncThreads(1);
+		this.graphQLFactory.getServlet().setAsyncTimeout(Duration.seconds(1));
+		this.start();
+
+		// Occupies the only async thread, so the next request is still queued when its timeout fires
+		CompletableFuture<HttpResponse<String>> blocking = this.postAsync("{ blocking }");
+		this.blockingStarted.await();
+		HttpResponse<String> queued = this.post("{ threadName }");
+		this.blockingLatch.countDown();
+
+		assertThat(queued.body()).contains("\"errors\"");
+		assertThat(blocking.get().body()).contains("\"errors\"");
+		assertThat(awaitCount(this::getTimeouts, 2)).isEqualTo(2);
+	}
+
+	private void start() throws Exception {
+		var configuration = new AsyncServletConfiguration(this.graphQLFactory);
+		var bundle = new LiftwizardGraphQLBundle<AsyncServletConfiguration>((builder) ->
+			builder.type("Query", (type) ->
+				type
+					.dataFetcher("threadName", (environment) -> Thread.currentThread().getName())
+					.dataFetcher("never", (environment) -> new CompletableFuture<String>())
+					.dataFetcher("blocking", (environment) -> {
+						this.blockingStarted.countDown();
+						this.blockingLatch.await();
+						return "released";
+					})
+			)
+		);
+
+		Bootstrap<AsyncServletConfiguration> bootstrap = new Bootstrap<>(new AsyncServletApplication());
+		bundle.initialize(bootstrap);
+		this.metricRegistry = bootstrap.getMetricRegistry();
+		var environment = new Environment(
+			"test",
+			bootstrap.getObjectMapper(),
+			bootstrap.getValidatorFactory(),
+			this.metricRegistry,
+			bootstrap.getClassLoader(),
+			bootstrap.getHealthCheckRegistry(),
+			configuration
+		);
+		bundle.run(configuration, environment);
+
+		var loggingFilter = new ServerLoggingFilter(newLoggingConfig(), this.logged::add, Clock.systemUTC());
+		Dynamic filterRegistration = environment.servlets().addFilter("ServerLoggingFilter", loggingFilter);
+		filterRegistration.setAsyncSupported(true);
+		filterRegistration.addMappingForUrlPatterns(null, true, "/*");
+
+		this.server = new Server(0);
+		this.server.setHandler(environment.getApplicationContext());
+		environment.lifecycle().attach(this.server);
+		this.server.start();
+	}
+
+	private HttpResponse<String> post(String query) throws IOException, InterruptedException {
+		return this.httpClient.send(this.newRequest(query), BodyHandlers.ofString());
+	}
+
+	private CompletableFuture<HttpResponse<String>> postAsync(String query) {
+		return this.httpClient.sendAsync(this.newRequest(query), BodyHandlers.ofString());
+	}
+
+	private HttpRequest newRequest(String query) {
+		int port = ((ServerConnector) this.server.getConnectors()[0]).getLocalPort();
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/graphql"))
+			.header("Content-Type", "application/json")
+			.POST(BodyPublishers.ofString("{\"query\":\"" + query + "\"}"))
+			.build();
+	}
+
+	private static LoggingConfig newLoggingConfig() {
+		return new LoggingConfig(
+			true,
+			true,
+			true,
+			true,
+			false,
+			false,
+			false,
+			false,
+			Lists.immutable.empty(),
+			Lists.immutable.empty(),
+			8192
+		);
+	}
+
+	private long getDurationCount() {
+		return this.metricRegistry.timer("liftwizard.graphql.servlet.duration").getCount();
+	}
+
+	private long getSuspended() {
+		return this.metricRegistry.counter("liftwizard.graphql.servlet.suspended").getCount();
+	}
+
+	private long getTimeouts() {
+		return this.metricRegistry.meter("liftwizard.graphql.servlet.timeouts").getCount();
+	}
+
+	// Kickstart runs the listener callbacks after writing the response, so a client can read a response with Content-Length before its metrics are recorded
+	private static long awaitCount(LongSupplier count, long expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (count.getAsLong() != expected && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		return count.getAsLong();
+	}
+
+	public static class AsyncServletConfiguration extends Configuration implements GraphQLFactoryProvider {
+
+		private final GraphQLFactory graphQLFactory;
+
+		AsyncServletConfiguration(GraphQLFactory graphQLFactory) {
+			this.graphQLFactory = graphQLFactory;
+		}
+
+		@Override
+		public GraphQLFactory getGraphQLFactory() {
+			return this.graphQLFactory;
+		}
+	}
+
+	private static final class AsyncServletApplication extends Application<AsyncServletConfiguration> {
+
+		@Override
+		public void run(AsyncServletConfiguration configuration, Environment environment) {}
+	}
+}
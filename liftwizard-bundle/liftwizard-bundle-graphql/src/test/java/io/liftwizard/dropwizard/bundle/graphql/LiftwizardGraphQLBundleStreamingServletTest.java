@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import com.smoketurner.dropwizard.graphql.GraphQLFactory;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.DataSize;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLFactoryProvider;
+import io.liftwizard.dropwizard.configuration.graphql.LiftwizardGraphQLFactory;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Timeout(30)
+class LiftwizardGraphQLBundleStreamingServletTest {
+
+	private static final String LARGE_QUERY = "{ hello nothing items(count: 2000) }";
+
+	private final LiftwizardGraphQLFactory graphQLFactory = new LiftwizardGraphQLFactory();
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	private Server server;
+
+	@BeforeEach
+	void setUp() {
+		this.graphQLFactory.setSchemaFiles(List.of("graphql/streaming-servlet.graphqls"));
+		this.graphQLFactory.getResponse().setBufferSize(DataSize.kibibytes(1));
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		this.stop();
+	}
+
+	@Test
+	void streamingIsOffByDefault() throws Exception {
+		this.start();
+
+		HttpResponse<String> response = this.postJson(LiftwizardGraphQLBundleStreamingServletTest.toJson(LARGE_QUERY));
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValueAsLong("Content-Length")).hasValue(response.body().length());
+		assertThat(response.headers().firstValue("Transfer-Encoding")).isEmpty();
+	}
+
+	@Test
+	void streamsLargeResponsesWithTheSameBodyAsTheStockServlet() throws Exception {
+		this.start();
+		String stockBody = this.postJson(LiftwizardGraphQLBundleStreamingServletTest.toJson(LARGE_QUERY)).body();
+		this.stop();
+
+		this.graphQLFactory.getResponse().setStreaming(true);
+		this.start();
+		HttpResponse<String> response = this.postJson(LiftwizardGraphQLBundleStreamingServletTest.toJson(LARGE_QUERY));
+
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue("Content-Length")).isEmpty();
+		assertThat(response.headers().firstValue("Transfer-Encoding")).hasValue("chunked");
+		assertThat(response.body()).isEqualTo(stockBody).contains("\"nothing\":null");
+	}
+
+	@Test
+	void parsesRequestsLikeTheStockServlet() throws Exception {
+		this.graphQLFactory.getResponse().setStreaming(true);
+		this.start();
+
+		String query = "{ hello }";
+		String expected = "{\"data\":{\"hello\":\"world\"}}";
+		String encodedQuery = URLEncoder.encode(query, StandardCharsets.UTF_8);
+		HttpResponse<String> get = this.send(HttpRequest.newBuilder(this.uri("?query=" + encodedQuery)).GET());
+		HttpResponse<String> graphQL = this.send(
+			HttpRequest.newBuilder(this.uri(""))
+				.header("Content-Type", "application/graphql")
+				.POST(BodyPublishers.ofString(query))
+		);
+		HttpResponse<String> json = this.postJson(LiftwizardGraphQLBundleStreamingServletTest.toJson(query));
+		HttpResponse<String> batched = this.postJson("[" + LiftwizardGraphQLBundleStreamingServletTest.toJson(query) + "]");
+
+		assertThat(List.of(get.body(), graphQL.body(), json.body())).containsOnly(expected);
+		assertThat(batched.body()).isEqualTo("[" + expected + "]");
+	}
+
+	@Test
+	void rejectsMalformedJsonWithBadRequest() throws Exception {
+		this.graphQLFactory.getResponse().setStreaming(true);
+		this.start();
+
+		HttpResponse<String> response = this.postJson("{\"query\":");
+
+		assertThat(response.statusCode()).isEqualTo(400);
+	}
+
+	private void start() throws Exception {
+		var configuration = new StreamingServletConfiguration(this.graphQLFactory);
+		var bundle = new LiftwizardGraphQLBundle<StreamingServletConfiguration>((builder) ->
+			builder.type("Query", (type) ->
+				type
+					.dataFetcher("hello", (environment) -> "world")
+					.dataFetcher("items", (environment) ->
+						Collections.nCopies(environment.<Integer>getArgument("count"), "item")
+					)
+			)
+		);
+
+		Bootstrap<StreamingServletConfiguration> bootstrap = new Bootstrap<>(new StreamingServletApplication());
+		bundle.initialize(bootstrap);
+		var environment = new Environment(
+			"test",
+			bootstrap.getObjectMapper(),
+			bootstrap.getValidatorFactory(),
+			bootstrap.getMetricRegistry(),
+			bootstrap.getClassLoader(),
+			bootstrap.getHealthCheckRegistry(),
+			configuration
+		);
+		bundle.run(configuration, environment);
+
+		this.server = new Server(0);
+		this.server.setHandler(environment.getApplicationContext());
+		environment.lifecycle().attach(this.server);
+		this.server.start();
+	}
+
+	private void stop() throws Exception {
+		if (this.server != null) {
+			this.server.stop();
+			this.server = null;
+		}
+	}
+
+	private HttpResponse<String> postJson(String body) throws IOException, InterruptedException {
+		return this.send(
+			HttpRequest.newBuilder(this.uri(""))
+				.header("Content-Type", "application/json")
+				.POST(BodyPublishers.ofString(body))
+		);
+	}
+
+	private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+		return this.httpClient.send(request.build(), BodyHandlers.ofString());
+	}
+
+	private URI uri(String queryString) {
+		int port = ((ServerConnector) this.server.getConnectors()[0]).getLocalPort();
+		return URI.create("http://localhost:" + port + "/graphql" + queryString);
+	}
+
+	private static String toJson(String query) {
+		return "{\"query\":\"" + query + "\"}";
+	}
+
+	public static class StreamingServletConfiguration extends Configuration implements GraphQLFactoryProvider {
+
+		private final GraphQLFactory graphQLFactory;
+
+		StreamingServletConfiguration(GraphQLFactory graphQLFactory) {
+			this.graphQLFactory = graphQLFactory;
+		}
+
+		@Override
+		public GraphQLFactory getGraphQLFactory() {
+			return this.graphQLFactory;
+		}
+	}
+
+	private static final class StreamingServletApplication extends Application<StreamingServletConfiguration> {
+
+		@Override
+		public void run(StreamingServletConfiguration configuration, Environment environment) {}
+	}
+}
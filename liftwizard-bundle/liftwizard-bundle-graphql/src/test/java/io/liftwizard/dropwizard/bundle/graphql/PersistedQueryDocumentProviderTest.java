@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.GraphQLError;
+import graphql.execution.preparsed.NoOpPreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PersistedQueryDocumentProviderTest {
+
+	private static final String HELLO = "query Hello {\n\thello\n}\n";
+	private static final String GOODBYE = "query Goodbye { hello }";
+
+	private final GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+		new SchemaParser().parse("type Query { hello: String }"),
+		RuntimeWiring.MOCKED_WIRING
+	);
+	private final PersistedQueryRegistry registry = PersistedQueryRegistry.load(
+		this.schema,
+		new ObjectMapper(),
+		List.of("persisted-queries/hello.graphql", "persisted-queries/manifest.json")
+	);
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void servesRegisteredDocumentsByHashOrId() {
+		GraphQL graphQL = this.newGraphQL(1_000, false);
+
+		assertThat(this.registry.size()).isEqualTo(2);
+		assertThat(this.execute(graphQL, null, PersistedQueryRegistry.hash(HELLO)).getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, null, "hello-manifest").getErrors()).isEmpty();
+		assertThat(this.meterCount("hits")).isEqualTo(2);
+	}
+
+	@Test
+	void matchesHashesInEitherCase() {
+		GraphQL graphQL = this.newGraphQL(1_000, false);
+		String upperCaseHash = PersistedQueryRegistry.hash(HELLO).toUpperCase(Locale.ROOT);
+		String upperCaseGoodbyeHash = PersistedQueryRegistry.hash(GOODBYE).toUpperCase(Locale.ROOT);
+
+		assertThat(this.execute(graphQL, null, upperCaseHash).getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, null, "HELLO-MANIFEST").getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, GOODBYE, upperCaseGoodbyeHash).getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, null, PersistedQueryRegistry.hash(GOODBYE)).getErrors()).isEmpty();
+		assertThat(this.meterCount("hits")).isEqualTo(3);
+		assertThat(this.meterCount("rejected")).isZero();
+	}
+
+	@Test
+	void loadsFilesFromTheFileSystem() throws IOException {
+		Path manifest = Files.writeString(this.tempDir.resolve("manifest.json"), "{\"Goodbye\": \"" + GOODBYE + "\"}");
+
+		PersistedQueryRegistry fileRegistry = PersistedQueryRegistry.load(
+			this.schema,
+			new ObjectMapper(),
+			List.of("file:" + manifest)
+		);
+
+		assertThat(fileRegistry.size()).isEqualTo(1);
+		assertThat(fileRegistry.getDocument("goodbye")).isNotNull();
+		assertThatThrownBy(() ->
+			PersistedQueryRegistry.load(
+				this.schema,
+				new ObjectMapper(),
+				List.of("file:" + this.tempDir.resolve("missing.json"))
+			)
+		).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void registersAutomaticPersistedQueries() {
+		GraphQL graphQL = this.newGraphQL(1_000, false);
+		String queryId = PersistedQueryRegistry.hash(GOODBYE);
+
+		assertThat(this.execute(graphQL, null, queryId).getErrors())
+			.extracting(GraphQLError::getMessage)
+			.containsExactly("PersistedQueryNotFound");
+		assertThat(this.execute(graphQL, GOODBYE, queryId).getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, null, queryId).getErrors()).isEmpty();
+
+		assertThat(this.meterCount("misses")).isEqualTo(1);
+		assertThat(this.meterCount("registrations")).isEqualTo(1);
+		assertThat(this.meterCount("hits")).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsMismatchedHash() {
+		GraphQL graphQL = this.newGraphQL(1_000, false);
+
+		assertThat(this.execute(graphQL, GOODBYE, PersistedQueryRegistry.hash(HELLO + " ")).getErrors())
+			.extracting(GraphQLError::getMessage)
+			.containsExactly("PersistedQueryIdInvalid");
+		assertThat(this.meterCount("rejected")).isEqualTo(1);
+	}
+
+	@Test
+	void passesQueriesWithoutHashToDelegate() {
+		GraphQL graphQL = this.newGraphQL(1_000, false);
+
+		assertThat(this.execute(graphQL, GOODBYE, null).getErrors()).isEmpty();
+		assertThat(this.meterCount("hits")).isZero();
+	}
+
+	@Test
+	void allowListRejectsUnregisteredQueries() {
+		GraphQL graphQL = this.newGraphQL(0, true);
+
+		assertThat(this.execute(graphQL, HELLO, null).getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, null, "hello-manifest").getErrors()).isEmpty();
+		assertThat(this.execute(graphQL, GOODBYE, null).getErrors())
+			.extracting(GraphQLError::getMessage)
+			.containsExactly("Only registered persisted queries are allowed");
+		assertThat(this.execute(graphQL, GOODBYE, PersistedQueryRegistry.hash(GOODBYE)).getErrors()).hasSize(1);
+		assertThat(this.meterCount("rejected")).isEqualTo(2);
+	}
+
+	@Test
+	void rejectsInvalidDocumentsAtLoad() {
+		assertThatThrownBy(() ->
+			PersistedQueryRegistry.load(this.schema, new ObjectMapper(), List.of("persisted-queries/invalid.graphql"))
+		)
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageStartingWith("Persisted query " + PersistedQueryRegistry.hash("query Goodbye {\n\tgoodbye\n}\n"))
+			.hasMessageContaining("goodbye");
+		assertThatThrownBy(() ->
+			PersistedQueryRegistry.load(this.schema, new ObjectMapper(), List.of("persisted-queries/missing.graphql"))
+		).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private GraphQL newGraphQL(long automaticMaximumSize, boolean allowListOnly) {
+		var provider = new PersistedQueryDocumentProvider(
+			this.registry,
+			automaticMaximumSize,
+			allowListOnly,
+			NoOpPreparsedDocumentProvider.INSTANCE,
+			this.metricRegistry
+		);
+		return GraphQL.newGraphQL(this.schema).preparsedDocumentProvider(provider).build();
+	}
+
+	private ExecutionResult execute(GraphQL graphQL, String query, String queryId) {
+		Map<String, Object> extensions = queryId == null
+			? Map.of()
+			: Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", queryId));
+		ExecutionInput executionInput = ExecutionInput.newExecutionInput(
+			query == null ? PersistedQuerySupport.PERSISTED_QUERY_MARKER : query
+		)
+			.extensions(extensions)
+			.build();
+		return graphQL.execute(executionInput);
+	}
+
+	private long meterCount(String name) {
+		return this.metricRegistry.meter(MetricRegistry.name(PersistedQueryDocumentProvider.class, name)).getCount();
+	}
+}
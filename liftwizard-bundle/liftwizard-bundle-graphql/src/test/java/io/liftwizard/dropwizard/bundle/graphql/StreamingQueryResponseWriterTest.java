@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.graphql;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.kickstart.execution.GraphQLObjectMapper;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingQueryResponseWriterTest {
+
+	private final GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+		new SchemaParser().parse("type Query { hello: String }"),
+		RuntimeWiring.newRuntimeWiring()
+			.type("Query", (builder) -> builder.dataFetcher("hello", (environment) -> "Hello!"))
+			.build()
+	);
+	private final GraphQL graphQL = GraphQL.newGraphQL(this.schema).build();
+	private final GraphQLObjectMapper graphQLObjectMapper = GraphQLObjectMapper.newBuilder()
+		.withObjectMapperConfigurer(new LiftwizardGraphQLObjectMapperConfigurer(false, true))
+		.build();
+
+	private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+	private final Map<String, Object> calls = new ConcurrentHashMap<>();
+
+	@Test
+	void writesSingleResult() throws Exception {
+		ExecutionResult result = this.graphQL.execute("{ hello }");
+
+		new StreamingQueryResponseWriter(List.of(result), false, this.graphQLObjectMapper, 1024).write(
+			null,
+			this.newResponse()
+		);
+
+		assertThat(this.body.toString(StandardCharsets.UTF_8)).isEqualTo("{\"data\":{\"hello\":\"Hello!\"}}");
+		assertThat(this.calls).containsEntry("setBufferSize", 1024).containsEntry("setStatus", 200);
+		assertThat(this.calls).containsKey("flushBuffer");
+	}
+
+	@Test
+	void writesBatchedResultsAsArray() throws Exception {
+		ExecutionResult first = this.graphQL.execute("{ hello }");
+		ExecutionResult second = this.graphQL.execute("{ goodbye }");
+
+		new StreamingQueryResponseWriter(List.of(first, second), true, this.graphQLObjectMapper, 1024).write(
+			null,
+			this.newResponse()
+		);
+
+		String json = this.body.toString(StandardCharsets.UTF_8);
+		assertThat(json).startsWith("[{\"data\":{\"hello\":\"Hello!\"}},{\"errors\":[").endsWith("}]");
+		assertThat(this.graphQLObjectMapper.getJacksonMapper().readTree(json).size()).isEqualTo(2);
+	}
+
+	private HttpServletResponse newResponse() {
+		ServletOutputStream outputStream = new ServletOutputStream() {
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public void write(int b) {
+				StreamingQueryResponseWriterTest.this.body.write(b);
+			}
+		};
+
+		return (HttpServletResponse) Proxy.newProxyInstance(
+			this.getClass().getClassLoader(),
+			new Class<?>[] { HttpServletResponse.class },
+			(proxy, method, args) -> {
+				if (method.getName().equals("getOutputStream")) {
+					return outputStream;
+				}
+				this.calls.put(method.getName(), args == null ? method.getName() : args[0]);
+				return null;
+			}
+		);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.executor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.google.auto.service.AutoService;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+
+/**
+ * Builds a platform thread pool with a bounded queue and an explicit {@link ExecutorRejectionPolicy}.
+ *
+ * <p>
+ * The pool grows past {@code minThreads} only once the queue is full, and rejects tasks once it has reached {@code maxThreads} as well. Rejections are counted by a {@code rejected} meter alongside the usual instrumentation, which includes {@code tasks.queued} and {@code tasks.capacity} gauges.
+ */
+@JsonTypeName("bounded")
+@AutoService(ExecutorServiceFactory.class)
+public class BoundedExecutorServiceFactory extends DefaultExecutorServiceFactory {
+
+	@Min(1)
+	private int queueCapacity = 1024;
+
+	@NotNull
+	private ExecutorRejectionPolicy rejectionPolicy = ExecutorRejectionPolicy.ABORT;
+
+	@Override
+	@JsonIgnore
+	public ExecutorService build(LifecycleEnvironment environment, MetricRegistry metricRegistry) {
+		Meter rejected = metricRegistry.meter(MetricRegistry.name(this.getNameFormat(), "rejected"));
+		RejectedExecutionHandler rejectionHandler = this.rejectionPolicy.createHandler();
+
+		ExecutorService executorService = environment
+			.executorService(this.getNameFormat())
+			.minThreads(this.getMinThreads())
+			.maxThreads(this.getMaxThreads())
+			.allowCoreThreadTimeOut(this.isAllowCoreThreadTimeOut())
+			.keepAliveTime(this.getKeepAliveTime())
+			.shutdownTime(this.getShutdownTime())
+			.workQueue(new ArrayBlockingQueue<>(this.queueCapacity))
+			.rejectedExecutionHandler((runnable, executor) -> {
+				rejected.mark();
+				rejectionHandler.rejectedExecution(runnable, executor);
+			})
+			.build();
+		return new InstrumentedExecutorService(executorService, metricRegistry, this.getNameFormat());
+	}
+
+	@JsonProperty
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	@JsonProperty
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	@JsonProperty
+	public ExecutorRejectionPolicy getRejectionPolicy() {
+		return this.rejectionPolicy;
+	}
+
+	@JsonProperty
+	public void setRejectionPolicy(ExecutorRejectionPolicy rejectionPolicy) {
+		this.rejectionPolicy = rejectionPolicy;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.executor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * What a {@link BoundedExecutorServiceFactory} pool does with a task when its queue is full and all threads are busy.
+ */
+public enum ExecutorRejectionPolicy {
+	/**
+	 * Throw {@link java.util.concurrent.RejectedExecutionException}.
+	 */
+	ABORT {
+		@Override
+		public RejectedExecutionHandler createHandler() {
+			return new ThreadPoolExecutor.AbortPolicy();
+		}
+	},
+
+	/**
+	 * Run the task on the submitting thread, which slows down submitters.
+	 */
+	CALLER_RUNS {
+		@Override
+		public RejectedExecutionHandler createHandler() {
+			return new ThreadPoolExecutor.CallerRunsPolicy();
+		}
+	},
+
+	/**
+	 * Silently drop the task.
+	 */
+	DISCARD {
+		@Override
+		public RejectedExecutionHandler createHandler() {
+			return new ThreadPoolExecutor.DiscardPolicy();
+		}
+	},
+
+	/**
+	 * Drop the oldest queued task and retry.
+	 */
+	DISCARD_OLDEST {
+		@Override
+		public RejectedExecutionHandler createHandler() {
+			return new ThreadPoolExecutor.DiscardOldestPolicy();
+		}
+	};
+
+	public abstract RejectedExecutionHandler createHandler();
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.google.auto.service.AutoService;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+/**
+ * Builds a work-stealing {@link ForkJoinPool}.
+ *
+ * <p>
+ * The instrumentation registers {@code tasks.queued}, {@code tasks.stolen}, {@code threads.active}, and {@code threads.running} gauges for the pool.
+ */
+@JsonTypeName("fork-join")
+@AutoService(ExecutorServiceFactory.class)
+public class ForkJoinExecutorServiceFactory implements ExecutorServiceFactory {
+
+	@Valid
+	@NotNull
+	private String nameFormat;
+
+	// 0 means one thread per available processor
+	@Min(0)
+	private int parallelism;
+
+	// FIFO scheduling for tasks that are never joined, like data fetchers
+	private boolean asyncMode = true;
+
+	@NotNull
+	@MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+	private Duration shutdownTime = Duration.seconds(5);
+
+	@Override
+	@JsonIgnore
+	public ExecutorService build(Environment environment) {
+		return this.build(environment.lifecycle(), environment.metrics());
+	}
+
+	@Override
+	@JsonIgnore
+	public ExecutorService build(LifecycleEnvironment environment, MetricRegistry metricRegistry) {
+		int threads = this.parallelism == 0 ? Runtime.getRuntime().availableProcessors() : this.parallelism;
+		var threadCount = new AtomicLong();
+		ForkJoinWorkerThreadFactory threadFactory = (pool) -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName(String.format(this.nameFormat, threadCount.getAndIncrement()));
+			return thread;
+		};
+
+		var forkJoinPool = new ForkJoinPool(threads, threadFactory, null, this.asyncMode);
+		environment.manage(new ExecutorServiceManager(forkJoinPool, this.shutdownTime, this.nameFormat));
+		return new InstrumentedExecutorService(forkJoinPool, metricRegistry, this.nameFormat);
+	}
+
+	@JsonProperty
+	public String getNameFormat() {
+		return this.nameFormat;
+	}
+
+	@JsonProperty
+	public void setNameFormat(String nameFormat) {
+		this.nameFormat = nameFormat;
+	}
+
+	@JsonProperty
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	@JsonProperty
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	@JsonProperty
+	public boolean isAsyncMode() {
+		return this.asyncMode;
+	}
+
+	@JsonProperty
+	public void setAsyncMode(boolean asyncMode) {
+		this.asyncMode = asyncMode;
+	}
+
+	@JsonProperty
+	public Duration getShutdownTime() {
+		return this.shutdownTime;
+	}
+
+	@JsonProperty
+	public void setShutdownTime(Duration shutdownTime) {
+		this.shutdownTime = shutdownTime;
+	}
+}
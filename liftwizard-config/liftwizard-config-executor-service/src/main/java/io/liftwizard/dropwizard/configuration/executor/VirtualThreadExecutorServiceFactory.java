@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.executor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.google.auto.service.AutoService;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+/**
+ * Builds an executor that starts a new virtual thread for each task.
+ *
+ * <p>
+ * Suited to tasks that spend most of their time blocked on I/O, where a platform thread pool would need one thread per concurrent request. There is no queue, so the instrumentation's {@code running} counter is the number of tasks in flight.
+ */
+@JsonTypeName("virtual-threads")
+@AutoService(ExecutorServiceFactory.class)
+public class VirtualThreadExecutorServiceFactory implements ExecutorServiceFactory {
+
+	@Valid
+	@NotNull
+	private String nameFormat;
+
+	@NotNull
+	@MinDuration(value = 0, unit = TimeUnit.MILLISECONDS, inclusive = false)
+	private Duration shutdownTime = Duration.seconds(5);
+
+	@Override
+	@JsonIgnore
+	public ExecutorService build(Environment environment) {
+		return this.build(environment.lifecycle(), environment.metrics());
+	}
+
+	@Override
+	@JsonIgnore
+	public ExecutorService build(LifecycleEnvironment environment, MetricRegistry metricRegistry) {
+		ThreadFactory virtualThreadFactory = Thread.ofVirtual().factory();
+		var threadCount = new AtomicLong();
+		ThreadFactory threadFactory = (runnable) -> {
+			Thread thread = virtualThreadFactory.newThread(runnable);
+			thread.setName(String.format(this.nameFormat, threadCount.getAndIncrement()));
+			return thread;
+		};
+
+		ExecutorService executorService = Executors.newThreadPerTaskExecutor(threadFactory);
+		environment.manage(new ExecutorServiceManager(executorService, this.shutdownTime, this.nameFormat));
+		return new InstrumentedExecutorService(executorService, metricRegistry, this.nameFormat);
+	}
+
+	@JsonProperty
+	public String getNameFormat() {
+		return this.nameFormat;
+	}
+
+	@JsonProperty
+	public void setNameFormat(String nameFormat) {
+		this.nameFormat = nameFormat;
+	}
+
+	@JsonProperty
+	public Duration getShutdownTime() {
+		return this.shutdownTime;
+	}
+
+	@JsonProperty
+	public void setShutdownTime(Duration shutdownTime) {
+		this.shutdownTime = shutdownTime;
+	}
+}
@@ -17,6 +17,14 @@
 package io.liftwizard.dropwizard.configuration.executor;
 
 import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.codahale.metrics.MetricRegistry;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.configuration.ConfigurationException;
@@ -25,12 +33,14 @@ import io.dropwizard.configuration.JsonConfigurationFactory;
 import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
 import io.liftwizard.serialization.jackson.config.ObjectMapperConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 class ExecutorServiceFactoryTest {
@@ -54,7 +64,38 @@ class ExecutorServiceFactoryTest {
 			ExecutorServiceFactory.class,
 			"default-executor-service-config-test.json5"
 		);
-		assertThat(executorServiceFactory).isInstanceOf(ExecutorServiceFactory.class);
+		assertThat(executorServiceFactory).isInstanceOf(DefaultExecutorServiceFactory.class);
+	}
+
+	@Test
+	void virtualThreadExecutorServiceFactory() throws Exception {
+		ExecutorServiceFactory executorServiceFactory = this.getConfiguredType(
+			ExecutorServiceFactory.class,
+			"virtual-threads-executor-service-config-test.json5"
+		);
+		assertThat(executorServiceFactory).isInstanceOf(VirtualThreadExecutorServiceFactory.class);
+	}
+
+	@Test
+	void forkJoinExecutorServiceFactory() throws Exception {
+		ExecutorServiceFactory executorServiceFactory = this.getConfiguredType(
+			ExecutorServiceFactory.class,
+			"fork-join-executor-service-config-test.json5"
+		);
+		assertThat(executorServiceFactory).isInstanceOf(ForkJoinExecutorServiceFactory.class);
+		assertThat(((ForkJoinExecutorServiceFactory) executorServiceFactory).getParallelism()).isEqualTo(4);
+	}
+
+	@Test
+	void boundedExecutorServiceFactory() throws Exception {
+		ExecutorServiceFactory executorServiceFactory = this.getConfiguredType(
+			ExecutorServiceFactory.class,
+			"bounded-executor-service-config-test.json5"
+		);
+		assertThat(executorServiceFactory).isInstanceOf(BoundedExecutorServiceFactory.class);
+		var boundedExecutorServiceFactory = (BoundedExecutorServiceFactory) executorServiceFactory;
+		assertThat(boundedExecutorServiceFactory.getQueueCapacity()).isEqualTo(100);
+		assertThat(boundedExecutorServiceFactory.getRejectionPolicy()).isEqualTo(ExecutorRejectionPolicy.CALLER_RUNS);
 	}
 
 	@Test
@@ -86,6 +127,134 @@ class ExecutorServiceFactoryTest {
 		}
 	}
 
+	@Test
+	void defaultExecutorRunsTasksOnNamedPlatformThreads() throws Exception {
+		var factory = new DefaultExecutorServiceFactory();
+		factory.setNameFormat("default-%d");
+		var metricRegistry = new MetricRegistry();
+		ExecutorService executorService = factory.build(new LifecycleEnvironment(metricRegistry), metricRegistry);
+		try {
+			Thread thread = executorService.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+			assertThat(thread.isVirtual()).isFalse();
+			assertThat(thread.getName()).matches("default-\\d+");
+			assertThat(metricRegistry.meter("default-%d.completed").getCount()).isEqualTo(1);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void virtualThreadExecutorNamesEachVirtualThread() throws Exception {
+		var factory = new VirtualThreadExecutorServiceFactory();
+		factory.setNameFormat("virtual-%d");
+		var metricRegistry = new MetricRegistry();
+		var environment = new LifecycleEnvironment(metricRegistry);
+		ExecutorService executorService = factory.build(environment, metricRegistry);
+		try {
+			Thread first = executorService.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+			Thread second = executorService.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+			assertThat(first.isVirtual()).isTrue();
+			assertThat(first.getName()).isEqualTo("virtual-0");
+			assertThat(second.getName()).isEqualTo("virtual-1");
+			assertThat(metricRegistry.meter("virtual-%d.completed").getCount()).isEqualTo(2);
+			assertThat(environment.getManagedObjects()).hasSize(1);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void forkJoinExecutorRunsTasksOnNamedWorkers() throws Exception {
+		var factory = new ForkJoinExecutorServiceFactory();
+		factory.setNameFormat("fork-join-%d");
+		factory.setParallelism(2);
+		var metricRegistry = new MetricRegistry();
+		var environment = new LifecycleEnvironment(metricRegistry);
+		ExecutorService executorService = factory.build(environment, metricRegistry);
+		try {
+			Thread thread = executorService.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+			assertThat(thread).isInstanceOf(ForkJoinWorkerThread.class);
+			assertThat(((ForkJoinWorkerThread) thread).getPool().getParallelism()).isEqualTo(2);
+			assertThat(((ForkJoinWorkerThread) thread).getPool().getAsyncMode()).isTrue();
+			assertThat(thread.getName()).matches("fork-join-[01]");
+			assertThat(metricRegistry.getGauges()).containsKeys(
+				"fork-join-%d.tasks.stolen",
+				"fork-join-%d.threads.active"
+			);
+			assertThat(environment.getManagedObjects()).hasSize(1);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void boundedExecutorRejectsAndCountsTasksOnceTheQueueIsFull() throws Exception {
+		var metricRegistry = new MetricRegistry();
+		ExecutorService executorService = newBoundedExecutorService(ExecutorRejectionPolicy.ABORT, metricRegistry);
+		var release = new CountDownLatch(1);
+		try {
+			fillBoundedExecutorService(executorService, release);
+
+			assertThatThrownBy(() -> executorService.execute(() -> {})).isInstanceOf(RejectedExecutionException.class);
+			assertThat(metricRegistry.meter("bounded-%d.rejected").getCount()).isEqualTo(1);
+			assertThat(metricRegistry.getGauges().get("bounded-%d.tasks.queued").getValue()).isEqualTo(1);
+		} finally {
+			release.countDown();
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void boundedExecutorRunsRejectedTasksOnTheCallerWithCallerRuns() throws Exception {
+		var metricRegistry = new MetricRegistry();
+		ExecutorService executorService = newBoundedExecutorService(ExecutorRejectionPolicy.CALLER_RUNS, metricRegistry);
+		var release = new CountDownLatch(1);
+		try {
+			fillBoundedExecutorService(executorService, release);
+
+			var rejectedTaskThread = new AtomicReference<Thread>();
+			executorService.execute(() -> rejectedTaskThread.set(Thread.currentThread()));
+			assertThat(rejectedTaskThread.get()).isSameAs(Thread.currentThread());
+			assertThat(metricRegistry.meter("bounded-%d.rejected").getCount()).isEqualTo(1);
+		} finally {
+			release.countDown();
+			executorService.shutdownNow();
+		}
+	}
+
+	private static ExecutorService newBoundedExecutorService(
+		ExecutorRejectionPolicy rejectionPolicy,
+		MetricRegistry metricRegistry
+	) {
+		var factory = new BoundedExecutorServiceFactory();
+		factory.setNameFormat("bounded-%d");
+		factory.setMinThreads(1);
+		factory.setMaxThreads(1);
+		factory.setQueueCapacity(1);
+		factory.setRejectionPolicy(rejectionPolicy);
+		return factory.build(new LifecycleEnvironment(metricRegistry), metricRegistry);
+	}
+
+	// Occupies the only thread, then the only queue slot
+	private static void fillBoundedExecutorService(ExecutorService executorService, CountDownLatch release)
+		throws InterruptedException {
+		var started = new CountDownLatch(1);
+		executorService.execute(() -> {
+			started.countDown();
+			awaitUninterruptibly(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		executorService.execute(() -> {});
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	private static ObjectMapper newObjectMapper() {
 		ObjectMapper objectMapper = Jackson.newObjectMapper();
 		ObjectMapperConfig.configure(objectMapper);
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import javax.validation.constraints.Min;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Settings for the cache of parsed and validated GraphQL documents.
+ *
+ * <p>
+ * The cache is keyed by a normalized signature of the query text, so queries that differ only in whitespace, commas, comments, or the order of their top-level definitions share an entry.
+ */
+public class GraphQLDocumentCacheFactory {
+
+	private boolean enabled = true;
+
+	@Min(1)
+	private long maximumSize = 1_000;
+
+	@JsonProperty
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@JsonProperty
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@JsonProperty
+	public long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	@JsonProperty
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.google.auto.service.AutoService;
+import io.dropwizard.jackson.Discoverable;
+import io.liftwizard.graphql.instrumentation.cost.GraphQLFieldCostCalculator;
+
+/**
+ * Builds the {@link GraphQLFieldCostCalculator} used by query cost analysis, configured under {@code queryCost.fieldCostCalculator}.
+ *
+ * <p>
+ * The {@code type} property selects the implementation, for example {@code reladomo} from {@code liftwizard-reladomo-graphql-deep-fetcher}.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@AutoService(Discoverable.class)
+public interface GraphQLFieldCostCalculatorFactory extends Discoverable {
+	/**
+	 * @param configuredCalculator the calculator built from the other {@code queryCost} settings, for fields this calculator doesn't cost itself.
+	 */
+	@JsonIgnore
+	GraphQLFieldCostCalculator createFieldCostCalculator(GraphQLFieldCostCalculator configuredCalculator);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.validation.ValidationMethod;
+
+/**
+ * Settings for persisted queries, where clients send the SHA-256 hash of a query in the {@code persistedQuery} extension instead of the query text.
+ *
+ * <p>
+ * The classpath resources listed in {@code documents}, or files for names that start with {@code file:}, are parsed and validated at startup. A resource ending in {@code .json} is a manifest that maps query ids to query text. Any other resource is a single GraphQL document, registered under the SHA-256 hash of its text.
+ *
+ * <p>
+ * With {@code automatic} enabled, clients can also register queries at runtime by sending the hash together with the query text, following the automatic persisted queries protocol. With {@code allowListOnly} enabled, the servlet only executes registered documents.
+ */
+public class GraphQLPersistedQueriesFactory {
+
+	private boolean enabled = true;
+
+	@NotNull
+	private List<String> documents = List.of();
+
+	private boolean automatic = true;
+
+	// Maximum number of queries registered at runtime
+	@Min(1)
+	private long maximumSize = 1_000;
+
+	private boolean allowListOnly;
+
+	@JsonProperty
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@JsonProperty
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@JsonProperty
+	public List<String> getDocuments() {
+		return Collections.unmodifiableList(this.documents);
+	}
+
+	@JsonProperty
+	public void setDocuments(List<String> documents) {
+		this.documents = Collections.unmodifiableList(documents);
+	}
+
+	@JsonProperty
+	public boolean isAutomatic() {
+		return this.automatic;
+	}
+
+	@JsonProperty
+	public void setAutomatic(boolean automatic) {
+		this.automatic = automatic;
+	}
+
+	@JsonProperty
+	public long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	@JsonProperty
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	@JsonProperty
+	public boolean isAllowListOnly() {
+		return this.allowListOnly;
+	}
+
+	@JsonProperty
+	public void setAllowListOnly(boolean allowListOnly) {
+		this.allowListOnly = allowListOnly;
+	}
+
+	@ValidationMethod(message = "An allow list requires automatic persisted queries to be disabled")
+	@JsonIgnore
+	public boolean isValidAllowList() {
+		return !this.allowListOnly || !this.automatic;
+	}
+}
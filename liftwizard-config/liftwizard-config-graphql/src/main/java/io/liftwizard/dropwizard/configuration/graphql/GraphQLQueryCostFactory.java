@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.validation.ValidationMethod;
+
+/**
+ * Settings for the query cost analysis that rejects deep or expensive GraphQL operations before they execute.
+ *
+ * <p>
+ * Each selected field costs {@code defaultFieldCost} plus the cost of its selections, and the selections of list fields are multiplied by {@code defaultListSize}. {@code fieldCosts} and {@code listSizes} override the defaults for fields named like {@code "Type.field"}, and {@code fieldCostCalculator} can replace the calculator.
+ *
+ * <p>
+ * Disabled by default, since the limits reject queries that used to run. Measure the {@code liftwizard.graphql.cost} and {@code liftwizard.graphql.depth} histograms of real traffic before choosing limits and enabling it.
+ */
+public class GraphQLQueryCostFactory {
+
+	private boolean enabled;
+
+	@Min(1)
+	private int maxDepth = 20;
+
+	@Min(1)
+	private long maxCost = 100_000;
+
+	@Min(0)
+	private int defaultFieldCost = 1;
+
+	@Min(0)
+	private int defaultListSize = 10;
+
+	@NotNull
+	private Map<String, Integer> fieldCosts = Map.of();
+
+	@NotNull
+	private Map<String, Integer> listSizes = Map.of();
+
+	@Valid
+	@Nullable
+	private GraphQLFieldCostCalculatorFactory fieldCostCalculator;
+
+	@JsonProperty
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@JsonProperty
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@JsonProperty
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	@JsonProperty
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	@JsonProperty
+	public long getMaxCost() {
+		return this.maxCost;
+	}
+
+	@JsonProperty
+	public void setMaxCost(long maxCost) {
+		this.maxCost = maxCost;
+	}
+
+	@JsonProperty
+	public int getDefaultFieldCost() {
+		return this.defaultFieldCost;
+	}
+
+	@JsonProperty
+	public void setDefaultFieldCost(int defaultFieldCost) {
+		this.defaultFieldCost = defaultFieldCost;
+	}
+
+	@JsonProperty
+	public int getDefaultListSize() {
+		return this.defaultListSize;
+	}
+
+	@JsonProperty
+	public void setDefaultListSize(int defaultListSize) {
+		this.defaultListSize = defaultListSize;
+	}
+
+	@JsonProperty
+	public Map<String, Integer> getFieldCosts() {
+		return this.fieldCosts;
+	}
+
+	@JsonProperty
+	public void setFieldCosts(Map<String, Integer> fieldCosts) {
+		this.fieldCosts = fieldCosts;
+	}
+
+	@JsonProperty
+	public Map<String, Integer> getListSizes() {
+		return this.listSizes;
+	}
+
+	@JsonProperty
+	public void setListSizes(Map<String, Integer> listSizes) {
+		this.listSizes = listSizes;
+	}
+
+	@JsonProperty
+	@Nullable
+	public GraphQLFieldCostCalculatorFactory getFieldCostCalculator() {
+		return this.fieldCostCalculator;
+	}
+
+	@JsonProperty
+	public void setFieldCostCalculator(@Nullable GraphQLFieldCostCalculatorFactory fieldCostCalculator) {
+		this.fieldCostCalculator = fieldCostCalculator;
+	}
+
+	@ValidationMethod(message = "fieldCosts and listSizes must be non-negative and keyed like \"Type.field\"")
+	@JsonIgnore
+	public boolean isValidOverrides() {
+		return GraphQLQueryCostFactory.isValidOverrides(this.fieldCosts)
+			&& GraphQLQueryCostFactory.isValidOverrides(this.listSizes);
+	}
+
+	private static boolean isValidOverrides(Map<String, Integer> overrides) {
+		return overrides
+			.entrySet()
+			.stream()
+			.allMatch((entry) -> entry.getKey().indexOf('.') > 0 && entry.getValue() != null && entry.getValue() >= 0);
+	}
+}
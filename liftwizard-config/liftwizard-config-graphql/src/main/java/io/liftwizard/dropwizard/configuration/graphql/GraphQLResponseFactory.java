@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.DataSizeUnit;
+import io.dropwizard.validation.MaxDataSize;
+import io.dropwizard.validation.MinDataSize;
+
+/**
+ * Settings for how GraphQL responses are serialized.
+ *
+ * <p>
+ * When {@code streaming} is enabled, results are written straight to the servlet output stream as the result tree is walked, instead of being serialized into a byte array first. The container flushes each time {@code bufferSize} bytes are buffered, which bounds memory per response and lets the client start reading before serialization finishes. It is off by default, since streamed responses larger than {@code bufferSize} are sent with chunked encoding instead of {@code Content-Length}.
+ */
+public class GraphQLResponseFactory {
+
+	private boolean streaming;
+
+	@NotNull
+	@MinDataSize(value = 1, unit = DataSizeUnit.KIBIBYTES)
+	@MaxDataSize(value = 16, unit = DataSizeUnit.MEBIBYTES)
+	private DataSize bufferSize = DataSize.kibibytes(32);
+
+	private boolean prettyPrint;
+
+	@JsonProperty
+	public boolean isStreaming() {
+		return this.streaming;
+	}
+
+	@JsonProperty
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	@JsonProperty
+	public DataSize getBufferSize() {
+		return this.bufferSize;
+	}
+
+	@JsonProperty
+	public void setBufferSize(DataSize bufferSize) {
+		this.bufferSize = bufferSize;
+	}
+
+	@JsonProperty
+	public boolean isPrettyPrint() {
+		return this.prettyPrint;
+	}
+
+	@JsonProperty
+	public void setPrettyPrint(boolean prettyPrint) {
+		this.prettyPrint = prettyPrint;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+/**
+ * Settings for the servlet that serves the GraphQL endpoint.
+ *
+ * <p>
+ * When {@code asyncSupported} is enabled, the servlet suspends the request and hands execution to a pool of {@code asyncThreads} threads, releasing the container thread right away. The response is written when the execution's {@code CompletableFuture} completes. Up to {@code asyncQueueCapacity} executions wait for a thread, and further requests are answered with 503 Service Unavailable.
+ */
+public class GraphQLServletFactory {
+
+	private boolean asyncSupported;
+
+	@NotNull
+	@MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+	private Duration asyncTimeout = Duration.seconds(30);
+
+	@Min(1)
+	private int asyncThreads = 16;
+
+	@Min(1)
+	private int asyncQueueCapacity = 1024;
+
+	@JsonProperty
+	public boolean isAsyncSupported() {
+		return this.asyncSupported;
+	}
+
+	@JsonProperty
+	public void setAsyncSupported(boolean asyncSupported) {
+		this.asyncSupported = asyncSupported;
+	}
+
+	@JsonProperty
+	public Duration getAsyncTimeout() {
+		return this.asyncTimeout;
+	}
+
+	@JsonProperty
+	public void setAsyncTimeout(Duration asyncTimeout) {
+		this.asyncTimeout = asyncTimeout;
+	}
+
+	@JsonProperty
+	public int getAsyncThreads() {
+		return this.asyncThreads;
+	}
+
+	@JsonProperty
+	public void setAsyncThreads(int asyncThreads) {
+		this.asyncThreads = asyncThreads;
+	}
+
+	@JsonProperty
+	public int getAsyncQueueCapacity() {
+		return this.asyncQueueCapacity;
+	}
+
+	@JsonProperty
+	public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+		this.asyncQueueCapacity = asyncQueueCapacity;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.graphql;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.smoketurner.dropwizard.graphql.GraphQLFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link GraphQLFactory} with the additional settings understood by {@code LiftwizardGraphQLBundle}.
+ */
+public class LiftwizardGraphQLFactory extends GraphQLFactory {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LiftwizardGraphQLFactory.class);
+
+	@Valid
+	@NotNull
+	private GraphQLServletFactory servlet = new GraphQLServletFactory();
+
+	@Valid
+	@NotNull
+	private GraphQLResponseFactory response = new GraphQLResponseFactory();
+
+	@Valid
+	@NotNull
+	private GraphQLDocumentCacheFactory documentCache = new GraphQLDocumentCacheFactory();
+
+	@Valid
+	@NotNull
+	private GraphQLQueryCostFactory queryCost = new GraphQLQueryCostFactory();
+
+	@Valid
+	@NotNull
+	private GraphQLPersistedQueriesFactory persistedQueries = new GraphQLPersistedQueriesFactory();
+
+	/**
+	 * @deprecated {@code LiftwizardGraphQLBundle} caches documents according to {@link #getDocumentCache()} and ignores this setting.
+	 */
+	@Deprecated
+	@Override
+	@JsonProperty
+	public void setQueryCache(String queryCache) {
+		LOGGER.warn(
+			"The queryCache setting '{}' is deprecated and ignored. Configure documentCache.maximumSize instead.",
+			queryCache
+		);
+		super.setQueryCache(queryCache);
+	}
+
+	@JsonProperty
+	public GraphQLServletFactory getServlet() {
+		return this.servlet;
+	}
+
+	@JsonProperty
+	public void setServlet(GraphQLServletFactory servlet) {
+		this.servlet = servlet;
+	}
+
+	@JsonProperty
+	public GraphQLResponseFactory getResponse() {
+		return this.response;
+	}
+
+	@JsonProperty
+	public void setResponse(GraphQLResponseFactory response) {
+		this.response = response;
+	}
+
+	@JsonProperty
+	public GraphQLDocumentCacheFactory getDocumentCache() {
+		return this.documentCache;
+	}
+
+	@JsonProperty
+	public void setDocumentCache(GraphQLDocumentCacheFactory documentCache) {
+		this.documentCache = documentCache;
+	}
+
+	@JsonProperty
+	public GraphQLQueryCostFactory getQueryCost() {
+		return this.queryCost;
+	}
+
+	@JsonProperty
+	public void setQueryCost(GraphQLQueryCostFactory queryCost) {
+		this.queryCost = queryCost;
+	}
+
+	@JsonProperty
+	public GraphQLPersistedQueriesFactory getPersistedQueries() {
+		return this.persistedQueries;
+	}
+
+	@JsonProperty
+	public void setPersistedQueries(GraphQLPersistedQueriesFactory persistedQueries) {
+		this.persistedQueries = persistedQueries;
+	}
+}
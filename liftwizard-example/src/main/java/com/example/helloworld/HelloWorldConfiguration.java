@@ -12,7 +12,6 @@ import com.example.helloworld.core.Template;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonUnwrapped;
-import com.smoketurner.dropwizard.graphql.GraphQLFactory;
 import io.dropwizard.Configuration;
 import io.liftwizard.dropwizard.configuration.auth.filter.AuthFilterFactory;
 import io.liftwizard.dropwizard.configuration.auth.filter.AuthFilterFactoryProvider;
@@ -28,6 +27,7 @@ import io.liftwizard.dropwizard.configuration.ddl.executor.DdlExecutorFactory;
 import io.liftwizard.dropwizard.configuration.ddl.executor.DdlExecutorFactoryProvider;
 import io.liftwizard.dropwizard.configuration.enabled.EnabledFactory;
 import io.liftwizard.dropwizard.configuration.graphql.GraphQLFactoryProvider;
+import io.liftwizard.dropwizard.configuration.graphql.LiftwizardGraphQLFactory;
 import io.liftwizard.dropwizard.configuration.h2.H2Factory;
 import io.liftwizard.dropwizard.configuration.h2.H2FactoryProvider;
 import io.liftwizard.dropwizard.configuration.http.logging.JerseyHttpLoggingFactory;
@@ -79,7 +79,7 @@ public class HelloWorldConfiguration
 	private @Valid @NotNull H2Factory h2Factory = new H2Factory();
 	private @Valid @NotNull List<DdlExecutorFactory> ddlExecutorFactories = List.of();
 	private @Valid @NotNull ReladomoFactory reladomoFactory = new ReladomoFactory();
-	private @Valid @NotNull GraphQLFactory graphQLFactory = new GraphQLFactory();
+	private @Valid @NotNull LiftwizardGraphQLFactory graphQLFactory = new LiftwizardGraphQLFactory();
 
 	// include-namedDataSourcesFactory
 	@JsonUnwrapped
@@ -257,12 +257,12 @@ public class HelloWorldConfiguration
 	@Override
 	@Nonnull
 	@JsonProperty("graphQL")
-	public GraphQLFactory getGraphQLFactory() {
+	public LiftwizardGraphQLFactory getGraphQLFactory() {
 		return this.graphQLFactory;
 	}
 
 	@JsonProperty("graphQL")
-	public void setGraphQLFactory(@Nonnull GraphQLFactory graphQLFactory) {
+	public void setGraphQLFactory(@Nonnull LiftwizardGraphQLFactory graphQLFactory) {
 		this.graphQLFactory = graphQLFactory;
 	}
 
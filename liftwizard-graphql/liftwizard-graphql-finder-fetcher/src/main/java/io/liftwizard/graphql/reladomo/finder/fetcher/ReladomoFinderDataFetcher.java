@@ -55,7 +55,7 @@ public class ReladomoFinderDataFetcher<T> implements DataFetcher<List<T>> {
 		Object inputOrderBy = arguments.get("orderBy");
 		Optional<OrderBy> orderBys = this.getOrderBys((List<Map<String, ?>>) inputOrderBy);
 		var result = (DomainList<T>) this.finder.findMany(operation);
-		GraphQLDeepFetcher.deepFetch(result, this.finder, environment.getSelectionSet());
+		GraphQLDeepFetcher.deepFetch(result, this.finder, environment);
 		orderBys.ifPresent(result::setOrderBy);
 		return result;
 	}
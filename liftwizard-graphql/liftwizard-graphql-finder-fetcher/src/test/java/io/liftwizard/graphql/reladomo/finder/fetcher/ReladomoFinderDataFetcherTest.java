@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.reladomo.finder.fetcher;
+
+import java.util.List;
+import java.util.Map;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.example.pet.OwnerFinder;
+import com.example.pet.OwnerList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.liftwizard.reladomo.graphql.data.fetcher.ReladomoBatchedRelationshipDataFetcher;
+import io.liftwizard.reladomo.test.extension.ExecuteSqlExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoLoadDataExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoPurgeAllExtension;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoFinderDataFetcherTest {
+
+	private static final String SCHEMA = """
+		type Query {
+			owners(operation: OwnerOperation = {}, orderBy: [OwnerOrderBy] = []): [Owner]
+		}
+
+		input OwnerOperation {
+			name: StringOperation
+		}
+
+		input StringOperation {
+			eq: String
+		}
+
+		input OwnerOrderBy {
+			attribute: String
+		}
+
+		type Owner {
+			name: String
+			pets: [Pet]
+		}
+
+		type Pet {
+			name: String
+		}
+		""";
+
+	private static final String QUERY = "{ owners { name pets { name } } }";
+
+	@RegisterExtension
+	@Order(1)
+	final ExecuteSqlExtension executeSqlExtension = new ExecuteSqlExtension();
+
+	@RegisterExtension
+	@Order(2)
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	@RegisterExtension
+	@Order(3)
+	final ReladomoPurgeAllExtension purgeAllExtension = new ReladomoPurgeAllExtension();
+
+	@RegisterExtension
+	@Order(4)
+	final ReladomoLoadDataExtension loadDataExtension = new ReladomoLoadDataExtension(
+		"test-data/owners-and-pets.txt"
+	);
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+
+	private int finderRetrieveCount;
+
+	@Test
+	void deepFetchesUnbatchedRelationships() {
+		int retrieveCountBefore = this.mithraManager.getDatabaseRetrieveCount();
+
+		ExecutionResult result = this.execute(QUERY, false);
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(this.getOwners(result)).hasSize(3);
+		// One retrieve for the owners and one for the deep fetch of all of their pets
+		assertThat(this.finderRetrieveCount).isEqualTo(2);
+		assertThat(this.mithraManager.getDatabaseRetrieveCount() - retrieveCountBefore).isEqualTo(2);
+	}
+
+	@Test
+	void leavesBatchedRelationshipsToTheirDataLoader() {
+		int retrieveCountBefore = this.mithraManager.getDatabaseRetrieveCount();
+
+		ExecutionResult result = this.execute(QUERY, true);
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(this.getOwners(result)).hasSize(3);
+		// The finder only retrieves the owners, and the DataLoader retrieves all of their pets in one batch
+		assertThat(this.finderRetrieveCount).isEqualTo(1);
+		assertThat(this.mithraManager.getDatabaseRetrieveCount() - retrieveCountBefore).isEqualTo(2);
+		Histogram batchSizeHistogram = this.metricRegistry.histogram("liftwizard.graphql.field.Owner.pets.batch-size");
+		assertThat(batchSizeHistogram.getCount()).isEqualTo(1);
+		assertThat(batchSizeHistogram.getSnapshot().getMax()).isEqualTo(3);
+	}
+
+	private ExecutionResult execute(String query, boolean batchPets) {
+		var finderDataFetcher = new ReladomoFinderDataFetcher<>(OwnerFinder.getFinderInstance());
+		DataFetcher<OwnerList> ownersDataFetcher = (environment) -> {
+			int retrieveCountBefore = this.mithraManager.getDatabaseRetrieveCount();
+			var owners = (OwnerList) finderDataFetcher.get(environment);
+			owners.forceResolve();
+			this.finderRetrieveCount = this.mithraManager.getDatabaseRetrieveCount() - retrieveCountBefore;
+			return owners;
+		};
+
+		RuntimeWiring.Builder runtimeWiring = RuntimeWiring.newRuntimeWiring().type("Query", (builder) ->
+			builder.dataFetcher("owners", ownersDataFetcher)
+		);
+		if (batchPets) {
+			runtimeWiring.type("Owner", (builder) ->
+				builder.dataFetcher(
+					"pets",
+					new ReladomoBatchedRelationshipDataFetcher<>(OwnerFinder.pets(), this.metricRegistry)
+				)
+			);
+		}
+		GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+			new SchemaParser().parse(SCHEMA),
+			runtimeWiring.build()
+		);
+		ExecutionInput executionInput = ExecutionInput.newExecutionInput(query)
+			.dataLoaderRegistry(new DataLoaderRegistry())
+			.build();
+		return GraphQL.newGraphQL(schema).build().execute(executionInput);
+	}
+
+	private List<Map<String, Object>> getOwners(ExecutionResult result) {
+		Map<String, List<Map<String, Object>>> data = result.getData();
+		return data.get("owners");
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.graphql.deep.fetcher;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.dropwizard.jackson.Jackson;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLFieldCostCalculatorFactory;
+import io.liftwizard.graphql.instrumentation.cost.DefaultGraphQLFieldCostCalculator;
+import io.liftwizard.graphql.instrumentation.cost.GraphQLFieldCostCalculator;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReladomoGraphQLFieldCostCalculatorTest {
+
+	private static final String SCHEMA = """
+		type Query {
+			owners: [Owner]
+			petOwners: [PetOwner]
+		}
+
+		type Owner {
+			name: String
+			pets: [Pet]
+		}
+
+		type PetOwner {
+			name: String
+			pets: [Pet]
+		}
+
+		type Pet {
+			name: String
+			owner: Owner
+		}
+		""";
+
+	@RegisterExtension
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	private final ObjectMapper objectMapper = Jackson.newObjectMapper();
+	private final GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+		new SchemaParser().parse(SCHEMA),
+		RuntimeWiring.MOCKED_WIRING
+	);
+	private final GraphQLFieldCostCalculator configuredCalculator = new DefaultGraphQLFieldCostCalculator(
+		1,
+		10,
+		Map.of(),
+		Map.of()
+	);
+
+	@Test
+	void costsRelationshipsOfTypesNamedLikeReladomoClasses() throws Exception {
+		GraphQLFieldCostCalculator calculator = this.createFieldCostCalculator(
+			"""
+			{"type": "reladomo", "relationshipCost": 7, "toManyListSize": 50}
+			"""
+		);
+
+		assertThat(this.getFieldCost(calculator, "Owner", "pets")).isEqualTo(7);
+		assertThat(this.getListSize(calculator, "Owner", "pets")).isEqualTo(50);
+		assertThat(this.getFieldCost(calculator, "Pet", "owner")).isEqualTo(7);
+		assertThat(this.getListSize(calculator, "Pet", "owner")).isEqualTo(10);
+		assertThat(this.getFieldCost(calculator, "Owner", "name")).isEqualTo(1);
+		assertThat(this.getFieldCost(calculator, "PetOwner", "pets")).isEqualTo(1);
+		assertThat(this.getListSize(calculator, "PetOwner", "pets")).isEqualTo(10);
+	}
+
+	@Test
+	void mapsOtherTypesByFullyQualifiedClassName() throws Exception {
+		GraphQLFieldCostCalculator calculator = this.createFieldCostCalculator(
+			"""
+			{"type": "reladomo", "relationshipCost": 7, "toManyListSize": 50, "typeNames": {"PetOwner": "com.example.pet.Owner"}}
+			"""
+		);
+
+		assertThat(this.getFieldCost(calculator, "PetOwner", "pets")).isEqualTo(7);
+		assertThat(this.getListSize(calculator, "PetOwner", "pets")).isEqualTo(50);
+		assertThat(this.getFieldCost(calculator, "Owner", "pets")).isEqualTo(7);
+	}
+
+	@Test
+	void rejectsTypeNamesOfClassesReladomoDoesNotManage() {
+		assertThatThrownBy(() ->
+			this.createFieldCostCalculator(
+				"""
+				{"type": "reladomo", "typeNames": {"PetOwner": "com.example.pet.PetOwner"}}
+				"""
+			)
+		)
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("com.example.pet.PetOwner")
+			.hasMessageContaining("com.example.pet.Owner");
+	}
+
+	private GraphQLFieldCostCalculator createFieldCostCalculator(String json) throws Exception {
+		GraphQLFieldCostCalculatorFactory factory = this.objectMapper.readValue(
+			json,
+			GraphQLFieldCostCalculatorFactory.class
+		);
+		assertThat(factory).isInstanceOf(ReladomoGraphQLFieldCostCalculatorFactory.class);
+		return factory.createFieldCostCalculator(this.configuredCalculator);
+	}
+
+	private int getFieldCost(GraphQLFieldCostCalculator calculator, String typeName, String fieldName) {
+		GraphQLObjectType type = this.schema.getObjectType(typeName);
+		return calculator.getFieldCost(type, type.getFieldDefinition(fieldName));
+	}
+
+	private int getListSize(GraphQLFieldCostCalculator calculator, String typeName, String fieldName) {
+		GraphQLObjectType type = this.schema.getObjectType(typeName);
+		return calculator.getListSize(type, type.getFieldDefinition(fieldName));
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.instrumentation.cost;
+
+import java.util.Map;
+import java.util.Objects;
+
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+
+/**
+ * A {@link GraphQLFieldCostCalculator} with default costs and list sizes, and overrides keyed by {@code "Type.field"}.
+ */
+public class DefaultGraphQLFieldCostCalculator implements GraphQLFieldCostCalculator {
+
+	private final int defaultFieldCost;
+	private final int defaultListSize;
+	private final Map<String, Integer> fieldCosts;
+	private final Map<String, Integer> listSizes;
+
+	public DefaultGraphQLFieldCostCalculator(
+		int defaultFieldCost,
+		int defaultListSize,
+		Map<String, Integer> fieldCosts,
+		Map<String, Integer> listSizes
+	) {
+		this.defaultFieldCost = defaultFieldCost;
+		this.defaultListSize = defaultListSize;
+		this.fieldCosts = Map.copyOf(fieldCosts);
+		this.listSizes = Map.copyOf(listSizes);
+	}
+
+	@Override
+	public int getFieldCost(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+		String key = DefaultGraphQLFieldCostCalculator.getKey(parentType, fieldDefinition);
+		return this.fieldCosts.getOrDefault(key, this.defaultFieldCost);
+	}
+
+	@Override
+	public int getListSize(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+		String key = DefaultGraphQLFieldCostCalculator.getKey(parentType, fieldDefinition);
+		return this.listSizes.getOrDefault(key, this.defaultListSize);
+	}
+
+	private static String getKey(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+		return Objects.requireNonNull(parentType.getName()) + "." + fieldDefinition.getName();
+	}
+}
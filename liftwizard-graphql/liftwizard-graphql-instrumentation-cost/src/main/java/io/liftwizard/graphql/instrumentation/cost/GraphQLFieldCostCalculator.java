@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.instrumentation.cost;
+
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+
+/**
+ * Assigns costs to the fields of a GraphQL query.
+ *
+ * <p>
+ * The cost of a selected field is {@link #getFieldCost} plus the cost of its selections. For list fields, the cost of the selections is multiplied by {@link #getListSize}.
+ */
+public interface GraphQLFieldCostCalculator {
+	int getFieldCost(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition);
+
+	int getListSize(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition);
+}
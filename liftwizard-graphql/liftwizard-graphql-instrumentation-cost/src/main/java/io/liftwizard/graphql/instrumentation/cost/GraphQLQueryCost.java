@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.instrumentation.cost;
+
+import javax.annotation.Nullable;
+
+/**
+ * The result of analyzing one GraphQL operation before it executes.
+ *
+ * @param operationName the operation name, or null for an anonymous operation
+ * @param depth the deepest level of nested fields, not counting introspection
+ * @param cost the estimated cost computed by a {@link GraphQLFieldCostCalculator}
+ */
+public record GraphQLQueryCost(@Nullable String operationName, int depth, long cost) {}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.instrumentation.cost;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import graphql.ExecutionResult;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.AbortExecutionException;
+import graphql.execution.ExecutionContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import graphql.schema.GraphQLTypeUtil;
+
+/**
+ * An Instrumentation that estimates the cost and depth of each operation and rejects it before execution if either is over its limit.
+ *
+ * <p>
+ * Costs come from a {@link GraphQLFieldCostCalculator}. Introspection fields are free and don't count toward the depth, so GraphiQL and other tools keep working under tight limits.
+ *
+ * <p>
+ * Registers {@code liftwizard.graphql.cost} and {@code liftwizard.graphql.depth} histograms and a {@code liftwizard.graphql.cost.rejected} meter.
+ *
+ * @see <a href="https://liftwizard.io/docs/graphql/instrumentation-cost">https://liftwizard.io/docs/graphql/instrumentation-cost</a>
+ */
+public class LiftwizardGraphQLCostInstrumentation extends SimpleInstrumentation {
+
+	private final GraphQLFieldCostCalculator fieldCostCalculator;
+	private final int maxDepth;
+	private final long maxCost;
+	private final GraphQLQueryCostListener queryCostListener;
+
+	private final Histogram costHistogram;
+	private final Histogram depthHistogram;
+	private final Meter rejectedMeter;
+
+	public LiftwizardGraphQLCostInstrumentation(
+		MetricRegistry metricRegistry,
+		GraphQLFieldCostCalculator fieldCostCalculator,
+		int maxDepth,
+		long maxCost,
+		GraphQLQueryCostListener queryCostListener
+	) {
+		this.fieldCostCalculator = Objects.requireNonNull(fieldCostCalculator);
+		this.maxDepth = maxDepth;
+		this.maxCost = maxCost;
+		this.queryCostListener = Objects.requireNonNull(queryCostListener);
+
+		this.costHistogram = metricRegistry.histogram(MetricRegistry.name("liftwizard", "graphql", "cost"));
+		this.depthHistogram = metricRegistry.histogram(MetricRegistry.name("liftwizard", "graphql", "depth"));
+		this.rejectedMeter = metricRegistry.meter(MetricRegistry.name("liftwizard", "graphql", "cost", "rejected"));
+	}
+
+	@Override
+	@Nonnull
+	public InstrumentationContext<ExecutionResult> beginExecuteOperation(
+		InstrumentationExecuteOperationParameters parameters
+	) {
+		ExecutionContext executionContext = parameters.getExecutionContext();
+		GraphQLQueryCost queryCost = this.analyze(executionContext);
+
+		this.costHistogram.update(queryCost.cost());
+		this.depthHistogram.update(queryCost.depth());
+
+		if (queryCost.depth() > this.maxDepth) {
+			this.rejectedMeter.mark();
+			throw new AbortExecutionException(
+				"Query depth %d exceeds the maximum depth %d".formatted(queryCost.depth(), this.maxDepth)
+			);
+		}
+		if (queryCost.cost() > this.maxCost) {
+			this.rejectedMeter.mark();
+			throw new AbortExecutionException(
+				"Query cost %d exceeds the maximum cost %d".formatted(queryCost.cost(), this.maxCost)
+			);
+		}
+
+		this.queryCostListener.onQueryCost(executionContext.getGraphQLContext(), queryCost);
+		return super.beginExecuteOperation(parameters);
+	}
+
+	private GraphQLQueryCost analyze(ExecutionContext executionContext) {
+		String operationName = executionContext.getOperationDefinition().getName();
+		QueryTraverser queryTraverser = QueryTraverser.newQueryTraverser()
+			.schema(executionContext.getGraphQLSchema())
+			.document(executionContext.getDocument())
+			.operationName(operationName)
+			.coercedVariables(executionContext.getCoercedVariables())
+			.build();
+
+		// Post-order visits children before their parent, so each field finds its selections' totals already summed under its own environment
+		Map<QueryVisitorFieldEnvironment, SelectionCost> selectionCosts = new HashMap<>();
+		queryTraverser.visitPostOrder(
+			new QueryVisitorStub() {
+				@Override
+				public void visitField(QueryVisitorFieldEnvironment environment) {
+					if (environment.getFieldDefinition().getName().startsWith("__")) {
+						return;
+					}
+					SelectionCost children = selectionCosts.getOrDefault(environment, SelectionCost.EMPTY);
+					SelectionCost fieldCost = LiftwizardGraphQLCostInstrumentation.this.getFieldCost(
+						environment,
+						children
+					);
+					selectionCosts.merge(environment.getParentEnvironment(), fieldCost, SelectionCost::plus);
+				}
+			}
+		);
+
+		SelectionCost total = selectionCosts.getOrDefault(null, SelectionCost.EMPTY);
+		return new GraphQLQueryCost(operationName, total.depth(), total.cost());
+	}
+
+	private SelectionCost getFieldCost(QueryVisitorFieldEnvironment environment, SelectionCost children) {
+		GraphQLFieldsContainer parentType = environment.getFieldsContainer();
+		GraphQLFieldDefinition fieldDefinition = environment.getFieldDefinition();
+
+		long childrenCost = children.cost();
+		if (GraphQLTypeUtil.isList(GraphQLTypeUtil.unwrapNonNull(fieldDefinition.getType()))) {
+			int listSize = this.fieldCostCalculator.getListSize(parentType, fieldDefinition);
+			childrenCost = LiftwizardGraphQLCostInstrumentation.saturatedMultiply(childrenCost, listSize);
+		}
+		long cost = LiftwizardGraphQLCostInstrumentation.saturatedAdd(
+			this.fieldCostCalculator.getFieldCost(parentType, fieldDefinition),
+			childrenCost
+		);
+		return new SelectionCost(children.depth() + 1, cost);
+	}
+
+	// Nested lists grow the cost geometrically, so clamp instead of overflowing into negative costs that would pass the limit
+	private static long saturatedMultiply(long left, long right) {
+		long high = Math.multiplyHigh(left, right);
+		long low = left * right;
+		if (high != 0 || low < 0) {
+			return Long.MAX_VALUE;
+		}
+		return low;
+	}
+
+	private static long saturatedAdd(long left, long right) {
+		long sum = left + right;
+		if (sum < 0) {
+			return Long.MAX_VALUE;
+		}
+		return sum;
+	}
+
+	private record SelectionCost(int depth, long cost) {
+		private static final SelectionCost EMPTY = new SelectionCost(0, 0);
+
+		private SelectionCost plus(SelectionCost other) {
+			return new SelectionCost(
+				Math.max(this.depth, other.depth),
+				LiftwizardGraphQLCostInstrumentation.saturatedAdd(this.cost, other.cost)
+			);
+		}
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.instrumentation.cost;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.codahale.metrics.MetricRegistry;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.introspection.IntrospectionQuery;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiftwizardGraphQLCostInstrumentationTest {
+
+	private static final String SCHEMA = """
+		type Query {
+			person: Person
+			people: [Person!]
+		}
+
+		type Person {
+			name: String
+			friends: [Person]
+		}
+		""";
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final AtomicReference<GraphQLQueryCost> lastQueryCost = new AtomicReference<>();
+
+	@Test
+	void computesCostAndDepth() {
+		String query = "query Q { person { name } people { name friends { name } } }";
+		ExecutionResult result = this.execute(10, 1_000, query);
+
+		assertThat(result.getErrors()).isEmpty();
+		// person: 1 + name: 1, people: 1 + 10 * (name: 1 + friends: 1 + 10 * name: 1)
+		assertThat(this.lastQueryCost.get()).isEqualTo(new GraphQLQueryCost("Q", 3, 2 + 1 + 10 * 12));
+		assertThat(this.metricRegistry.histogram("liftwizard.graphql.cost").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void appliesOverrides() {
+		var calculator = new DefaultGraphQLFieldCostCalculator(
+			1,
+			10,
+			Map.of("Person.friends", 50),
+			Map.of("Query.people", 2)
+		);
+		var instrumentation = new LiftwizardGraphQLCostInstrumentation(
+			this.metricRegistry,
+			calculator,
+			10,
+			1_000,
+			(graphQLContext, queryCost) -> this.lastQueryCost.set(queryCost)
+		);
+		GraphQL graphQL = GraphQL.newGraphQL(LiftwizardGraphQLCostInstrumentationTest.buildSchema())
+			.instrumentation(instrumentation)
+			.build();
+
+		graphQL.execute("{ people { friends { name } } }");
+
+		// people: 1 + 2 * (friends: 50 + 10 * name: 1)
+		assertThat(this.lastQueryCost.get().cost()).isEqualTo(1 + 2 * 60);
+	}
+
+	@Test
+	void rejectsDeepQueries() {
+		ExecutionResult result = this.execute(3, 1_000_000, "{ person { friends { friends { name } } } }");
+
+		assertThat(result.getErrors()).hasSize(1);
+		assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Query depth 4 exceeds the maximum depth 3");
+		assertThat(result.isDataPresent()).isFalse();
+		assertThat(this.lastQueryCost.get()).isNull();
+		assertThat(this.metricRegistry.meter("liftwizard.graphql.cost.rejected").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsExpensiveQueries() {
+		ExecutionResult result = this.execute(10, 100, "{ people { friends { friends { name } } } }");
+
+		assertThat(result.getErrors()).hasSize(1);
+		assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Query cost 1111 exceeds the maximum cost 100");
+	}
+
+	@Test
+	void ignoresIntrospection() {
+		ExecutionResult result = this.execute(2, 10, IntrospectionQuery.INTROSPECTION_QUERY);
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(this.lastQueryCost.get()).isEqualTo(new GraphQLQueryCost("IntrospectionQuery", 0, 0));
+	}
+
+	@Test
+	void saturatesInsteadOfOverflowing() {
+		String query = "{ people { friends { friends { friends { friends { friends { friends { friends { friends "
+			+ "{ friends { friends { friends { friends { friends { friends { friends { friends { friends { friends "
+			+ "{ name } } } } } } } } } } } } } } } } } } } }";
+
+		ExecutionResult result = this.execute(100, Long.MAX_VALUE - 1, query);
+
+		assertThat(result.getErrors()).hasSize(1);
+		assertThat(result.getErrors().get(0).getMessage()).startsWith("Query cost " + Long.MAX_VALUE);
+	}
+
+	private ExecutionResult execute(int maxDepth, long maxCost, String query) {
+		var instrumentation = new LiftwizardGraphQLCostInstrumentation(
+			this.metricRegistry,
+			new DefaultGraphQLFieldCostCalculator(1, 10, Map.of(), Map.of()),
+			maxDepth,
+			maxCost,
+			(graphQLContext, queryCost) -> this.lastQueryCost.set(queryCost)
+		);
+		GraphQL graphQL = GraphQL.newGraphQL(LiftwizardGraphQLCostInstrumentationTest.buildSchema())
+			.instrumentation(instrumentation)
+			.build();
+		return graphQL.execute(query);
+	}
+
+	private static GraphQLSchema buildSchema() {
+		return new SchemaGenerator().makeExecutableSchema(
+			new SchemaParser().parse(SCHEMA),
+			RuntimeWiring.newRuntimeWiring().build()
+		);
+	}
+}
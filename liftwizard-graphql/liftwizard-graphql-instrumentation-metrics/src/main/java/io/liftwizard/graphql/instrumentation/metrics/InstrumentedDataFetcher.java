@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -37,6 +38,7 @@ import com.codahale.metrics.Timer.Context;
 import com.codahale.metrics.annotation.ExceptionMetered;
 import com.codahale.metrics.annotation.Metered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Suppliers;
 import graphql.schema.DataFetcher;
 import graphql.schema.DataFetchingEnvironment;
 import io.liftwizard.graphql.data.fetcher.async.LiftwizardAsyncDataFetcher;
@@ -79,6 +81,16 @@ public class InstrumentedDataFetcher<T> implements DataFetcher<T> {
 	@Nonnull
 	private final Optional<Timer> timerPathSync;
 
+	// Async timers are only registered once a fetcher returns a CompletionStage
+	@Nonnull
+	private final Supplier<Optional<Timer>> timerFetcherAsync;
+
+	@Nonnull
+	private final Supplier<Optional<Timer>> timerFieldAsync;
+
+	@Nonnull
+	private final Supplier<Optional<Timer>> timerPathAsync;
+
 	@Nonnull
 	private final Optional<Meter> meterFetcher;
 
@@ -120,6 +132,10 @@ public class InstrumentedDataFetcher<T> implements DataFetcher<T> {
 		this.timerFieldSync = this.getFieldTimer("sync");
 		this.timerPathSync = this.getPathTimer("sync");
 
+		this.timerFetcherAsync = Suppliers.memoize(() -> this.getTimer("async"));
+		this.timerFieldAsync = Suppliers.memoize(() -> this.getFieldTimer("async"));
+		this.timerPathAsync = Suppliers.memoize(() -> this.getPathTimer("async"));
+
 		this.meterFetcher = this.getMeter();
 		this.meterField = this.getFieldMeter();
 		this.meterPath = this.getPathMeter();
@@ -289,16 +305,12 @@ public class InstrumentedDataFetcher<T> implements DataFetcher<T> {
 			if (result instanceof CompletionStage<?> completionStage) {
 				// If a fetcher never returns CompletionStage, we'll never record async timings
 				completionStage.whenComplete((success, throwable) -> {
-					Optional<Timer> timerFetcherAsync = this.getTimer("async");
-					Optional<Timer> timerFieldAsync = this.getFieldTimer("async");
-					Optional<Timer> timerPathAsync = this.getPathTimer("async");
-
 					if (this.timedAnnotation != null) {
 						Instant stopTime = this.clock.instant();
 						Duration duration = Duration.between(startTime, stopTime);
-						timerFetcherAsync.orElseThrow().update(duration.toNanos(), TimeUnit.NANOSECONDS);
-						timerFieldAsync.orElseThrow().update(duration.toNanos(), TimeUnit.NANOSECONDS);
-						timerPathAsync.orElseThrow().update(duration.toNanos(), TimeUnit.NANOSECONDS);
+						this.timerFetcherAsync.get().orElseThrow().update(duration.toNanos(), TimeUnit.NANOSECONDS);
+						this.timerFieldAsync.get().orElseThrow().update(duration.toNanos(), TimeUnit.NANOSECONDS);
+						this.timerPathAsync.get().orElseThrow().update(duration.toNanos(), TimeUnit.NANOSECONDS);
 					}
 
 					if (throwable != null) {
@@ -19,20 +19,29 @@ package io.liftwizard.graphql.instrumentation.metrics;
 import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
 
 import com.codahale.metrics.Meter;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import graphql.ExecutionResult;
+import graphql.execution.ExecutionStepInfo;
 import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
 import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
 import graphql.language.Document;
 import graphql.schema.DataFetcher;
+import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLType;
 import graphql.validation.ValidationError;
 import io.liftwizard.instrumentation.GraphQLInstrumentationUtils;
@@ -44,6 +53,8 @@ import io.liftwizard.instrumentation.GraphQLInstrumentationUtils;
  */
 public class LiftwizardGraphQLMetricsInstrumentation extends SimpleInstrumentation {
 
+	public static final long DEFAULT_MAXIMUM_INSTRUMENTED_DATA_FETCHERS = 10_000;
+
 	private final MetricRegistry metricRegistry;
 	private final Clock clock;
 
@@ -57,9 +68,24 @@ public class LiftwizardGraphQLMetricsInstrumentation extends SimpleInstrumentati
 	private final Timer validationTimer;
 	private final Meter validationExceptionsMeter;
 
+	// Bounded, because recursive types let clients send queries with any number of distinct paths
+	private final ConcurrentMap<InstrumentedDataFetcherKey, InstrumentedDataFetcher<?>> instrumentedDataFetchers;
+
 	public LiftwizardGraphQLMetricsInstrumentation(MetricRegistry metricRegistry, Clock clock) {
+		this(metricRegistry, clock, DEFAULT_MAXIMUM_INSTRUMENTED_DATA_FETCHERS);
+	}
+
+	public LiftwizardGraphQLMetricsInstrumentation(
+		MetricRegistry metricRegistry,
+		Clock clock,
+		long maximumInstrumentedDataFetchers
+	) {
 		this.metricRegistry = Objects.requireNonNull(metricRegistry);
 		this.clock = Objects.requireNonNull(clock);
+		Cache<InstrumentedDataFetcherKey, InstrumentedDataFetcher<?>> cache = CacheBuilder.newBuilder()
+			.maximumSize(maximumInstrumentedDataFetchers)
+			.build();
+		this.instrumentedDataFetchers = cache.asMap();
 
 		this.allFieldsSyncTimer = metricRegistry.timer(MetricRegistry.name("liftwizard", "graphql", "field", "sync"));
 		this.allFieldsAsyncTimer = metricRegistry.timer(MetricRegistry.name("liftwizard", "graphql", "field", "async"));
@@ -114,21 +140,79 @@ public class LiftwizardGraphQLMetricsInstrumentation extends SimpleInstrumentati
 		);
 	}
 
+	@Override
+	@Nonnull
+	public CompletableFuture<InstrumentationState> createStateAsync(InstrumentationCreateStateParameters parameters) {
+		return CompletableFuture.completedFuture(new PathState());
+	}
+
 	@Override
 	@Nonnull
 	public DataFetcher<?> instrumentDataFetcher(
 		@Nonnull DataFetcher<?> dataFetcher,
-		@Nonnull InstrumentationFieldFetchParameters parameters
+		@Nonnull InstrumentationFieldFetchParameters parameters,
+		InstrumentationState state
 	) {
 		if (parameters.isTrivialDataFetcher()) {
 			return dataFetcher;
 		}
 
-		String fieldName = parameters.getField().getName();
-		GraphQLType type = parameters.getExecutionStepInfo().getParent().getType();
-		String typeName = GraphQLInstrumentationUtils.getTypeName(type);
-		String path = GraphQLInstrumentationUtils.getPathWithoutIndex(parameters.getExecutionStepInfo());
+		// Every field of an object shares the object's ExecutionStepInfo, so its path is only computed once per object
+		ExecutionStepInfo parent = parameters.getExecutionStepInfo().getParent();
+		String parentPath = ((PathState) state).getPathWithoutIndex(parent);
 
-		return new InstrumentedDataFetcher<>(this.metricRegistry, this.clock, dataFetcher, fieldName, typeName, path);
+		// The wrapper resolves annotations and metrics once, so it's shared by every fetch of the same field and path
+		var key = new InstrumentedDataFetcherKey(parent.getType(), parameters.getField(), dataFetcher, parentPath);
+		return this.instrumentedDataFetchers.computeIfAbsent(key, this::createInstrumentedDataFetcher);
+	}
+
+	int getInstrumentedDataFetcherCount() {
+		return this.instrumentedDataFetchers.size();
+	}
+
+	private InstrumentedDataFetcher<?> createInstrumentedDataFetcher(InstrumentedDataFetcherKey key) {
+		return new InstrumentedDataFetcher<>(
+			this.metricRegistry,
+			this.clock,
+			key.dataFetcher(),
+			key.fieldDefinition().getName(),
+			GraphQLInstrumentationUtils.getTypeName(key.parentType()),
+			key.parentPath() + "/" + key.fieldDefinition().getName()
+		);
+	}
+
+	private record InstrumentedDataFetcherKey(
+		GraphQLType parentType,
+		GraphQLFieldDefinition fieldDefinition,
+		DataFetcher<?> dataFetcher,
+		String parentPath
+	) {}
+
+	/**
+	 * Remembers the index-free path of each object's ExecutionStepInfo for the duration of one execution.
+	 */
+	private static final class PathState implements InstrumentationState {
+
+		// ExecutionStepInfo doesn't override equals, so this is an identity map
+		private final ConcurrentMap<ExecutionStepInfo, String> pathsByExecutionStepInfo = new ConcurrentHashMap<>();
+
+		private String getPathWithoutIndex(ExecutionStepInfo executionStepInfo) {
+			if (executionStepInfo.getPath().isRootPath()) {
+				return "";
+			}
+
+			String cachedPath = this.pathsByExecutionStepInfo.get(executionStepInfo);
+			if (cachedPath != null) {
+				return cachedPath;
+			}
+
+			// Same as GraphQLInstrumentationUtils.getPathWithoutIndex(), which skips the ExecutionStepInfo of the list itself
+			ExecutionStepInfo parent = executionStepInfo.getPath().isListSegment()
+				? executionStepInfo.getParent().getParent()
+				: executionStepInfo.getParent();
+			String path = this.getPathWithoutIndex(parent) + "/" + executionStepInfo.getField().getName();
+			this.pathsByExecutionStepInfo.put(executionStepInfo, path);
+			return path;
+		}
 	}
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.graphql.instrumentation.metrics;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.annotation.Timed;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiftwizardGraphQLMetricsInstrumentationTest {
+
+	private static final String SCHEMA = """
+		type Query {
+			owners: [Owner]
+		}
+
+		type Owner {
+			name: String
+			pets: [Pet]
+		}
+
+		type Pet {
+			name: String
+			owner: Owner
+		}
+		""";
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final GraphQLSchema schema = LiftwizardGraphQLMetricsInstrumentationTest.buildSchema();
+
+	@Test
+	void recordsMetricsByPathWithoutIndex() {
+		var instrumentation = new LiftwizardGraphQLMetricsInstrumentation(this.metricRegistry, Clock.systemUTC());
+
+		ExecutionResult result = this.execute(instrumentation, "{ owners { pets { name } } }");
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners.sync").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners/pets.sync").getCount()).isEqualTo(3);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.field.Owner.pets.sync").getCount()).isEqualTo(3);
+		assertThat(this.metricRegistry.getNames()).noneMatch((name) -> name.contains("["));
+	}
+
+	@Test
+	void recordsMetricsForRecursivePaths() {
+		var instrumentation = new LiftwizardGraphQLMetricsInstrumentation(this.metricRegistry, Clock.systemUTC());
+
+		ExecutionResult result = this.execute(instrumentation, "{ owners { pets { owner { pets { name } } } } }");
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners/pets.sync").getCount()).isEqualTo(3);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners/pets/owner.sync").getCount()).isEqualTo(6);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners/pets/owner/pets.sync").getCount())
+			.isEqualTo(6);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.field.Owner.pets.sync").getCount()).isEqualTo(9);
+	}
+
+	@Test
+	void sharesOneDataFetcherPerFieldAndPath() {
+		var instrumentation = new LiftwizardGraphQLMetricsInstrumentation(this.metricRegistry, Clock.systemUTC());
+
+		this.execute(instrumentation, "{ owners { pets { name } } }");
+		this.execute(instrumentation, "{ owners { name pets { name } } }");
+
+		assertThat(instrumentation.getInstrumentedDataFetcherCount()).isEqualTo(2);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners/pets.sync").getCount()).isEqualTo(6);
+	}
+
+	@Test
+	void boundsTheInstrumentedDataFetchers() {
+		var instrumentation = new LiftwizardGraphQLMetricsInstrumentation(this.metricRegistry, Clock.systemUTC(), 2);
+
+		ExecutionResult result = this.execute(instrumentation, "{ owners { pets { owner { pets { name } } } } }");
+
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(instrumentation.getInstrumentedDataFetcherCount()).isLessThanOrEqualTo(2);
+		assertThat(this.metricRegistry.timer("liftwizard.graphql.path./owners/pets/owner/pets.sync").getCount())
+			.isEqualTo(6);
+	}
+
+	private ExecutionResult execute(LiftwizardGraphQLMetricsInstrumentation instrumentation, String query) {
+		GraphQL graphQL = GraphQL.newGraphQL(this.schema)
+			.instrumentation(instrumentation)
+			.build();
+		return graphQL.execute(query);
+	}
+
+	private static GraphQLSchema buildSchema() {
+		RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+			.type("Query", (builder) -> builder.dataFetcher("owners", new OwnersDataFetcher()))
+			.type("Owner", (builder) -> builder.dataFetcher("pets", new PetsDataFetcher()))
+			.type("Pet", (builder) -> builder.dataFetcher("owner", new OwnerDataFetcher()))
+			.build();
+		return new SchemaGenerator().makeExecutableSchema(new SchemaParser().parse(SCHEMA), runtimeWiring);
+	}
+
+	private static final class OwnersDataFetcher implements DataFetcher<List<Map<String, String>>> {
+
+		@Timed
+		@Override
+		public List<Map<String, String>> get(DataFetchingEnvironment environment) {
+			return List.of(Map.of("name", "Alice"), Map.of("name", "Bob"), Map.of("name", "Carol"));
+		}
+	}
+
+	private static final class PetsDataFetcher implements DataFetcher<List<Map<String, String>>> {
+
+		@Timed
+		@Override
+		public List<Map<String, String>> get(DataFetchingEnvironment environment) {
+			return List.of(Map.of("name", "Rex"), Map.of("name", "Tom"));
+		}
+	}
+
+	private static final class OwnerDataFetcher implements DataFetcher<Map<String, String>> {
+
+		@Timed
+		@Override
+		public Map<String, String> get(DataFetchingEnvironment environment) {
+			return Map.of("name", "Alice");
+		}
+	}
+}
@@ -40,9 +40,15 @@ public class ReladomoOperationDataFetcher<T> implements DataFetcher<List<T>> {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ReladomoOperationDataFetcher.class);
 
 	private final RelatedFinder<T> finder;
+	private final ReladomoOperationCompiler compiler;
 
 	public ReladomoOperationDataFetcher(RelatedFinder<T> finder) {
+		this(finder, new ReladomoOperationCompiler());
+	}
+
+	public ReladomoOperationDataFetcher(RelatedFinder<T> finder, ReladomoOperationCompiler compiler) {
 		this.finder = Objects.requireNonNull(finder);
+		this.compiler = Objects.requireNonNull(compiler);
 	}
 
 	@Timed
@@ -55,14 +61,13 @@ public class ReladomoOperationDataFetcher<T> implements DataFetcher<List<T>> {
 		Operation operation = this.compileOperation(this.finder, inputOperation);
 		LOGGER.debug("Executing operation: {}", operation);
 		var result = (DomainList<T>) this.finder.findMany(operation);
-		GraphQLDeepFetcher.deepFetch(result, this.finder, environment.getSelectionSet());
+		GraphQLDeepFetcher.deepFetch(result, this.finder, environment);
 		return result;
 	}
 
 	private Operation compileOperation(RelatedFinder<T> relatedFinder, String inputOperation) {
 		try {
-			var compiler = new ReladomoOperationCompiler();
-			return compiler.compile(relatedFinder, inputOperation);
+			return this.compiler.compile(relatedFinder, inputOperation);
 		} catch (RuntimeException e) {
 			throw new LiftwizardGraphQLException(e.getMessage(), Lists.immutable.with(inputOperation), e);
 		}
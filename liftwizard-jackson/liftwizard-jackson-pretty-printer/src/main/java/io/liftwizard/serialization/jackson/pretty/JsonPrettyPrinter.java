@@ -40,7 +40,8 @@ public class JsonPrettyPrinter extends DefaultPrettyPrinter {
 	@Nonnull
 	@Override
 	public DefaultPrettyPrinter createInstance() {
-		return this;
+		// Each generator needs its own instance, since the nesting level is mutable state
+		return new JsonPrettyPrinter();
 	}
 
 	@Override
@@ -18,11 +18,13 @@ package io.liftwizard.dropwizard.bundle.httplogging;
 
 import java.security.Principal;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
+import javax.servlet.FilterRegistration.Dynamic;
 
 import io.dropwizard.ConfiguredBundle;
 import io.dropwizard.setup.Bootstrap;
@@ -35,6 +37,7 @@ import io.liftwizard.servlet.logging.feature.LoggingConfig;
 import io.liftwizard.servlet.logging.filter.ServerLoggingFilter;
 import io.liftwizard.servlet.logging.filter.ServerLoggingRequestFilter;
 import io.liftwizard.servlet.logging.filter.ServerLoggingResponseFilter;
+import io.liftwizard.servlet.logging.sampling.SamplingStructuredLogger;
 import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.factory.Lists;
@@ -109,15 +112,36 @@ public class JerseyHttpLoggingBundle implements ConfiguredBundle<JerseyHttpLoggi
 			environment.jersey().register(loggingResponseFilter);
 		}
 
-		var loggingFilter = new ServerLoggingFilter(loggingConfig, this.structuredLogger, clock);
-		environment
-			.servlets()
-			.addFilter("ServerLoggingFilter", loggingFilter)
-			.addMappingForUrlPatterns(null, true, "/*");
+		Consumer<StructuredArguments> sampledLogger = getSampledLogger(factory, this.structuredLogger);
+		var loggingFilter = new ServerLoggingFilter(loggingConfig, sampledLogger, clock);
+		Dynamic filterRegistration = environment.servlets().addFilter("ServerLoggingFilter", loggingFilter);
+		// Lets async servlets suspend requests, which the filter logs when they complete
+		filterRegistration.setAsyncSupported(true);
+		filterRegistration.addMappingForUrlPatterns(null, true, "/*");
 
 		LOGGER.info("Completing {}.", this.getClass().getSimpleName());
 	}
 
+	private static Consumer<StructuredArguments> getSampledLogger(
+		JerseyHttpLoggingFactory factory,
+		Consumer<StructuredArguments> structuredLogger
+	) {
+		if (!factory.isSampling()) {
+			return structuredLogger;
+		}
+
+		Duration slowRequestThreshold = factory.getSlowRequestThreshold() == null
+			? null
+			: factory.getSlowRequestThreshold().toJavaDuration();
+		return new SamplingStructuredLogger(
+			structuredLogger,
+			factory.getSampleRate(),
+			factory.isAlwaysLogErrors(),
+			slowRequestThreshold,
+			factory.getPathSampleRates()
+		);
+	}
+
 	private static Clock getClock(JerseyHttpLoggingFactoryProvider configuration) {
 		if (!(configuration instanceof ClockFactoryProvider clockFactoryProvider)) {
 			LOGGER.warn(
@@ -16,25 +16,40 @@
 
 package io.liftwizard.dropwizard.configuration.logging.appender.buffered;
 
+import java.util.List;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
 import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
 import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.spi.DeferredProcessingAware;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.google.auto.service.AutoService;
 import io.dropwizard.logging.AbstractAppenderFactory;
 import io.dropwizard.logging.AppenderFactory;
+import io.dropwizard.logging.DefaultLoggingFactory;
+import io.dropwizard.logging.LoggingFactory;
 import io.dropwizard.logging.async.AsyncAppenderFactory;
 import io.dropwizard.logging.filter.FilterFactory;
 import io.dropwizard.logging.filter.LevelFilterFactory;
 import io.dropwizard.logging.layout.LayoutFactory;
+import io.liftwizard.logging.logback.appender.buffered.AbstractBufferedAppender;
+import io.liftwizard.logging.logback.appender.buffered.BoundedBufferedAppender;
 import io.liftwizard.logging.logback.appender.buffered.BufferedAppender;
+import io.liftwizard.logging.logback.appender.buffered.BufferedAppenderOverflowPolicy;
 
 /**
  * An {@link AppenderFactory} that builds a {@link BufferedAppender}, which holds log events in memory so that tests
- * can assert on them.
+ * can assert on them. When {@code bounded} is true, it builds a thread-safe {@link BoundedBufferedAppender} instead.
+ *
+ * <p>Appender factories run before the {@code Environment} exists, so the bounded appender's gauges are registered later, by calling {@link #registerMetrics(LoggingFactory, MetricRegistry)} from {@code Application.run()} with {@code environment.metrics()}.
  *
  * @see <a href="https://liftwizard.io/docs/logging/buffered-logging#buffered-logging-in-tests-bufferedappenderfactory">https://liftwizard.io/docs/logging/buffered-logging#buffered-logging-in-tests-bufferedappenderfactory</a>
  */
@@ -44,6 +59,16 @@ public class BufferedAppenderFactory<E extends DeferredProcessingAware> extends
 
 	private String appenderName = "buffered-appender";
 
+	private boolean bounded;
+
+	@Min(1)
+	private int capacity = BoundedBufferedAppender.DEFAULT_CAPACITY;
+
+	@NotNull
+	private BufferedAppenderOverflowPolicy overflowPolicy = BufferedAppenderOverflowPolicy.DROP_OLDEST;
+
+	private BoundedBufferedAppender<E> boundedAppender;
+
 	@JsonProperty
 	public String getAppenderName() {
 		return this.appenderName;
@@ -54,6 +79,36 @@ public class BufferedAppenderFactory<E extends DeferredProcessingAware> extends
 		this.appenderName = appenderName;
 	}
 
+	@JsonProperty
+	public boolean isBounded() {
+		return this.bounded;
+	}
+
+	@JsonProperty
+	public void setBounded(boolean bounded) {
+		this.bounded = bounded;
+	}
+
+	@JsonProperty
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	@JsonProperty
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	@JsonProperty
+	public BufferedAppenderOverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	@JsonProperty
+	public void setOverflowPolicy(BufferedAppenderOverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
 	@Override
 	public Appender<E> build(
 		LoggerContext loggerContext,
@@ -74,11 +129,50 @@ public class BufferedAppenderFactory<E extends DeferredProcessingAware> extends
 		this.getFilterFactories().stream().map(FilterFactory::build).forEach(consoleAppender::addFilter);
 		consoleAppender.start();
 
-		var bufferedAppender = new BufferedAppender<E>();
+		AbstractBufferedAppender<E> bufferedAppender = this.bounded ? this.buildBoundedAppender() : new BufferedAppender<>();
 		bufferedAppender.setContext(consoleAppender.getContext());
 		bufferedAppender.setName("buffered-" + this.appenderName);
 		bufferedAppender.addAppender(consoleAppender);
 		bufferedAppender.start();
 		return bufferedAppender;
 	}
+
+	private BoundedBufferedAppender<E> buildBoundedAppender() {
+		var boundedAppender = new BoundedBufferedAppender<E>();
+		boundedAppender.setCapacity(this.capacity);
+		boundedAppender.setOverflowPolicy(this.overflowPolicy);
+		this.boundedAppender = boundedAppender;
+		return boundedAppender;
+	}
+
+	/**
+	 * Registers the dropped-event and size gauges of every bounded buffered appender configured in {@code loggingFactory}.
+	 */
+	public static void registerMetrics(LoggingFactory loggingFactory, MetricRegistry metricRegistry) {
+		if (!(loggingFactory instanceof DefaultLoggingFactory defaultLoggingFactory)) {
+			return;
+		}
+
+		List<AppenderFactory<ILoggingEvent>> appenderFactories = defaultLoggingFactory.getAppenders();
+		for (AppenderFactory<ILoggingEvent> appenderFactory : appenderFactories) {
+			if (appenderFactory instanceof BufferedAppenderFactory<ILoggingEvent> bufferedAppenderFactory) {
+				bufferedAppenderFactory.registerMetrics(metricRegistry);
+			}
+		}
+	}
+
+	/**
+	 * Registers the dropped-event and size gauges of the bounded appender this factory built, if any. Fails if the gauges are already registered.
+	 */
+	public void registerMetrics(MetricRegistry metricRegistry) {
+		BoundedBufferedAppender<E> appender = this.boundedAppender;
+		if (appender == null) {
+			return;
+		}
+
+		String dropped = MetricRegistry.name("liftwizard", "logging", "buffered", this.appenderName, "dropped");
+		String size = MetricRegistry.name("liftwizard", "logging", "buffered", this.appenderName, "size");
+		metricRegistry.register(dropped, (Gauge<Long>) appender::getDroppedEventCount);
+		metricRegistry.register(size, (Gauge<Integer>) appender::getBufferedEventCount);
+	}
 }
@@ -18,19 +18,23 @@ package io.liftwizard.dropwizard.configuration.http.logging;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
 import javax.validation.constraints.NotNull;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.util.DataSize;
 import io.dropwizard.util.DataSizeUnit;
+import io.dropwizard.util.Duration;
 import io.dropwizard.validation.MinDataSize;
 import io.dropwizard.validation.ValidationMethod;
 
 public class JerseyHttpLoggingFactory {
 
-	// Should usually be disabled in production
+	// Should usually be disabled or sampled in production
 	private boolean enabled = true;
 	private boolean logRequests = true;
 	private boolean logRequestBodies = true;
@@ -47,10 +51,26 @@ public class JerseyHttpLoggingFactory {
 	@NotNull
 	private List<String> includedResponseHeaders = List.of("Host", "User-Agent", "Content-Type");
 
+	// Bytes captured from each request and response body. Longer bodies are logged cut at this size with "...more..." appended
 	@NotNull
 	@MinDataSize(value = 1, unit = DataSizeUnit.BYTES)
 	private DataSize maxEntitySize = DataSize.kilobytes(8);
 
+	// Fraction of requests to log, between 0.0 and 1.0
+	@DecimalMin("0.0")
+	@DecimalMax("1.0")
+	private double sampleRate = 1.0;
+
+	// Log server errors regardless of the sample rate. Bodies are only captured for sampled requests, so these are logged without them.
+	private boolean alwaysLogErrors = true;
+
+	// Log requests at least this slow regardless of the sample rate, without bodies unless sampled
+	private Duration slowRequestThreshold;
+
+	// Sample rates keyed by request path prefix. The longest matching prefix wins over sampleRate.
+	@NotNull
+	private Map<String, Double> pathSampleRates = Map.of();
+
 	@JsonProperty
 	public boolean isEnabled() {
 		return this.enabled;
@@ -171,6 +191,57 @@ public class JerseyHttpLoggingFactory {
 		this.maxEntitySize = maxEntitySize;
 	}
 
+	@JsonProperty
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	@JsonProperty
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate;
+	}
+
+	@JsonProperty
+	public boolean isAlwaysLogErrors() {
+		return this.alwaysLogErrors;
+	}
+
+	@JsonProperty
+	public void setAlwaysLogErrors(boolean alwaysLogErrors) {
+		this.alwaysLogErrors = alwaysLogErrors;
+	}
+
+	@JsonProperty
+	public Duration getSlowRequestThreshold() {
+		return this.slowRequestThreshold;
+	}
+
+	@JsonProperty
+	public void setSlowRequestThreshold(Duration slowRequestThreshold) {
+		this.slowRequestThreshold = slowRequestThreshold;
+	}
+
+	@JsonProperty
+	public Map<String, Double> getPathSampleRates() {
+		return Collections.unmodifiableMap(this.pathSampleRates);
+	}
+
+	@JsonProperty
+	public void setPathSampleRates(Map<String, Double> pathSampleRates) {
+		this.pathSampleRates = Collections.unmodifiableMap(pathSampleRates);
+	}
+
+	@JsonIgnore
+	public boolean isSampling() {
+		return this.sampleRate < 1.0 || !this.pathSampleRates.isEmpty();
+	}
+
+	@ValidationMethod(message = "Path sample rates must be between 0.0 and 1.0")
+	@JsonIgnore
+	public boolean isValidPathSampleRates() {
+		return this.pathSampleRates.values().stream().allMatch((rate) -> rate != null && rate >= 0.0 && rate <= 1.0);
+	}
+
 	@ValidationMethod(message = "Logging request bodies requires logging requests")
 	@JsonIgnore
 	public boolean isValidRequestBodies() {
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.logging.logback.appender.buffered;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.pattern.PatternLayoutBase;
+import ch.qos.logback.core.pattern.parser.CompositeNode;
+import ch.qos.logback.core.pattern.parser.Node;
+import ch.qos.logback.core.pattern.parser.Parser;
+import ch.qos.logback.core.pattern.parser.SimpleKeywordNode;
+import ch.qos.logback.core.spi.DeferredProcessingAware;
+import ch.qos.logback.core.spi.ScanException;
+import org.slf4j.Marker;
+
+/**
+ * Logback appender that buffers logging in a bounded, lock-free ring buffer until it receives a CLEAR or FLUSH marker.
+ *
+ * <p>
+ * Unlike {@link BufferedAppender}, any number of threads may log concurrently, memory use is capped by the capacity, and caller data is only captured when the attached appender's output includes it. When the buffer is full, the {@link BufferedAppenderOverflowPolicy} decides which event is dropped, and {@link #getDroppedEventCount()} counts the drops.
+ *
+ * <p>
+ * Logging into a buffer with room never takes a lock. Draining on a marker and evicting under {@link BufferedAppenderOverflowPolicy#DROP_DEBUG} take a lock, because evicting from the middle of the buffer must not race with another consumer.
+ *
+ * @see <a href="https://liftwizard.io/docs/logging/buffered-logging#bounded-buffered-logging">https://liftwizard.io/docs/logging/buffered-logging#bounded-buffered-logging</a>
+ */
+public class BoundedBufferedAppender<E extends DeferredProcessingAware> extends AbstractBufferedAppender<E> {
+
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	// The conversion words that logback's PatternLayout computes from caller data
+	private static final Set<String> CALLER_DATA_KEYWORDS = Set.of(
+		"C",
+		"class",
+		"F",
+		"file",
+		"L",
+		"line",
+		"M",
+		"method",
+		"caller"
+	);
+
+	private final Lock consumerLock = new ReentrantLock();
+	private final LongAdder droppedEventCount = new LongAdder();
+	private final AtomicBoolean droppedEventWarned = new AtomicBoolean();
+
+	private int capacity = DEFAULT_CAPACITY;
+	private BufferedAppenderOverflowPolicy overflowPolicy = BufferedAppenderOverflowPolicy.DROP_OLDEST;
+	private boolean includeCallerData;
+
+	private EventRingBuffer<E> ringBuffer;
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public void setOverflowPolicy(BufferedAppenderOverflowPolicy overflowPolicy) {
+		this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+	}
+
+	public BufferedAppenderOverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Whether the attached appender's pattern layout uses caller data, as detected by {@link #start()}.
+	 */
+	public boolean isIncludeCallerData() {
+		return this.includeCallerData;
+	}
+
+	public long getDroppedEventCount() {
+		return this.droppedEventCount.sum();
+	}
+
+	public int getBufferedEventCount() {
+		EventRingBuffer<E> buffer = this.ringBuffer;
+		return buffer == null ? 0 : buffer.size();
+	}
+
+	@Override
+	public void start() {
+		if (this.isStarted()) {
+			return;
+		}
+
+		if (this.capacity < 1) {
+			this.addError("Invalid capacity " + this.capacity + ". The capacity must be positive.");
+			return;
+		}
+
+		this.ringBuffer = new EventRingBuffer<>(this.capacity);
+		this.includeCallerData = this.attachedAppendersIncludeCallerData();
+		super.start();
+	}
+
+	private boolean attachedAppendersIncludeCallerData() {
+		Iterator<Appender<E>> appenders = this.iteratorForAppenders();
+		while (appenders.hasNext()) {
+			if (
+				appenders.next() instanceof OutputStreamAppender<E> outputStreamAppender
+				&& outputStreamAppender.getEncoder() instanceof LayoutWrappingEncoder<E> encoder
+				&& encoder.getLayout() instanceof PatternLayoutBase<E> layout
+				&& includesCallerData(layout.getPattern())
+			) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean includesCallerData(String pattern) {
+		if (pattern == null) {
+			return false;
+		}
+		try {
+			return includesCallerData(new Parser<>(pattern).parse());
+		} catch (ScanException e) {
+			return false;
+		}
+	}
+
+	private static boolean includesCallerData(Node node) {
+		for (Node each = node; each != null; each = each.getNext()) {
+			if (each instanceof SimpleKeywordNode && CALLER_DATA_KEYWORDS.contains(each.getValue())) {
+				return true;
+			}
+			if (each instanceof CompositeNode compositeNode && includesCallerData(compositeNode.getChildNode())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void append(E eventObject) {
+		if (!(eventObject instanceof ILoggingEvent loggingEvent)) {
+			return;
+		}
+
+		// preprocess for async
+		eventObject.prepareForDeferredProcessing();
+		if (this.includeCallerData) {
+			loggingEvent.getCallerData();
+		}
+
+		Marker marker = loggingEvent.getMarker();
+		if (marker != null && Objects.equals(marker.getName(), "CLEAR")) {
+			this.drain(false);
+		} else if (marker != null && Objects.equals(marker.getName(), "FLUSH")) {
+			this.drain(true);
+			this.appendToAttachedAppender(eventObject);
+		} else {
+			this.enqueue(eventObject, loggingEvent.getLevel());
+		}
+	}
+
+	/**
+	 * Removes the events that were buffered when the marker arrived. Events that other threads add during the drain wait for the next marker, which keeps a busy producer from starving the thread that logged the marker.
+	 */
+	private void drain(boolean forward) {
+		this.consumerLock.lock();
+		try {
+			int count = this.ringBuffer.size();
+			for (int i = 0; i < count; i++) {
+				E event = this.ringBuffer.poll();
+				if (event == null) {
+					return;
+				}
+				if (forward) {
+					this.appendToAttachedAppender(event);
+				}
+			}
+		} finally {
+			this.consumerLock.unlock();
+		}
+	}
+
+	private void enqueue(E eventObject, Level level) {
+		if (this.ringBuffer.offer(eventObject)) {
+			return;
+		}
+
+		switch (this.overflowPolicy) {
+			case BLOCK -> this.enqueueForwardingOldest(eventObject);
+			case DROP_OLDEST -> this.enqueueDroppingOldest(eventObject);
+			case DROP_DEBUG -> {
+				if (level.toInt() <= Level.DEBUG_INT) {
+					this.onDropped();
+				} else {
+					this.enqueueDroppingDebug(eventObject);
+				}
+			}
+			default -> throw new AssertionError(this.overflowPolicy);
+		}
+	}
+
+	// Makes room by writing out the oldest events instead of waiting, since only a marker on some other thread would drain the buffer
+	private void enqueueForwardingOldest(E eventObject) {
+		while (!this.ringBuffer.offer(eventObject)) {
+			E oldest = this.ringBuffer.poll();
+			if (oldest != null) {
+				this.appendToAttachedAppender(oldest);
+			}
+		}
+	}
+
+	private void enqueueDroppingDebug(E eventObject) {
+		this.consumerLock.lock();
+		try {
+			while (!this.ringBuffer.offer(eventObject)) {
+				this.onDropped();
+				if (!this.ringBuffer.removeFirst(BoundedBufferedAppender::isDebugOrLower)) {
+					// Nothing evictable, so the counted drop is the new event
+					return;
+				}
+			}
+		} finally {
+			this.consumerLock.unlock();
+		}
+	}
+
+	private static boolean isDebugOrLower(Object event) {
+		return ((ILoggingEvent) event).getLevel().toInt() <= Level.DEBUG_INT;
+	}
+
+	private void enqueueDroppingOldest(E eventObject) {
+		while (!this.ringBuffer.offer(eventObject)) {
+			if (this.ringBuffer.poll() != null) {
+				this.onDropped();
+			}
+		}
+	}
+
+	private void onDropped() {
+		this.droppedEventCount.increment();
+		if (this.droppedEventWarned.compareAndSet(false, true)) {
+			this.addWarn(
+				"Buffer of capacity "
+				+ this.ringBuffer.capacity()
+				+ " is full. Dropping events with overflow policy "
+				+ this.overflowPolicy
+				+ "."
+			);
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.logging.logback.appender.buffered;
+
+/**
+ * What a {@link BoundedBufferedAppender} does with a new event when its buffer is full.
+ */
+public enum BufferedAppenderOverflowPolicy {
+	/**
+	 * Write the oldest buffered events to the attached appender until the new event fits. No event is dropped, but the logging thread pays for the writes, and the events written early are no longer removed by a later CLEAR.
+	 */
+	BLOCK,
+
+	/**
+	 * Evict the oldest buffered event to make room for the new event.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Drop the new event if it is DEBUG or TRACE. Otherwise, evict the oldest buffered DEBUG or TRACE event to make room for it, or drop the new event if every buffered event is INFO or higher.
+	 */
+	DROP_DEBUG,
+}
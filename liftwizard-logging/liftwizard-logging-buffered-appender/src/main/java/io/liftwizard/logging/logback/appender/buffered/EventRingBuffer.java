@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.logging.logback.appender.buffered;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * A bounded, lock-free, multi-producer multi-consumer ring buffer.
+ *
+ * <p>
+ * Each slot carries a sequence number that tells producers and consumers whether the slot is free for the current lap. Producers and consumers claim positions with a compare-and-set on the tail and head counters, so neither side ever takes a lock. The capacity is rounded up to a power of two.
+ */
+final class EventRingBuffer<E> {
+
+	private final int mask;
+	private final AtomicReferenceArray<E> slots;
+	private final AtomicLongArray sequences;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+
+	EventRingBuffer(int requestedCapacity) {
+		if (requestedCapacity < 1) {
+			throw new IllegalArgumentException("Expected a positive capacity but got " + requestedCapacity);
+		}
+		int capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+		this.mask = capacity - 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			this.sequences.set(i, i);
+		}
+	}
+
+	int capacity() {
+		return this.mask + 1;
+	}
+
+	int size() {
+		long size = this.tail.get() - this.head.get();
+		return (int) Math.max(0, Math.min(size, this.capacity()));
+	}
+
+	/**
+	 * @return false if the buffer is full
+	 */
+	boolean offer(E element) {
+		long position = this.tail.get();
+		while (true) {
+			int index = (int) (position & this.mask);
+			long difference = this.sequences.get(index) - position;
+			if (difference == 0) {
+				if (this.tail.compareAndSet(position, position + 1)) {
+					this.slots.set(index, element);
+					this.sequences.set(index, position + 1);
+					return true;
+				}
+				position = this.tail.get();
+			} else if (difference < 0) {
+				return false;
+			} else {
+				position = this.tail.get();
+			}
+		}
+	}
+
+	/**
+	 * @return null if the buffer is empty
+	 */
+	E poll() {
+		long position = this.head.get();
+		while (true) {
+			int index = (int) (position & this.mask);
+			long difference = this.sequences.get(index) - (position + 1);
+			if (difference == 0) {
+				if (this.head.compareAndSet(position, position + 1)) {
+					E element = this.slots.getAndSet(index, null);
+					this.sequences.set(index, position + this.mask + 1);
+					return element;
+				}
+				position = this.head.get();
+			} else if (difference < 0) {
+				return null;
+			} else {
+				position = this.head.get();
+			}
+		}
+	}
+
+	/**
+	 * Removes the oldest element that matches the predicate and keeps the others in order, by shifting the elements ahead of it back one slot.
+	 *
+	 * <p>
+	 * The caller must be the only thread polling while this runs. Producers may keep offering, since they only write slots past the tail.
+	 *
+	 * @return false if no published element matches
+	 */
+	boolean removeFirst(Predicate<? super E> predicate) {
+		long first = this.head.get();
+		long end = this.tail.get();
+		for (long position = first; position < end; position++) {
+			int index = (int) (position & this.mask);
+			if (this.sequences.get(index) != position + 1) {
+				// A producer claimed this slot but has not published its element yet
+				return false;
+			}
+			if (predicate.test(this.slots.get(index))) {
+				for (long shifted = position; shifted > first; shifted--) {
+					E previous = this.slots.get((int) ((shifted - 1) & this.mask));
+					this.slots.set((int) (shifted & this.mask), previous);
+				}
+				this.poll();
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.logging.logback.appender.buffered;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MarkerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedBufferedAppenderTest {
+
+	private final LoggerContext loggerContext = new LoggerContext();
+	private final Logger logger = this.loggerContext.getLogger(BoundedBufferedAppenderTest.class);
+	private final ListAppender<ILoggingEvent> listAppender = new ListAppender<>();
+
+	@Test
+	void flushForwardsBufferedEventsInOrder() {
+		BoundedBufferedAppender<ILoggingEvent> appender = this.newAppender(4, BufferedAppenderOverflowPolicy.DROP_OLDEST);
+
+		appender.doAppend(this.event(Level.INFO, "first"));
+		appender.doAppend(this.event(Level.DEBUG, "second"));
+		assertThat(this.listAppender.list).isEmpty();
+
+		appender.doAppend(this.marker("FLUSH"));
+
+		assertThat(this.messages()).containsExactly("first", "second", "FLUSH");
+		assertThat(appender.getBufferedEventCount()).isZero();
+	}
+
+	@Test
+	void clearDiscardsBufferedEvents() {
+		BoundedBufferedAppender<ILoggingEvent> appender = this.newAppender(4, BufferedAppenderOverflowPolicy.DROP_OLDEST);
+
+		appender.doAppend(this.event(Level.INFO, "discarded"));
+		appender.doAppend(this.marker("CLEAR"));
+		appender.doAppend(this.marker("FLUSH"));
+
+		assertThat(this.messages()).containsExactly("FLUSH");
+	}
+
+	@Test
+	void dropOldestEvictsTheOldestEvent() {
+		BoundedBufferedAppender<ILoggingEvent> appender = this.newAppender(2, BufferedAppenderOverflowPolicy.DROP_OLDEST);
+
+		appender.doAppend(this.event(Level.ERROR, "1"));
+		appender.doAppend(this.event(Level.DEBUG, "2"));
+		appender.doAppend(this.event(Level.INFO, "3"));
+		appender.doAppend(this.marker("FLUSH"));
+
+		assertThat(this.messages()).containsExactly("2", "3", "FLUSH");
+		assertThat(appender.getDroppedEventCount()).isEqualTo(1);
+	}
+
+	@Test
+	void dropDebugOnlyEvictsDebugEvents() {
+		BoundedBufferedAppender<ILoggingEvent> appender = this.newAppender(4, BufferedAppenderOverflowPolicy.DROP_DEBUG);
+
+		appender.doAppend(this.event(Level.INFO, "1"));
+		appender.doAppend(this.event(Level.DEBUG, "2"));
+		appender.doAppend(this.event(Level.WARN, "3"));
+		appender.doAppend(this.event(Level.TRACE, "4"));
+		appender.doAppend(this.event(Level.DEBUG, "new debug is dropped"));
+		appender.doAppend(this.event(Level.ERROR, "5 evicts 2"));
+		appender.doAppend(this.event(Level.ERROR, "6 evicts 4"));
+		appender.doAppend(this.event(Level.ERROR, "nothing left to evict"));
+		appender.doAppend(this.marker("FLUSH"));
+
+		assertThat(this.messages()).containsExactly("1", "3", "5 evicts 2", "6 evicts 4", "FLUSH");
+		assertThat(appender.getDroppedEventCount()).isEqualTo(4);
+	}
+
+	@Test
+	void blockForwardsTheOldestEventsInsteadOfDropping() {
+		BoundedBufferedAppender<ILoggingEvent> appender = this.newAppender(2, BufferedAppenderOverflowPolicy.BLOCK);
+
+		appender.doAppend(this.event(Level.INFO, "1"));
+		appender.doAppend(this.event(Level.INFO, "2"));
+		appender.doAppend(this.event(Level.INFO, "3"));
+
+		assertThat(this.messages()).containsExactly("1");
+
+		appender.doAppend(this.marker("FLUSH"));
+
+		assertThat(this.messages()).containsExactly("1", "2", "3", "FLUSH");
+		assertThat(appender.getDroppedEventCount()).isZero();
+	}
+
+	@Test
+	void concurrentOverflowAccountsForEveryEvent() throws InterruptedException {
+		BoundedBufferedAppender<ILoggingEvent> appender = this.newAppender(64, BufferedAppenderOverflowPolicy.DROP_OLDEST);
+		int threadCount = 4;
+		int perThread = 10_000;
+		var start = new CountDownLatch(1);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int thread = 0; thread < threadCount; thread++) {
+			threads.add(new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				for (int i = 0; i < perThread; i++) {
+					appender.doAppend(this.event(Level.INFO, "event"));
+				}
+			}));
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(appender.getBufferedEventCount()).isEqualTo(64);
+		assertThat(appender.getDroppedEventCount()).isEqualTo(threadCount * perThread - 64L);
+	}
+
+	@Test
+	void capturesCallerDataWhenTheLayoutUsesIt() {
+		assertThat(this.newPatternAppender("%highlight(%-5level) %gray(\\(%file:%line\\)) %message%n").isIncludeCallerData())
+			.isTrue();
+		assertThat(this.newPatternAppender("%-5level %logger: %message%n").isIncludeCallerData()).isFalse();
+	}
+
+	@Test
+	void detectsCallerDataConversionWords() {
+		assertThat(BoundedBufferedAppender.includesCallerData("%caller{1}")).isTrue();
+		assertThat(BoundedBufferedAppender.includesCallerData("%-20M %L")).isTrue();
+		assertThat(BoundedBufferedAppender.includesCallerData("%cyan(%C{10})")).isTrue();
+		assertThat(BoundedBufferedAppender.includesCallerData("%msg %level %logger %mdc")).isFalse();
+	}
+
+	private BoundedBufferedAppender<ILoggingEvent> newPatternAppender(String pattern) {
+		var layout = new PatternLayout();
+		layout.setContext(this.loggerContext);
+		layout.setPattern(pattern);
+		layout.start();
+
+		var encoder = new LayoutWrappingEncoder<ILoggingEvent>();
+		encoder.setContext(this.loggerContext);
+		encoder.setLayout(layout);
+		encoder.start();
+
+		var consoleAppender = new ConsoleAppender<ILoggingEvent>();
+		consoleAppender.setContext(this.loggerContext);
+		consoleAppender.setEncoder(encoder);
+
+		var appender = new BoundedBufferedAppender<ILoggingEvent>();
+		appender.setContext(this.loggerContext);
+		appender.addAppender(consoleAppender);
+		appender.start();
+		return appender;
+	}
+
+	private BoundedBufferedAppender<ILoggingEvent> newAppender(int capacity, BufferedAppenderOverflowPolicy policy) {
+		this.listAppender.setContext(this.loggerContext);
+		this.listAppender.start();
+
+		var appender = new BoundedBufferedAppender<ILoggingEvent>();
+		appender.setContext(this.loggerContext);
+		appender.setCapacity(capacity);
+		appender.setOverflowPolicy(policy);
+		appender.addAppender(this.listAppender);
+		appender.start();
+		return appender;
+	}
+
+	private LoggingEvent event(Level level, String message) {
+		return new LoggingEvent(Logger.class.getName(), this.logger, level, message, null, null);
+	}
+
+	private LoggingEvent marker(String markerName) {
+		LoggingEvent event = this.event(Level.INFO, markerName);
+		event.setMarker(MarkerFactory.getMarker(markerName));
+		return event;
+	}
+
+	private List<String> messages() {
+		return this.listAppender.list.stream().map(ILoggingEvent::getMessage).toList();
+	}
+}
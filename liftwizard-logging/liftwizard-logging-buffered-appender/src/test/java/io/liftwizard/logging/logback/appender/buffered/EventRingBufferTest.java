@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.logging.logback.appender.buffered;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventRingBufferTest {
+
+	@Test
+	void capacityRoundsUpToAPowerOfTwo() {
+		assertThat(new EventRingBuffer<>(1).capacity()).isEqualTo(1);
+		assertThat(new EventRingBuffer<>(5).capacity()).isEqualTo(8);
+		assertThat(new EventRingBuffer<>(8).capacity()).isEqualTo(8);
+	}
+
+	@Test
+	void offerAndPollAreFirstInFirstOutAcrossLaps() {
+		var ringBuffer = new EventRingBuffer<Integer>(4);
+
+		for (int lap = 0; lap < 3; lap++) {
+			for (int i = 0; i < 4; i++) {
+				assertThat(ringBuffer.offer(lap * 4 + i)).isTrue();
+			}
+			assertThat(ringBuffer.offer(-1)).isFalse();
+			assertThat(ringBuffer.size()).isEqualTo(4);
+			for (int i = 0; i < 4; i++) {
+				assertThat(ringBuffer.poll()).isEqualTo(lap * 4 + i);
+			}
+			assertThat(ringBuffer.poll()).isNull();
+		}
+	}
+
+	@Test
+	void removeFirstKeepsTheOrderOfTheOthers() {
+		var ringBuffer = new EventRingBuffer<Integer>(4);
+		ringBuffer.offer(0);
+		ringBuffer.poll();
+		List.of(1, 2, 3, 4).forEach(ringBuffer::offer);
+
+		assertThat(ringBuffer.removeFirst((each) -> each % 2 == 1 && each > 1)).isTrue();
+		assertThat(ringBuffer.removeFirst((each) -> each > 10)).isFalse();
+		assertThat(ringBuffer.offer(5)).isTrue();
+
+		assertThat(drain(ringBuffer)).containsExactly(1, 2, 4, 5);
+	}
+
+	@Test
+	void concurrentProducersAndConsumersSeeEachElementOnce() throws InterruptedException {
+		int producerCount = 4;
+		int consumerCount = 2;
+		int perProducer = 10_000;
+		var ringBuffer = new EventRingBuffer<long[]>(64);
+		var consumed = new ConcurrentLinkedQueue<long[]>();
+		var remaining = new AtomicInteger(producerCount * perProducer);
+		var start = new CountDownLatch(1);
+
+		List<Thread> threads = new ArrayList<>();
+		for (int producer = 0; producer < producerCount; producer++) {
+			long producerId = producer;
+			threads.add(new Thread(() -> {
+				await(start);
+				for (long i = 0; i < perProducer; i++) {
+					long[] element = {producerId, i};
+					while (!ringBuffer.offer(element)) {
+						Thread.yield();
+					}
+				}
+			}));
+		}
+		for (int consumer = 0; consumer < consumerCount; consumer++) {
+			threads.add(new Thread(() -> {
+				await(start);
+				List<long[]> local = new ArrayList<>();
+				while (remaining.get() > 0) {
+					long[] element = ringBuffer.poll();
+					if (element == null) {
+						Thread.yield();
+					} else {
+						local.add(element);
+						remaining.decrementAndGet();
+					}
+				}
+				consumed.addAll(local);
+			}));
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(consumed).hasSize(producerCount * perProducer);
+		boolean[][] seen = new boolean[producerCount][perProducer];
+		for (long[] element : consumed) {
+			int producer = (int) element[0];
+			int index = (int) element[1];
+			assertThat(seen[producer][index]).isFalse();
+			seen[producer][index] = true;
+		}
+		assertThat(ringBuffer.size()).isZero();
+	}
+
+	private static List<Integer> drain(EventRingBuffer<Integer> ringBuffer) {
+		List<Integer> result = new ArrayList<>();
+		for (Integer each = ringBuffer.poll(); each != null; each = ringBuffer.poll()) {
+			result.add(each);
+		}
+		return result;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.reladomo;
+
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ManagedReladomoClassMetrics implements Managed {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ManagedReladomoClassMetrics.class);
+
+	private final ReladomoClassMetricsRegistrar registrar;
+	private final ScheduledExecutorService executorService;
+	private final Duration scanInterval;
+
+	public ManagedReladomoClassMetrics(
+		ReladomoClassMetricsRegistrar registrar,
+		ScheduledExecutorService executorService,
+		Duration scanInterval
+	) {
+		this.registrar = Objects.requireNonNull(registrar);
+		this.executorService = Objects.requireNonNull(executorService);
+		this.scanInterval = Objects.requireNonNull(scanInterval);
+	}
+
+	@Override
+	public void start() {
+		this.executorService.scheduleWithFixedDelay(
+			this::registerNewlySeenClasses,
+			0,
+			this.scanInterval.toMilliseconds(),
+			TimeUnit.MILLISECONDS
+		);
+	}
+
+	@Override
+	public void stop() {}
+
+	// An exception would cancel the schedule, so it is logged and the next scan tries again
+	private void registerNewlySeenClasses() {
+		try {
+			this.registrar.registerNewlySeenClasses();
+		} catch (RuntimeException e) {
+			LOGGER.warn("Could not register per-class Reladomo metrics.", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ManagedReladomoClassMetrics.class.getSimpleName();
+	}
+}
@@ -18,6 +18,7 @@ package io.liftwizard.dropwizard.bundle.reladomo;
 
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import io.dropwizard.lifecycle.Managed;
+import io.liftwizard.reladomo.simseq.ObjectSequenceObjectFactory;
 
 public class ManagedReladomoCleanup implements Managed {
 
@@ -31,6 +32,7 @@ public class ManagedReladomoCleanup implements Managed {
 		MithraManagerProvider.getMithraManager().cleanUpPrimaryKeyGenerators();
 		MithraManagerProvider.getMithraManager().cleanUpRuntimeCacheControllers();
 		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+		ObjectSequenceObjectFactory.uninstall();
 	}
 
 	@Override
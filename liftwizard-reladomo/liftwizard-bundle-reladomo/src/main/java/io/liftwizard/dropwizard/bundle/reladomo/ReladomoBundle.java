@@ -21,7 +21,9 @@ import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.annotation.Nonnull;
 
@@ -34,8 +36,13 @@ import com.gs.fw.common.mithra.util.DefaultInfinityTimestamp;
 import io.dropwizard.setup.Environment;
 import io.dropwizard.util.Duration;
 import io.liftwizard.dropwizard.bundle.prioritized.PrioritizedBundle;
+import io.liftwizard.dropwizard.configuration.reladomo.ReladomoCacheWarmUpFactory;
 import io.liftwizard.dropwizard.configuration.reladomo.ReladomoFactory;
 import io.liftwizard.dropwizard.configuration.reladomo.ReladomoFactoryProvider;
+import io.liftwizard.dropwizard.task.reladomo.clear.cache.ReladomoCacheWarmer;
+import io.liftwizard.dropwizard.task.reladomo.clear.cache.ReladomoWarmUpCacheTask;
+import io.liftwizard.reladomo.simseq.BlockAllocatingSequences;
+import io.liftwizard.reladomo.simseq.ObjectSequenceObjectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,6 +79,11 @@ public class ReladomoBundle implements PrioritizedBundle {
 		ReladomoBundle.setTransactionTimeout(transactionTimeoutSeconds);
 		// Notification should be configured here. Refer to notification/Notification.html under reladomo-javadoc.jar.
 
+		Map<String, Integer> simulatedSequenceBlockSizes = reladomoFactory.getSimulatedSequenceBlockSizes();
+		ObjectSequenceObjectFactory.install(
+			new BlockAllocatingSequences(simulatedSequenceBlockSizes, environment.metrics())
+		);
+
 		List<String> runtimeConfigurationPaths = reladomoFactory.getRuntimeConfigurationPaths();
 		runtimeConfigurationPaths.forEach(this::loadRuntimeConfiguration);
 
@@ -84,7 +96,17 @@ public class ReladomoBundle implements PrioritizedBundle {
 		}
 		MithraManagerProvider.getMithraManager().fullyInitialize();
 
+		if (reladomoFactory.isEnablePerClassMetrics()) {
+			this.registerPerClassMetrics(environment, reladomoFactory);
+		}
+
 		environment.lifecycle().manage(new ManagedReladomoCleanup());
+		environment.lifecycle().manage(new ManagedReladomoOperationCompilerWarmUp());
+
+		ReladomoCacheWarmUpFactory cacheWarmUpFactory = reladomoFactory.getCacheWarmUp();
+		if (cacheWarmUpFactory.isEnabled()) {
+			this.registerCacheWarmUp(environment, cacheWarmUpFactory);
+		}
 
 		LOGGER.info("Completing {}.", this.getClass().getSimpleName());
 	}
@@ -120,6 +142,27 @@ public class ReladomoBundle implements PrioritizedBundle {
 		);
 	}
 
+	private void registerPerClassMetrics(Environment environment, ReladomoFactory reladomoFactory) {
+		var registrar = new ReladomoClassMetricsRegistrar(
+			environment.metrics(),
+			reladomoFactory.getPerClassMetricsAllowList()
+		);
+		ScheduledExecutorService executorService = environment
+			.lifecycle()
+			.scheduledExecutorService("reladomo-class-metrics-%d")
+			.build();
+		Duration scanInterval = reladomoFactory.getPerClassMetricsScanInterval();
+		environment.lifecycle().manage(new ManagedReladomoClassMetrics(registrar, executorService, scanInterval));
+	}
+
+	private void registerCacheWarmUp(Environment environment, ReladomoCacheWarmUpFactory cacheWarmUpFactory) {
+		var cacheWarmer = new ReladomoCacheWarmer(cacheWarmUpFactory.getClasses(), cacheWarmUpFactory.getParallelism());
+		environment.admin().addTask(new ReladomoWarmUpCacheTask(cacheWarmer));
+		if (cacheWarmUpFactory.isRunAtStartup()) {
+			environment.lifecycle().manage(new ManagedReladomoCacheWarmUp(cacheWarmer));
+		}
+	}
+
 	private static void setDefaultRelationshipCacheSize(int defaultRelationshipCacheSize) {
 		MithraManager mithraManager = MithraManagerProvider.getMithraManager();
 		mithraManager.setDefaultRelationshipCacheSize(defaultRelationshipCacheSize);
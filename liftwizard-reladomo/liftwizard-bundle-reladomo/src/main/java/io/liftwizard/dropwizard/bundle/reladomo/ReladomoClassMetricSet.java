@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.reladomo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.MetricSet;
+import com.codahale.metrics.RatioGauge;
+import com.gs.fw.common.mithra.MithraObjectPortal;
+import com.gs.fw.common.mithra.util.MithraPerformanceData;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+import com.gs.fw.common.mithra.util.PerformanceDataPerOperation;
+
+/**
+ * Cache and query gauges for one Reladomo class.
+ *
+ * <p>
+ * The gauges look up the class's {@link MithraObjectPortal} each time they are read, so registering them does not initialize the portal. {@link ReladomoClassMetricsRegistrar} registers them once the class {@linkplain #hasActivity() has activity}. Counts and times come from {@link MithraPerformanceData}, which Reladomo accumulates from startup. Times are in milliseconds.
+ */
+public class ReladomoClassMetricSet implements MetricSet {
+
+	@Nonnull
+	private final MithraRuntimeCacheController cacheController;
+
+	public ReladomoClassMetricSet(@Nonnull MithraRuntimeCacheController cacheController) {
+		this.cacheController = Objects.requireNonNull(cacheController);
+	}
+
+	/**
+	 * @return true once the class has cached objects or has run any operation
+	 */
+	public boolean hasActivity() {
+		if (this.cacheController.getCacheSize() > 0) {
+			return true;
+		}
+		MithraPerformanceData performanceData = this.getPerformanceData();
+		return (
+			performanceData.getObjectCacheHits() > 0
+			|| performanceData.getQueryCacheHits() > 0
+			|| performanceData.getDataForFind().getTotalOperations() > 0
+			|| performanceData.getDataForRefresh().getTotalOperations() > 0
+			|| performanceData.getDataForInsert().getTotalOperations() > 0
+			|| performanceData.getDataForUpdate().getTotalOperations() > 0
+			|| performanceData.getDataForDelete().getTotalOperations() > 0
+		);
+	}
+
+	@Override
+	public Map<String, Metric> getMetrics() {
+		Map<String, Metric> metrics = new LinkedHashMap<>();
+		metrics.put("cacheSize", (Gauge<Integer>) this.cacheController::getCacheSize);
+		metrics.put("queryCacheSize", (Gauge<Integer>) () -> this.getPortal().getQueryCache().roughSize());
+		metrics.put("objectCacheHits", (Gauge<Integer>) () -> this.getPerformanceData().getObjectCacheHits());
+		metrics.put("queryCacheHits", (Gauge<Integer>) () -> this.getPerformanceData().getQueryCacheHits());
+		metrics.put("queryCacheHitRatio", new QueryCacheHitRatio());
+		this.putOperationGauges(metrics, "find", MithraPerformanceData::getDataForFind);
+		this.putOperationGauges(metrics, "refresh", MithraPerformanceData::getDataForRefresh);
+		this.putOperationGauges(metrics, "insert", MithraPerformanceData::getDataForInsert);
+		this.putOperationGauges(metrics, "update", MithraPerformanceData::getDataForUpdate);
+		this.putOperationGauges(metrics, "delete", MithraPerformanceData::getDataForDelete);
+		return metrics;
+	}
+
+	private void putOperationGauges(
+		Map<String, Metric> metrics,
+		String operationName,
+		Function<MithraPerformanceData, PerformanceDataPerOperation> operation
+	) {
+		metrics.put(MetricRegistry.name(operationName, "operations"), (Gauge<Integer>) () ->
+			operation.apply(this.getPerformanceData()).getTotalOperations()
+		);
+		metrics.put(MetricRegistry.name(operationName, "objects"), (Gauge<Integer>) () ->
+			operation.apply(this.getPerformanceData()).getTotalObjects()
+		);
+		metrics.put(MetricRegistry.name(operationName, "time"), (Gauge<Integer>) () ->
+			operation.apply(this.getPerformanceData()).getTotalTime()
+		);
+	}
+
+	private MithraObjectPortal getPortal() {
+		return this.cacheController.getMithraObjectPortal();
+	}
+
+	private MithraPerformanceData getPerformanceData() {
+		return this.getPortal().getPerformanceData();
+	}
+
+	// Finds that were answered by the query cache, out of all finds. Finds that went to the database are counted in find.operations.
+	private final class QueryCacheHitRatio extends RatioGauge {
+
+		@Override
+		protected Ratio getRatio() {
+			MithraPerformanceData performanceData = ReladomoClassMetricSet.this.getPerformanceData();
+			int hits = performanceData.getQueryCacheHits();
+			int misses = performanceData.getDataForFind().getTotalOperations();
+			return Ratio.of(hits, hits + misses);
+		}
+	}
+}
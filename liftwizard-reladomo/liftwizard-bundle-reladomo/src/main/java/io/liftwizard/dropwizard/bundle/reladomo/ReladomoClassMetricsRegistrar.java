@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.reladomo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+
+/**
+ * Registers a {@link ReladomoClassMetricSet} for each Reladomo class the first time the class is seen, meaning the first time it has cached objects or has run an operation. Classes that are never used add no gauges to the registry.
+ *
+ * <p>
+ * Reladomo has no callback for the first use of a class, so {@link ManagedReladomoClassMetrics} calls {@link #registerNewlySeenClasses()} on a schedule.
+ */
+public class ReladomoClassMetricsRegistrar {
+
+	@Nonnull
+	private final MetricRegistry metricRegistry;
+
+	// Allowed classes whose gauges are not registered yet
+	private final List<MithraRuntimeCacheController> unseenCacheControllers = new ArrayList<>();
+
+	/**
+	 * @param allowList simple or fully qualified class names. Empty means all classes.
+	 */
+	public ReladomoClassMetricsRegistrar(@Nonnull MetricRegistry metricRegistry, @Nonnull List<String> allowList) {
+		this.metricRegistry = Objects.requireNonNull(metricRegistry);
+		for (MithraRuntimeCacheController cacheController : MithraManagerProvider.getMithraManager()
+			.getRuntimeCacheControllerSet()) {
+			String className = cacheController.getClassName();
+			if (allowList.isEmpty() || allowList.contains(className) || allowList.contains(getSimpleName(className))) {
+				this.unseenCacheControllers.add(cacheController);
+			}
+		}
+	}
+
+	public synchronized void registerNewlySeenClasses() {
+		this.unseenCacheControllers.removeIf(cacheController -> {
+			var metricSet = new ReladomoClassMetricSet(cacheController);
+			if (!metricSet.hasActivity()) {
+				return false;
+			}
+			String prefix = MetricRegistry.name(ReladomoBundle.class, getSimpleName(cacheController.getClassName()));
+			this.metricRegistry.registerAll(prefix, metricSet);
+			return true;
+		});
+	}
+
+	private static String getSimpleName(String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.bundle.reladomo;
+
+import java.util.List;
+import java.util.SortedMap;
+
+import com.codahale.metrics.Gauge;
+import com.example.bundle.Alpha;
+import com.example.bundle.AlphaFinder;
+import com.example.bundle.Beta;
+import com.example.bundle.BetaFinder;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import io.dropwizard.setup.Environment;
+import io.liftwizard.dropwizard.configuration.reladomo.ReladomoFactory;
+import io.liftwizard.dropwizard.configuration.reladomo.ReladomoFactoryProvider;
+import io.liftwizard.reladomo.test.domain.H2TestConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoBundleTest {
+
+	private static final String DATABASE_NAME = "bundle-metrics-test";
+
+	private static final String ALPHA_PREFIX = "io.liftwizard.dropwizard.bundle.reladomo.ReladomoBundle.Alpha.";
+	private static final String BETA_PREFIX = "io.liftwizard.dropwizard.bundle.reladomo.ReladomoBundle.Beta.";
+
+	private final ReladomoFactory reladomoFactory = new ReladomoFactory();
+	private final Environment environment = new Environment("test");
+
+	@AfterEach
+	void tearDown() {
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM ALPHA");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM BETA");
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+	}
+
+	@Test
+	void bundleRegistersNoPerClassGaugesUntilAClassIsSeen() {
+		this.runBundle();
+
+		assertThat(this.getGauges(ALPHA_PREFIX)).isEmpty();
+		assertThat(this.getGauges(BETA_PREFIX)).isEmpty();
+		assertThat(this.getManagedObjectNames()).contains(ManagedReladomoClassMetrics.class.getSimpleName());
+	}
+
+	@Test
+	void disabledPerClassMetricsScheduleNothing() {
+		this.reladomoFactory.setEnablePerClassMetrics(false);
+
+		this.runBundle();
+
+		assertThat(this.getManagedObjectNames()).doesNotContain(ManagedReladomoClassMetrics.class.getSimpleName());
+	}
+
+	@Test
+	void bundleWarmsUpTheOperationCompilerAtStartup() {
+		this.runBundle();
+
+		assertThat(this.getManagedObjectNames()).contains(ManagedReladomoOperationCompilerWarmUp.class.getSimpleName());
+	}
+
+	@Test
+	void classesAreRegisteredTheFirstTimeTheyAreSeen() {
+		this.runBundle();
+		var registrar = new ReladomoClassMetricsRegistrar(this.environment.metrics(), List.of());
+
+		registrar.registerNewlySeenClasses();
+		assertThat(this.getGauges(ALPHA_PREFIX)).isEmpty();
+		assertThat(this.getGauges(BETA_PREFIX)).isEmpty();
+
+		MithraManagerProvider.getMithraManager().executeTransactionalCommand((transaction) -> {
+			insertAlpha(1);
+			return null;
+		});
+		registrar.registerNewlySeenClasses();
+		assertThat(this.getGauges(ALPHA_PREFIX)).containsKey(ALPHA_PREFIX + "cacheSize");
+		assertThat(this.getGauges(BETA_PREFIX)).isEmpty();
+
+		BetaFinder.findMany(BetaFinder.all()).forceResolve();
+		registrar.registerNewlySeenClasses();
+		registrar.registerNewlySeenClasses();
+		assertThat(this.getGauges(BETA_PREFIX)).containsKey(BETA_PREFIX + "cacheSize");
+	}
+
+	@Test
+	void allowListBySimpleNameRegistersOnlyThatClass() {
+		this.runBundle();
+		var registrar = new ReladomoClassMetricsRegistrar(this.environment.metrics(), List.of("Alpha"));
+
+		useAlphaAndBeta();
+		registrar.registerNewlySeenClasses();
+
+		assertThat(this.getGauges(ALPHA_PREFIX).keySet()).containsExactlyInAnyOrder(
+			ALPHA_PREFIX + "cacheSize",
+			ALPHA_PREFIX + "queryCacheSize",
+			ALPHA_PREFIX + "objectCacheHits",
+			ALPHA_PREFIX + "queryCacheHits",
+			ALPHA_PREFIX + "queryCacheHitRatio",
+			ALPHA_PREFIX + "find.operations",
+			ALPHA_PREFIX + "find.objects",
+			ALPHA_PREFIX + "find.time",
+			ALPHA_PREFIX + "refresh.operations",
+			ALPHA_PREFIX + "refresh.objects",
+			ALPHA_PREFIX + "refresh.time",
+			ALPHA_PREFIX + "insert.operations",
+			ALPHA_PREFIX + "insert.objects",
+			ALPHA_PREFIX + "insert.time",
+			ALPHA_PREFIX + "update.operations",
+			ALPHA_PREFIX + "update.objects",
+			ALPHA_PREFIX + "update.time",
+			ALPHA_PREFIX + "delete.operations",
+			ALPHA_PREFIX + "delete.objects",
+			ALPHA_PREFIX + "delete.time"
+		);
+		assertThat(this.getGauges(BETA_PREFIX)).isEmpty();
+	}
+
+	@Test
+	void allowListByFullyQualifiedNameRegistersOnlyThatClass() {
+		this.runBundle();
+		var registrar = new ReladomoClassMetricsRegistrar(this.environment.metrics(), List.of("com.example.bundle.Beta"));
+
+		useAlphaAndBeta();
+		registrar.registerNewlySeenClasses();
+
+		assertThat(this.getGauges(ALPHA_PREFIX)).isEmpty();
+		assertThat(this.getGauges(BETA_PREFIX)).containsKey(BETA_PREFIX + "cacheSize");
+	}
+
+	@Test
+	void gaugesReadTheClassCacheAndPerformanceData() {
+		this.runBundle();
+		var registrar = new ReladomoClassMetricsRegistrar(this.environment.metrics(), List.of("Alpha"));
+
+		MithraManagerProvider.getMithraManager().executeTransactionalCommand((transaction) -> {
+			insertAlpha(1);
+			insertAlpha(2);
+			return null;
+		});
+		registrar.registerNewlySeenClasses();
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		AlphaFinder.findMany(AlphaFinder.id().greaterThan(0)).forceResolve();
+		AlphaFinder.findMany(AlphaFinder.id().greaterThan(0)).forceResolve();
+
+		assertThat(this.getGaugeValue(ALPHA_PREFIX + "cacheSize")).isEqualTo(2);
+		assertThat(this.getGaugeValue(ALPHA_PREFIX + "insert.objects")).isEqualTo(2);
+		assertThat(this.getGaugeValue(ALPHA_PREFIX + "find.operations")).isEqualTo(1);
+		assertThat(this.getGaugeValue(ALPHA_PREFIX + "find.objects")).isEqualTo(2);
+		assertThat(this.getGaugeValue(ALPHA_PREFIX + "queryCacheHits")).isEqualTo(1);
+		assertThat(this.getGaugeValue(ALPHA_PREFIX + "queryCacheHitRatio")).isEqualTo(0.5);
+	}
+
+	private void runBundle() {
+		ReladomoFactoryProvider configuration = () -> this.reladomoFactory;
+		new ReladomoBundle().runWithMdc(configuration, this.environment);
+	}
+
+	private List<String> getManagedObjectNames() {
+		return this.environment.lifecycle().getManagedObjects().stream().map(Object::toString).toList();
+	}
+
+	private SortedMap<String, Gauge> getGauges(String prefix) {
+		return this.environment.metrics().getGauges((name, metric) -> name.startsWith(prefix));
+	}
+
+	private Object getGaugeValue(String name) {
+		Gauge<?> gauge = this.environment.metrics().getGauges().get(name);
+		assertThat(gauge).as(name).isNotNull();
+		return gauge.getValue();
+	}
+
+	private static void useAlphaAndBeta() {
+		MithraManagerProvider.getMithraManager().executeTransactionalCommand((transaction) -> {
+			insertAlpha(1);
+			var beta = new Beta();
+			beta.setId(1);
+			beta.setDescription("beta 1");
+			beta.insert();
+			return null;
+		});
+	}
+
+	private static void insertAlpha(long id) {
+		var alpha = new Alpha();
+		alpha.setId(id);
+		alpha.setDescription("alpha " + id);
+		alpha.insert();
+	}
+}
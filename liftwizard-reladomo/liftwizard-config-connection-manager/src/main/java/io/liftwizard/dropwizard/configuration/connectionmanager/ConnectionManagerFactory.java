@@ -17,20 +17,33 @@
 package io.liftwizard.dropwizard.configuration.connectionmanager;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
 import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
 import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.ValidationMethod;
 import io.liftwizard.reladomo.connectionmanager.LiftwizardConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.metrics.ConnectionMetrics;
+import io.liftwizard.reladomo.connectionmanager.routing.ReplicaRoutingConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.routing.ReplicaSelectionStrategy;
 
 public class ConnectionManagerFactory {
 
@@ -39,22 +52,89 @@ public class ConnectionManagerFactory {
 	private @Valid @NotNull DatabaseTypeEnum databaseType = DatabaseTypeEnum.GENERIC;
 	private @Valid @NotNull String timeZoneName = "UTC";
 	private @Valid @NotNull String schemaName;
+	private @Min(0) int bulkInsertThreshold;
+	private boolean enableConnectionMetrics;
+	private @Valid @NotNull List<String> replicaDataSourceNames = List.of();
+	private @Valid @NotNull ReplicaSelectionStrategy replicaSelectionStrategy = ReplicaSelectionStrategy.ROUND_ROBIN;
+
+	@MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+	private Duration leakDetectionThreshold;
 
 	public SourcelessConnectionManager createSourcelessConnectionManager(@Nonnull DataSource dataSource) {
+		return this.createSourcelessConnectionManager(dataSource, null);
+	}
+
+	/**
+	 * @param metricRegistry where connection borrow and hold metrics are registered, or null to skip instrumentation.
+	 */
+	public SourcelessConnectionManager createSourcelessConnectionManager(
+		@Nonnull DataSource dataSource,
+		@Nullable MetricRegistry metricRegistry
+	) {
+		return this.createSourcelessConnectionManager(dataSource, List.of(), metricRegistry);
+	}
+
+	/**
+	 * @param replicaDataSources the data sources named by {@link #getReplicaDataSourceNames()}, in the same order. When not empty, reads outside transactions are routed to them.
+	 * @param metricRegistry where connection borrow and hold metrics are registered, or null to skip instrumentation.
+	 */
+	public SourcelessConnectionManager createSourcelessConnectionManager(
+		@Nonnull DataSource dataSource,
+		@Nonnull List<? extends DataSource> replicaDataSources,
+		@Nullable MetricRegistry metricRegistry
+	) {
 		Objects.requireNonNull(dataSource);
+		Objects.requireNonNull(replicaDataSources);
 
-		DatabaseType reladomoDatabaseType = this.databaseType.getDatabaseType();
 		TimeZone timeZone = TimeZone.getTimeZone(this.timeZoneName);
+		ConnectionMetrics connectionMetrics = this.createConnectionMetrics(metricRegistry);
+		boolean bulkInsert = this.bulkInsertThreshold > 0;
+		DatabaseType reladomoDatabaseType = bulkInsert
+			? this.databaseType.getBulkInsertDatabaseType()
+			: this.databaseType.getDatabaseType();
+		Supplier<? extends BulkLoader> bulkLoaderFactory = bulkInsert ? this.databaseType.getBulkLoaderFactory() : null;
+
+		if (!replicaDataSources.isEmpty()) {
+			return new ReplicaRoutingConnectionManager(
+				this.connectionManagerName,
+				this.dataSourceName,
+				dataSource,
+				reladomoDatabaseType,
+				timeZone,
+				this.schemaName,
+				bulkLoaderFactory,
+				this.bulkInsertThreshold,
+				connectionMetrics,
+				replicaDataSources,
+				this.replicaSelectionStrategy
+			);
+		}
+
 		return new LiftwizardConnectionManager(
 			this.connectionManagerName,
 			this.dataSourceName,
 			dataSource,
 			reladomoDatabaseType,
 			timeZone,
-			this.schemaName
+			this.schemaName,
+			bulkLoaderFactory,
+			this.bulkInsertThreshold,
+			connectionMetrics
 		);
 	}
 
+	@Nullable
+	private ConnectionMetrics createConnectionMetrics(@Nullable MetricRegistry metricRegistry) {
+		if (metricRegistry == null || !this.enableConnectionMetrics) {
+			return null;
+		}
+
+		java.time.Duration threshold = this.leakDetectionThreshold == null
+			? null
+			: this.leakDetectionThreshold.toJavaDuration();
+		return new ConnectionMetrics(metricRegistry, this.connectionManagerName, threshold);
+	}
+
 	@JsonProperty
 	public String getConnectionManagerName() {
 		return this.connectionManagerName;
@@ -105,6 +185,81 @@ public class ConnectionManagerFactory {
 		this.schemaName = schemaName;
 	}
 
+	/**
+	 * The row count above which transactions bulk insert, or zero to turn bulk inserts off.
+	 *
+	 * <p>
+	 * Reladomo reads the threshold from each transaction rather than from the connection manager, so it's opt-in: it only applies to transactions run by {@link LiftwizardConnectionManager#executeTransactionalCommand} or passed to {@link LiftwizardConnectionManager#configureTransaction}. Other transactions never bulk insert.
+	 */
+	@JsonProperty
+	public int getBulkInsertThreshold() {
+		return this.bulkInsertThreshold;
+	}
+
+	@JsonProperty
+	public void setBulkInsertThreshold(int bulkInsertThreshold) {
+		this.bulkInsertThreshold = bulkInsertThreshold;
+	}
+
+	@JsonProperty
+	public boolean isEnableConnectionMetrics() {
+		return this.enableConnectionMetrics;
+	}
+
+	@JsonProperty
+	public void setEnableConnectionMetrics(boolean enableConnectionMetrics) {
+		this.enableConnectionMetrics = enableConnectionMetrics;
+	}
+
+	@JsonProperty
+	public Duration getLeakDetectionThreshold() {
+		return this.leakDetectionThreshold;
+	}
+
+	@JsonProperty
+	public void setLeakDetectionThreshold(Duration leakDetectionThreshold) {
+		this.leakDetectionThreshold = leakDetectionThreshold;
+	}
+
+	@JsonProperty("replicaDataSources")
+	public List<String> getReplicaDataSourceNames() {
+		return this.replicaDataSourceNames;
+	}
+
+	@JsonProperty("replicaDataSources")
+	public void setReplicaDataSourceNames(List<String> replicaDataSourceNames) {
+		this.replicaDataSourceNames = replicaDataSourceNames;
+	}
+
+	@JsonProperty
+	public ReplicaSelectionStrategy getReplicaSelectionStrategy() {
+		return this.replicaSelectionStrategy;
+	}
+
+	@JsonProperty
+	public void setReplicaSelectionStrategy(ReplicaSelectionStrategy replicaSelectionStrategy) {
+		this.replicaSelectionStrategy = replicaSelectionStrategy;
+	}
+
+	@ValidationMethod(message = "replicaDataSources must not contain dataSourceName or duplicates")
+	@JsonIgnore
+	public boolean isValidReplicaDataSourceNames() {
+		return !this.replicaDataSourceNames.contains(this.dataSourceName)
+			&& Set.copyOf(this.replicaDataSourceNames).size() == this.replicaDataSourceNames.size();
+	}
+
+	@ValidationMethod(message = "leakDetectionThreshold requires enableConnectionMetrics")
+	@JsonIgnore
+	public boolean isValidLeakDetectionThreshold() {
+		return this.leakDetectionThreshold == null || this.enableConnectionMetrics;
+	}
+
+	@ValidationMethod(message = "bulkInsertThreshold is only supported for databaseType H2 and POSTGRES")
+	@JsonIgnore
+	public boolean isValidBulkInsertThreshold() {
+		return this.bulkInsertThreshold == 0 || this.databaseType.supportsBulkInsert();
+	}
+
 	@ValidationMethod(message = "Invalid timeZoneName")
 	@JsonIgnore
 	public boolean isValidTimezone() {
@@ -32,6 +32,7 @@ import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.setup.Environment;
 import io.dropwizard.validation.ValidationMethod;
 import io.liftwizard.dropwizard.configuration.datasource.NamedDataSourceProvider;
+import io.liftwizard.dropwizard.configuration.datasource.NamedDataSourcesFactory;
 
 public class ConnectionManagersFactory {
 
@@ -168,17 +169,27 @@ public class ConnectionManagersFactory {
 			throw new IllegalStateException(message);
 		}
 
-		ManagedDataSource managedDataSource = dataSourceProvider
-			.getNamedDataSourcesFactory()
-			.getDataSourceByName(
-				connectionManagerFactory.getDataSourceName(),
-				environment.metrics(),
-				environment.lifecycle()
-			);
+		NamedDataSourcesFactory namedDataSourcesFactory = dataSourceProvider.getNamedDataSourcesFactory();
+		ManagedDataSource managedDataSource = namedDataSourcesFactory.getDataSourceByName(
+			connectionManagerFactory.getDataSourceName(),
+			environment.metrics(),
+			environment.lifecycle()
+		);
+		List<ManagedDataSource> replicaDataSources = connectionManagerFactory
+			.getReplicaDataSourceNames()
+			.stream()
+			.map((replicaDataSourceName) ->
+				namedDataSourcesFactory.getDataSourceByName(
+					replicaDataSourceName,
+					environment.metrics(),
+					environment.lifecycle()
+				)
+			)
+			.toList();
 
 		SourcelessConnectionManager sourcelessConnectionManager = this.connectionManagerFactoriesByName.get(
 			connectionManagerName
-		).createSourcelessConnectionManager(managedDataSource);
+		).createSourcelessConnectionManager(managedDataSource, replicaDataSources, environment.metrics());
 		this.connectionManagersByName.put(connectionManagerName, sourcelessConnectionManager);
 		return sourcelessConnectionManager;
 	}
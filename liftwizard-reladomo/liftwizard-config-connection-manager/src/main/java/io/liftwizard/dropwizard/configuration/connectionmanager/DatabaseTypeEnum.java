@@ -17,7 +17,11 @@
 package io.liftwizard.dropwizard.configuration.connectionmanager;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
 import com.gs.fw.common.mithra.databasetype.DatabaseType;
 import com.gs.fw.common.mithra.databasetype.DerbyDatabaseType;
 import com.gs.fw.common.mithra.databasetype.GenericDatabaseType;
@@ -29,15 +33,24 @@ import com.gs.fw.common.mithra.databasetype.PostgresDatabaseType;
 import com.gs.fw.common.mithra.databasetype.SybaseDatabaseType;
 import com.gs.fw.common.mithra.databasetype.SybaseIqDatabaseType;
 import com.gs.fw.common.mithra.databasetype.Udb82DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.BulkInsertH2DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.BulkInsertPostgresDatabaseType;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.H2BulkLoader;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.PostgresBulkLoader;
 
 public enum DatabaseTypeEnum {
 	DERBY(DerbyDatabaseType.getInstance()),
 	GENERIC(GenericDatabaseType.getInstance()),
-	H2(H2DatabaseType.getInstance()),
+	H2(H2DatabaseType.getInstance(), BulkInsertH2DatabaseType.getInstance(), H2BulkLoader::new),
 	MARIA(MariaDatabaseType.getInstance()),
 	MSSQL(MsSqlDatabaseType.getInstance()),
 	ORACLE(OracleDatabaseType.getInstance()),
-	POSTGRES(PostgresDatabaseType.getInstance()),
+	// A lambda rather than a constructor reference, so PostgresBulkLoader and the optional PostgreSQL driver it uses are only loaded when a bulk load runs
+	POSTGRES(
+		PostgresDatabaseType.getInstance(),
+		BulkInsertPostgresDatabaseType.getInstance(),
+		() -> new PostgresBulkLoader()
+	),
 	SYBASE(SybaseDatabaseType.getInstance()),
 	SYBASE_IQ(SybaseIqDatabaseType.getInstance()),
 	SYBASE_IQ_NATIVE(SybaseIqDatabaseType.getInstance()),
@@ -45,11 +58,47 @@ public enum DatabaseTypeEnum {
 
 	private final DatabaseType databaseType;
 
+	@Nullable
+	private final DatabaseType bulkInsertDatabaseType;
+
+	@Nullable
+	private final Supplier<? extends BulkLoader> bulkLoaderFactory;
+
 	DatabaseTypeEnum(DatabaseType databaseType) {
 		this.databaseType = Objects.requireNonNull(databaseType);
+		this.bulkInsertDatabaseType = null;
+		this.bulkLoaderFactory = null;
+	}
+
+	DatabaseTypeEnum(
+		DatabaseType databaseType,
+		DatabaseType bulkInsertDatabaseType,
+		Supplier<? extends BulkLoader> bulkLoaderFactory
+	) {
+		this.databaseType = Objects.requireNonNull(databaseType);
+		this.bulkInsertDatabaseType = Objects.requireNonNull(bulkInsertDatabaseType);
+		this.bulkLoaderFactory = Objects.requireNonNull(bulkLoaderFactory);
 	}
 
 	public DatabaseType getDatabaseType() {
 		return this.databaseType;
 	}
+
+	public boolean supportsBulkInsert() {
+		return this.bulkLoaderFactory != null;
+	}
+
+	public DatabaseType getBulkInsertDatabaseType() {
+		if (this.bulkInsertDatabaseType == null) {
+			throw new UnsupportedOperationException("Bulk insert is not supported for " + this);
+		}
+		return this.bulkInsertDatabaseType;
+	}
+
+	public Supplier<? extends BulkLoader> getBulkLoaderFactory() {
+		if (this.bulkLoaderFactory == null) {
+			throw new UnsupportedOperationException("Bulk insert is not supported for " + this);
+		}
+		return this.bulkLoaderFactory;
+	}
 }
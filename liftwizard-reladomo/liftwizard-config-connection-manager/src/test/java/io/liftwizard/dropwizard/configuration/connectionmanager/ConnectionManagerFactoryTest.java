@@ -16,6 +16,7 @@
 
 package io.liftwizard.dropwizard.configuration.connectionmanager;
 
+import java.util.List;
 import java.util.TimeZone;
 
 import javax.validation.Validator;
@@ -31,7 +32,13 @@ import io.dropwizard.db.ManagedDataSource;
 import io.dropwizard.db.PooledDataSourceFactory;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.util.Duration;
 import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.reladomo.connectionmanager.LiftwizardConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.BulkInsertH2DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.H2BulkLoader;
+import io.liftwizard.reladomo.connectionmanager.routing.ReplicaRoutingConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.routing.ReplicaSelectionStrategy;
 import io.liftwizard.serialization.jackson.config.ObjectMapperConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -73,6 +80,94 @@ class ConnectionManagerFactoryTest {
 		assertThat(sourcelessConnectionManager.getDatabaseType()).isEqualTo(GenericDatabaseType.getInstance());
 	}
 
+	@Test
+	void createBulkInsertConnectionManager() throws Exception {
+		ConnectionManagerFactory connectionManagerFactory = this.factory.build(
+			new ResourceConfigurationSourceProvider(),
+			"config-test-bulk-insert.json5"
+		);
+
+		PooledDataSourceFactory dataSourceFactory = new DataSourceFactory();
+		ManagedDataSource managedDataSource = dataSourceFactory.build(new MetricRegistry(), "test");
+
+		var connectionManager = (LiftwizardConnectionManager) connectionManagerFactory.createSourcelessConnectionManager(
+			managedDataSource
+		);
+
+		assertThat(connectionManager.getBulkInsertThreshold()).isEqualTo(1000);
+		assertThat(connectionManager.getDatabaseType()).isEqualTo(BulkInsertH2DatabaseType.getInstance());
+		assertThat(connectionManager.getDatabaseType().hasBulkInsert()).isTrue();
+		assertThat(connectionManager.createBulkLoader()).isInstanceOf(H2BulkLoader.class);
+	}
+
+	@Test
+	void createInstrumentedConnectionManager() throws Exception {
+		ConnectionManagerFactory connectionManagerFactory = this.factory.build(
+			new ResourceConfigurationSourceProvider(),
+			"config-test-connection-metrics.json5"
+		);
+
+		assertThat(connectionManagerFactory.isEnableConnectionMetrics()).isTrue();
+		assertThat(connectionManagerFactory.getLeakDetectionThreshold()).isEqualTo(Duration.seconds(30));
+
+		var metricRegistry = new MetricRegistry();
+		PooledDataSourceFactory dataSourceFactory = new DataSourceFactory();
+		ManagedDataSource managedDataSource = dataSourceFactory.build(metricRegistry, "test");
+
+		connectionManagerFactory.createSourcelessConnectionManager(managedDataSource, metricRegistry);
+
+		String prefix = "liftwizard.reladomo.connectionManager.connectionManagerName.";
+		assertThat(metricRegistry.getTimers()).containsKeys(prefix + "borrow", prefix + "hold");
+		assertThat(metricRegistry.getCounters()).containsKeys(prefix + "borrowFailures", prefix + "leaks");
+		assertThat(metricRegistry.getGauges()).containsKeys(prefix + "inUse", prefix + "pending");
+	}
+
+	@Test
+	void connectionMetricsDisabledByDefault() throws Exception {
+		ConnectionManagerFactory connectionManagerFactory = this.factory.build(
+			new ResourceConfigurationSourceProvider(),
+			"config-test.json5"
+		);
+
+		assertThat(connectionManagerFactory.isEnableConnectionMetrics()).isFalse();
+
+		var metricRegistry = new MetricRegistry();
+		PooledDataSourceFactory dataSourceFactory = new DataSourceFactory();
+		ManagedDataSource managedDataSource = dataSourceFactory.build(metricRegistry, "test");
+
+		connectionManagerFactory.createSourcelessConnectionManager(managedDataSource, metricRegistry);
+
+		assertThat(metricRegistry.getNames()).noneMatch((name) -> name.startsWith("liftwizard.reladomo.connectionManager."));
+	}
+
+	@Test
+	void createReplicaRoutingConnectionManager() throws Exception {
+		ConnectionManagerFactory connectionManagerFactory = this.factory.build(
+			new ResourceConfigurationSourceProvider(),
+			"config-test-replicas.json5"
+		);
+
+		assertThat(connectionManagerFactory.getReplicaDataSourceNames()).containsExactly("replica1", "replica2");
+		assertThat(connectionManagerFactory.getReplicaSelectionStrategy()).isEqualTo(
+			ReplicaSelectionStrategy.LEAST_ACTIVE
+		);
+
+		PooledDataSourceFactory dataSourceFactory = new DataSourceFactory();
+		ManagedDataSource managedDataSource = dataSourceFactory.build(new MetricRegistry(), "test");
+		ManagedDataSource replica1 = dataSourceFactory.build(new MetricRegistry(), "replica1");
+		ManagedDataSource replica2 = dataSourceFactory.build(new MetricRegistry(), "replica2");
+
+		SourcelessConnectionManager sourcelessConnectionManager =
+			connectionManagerFactory.createSourcelessConnectionManager(
+				managedDataSource,
+				List.of(replica1, replica2),
+				null
+			);
+
+		assertThat(sourcelessConnectionManager).isInstanceOf(ReplicaRoutingConnectionManager.class);
+		assertThat(sourcelessConnectionManager.getDatabaseIdentifier()).isEqualTo("schemaName");
+	}
+
 	private static ObjectMapper newObjectMapper() {
 		ObjectMapper objectMapper = Jackson.newObjectMapper();
 		ObjectMapperConfig.configure(objectMapper);
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.reladomo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class ReladomoCacheWarmUpFactory {
+
+	private boolean enabled;
+	private boolean runAtStartup = true;
+	// Deep-fetch paths like "owner.address", keyed by simple or fully qualified name of a full-cache class
+	private @NotNull Map<String, List<String>> classes = Map.of();
+	private @Min(1) int parallelism = 4;
+
+	@JsonProperty
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	@JsonProperty
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@JsonProperty
+	public boolean isRunAtStartup() {
+		return this.runAtStartup;
+	}
+
+	@JsonProperty
+	public void setRunAtStartup(boolean runAtStartup) {
+		this.runAtStartup = runAtStartup;
+	}
+
+	@JsonProperty
+	public Map<String, List<String>> getClasses() {
+		return this.classes;
+	}
+
+	@JsonProperty
+	public void setClasses(Map<String, List<String>> classes) {
+		this.classes = Collections.unmodifiableMap(classes);
+	}
+
+	@JsonProperty
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	@JsonProperty
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+}
@@ -18,7 +18,10 @@ package io.liftwizard.dropwizard.configuration.reladomo;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -35,7 +38,16 @@ public class ReladomoFactory {
 		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
 	);
 	private boolean enableRetrieveCountMetrics = true;
+	private boolean enablePerClassMetrics = true;
+	// Simple or fully qualified class names. Empty means all classes.
+	private @NotNull List<String> perClassMetricsAllowList = List.of();
+	// How often to look for classes used for the first time, whose per-class metrics are registered then
+	private @NotNull Duration perClassMetricsScanInterval = Duration.minutes(1);
 	private boolean captureTransactionLevelPerformanceData = true;
+	// Sequences that reserve ids in blocks of this size, keyed by sequence name
+	private @NotNull Map<String, @Min(1) Integer> simulatedSequenceBlockSizes = Map.of();
+	private @Valid @NotNull ReladomoCacheWarmUpFactory cacheWarmUp = new ReladomoCacheWarmUpFactory();
+	private @Valid @NotNull ReladomoHealthCheckFactory healthCheck = new ReladomoHealthCheckFactory();
 
 	@JsonProperty
 	public int getDefaultMinQueriesToKeep() {
@@ -87,6 +99,36 @@ public class ReladomoFactory {
 		this.enableRetrieveCountMetrics = enableRetrieveCountMetrics;
 	}
 
+	@JsonProperty
+	public boolean isEnablePerClassMetrics() {
+		return this.enablePerClassMetrics;
+	}
+
+	@JsonProperty
+	public void setEnablePerClassMetrics(boolean enablePerClassMetrics) {
+		this.enablePerClassMetrics = enablePerClassMetrics;
+	}
+
+	@JsonProperty
+	public List<String> getPerClassMetricsAllowList() {
+		return this.perClassMetricsAllowList;
+	}
+
+	@JsonProperty
+	public void setPerClassMetricsAllowList(List<String> perClassMetricsAllowList) {
+		this.perClassMetricsAllowList = Collections.unmodifiableList(perClassMetricsAllowList);
+	}
+
+	@JsonProperty
+	public Duration getPerClassMetricsScanInterval() {
+		return this.perClassMetricsScanInterval;
+	}
+
+	@JsonProperty
+	public void setPerClassMetricsScanInterval(Duration perClassMetricsScanInterval) {
+		this.perClassMetricsScanInterval = perClassMetricsScanInterval;
+	}
+
 	@JsonProperty
 	public boolean isCaptureTransactionLevelPerformanceData() {
 		return this.captureTransactionLevelPerformanceData;
@@ -96,4 +138,34 @@ public class ReladomoFactory {
 	public void setCaptureTransactionLevelPerformanceData(boolean captureTransactionLevelPerformanceData) {
 		this.captureTransactionLevelPerformanceData = captureTransactionLevelPerformanceData;
 	}
+
+	@JsonProperty
+	public Map<String, Integer> getSimulatedSequenceBlockSizes() {
+		return this.simulatedSequenceBlockSizes;
+	}
+
+	@JsonProperty
+	public void setSimulatedSequenceBlockSizes(Map<String, Integer> simulatedSequenceBlockSizes) {
+		this.simulatedSequenceBlockSizes = Collections.unmodifiableMap(simulatedSequenceBlockSizes);
+	}
+
+	@JsonProperty
+	public ReladomoCacheWarmUpFactory getCacheWarmUp() {
+		return this.cacheWarmUp;
+	}
+
+	@JsonProperty
+	public void setCacheWarmUp(ReladomoCacheWarmUpFactory cacheWarmUp) {
+		this.cacheWarmUp = cacheWarmUp;
+	}
+
+	@JsonProperty
+	public ReladomoHealthCheckFactory getHealthCheck() {
+		return this.healthCheck;
+	}
+
+	@JsonProperty
+	public void setHealthCheck(ReladomoHealthCheckFactory healthCheck) {
+		this.healthCheck = healthCheck;
+	}
 }
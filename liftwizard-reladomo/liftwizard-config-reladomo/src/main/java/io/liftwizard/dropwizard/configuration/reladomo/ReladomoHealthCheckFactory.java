@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.configuration.reladomo;
+
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+public class ReladomoHealthCheckFactory {
+
+	private boolean connectionProbes = true;
+	private boolean finderProbe = true;
+	private @NotNull Duration timeout = Duration.seconds(5);
+	// Load balancers poll often, so reuse the last result for this long
+	private @NotNull Duration cacheTtl = Duration.seconds(10);
+
+	@JsonProperty
+	public boolean isConnectionProbes() {
+		return this.connectionProbes;
+	}
+
+	@JsonProperty
+	public void setConnectionProbes(boolean connectionProbes) {
+		this.connectionProbes = connectionProbes;
+	}
+
+	@JsonProperty
+	public boolean isFinderProbe() {
+		return this.finderProbe;
+	}
+
+	@JsonProperty
+	public void setFinderProbe(boolean finderProbe) {
+		this.finderProbe = finderProbe;
+	}
+
+	@JsonProperty
+	public Duration getTimeout() {
+		return this.timeout;
+	}
+
+	@JsonProperty
+	public void setTimeout(Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	@JsonProperty
+	public Duration getCacheTtl() {
+		return this.cacheTtl;
+	}
+
+	@JsonProperty
+	public void setCacheTtl(Duration cacheTtl) {
+		this.cacheTtl = cacheTtl;
+	}
+}
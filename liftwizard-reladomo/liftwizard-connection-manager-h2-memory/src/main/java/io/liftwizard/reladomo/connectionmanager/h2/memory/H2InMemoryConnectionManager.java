@@ -18,27 +18,63 @@ package io.liftwizard.reladomo.connectionmanager.h2.memory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Properties;
 import java.util.TimeZone;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import com.codahale.metrics.MetricRegistry;
 import com.gs.fw.common.mithra.bulkloader.BulkLoader;
 import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
 import com.gs.fw.common.mithra.databasetype.DatabaseType;
 import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.BulkInsertH2DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.bulkloader.H2BulkLoader;
+import io.liftwizard.reladomo.connectionmanager.metrics.ConnectionMetrics;
 import org.apache.tomcat.jdbc.pool.DataSource;
 import org.apache.tomcat.jdbc.pool.PoolProperties;
 
+/**
+ * A connection manager for an in-memory H2 database.
+ *
+ * <p>
+ * Bulk inserts through {@link H2BulkLoader} are off by default. To turn them on, set the {@code bulkInsert} property in the Reladomo runtime configuration, and set a bulk insert threshold on the transactions that should use them.
+ *
+ * <pre>{@code
+ * <ConnectionManager className="io.liftwizard.reladomo.connectionmanager.h2.memory.H2InMemoryConnectionManager">
+ *     <Property name="bulkInsert" value="true" />
+ *     ...
+ * </ConnectionManager>
+ * }</pre>
+ */
 public final class H2InMemoryConnectionManager implements SourcelessConnectionManager {
 
-	private static final H2InMemoryConnectionManager INSTANCE = new H2InMemoryConnectionManager();
-
 	private static final TimeZone TIME_ZONE = TimeZone.getTimeZone("UTC");
 	private static final String SCHEMA_NAME = "liftwizard-app-h2";
 	private static final DataSource DATA_SOURCE = H2InMemoryConnectionManager.createDataSource();
 
-	private H2InMemoryConnectionManager() {
-		// singleton
+	private static final H2InMemoryConnectionManager INSTANCE = new H2InMemoryConnectionManager(false);
+	private static final H2InMemoryConnectionManager BULK_INSERT_INSTANCE = new H2InMemoryConnectionManager(true);
+
+	@Nullable
+	private static volatile ConnectionMetrics connectionMetrics;
+
+	private final boolean bulkInsert;
+
+	private H2InMemoryConnectionManager(boolean bulkInsert) {
+		this.bulkInsert = bulkInsert;
+	}
+
+	/**
+	 * Times connection borrows and holds with {@link ConnectionMetrics}, registered in {@code metricRegistry} under the connection manager name {@code h2-memory}. Reladomo creates this class through {@link #getInstance()}, so an application passes its registry here, usually {@code environment.metrics()} from {@code Application.run()}. Until then, connections are not timed.
+	 */
+	public static synchronized void enableConnectionMetrics(@Nonnull MetricRegistry metricRegistry) {
+		connectionMetrics = new ConnectionMetrics(metricRegistry, "h2-memory", null);
+	}
+
+	public static synchronized void disableConnectionMetrics() {
+		connectionMetrics = null;
 	}
 
 	@Nonnull
@@ -72,15 +108,29 @@ public final class H2InMemoryConnectionManager implements SourcelessConnectionMa
 		return INSTANCE;
 	}
 
+	@Nonnull
+	@SuppressWarnings("unused")
+	public static H2InMemoryConnectionManager getInstance(Properties properties) {
+		boolean bulkInsert = Boolean.parseBoolean(properties.getProperty("bulkInsert"));
+		return bulkInsert ? BULK_INSERT_INSTANCE : INSTANCE;
+	}
+
 	@Nonnull
 	@Override
 	public BulkLoader createBulkLoader() {
-		throw new RuntimeException("BulkLoader is not supported");
+		if (!this.bulkInsert) {
+			throw new RuntimeException("BulkLoader is not supported");
+		}
+		return new H2BulkLoader();
 	}
 
 	@Override
 	public Connection getConnection() {
 		try {
+			ConnectionMetrics metrics = connectionMetrics;
+			if (metrics != null) {
+				return metrics.getConnection(DATA_SOURCE);
+			}
 			return DATA_SOURCE.getConnection();
 		} catch (SQLException e) {
 			throw new RuntimeException("Could not obtain database connection", e);
@@ -89,7 +139,7 @@ public final class H2InMemoryConnectionManager implements SourcelessConnectionMa
 
 	@Override
 	public DatabaseType getDatabaseType() {
-		return H2DatabaseType.getInstance();
+		return this.bulkInsert ? BulkInsertH2DatabaseType.getInstance() : H2DatabaseType.getInstance();
 	}
 
 	@Override
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.h2.memory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class H2InMemoryConnectionManagerTest {
+
+	private static final String METRIC_PREFIX = "liftwizard.reladomo.connectionManager.h2-memory.";
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@AfterEach
+	void tearDown() {
+		H2InMemoryConnectionManager.disableConnectionMetrics();
+	}
+
+	@Test
+	void timesConnectionsInTheGivenRegistry() throws SQLException {
+		H2InMemoryConnectionManager.enableConnectionMetrics(this.metricRegistry);
+
+		try (Connection connection = H2InMemoryConnectionManager.getInstance().getConnection()) {
+			assertThat(this.metricRegistry.getGauges().get(METRIC_PREFIX + "inUse").getValue()).isEqualTo(1);
+		}
+
+		assertThat(this.metricRegistry.timer(METRIC_PREFIX + "borrow").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.timer(METRIC_PREFIX + "hold").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.getGauges().get(METRIC_PREFIX + "inUse").getValue()).isEqualTo(0);
+	}
+
+	@Test
+	void disabledConnectionMetricsTimeNothing() throws SQLException {
+		H2InMemoryConnectionManager.enableConnectionMetrics(this.metricRegistry);
+		H2InMemoryConnectionManager.disableConnectionMetrics();
+
+		H2InMemoryConnectionManager.getInstance().getConnection().close();
+
+		assertThat(this.metricRegistry.timer(METRIC_PREFIX + "borrow").getCount()).isZero();
+	}
+}
@@ -22,6 +22,7 @@ import java.util.Properties;
 import javax.annotation.Nonnull;
 
 import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.map.ImmutableMap;
 
@@ -57,6 +58,17 @@ public final class ConnectionManagerHolder {
 		return sourcelessConnectionManager;
 	}
 
+	/**
+	 * Returns the registered connection managers, or an empty map if ConnectionManagerHolderBundle has not run.
+	 */
+	@Nonnull
+	public static ImmutableMap<String, SourcelessConnectionManager> getConnectionManagersByName() {
+		if (connectionManagersByName == null) {
+			return Maps.immutable.empty();
+		}
+		return connectionManagersByName;
+	}
+
 	public static void setConnectionManagersByName(
 		ImmutableMap<String, SourcelessConnectionManager> connectionManagersByName
 	) {
@@ -20,12 +20,18 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraTransaction;
+import com.gs.fw.common.mithra.TransactionalCommand;
 import com.gs.fw.common.mithra.bulkloader.BulkLoader;
 import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
 import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.metrics.ConnectionMetrics;
 
 public class LiftwizardConnectionManager implements SourcelessConnectionManager {
 
@@ -36,6 +42,14 @@ public class LiftwizardConnectionManager implements SourcelessConnectionManager
 	private final TimeZone databaseTimeZone;
 	private final String schemaName;
 
+	@Nullable
+	private final Supplier<? extends BulkLoader> bulkLoaderFactory;
+
+	private final int bulkInsertThreshold;
+
+	@Nullable
+	private final ConnectionMetrics connectionMetrics;
+
 	public LiftwizardConnectionManager(
 		String connectionManagerName,
 		String dataSourceName,
@@ -43,6 +57,50 @@ public class LiftwizardConnectionManager implements SourcelessConnectionManager
 		DatabaseType databaseType,
 		TimeZone databaseTimeZone,
 		String schemaName
+	) {
+		this(connectionManagerName, dataSourceName, dataSource, databaseType, databaseTimeZone, schemaName, null, 0);
+	}
+
+	/**
+	 * @param bulkLoaderFactory creates the BulkLoader Reladomo uses for inserts above the bulk insert threshold, or null if bulk loading is not supported. Reladomo only asks for a BulkLoader when {@link DatabaseType#hasBulkInsert()} is true.
+	 * @param bulkInsertThreshold the row count above which transactions bulk insert. Reladomo reads the threshold from each transaction, so it only applies to transactions passed to {@link #configureTransaction(MithraTransaction)} or run by {@link #executeTransactionalCommand(TransactionalCommand)}. Zero disables bulk inserts.
+	 */
+	public LiftwizardConnectionManager(
+		String connectionManagerName,
+		String dataSourceName,
+		DataSource dataSource,
+		DatabaseType databaseType,
+		TimeZone databaseTimeZone,
+		String schemaName,
+		@Nullable Supplier<? extends BulkLoader> bulkLoaderFactory,
+		int bulkInsertThreshold
+	) {
+		this(
+			connectionManagerName,
+			dataSourceName,
+			dataSource,
+			databaseType,
+			databaseTimeZone,
+			schemaName,
+			bulkLoaderFactory,
+			bulkInsertThreshold,
+			null
+		);
+	}
+
+	/**
+	 * @param connectionMetrics records borrow and hold times for connections handed out by this connection manager, or null to hand out the DataSource's connections unwrapped.
+	 */
+	public LiftwizardConnectionManager(
+		String connectionManagerName,
+		String dataSourceName,
+		DataSource dataSource,
+		DatabaseType databaseType,
+		TimeZone databaseTimeZone,
+		String schemaName,
+		@Nullable Supplier<? extends BulkLoader> bulkLoaderFactory,
+		int bulkInsertThreshold,
+		@Nullable ConnectionMetrics connectionMetrics
 	) {
 		this.connectionManagerName = Objects.requireNonNull(connectionManagerName);
 		this.dataSourceName = Objects.requireNonNull(dataSourceName);
@@ -50,6 +108,9 @@ public class LiftwizardConnectionManager implements SourcelessConnectionManager
 		this.databaseType = Objects.requireNonNull(databaseType);
 		this.databaseTimeZone = Objects.requireNonNull(databaseTimeZone);
 		this.schemaName = Objects.requireNonNull(schemaName);
+		this.bulkLoaderFactory = bulkLoaderFactory;
+		this.bulkInsertThreshold = bulkInsertThreshold;
+		this.connectionMetrics = connectionMetrics;
 	}
 
 	public String getConnectionManagerName() {
@@ -60,14 +121,55 @@ public class LiftwizardConnectionManager implements SourcelessConnectionManager
 		return this.dataSourceName;
 	}
 
+	public int getBulkInsertThreshold() {
+		return this.bulkInsertThreshold;
+	}
+
+	/**
+	 * Sets this connection manager's bulk insert threshold on the transaction. Call it at the start of transactions that may insert many rows, since Reladomo transactions don't bulk insert by default. Transactions started through {@code MithraManager} directly don't pick up the threshold.
+	 */
+	public void configureTransaction(MithraTransaction transaction) {
+		if (this.bulkInsertThreshold > 0) {
+			transaction.setBulkInsertThreshold(this.bulkInsertThreshold);
+		}
+	}
+
+	/**
+	 * Runs the command in a transaction configured by {@link #configureTransaction(MithraTransaction)}.
+	 */
+	public <R> R executeTransactionalCommand(TransactionalCommand<R> command) {
+		return MithraManagerProvider.getMithraManager().executeTransactionalCommand((transaction) -> {
+			this.configureTransaction(transaction);
+			return command.executeTransaction(transaction);
+		});
+	}
+
 	@Override
 	public BulkLoader createBulkLoader() {
-		throw new RuntimeException("BulkLoader is not supported");
+		if (this.bulkLoaderFactory == null) {
+			throw new RuntimeException("BulkLoader is not supported");
+		}
+		return this.bulkLoaderFactory.get();
+	}
+
+	@Nullable
+	protected ConnectionMetrics getConnectionMetrics() {
+		return this.connectionMetrics;
 	}
 
 	@Override
 	public Connection getConnection() {
+		return this.getPrimaryConnection();
+	}
+
+	/**
+	 * Borrows a connection from the primary data source. Subclasses may send {@link #getConnection()} elsewhere, so callers that write outside a Reladomo transaction should use this instead.
+	 */
+	public Connection getPrimaryConnection() {
 		try {
+			if (this.connectionMetrics != null) {
+				return this.connectionMetrics.getConnection(this.dataSource);
+			}
 			return this.dataSource.getConnection();
 		} catch (SQLException e) {
 			throw new RuntimeException(e);
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.bulkloader;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+import com.gs.fw.common.mithra.MithraTransactionalObject;
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.DateAttribute;
+import com.gs.fw.common.mithra.attribute.SingleColumnAttribute;
+import com.gs.fw.common.mithra.attribute.TimestampAttribute;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.util.MithraTimestamp;
+import org.slf4j.Logger;
+
+/**
+ * Base class for BulkLoaders that stream rows as text into a database-specific bulk load statement.
+ *
+ * <p>
+ * Rows are loaded straight into the destination table, so {@link #createsTempTable()} is false. Values are rendered the same way Reladomo binds them to a PreparedStatement, including timestamp time zone conversions.
+ */
+public abstract class AbstractLiftwizardBulkLoader implements BulkLoader {
+
+	private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern(
+		"yyyy-MM-dd HH:mm:ss.SSSSSSSSS"
+	).withZone(ZoneOffset.UTC);
+
+	private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+	private final DatabaseType databaseType;
+
+	private TimeZone databaseTimeZone;
+	private String fullyQualifiedTableName;
+	private Attribute[] attributes;
+	private Logger logger;
+
+	protected AbstractLiftwizardBulkLoader(DatabaseType databaseType) {
+		this.databaseType = Objects.requireNonNull(databaseType);
+	}
+
+	@Override
+	public void initialize(
+		TimeZone dbTimeZone,
+		String schema,
+		String tableName,
+		Attribute[] attributes,
+		Logger logger,
+		String tempTableName,
+		String columnCreationStatement,
+		Connection connection
+	) {
+		this.databaseTimeZone = Objects.requireNonNull(dbTimeZone);
+		this.fullyQualifiedTableName = this.databaseType.getFullyQualifiedTableName(schema, tableName);
+		this.attributes = Objects.requireNonNull(attributes);
+		this.logger = Objects.requireNonNull(logger);
+	}
+
+	@Override
+	public void bindObjectsAndExecute(List mithraObjects, Connection connection)
+		throws SQLException, BulkLoaderException {
+		long startTime = System.nanoTime();
+		this.execute(mithraObjects, connection);
+		if (this.logger.isDebugEnabled()) {
+			long durationMillis = (System.nanoTime() - startTime) / 1_000_000;
+			this.logger.debug(
+				"Bulk loaded {} rows into {} in {} ms.",
+				mithraObjects.size(),
+				this.fullyQualifiedTableName,
+				durationMillis
+			);
+		}
+	}
+
+	protected abstract void execute(List<?> mithraObjects, Connection connection)
+		throws SQLException, BulkLoaderException;
+
+	@Override
+	public void destroy() {}
+
+	@Override
+	public void dropTempTable(String tempTableName) {}
+
+	@Override
+	public boolean createsTempTable() {
+		return false;
+	}
+
+	protected DatabaseType getDatabaseType() {
+		return this.databaseType;
+	}
+
+	protected TimeZone getDatabaseTimeZone() {
+		return this.databaseTimeZone;
+	}
+
+	protected String getFullyQualifiedTableName() {
+		return this.fullyQualifiedTableName;
+	}
+
+	protected Attribute[] getAttributes() {
+		return this.attributes;
+	}
+
+	protected String getColumnNames() {
+		return Arrays.stream(this.attributes)
+			.map(attribute -> ((SingleColumnAttribute<?>) attribute).getColumnName())
+			.collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * @return the object to read attribute values from. Transactional objects are unwrapped to their data objects, since Reladomo passes in-transaction wrappers for dated objects.
+	 */
+	protected static Object getDataObject(Object mithraObject) {
+		if (mithraObject instanceof MithraTransactionalObject transactionalObject) {
+			return transactionalObject.zGetTxDataForRead();
+		}
+		return mithraObject;
+	}
+
+	/**
+	 * @return the value of the attribute as text the database can parse, or null if the attribute is null.
+	 */
+	protected String formatValue(Attribute attribute, Object dataObject) {
+		if (attribute.isAttributeNull(dataObject)) {
+			return null;
+		}
+
+		if (attribute instanceof TimestampAttribute timestampAttribute) {
+			return this.formatTimestamp(timestampAttribute, timestampAttribute.timestampValueOf(dataObject));
+		}
+
+		Object value = attribute.valueOf(dataObject);
+		if (attribute instanceof DateAttribute) {
+			return new java.sql.Date(((java.util.Date) value).getTime()).toString();
+		}
+		if (value instanceof byte[] bytes) {
+			return HEX_FORMAT.formatHex(bytes);
+		}
+		if (value instanceof BigDecimal bigDecimal) {
+			return bigDecimal.toPlainString();
+		}
+		return String.valueOf(value);
+	}
+
+	private String formatTimestamp(TimestampAttribute attribute, Timestamp timestamp) {
+		TimeZone conversionTimeZone = this.getConversionTimeZone(attribute, timestamp);
+		Timestamp converted = MithraTimestamp.zConvertTimeForWritingWithUtcCalendar(timestamp, conversionTimeZone);
+		return TIMESTAMP_FORMATTER.format(converted.toInstant());
+	}
+
+	// Mirrors TimestampAttribute.getConversionTimeZone(), which is not public
+	private TimeZone getConversionTimeZone(TimestampAttribute attribute, Timestamp timestamp) {
+		if (attribute.isAsOfAttributeTo() && timestamp.getTime() == attribute.getAsOfAttributeInfinity().getTime()) {
+			return MithraTimestamp.DefaultTimeZone;
+		}
+		if (attribute.requiresConversionFromUtc()) {
+			return MithraTimestamp.UtcTimeZone;
+		}
+		if (attribute.requiresConversionFromDatabaseTime()) {
+			return this.databaseTimeZone;
+		}
+		return MithraTimestamp.DefaultTimeZone;
+	}
+}
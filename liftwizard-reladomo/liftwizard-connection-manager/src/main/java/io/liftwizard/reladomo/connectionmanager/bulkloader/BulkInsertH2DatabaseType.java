@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.bulkloader;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+
+/**
+ * An {@link H2DatabaseType} that reports bulk insert support, so Reladomo hands inserts above the transaction's bulk insert threshold to {@link H2BulkLoader}.
+ */
+public class BulkInsertH2DatabaseType extends H2DatabaseType {
+
+	private static final BulkInsertH2DatabaseType INSTANCE = new BulkInsertH2DatabaseType();
+
+	protected BulkInsertH2DatabaseType() {}
+
+	public static BulkInsertH2DatabaseType getInstance() {
+		return INSTANCE;
+	}
+
+	@Override
+	public boolean hasBulkInsert() {
+		return true;
+	}
+
+	/**
+	 * Reladomo qualifies the bulk insert table name with the current schema. The default implementation returns the JDBC catalog, which is the database name rather than the schema.
+	 */
+	@Override
+	public String getCurrentSchema(Connection connection) throws SQLException {
+		return connection.getSchema();
+	}
+}
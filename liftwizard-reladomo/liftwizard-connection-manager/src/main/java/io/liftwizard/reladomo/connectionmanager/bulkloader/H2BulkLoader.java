@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.bulkloader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.SingleColumnAttribute;
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bulk loads rows into H2 by writing them to a temporary CSV file and running {@code INSERT ... DIRECT SELECT * FROM CSVREAD(...)}.
+ *
+ * <p>
+ * Null values are written as empty unquoted fields and all other values are quoted, so CSVREAD can tell null apart from the empty string.
+ *
+ * <p>
+ * CSVREAD runs on the database server, so the CSV file is only used with embedded and in-memory databases. Over {@code tcp:} and {@code ssl:} URLs, rows are streamed through batched prepared statements instead.
+ */
+public class H2BulkLoader extends AbstractLiftwizardBulkLoader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(H2BulkLoader.class);
+
+	private static final int BATCH_SIZE = 1_000;
+
+	public H2BulkLoader() {
+		super(H2DatabaseType.getInstance());
+	}
+
+	@Override
+	protected void execute(List<?> mithraObjects, Connection connection) throws SQLException {
+		if (H2BulkLoader.isEmbedded(connection)) {
+			this.executeCsvRead(mithraObjects, connection);
+		} else {
+			this.executeBatches(mithraObjects, connection);
+		}
+	}
+
+	private static boolean isEmbedded(Connection connection) throws SQLException {
+		String url = connection.getMetaData().getURL().toLowerCase(Locale.ROOT);
+		return !url.startsWith("jdbc:h2:tcp:") && !url.startsWith("jdbc:h2:ssl:");
+	}
+
+	private void executeBatches(List<?> mithraObjects, Connection connection) throws SQLException {
+		Attribute[] attributes = this.getAttributes();
+		String sql = "INSERT INTO %s (%s) VALUES (%s)".formatted(
+			this.getFullyQualifiedTableName(),
+			this.getColumnNames(),
+			String.join(", ", Collections.nCopies(attributes.length, "?"))
+		);
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			int batchCount = 0;
+			for (Object mithraObject : mithraObjects) {
+				Object dataObject = AbstractLiftwizardBulkLoader.getDataObject(mithraObject);
+				for (int i = 0; i < attributes.length; i++) {
+					((SingleColumnAttribute<?>) attributes[i]).setSqlParameters(
+						statement,
+						dataObject,
+						i + 1,
+						this.getDatabaseTimeZone(),
+						this.getDatabaseType()
+					);
+				}
+				statement.addBatch();
+				batchCount++;
+				if (batchCount == BATCH_SIZE) {
+					statement.executeBatch();
+					batchCount = 0;
+				}
+			}
+			if (batchCount > 0) {
+				statement.executeBatch();
+			}
+		}
+	}
+
+	private void executeCsvRead(List<?> mithraObjects, Connection connection) throws SQLException {
+		Path csvFile = this.writeCsvFile(mithraObjects);
+		try (Statement statement = connection.createStatement()) {
+			String sql = "INSERT INTO %s (%s) DIRECT SELECT * FROM CSVREAD('%s', NULL, 'charset=UTF-8')".formatted(
+				this.getFullyQualifiedTableName(),
+				this.getColumnNames(),
+				csvFile.toAbsolutePath().toString().replace("'", "''")
+			);
+			statement.executeUpdate(sql);
+		} finally {
+			H2BulkLoader.deleteFile(csvFile);
+		}
+	}
+
+	private Path writeCsvFile(List<?> mithraObjects) {
+		Path csvFile;
+		try {
+			csvFile = Files.createTempFile("liftwizard-bulk-load-", ".csv");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		try (BufferedWriter writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8)) {
+			this.writeHeader(writer);
+			for (Object mithraObject : mithraObjects) {
+				this.writeRow(writer, mithraObject);
+			}
+			return csvFile;
+		} catch (IOException e) {
+			H2BulkLoader.deleteFile(csvFile);
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeHeader(BufferedWriter writer) throws IOException {
+		Attribute[] attributes = this.getAttributes();
+		for (int i = 0; i < attributes.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			H2BulkLoader.writeQuoted(writer, ((SingleColumnAttribute<?>) attributes[i]).getColumnName());
+		}
+		writer.newLine();
+	}
+
+	private void writeRow(BufferedWriter writer, Object mithraObject) throws IOException {
+		Object dataObject = AbstractLiftwizardBulkLoader.getDataObject(mithraObject);
+		Attribute[] attributes = this.getAttributes();
+		for (int i = 0; i < attributes.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			String value = this.formatValue(attributes[i], dataObject);
+			if (value != null) {
+				H2BulkLoader.writeQuoted(writer, value);
+			}
+		}
+		writer.newLine();
+	}
+
+	private static void writeQuoted(BufferedWriter writer, String value) throws IOException {
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+	// Only logs, so a failed cleanup never hides the outcome of the insert
+	private static void deleteFile(Path csvFile) {
+		try {
+			Files.deleteIfExists(csvFile);
+		} catch (IOException e) {
+			LOGGER.warn("Could not delete bulk load file {}", csvFile, e);
+		}
+	}
+}
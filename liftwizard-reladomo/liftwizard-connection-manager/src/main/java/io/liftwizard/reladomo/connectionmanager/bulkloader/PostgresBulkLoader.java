@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.bulkloader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import com.gs.fw.common.mithra.attribute.Attribute;
+import com.gs.fw.common.mithra.attribute.ByteArrayAttribute;
+import com.gs.fw.common.mithra.databasetype.PostgresDatabaseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Bulk loads rows into PostgreSQL by streaming them through {@code COPY ... FROM STDIN} in the text format.
+ */
+public class PostgresBulkLoader extends AbstractLiftwizardBulkLoader {
+
+	public PostgresBulkLoader() {
+		super(PostgresDatabaseType.getInstance());
+	}
+
+	@Override
+	protected void execute(List<?> mithraObjects, Connection connection) throws SQLException {
+		String sql = "COPY %s (%s) FROM STDIN".formatted(this.getFullyQualifiedTableName(), this.getColumnNames());
+		PGConnection pgConnection = connection.unwrap(PGConnection.class);
+		try (
+			var writer = new BufferedWriter(
+				new OutputStreamWriter(new PGCopyOutputStream(pgConnection, sql), StandardCharsets.UTF_8)
+			)
+		) {
+			for (Object mithraObject : mithraObjects) {
+				this.writeRow(writer, mithraObject);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writeRow(BufferedWriter writer, Object mithraObject) throws IOException {
+		Object dataObject = AbstractLiftwizardBulkLoader.getDataObject(mithraObject);
+		Attribute[] attributes = this.getAttributes();
+		for (int i = 0; i < attributes.length; i++) {
+			if (i > 0) {
+				writer.write('\t');
+			}
+			writer.write(this.formatCopyValue(attributes[i], dataObject));
+		}
+		writer.write('\n');
+	}
+
+	private String formatCopyValue(Attribute attribute, Object dataObject) {
+		String value = this.formatValue(attribute, dataObject);
+		if (value == null) {
+			return "\\N";
+		}
+		if (attribute instanceof ByteArrayAttribute) {
+			return "\\\\x" + value;
+		}
+		return PostgresBulkLoader.escape(value);
+	}
+
+	private static String escape(String value) {
+		var builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char character = value.charAt(i);
+			switch (character) {
+				case '\\' -> builder.append("\\\\");
+				case '\t' -> builder.append("\\t");
+				case '\n' -> builder.append("\\n");
+				case '\r' -> builder.append("\\r");
+				default -> builder.append(character);
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Wraps a borrowed connection so that the first close reports the hold time to {@link ConnectionMetrics} and runs an optional release callback. All other calls, including {@link Connection#unwrap(Class)}, go straight to the pooled connection.
+ */
+public final class TrackedConnection implements InvocationHandler {
+
+	@Nonnull
+	private final Connection delegate;
+
+	@Nullable
+	private final ConnectionMetrics connectionMetrics;
+
+	private final long borrowedNanos;
+
+	@Nullable
+	private final Runnable onRelease;
+
+	private final Connection proxy;
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private volatile ScheduledFuture<?> leakCheck;
+	private volatile boolean leakReported;
+
+	TrackedConnection(
+		@Nonnull Connection delegate,
+		@Nullable ConnectionMetrics connectionMetrics,
+		long borrowedNanos,
+		@Nullable Runnable onRelease
+	) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.connectionMetrics = connectionMetrics;
+		this.borrowedNanos = borrowedNanos;
+		this.onRelease = onRelease;
+		this.proxy = (Connection) Proxy.newProxyInstance(
+			Connection.class.getClassLoader(),
+			new Class<?>[] {Connection.class},
+			this
+		);
+	}
+
+	/**
+	 * Wraps the connection so that {@code onRelease} runs on its first close, without recording metrics.
+	 */
+	@Nonnull
+	public static Connection wrap(@Nonnull Connection connection, @Nonnull Runnable onRelease) {
+		return new TrackedConnection(connection, null, 0, Objects.requireNonNull(onRelease)).getProxy();
+	}
+
+	@Nonnull
+	Connection getProxy() {
+		return this.proxy;
+	}
+
+	void scheduleLeakCheck(
+		@Nonnull ScheduledExecutorService executor,
+		@Nonnull Duration threshold,
+		@Nonnull String threadName
+	) {
+		var borrowStackTrace = new Throwable("Connection borrowed by thread " + threadName);
+		this.leakCheck = executor.schedule(
+			() -> this.reportLeak(borrowStackTrace),
+			threshold.toNanos(),
+			TimeUnit.NANOSECONDS
+		);
+	}
+
+	private void reportLeak(Throwable borrowStackTrace) {
+		if (this.closed.get()) {
+			return;
+		}
+		this.leakReported = true;
+		this.connectionMetrics.onLeak(borrowStackTrace);
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		switch (method.getName()) {
+			case "close" -> this.release();
+			case "equals" -> {
+				return proxy == args[0];
+			}
+			case "hashCode" -> {
+				return System.identityHashCode(proxy);
+			}
+			default -> {
+				// Fall through to the delegate
+			}
+		}
+
+		try {
+			return method.invoke(this.delegate, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	// Reladomo may close a connection more than once, so only the first close counts
+	private void release() {
+		if (!this.closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		ScheduledFuture<?> leakCheck = this.leakCheck;
+		if (leakCheck != null) {
+			leakCheck.cancel(false);
+		}
+		if (this.onRelease != null) {
+			this.onRelease.run();
+		}
+		if (this.connectionMetrics == null) {
+			return;
+		}
+		this.connectionMetrics.onRelease(this.borrowedNanos);
+		if (this.leakReported) {
+			this.connectionMetrics.onLeakReturned(
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.borrowedNanos)
+			);
+		}
+	}
+}
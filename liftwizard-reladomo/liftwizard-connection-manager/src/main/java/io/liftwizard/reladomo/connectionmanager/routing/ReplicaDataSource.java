@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+
+import io.liftwizard.reladomo.connectionmanager.metrics.ConnectionMetrics;
+import io.liftwizard.reladomo.connectionmanager.metrics.TrackedConnection;
+
+/**
+ * A replica DataSource plus the number of its connections that are currently borrowed, for {@link ReplicaSelectionStrategy#LEAST_ACTIVE}.
+ */
+final class ReplicaDataSource {
+
+	@Nonnull
+	private final DataSource dataSource;
+
+	private final AtomicInteger active = new AtomicInteger();
+
+	ReplicaDataSource(@Nonnull DataSource dataSource) {
+		this.dataSource = Objects.requireNonNull(dataSource);
+	}
+
+	int getActive() {
+		return this.active.get();
+	}
+
+	/**
+	 * @param connectionMetrics the connection manager's metrics, or null to only count active connections.
+	 */
+	@Nonnull
+	Connection getConnection(@Nullable ConnectionMetrics connectionMetrics) throws SQLException {
+		Connection connection = connectionMetrics == null
+			? TrackedConnection.wrap(this.dataSource.getConnection(), this.active::decrementAndGet)
+			: connectionMetrics.getConnection(this.dataSource, this.active::decrementAndGet);
+		this.active.incrementAndGet();
+		return connection;
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.routing;
+
+import java.lang.StackWalker.StackFrame;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.sql.DataSource;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.database.MithraAbstractDatabaseObject;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.LiftwizardConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.metrics.ConnectionMetrics;
+
+/**
+ * A connection manager that sends reads made outside a Reladomo transaction to replica data sources, and everything else to the primary.
+ *
+ * <p>
+ * Reladomo runs every write inside a transaction, so writes and in-transaction reads always use the primary. Replicas may lag behind the primary, so a read outside a transaction may not see a write that was just committed. Reladomo's cache hides most of that for cached classes, but code that must read its own writes should read inside a transaction.
+ *
+ * <p>
+ * Large IN clauses and deep fetches outside a transaction make Reladomo create and fill a temporary table, then bind that connection to the thread for the query that joins against it. Replicas are often read-only and cannot create temporary tables, so those connections come from the primary, and the whole query runs there.
+ *
+ * <p>
+ * Connection metrics, when configured, cover connections from the primary and the replicas together. Code that writes outside a transaction must use {@link #getPrimaryConnection()}.
+ */
+public class ReplicaRoutingConnectionManager extends LiftwizardConnectionManager {
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	// Frames between getConnection() and Reladomo's request for a temporary table connection, with room for subclasses
+	private static final int TEMP_TABLE_FRAME_LIMIT = 16;
+
+	@Nonnull
+	private final List<ReplicaDataSource> replicaDataSources;
+
+	@Nonnull
+	private final ReplicaSelectionStrategy replicaSelectionStrategy;
+
+	private final AtomicInteger nextReplicaIndex = new AtomicInteger();
+
+	/**
+	 * @param replicaDataSources the replicas for reads outside transactions. Must not be empty.
+	 */
+	public ReplicaRoutingConnectionManager(
+		String connectionManagerName,
+		String dataSourceName,
+		DataSource dataSource,
+		DatabaseType databaseType,
+		TimeZone databaseTimeZone,
+		String schemaName,
+		@Nullable Supplier<? extends BulkLoader> bulkLoaderFactory,
+		int bulkInsertThreshold,
+		@Nullable ConnectionMetrics connectionMetrics,
+		@Nonnull List<? extends DataSource> replicaDataSources,
+		@Nonnull ReplicaSelectionStrategy replicaSelectionStrategy
+	) {
+		super(
+			connectionManagerName,
+			dataSourceName,
+			dataSource,
+			databaseType,
+			databaseTimeZone,
+			schemaName,
+			bulkLoaderFactory,
+			bulkInsertThreshold,
+			connectionMetrics
+		);
+		if (replicaDataSources.isEmpty()) {
+			throw new IllegalArgumentException(
+				"Connection manager '%s' needs at least one replica data source".formatted(connectionManagerName)
+			);
+		}
+		this.replicaDataSources = replicaDataSources.stream().map(ReplicaDataSource::new).toList();
+		this.replicaSelectionStrategy = Objects.requireNonNull(replicaSelectionStrategy);
+	}
+
+	@Override
+	public Connection getConnection() {
+		if (MithraManagerProvider.getMithraManager().isInTransaction() || isTempTableWrite()) {
+			return this.getPrimaryConnection();
+		}
+
+		try {
+			return this.selectReplica().getConnection(this.getConnectionMetrics());
+		} catch (SQLException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	// Reladomo has no separate connection request for temporary tables, so this looks for the Reladomo method that makes one
+	private static boolean isTempTableWrite() {
+		return STACK_WALKER.walk((frames) ->
+			frames.limit(TEMP_TABLE_FRAME_LIMIT).anyMatch(ReplicaRoutingConnectionManager::isTempTableWriteFrame)
+		);
+	}
+
+	private static boolean isTempTableWriteFrame(StackFrame frame) {
+		return (
+			frame.getMethodName().equals("getConnectionForTempWriteGenericSource")
+			&& frame.getClassName().equals(MithraAbstractDatabaseObject.class.getName())
+		);
+	}
+
+	private ReplicaDataSource selectReplica() {
+		return switch (this.replicaSelectionStrategy) {
+			case ROUND_ROBIN -> this.replicaDataSources.get(
+				Math.floorMod(this.nextReplicaIndex.getAndIncrement(), this.replicaDataSources.size())
+			);
+			case LEAST_ACTIVE -> this.selectLeastActiveReplica();
+		};
+	}
+
+	private ReplicaDataSource selectLeastActiveReplica() {
+		ReplicaDataSource result = this.replicaDataSources.getFirst();
+		for (ReplicaDataSource replicaDataSource : this.replicaDataSources) {
+			if (replicaDataSource.getActive() < result.getActive()) {
+				result = replicaDataSource;
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.bulkloader;
+
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.liftwizard.reladomo.connectionmanager.LiftwizardConnectionManager;
+import io.liftwizard.reladomo.test.domain.H2TestConnectionManager;
+
+public final class BulkInsertTestConnectionManager extends LiftwizardConnectionManager {
+
+	public static final int BULK_INSERT_THRESHOLD = 10;
+
+	private static final AtomicInteger BULK_LOADERS_CREATED = new AtomicInteger();
+
+	private static final BulkInsertTestConnectionManager INSTANCE = new BulkInsertTestConnectionManager();
+
+	private BulkInsertTestConnectionManager() {
+		super(
+			"bulk-insert-test",
+			"bulk-insert-test",
+			H2TestConnectionManager.createDataSource("bulk-insert-test", "sql/bulk-insert-test.ddl"),
+			BulkInsertH2DatabaseType.getInstance(),
+			TimeZone.getTimeZone("UTC"),
+			"PUBLIC",
+			() -> {
+				BULK_LOADERS_CREATED.incrementAndGet();
+				return new H2BulkLoader();
+			},
+			BULK_INSERT_THRESHOLD
+		);
+	}
+
+	@SuppressWarnings("unused")
+	public static BulkInsertTestConnectionManager getInstance() {
+		return INSTANCE;
+	}
+
+	public static int getBulkLoadersCreated() {
+		return BULK_LOADERS_CREATED.get();
+	}
+}
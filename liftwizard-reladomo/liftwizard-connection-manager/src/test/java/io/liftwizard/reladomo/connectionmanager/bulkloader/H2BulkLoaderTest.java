@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.bulkloader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+
+import com.example.bulk.BulkItem;
+import com.example.bulk.BulkItemFinder;
+import com.example.bulk.BulkItemList;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.bulkloader.BulkLoaderException;
+import com.gs.fw.common.mithra.mithraruntime.MithraRuntimeType;
+import com.gs.fw.common.mithra.util.MithraConfigurationManager;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class H2BulkLoaderTest {
+
+	private static final String RUNTIME_CONFIGURATION_PATH =
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml";
+
+	@BeforeEach
+	void setUp() throws IOException {
+		try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(RUNTIME_CONFIGURATION_PATH)) {
+			MithraConfigurationManager mithraConfigurationManager =
+				MithraManagerProvider.getMithraManager().getConfigManager();
+			MithraRuntimeType mithraRuntimeType = mithraConfigurationManager.parseConfiguration(inputStream);
+			mithraConfigurationManager.initializeRuntime(mithraRuntimeType);
+			mithraConfigurationManager.fullyInitialize();
+		}
+		BulkInsertTestConnectionManager.getInstance().executeTransactionalCommand((transaction) -> {
+			BulkItemFinder.findMany(BulkItemFinder.all()).deleteAll();
+			return null;
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+	}
+
+	@Test
+	void insertsAboveTheThresholdUseTheBulkLoader() {
+		int bulkLoadersBefore = BulkInsertTestConnectionManager.getBulkLoadersCreated();
+		int rowCount = BulkInsertTestConnectionManager.BULK_INSERT_THRESHOLD * 5;
+
+		BulkInsertTestConnectionManager.getInstance().executeTransactionalCommand((transaction) -> {
+			newItems(rowCount).insertAll();
+			return null;
+		});
+
+		assertThat(BulkInsertTestConnectionManager.getBulkLoadersCreated()).isGreaterThan(bulkLoadersBefore);
+		assertRowsLoaded(rowCount);
+	}
+
+	@Test
+	void insertsBelowTheThresholdDoNotUseTheBulkLoader() {
+		int bulkLoadersBefore = BulkInsertTestConnectionManager.getBulkLoadersCreated();
+		int rowCount = BulkInsertTestConnectionManager.BULK_INSERT_THRESHOLD - 1;
+
+		BulkInsertTestConnectionManager.getInstance().executeTransactionalCommand((transaction) -> {
+			newItems(rowCount).insertAll();
+			return null;
+		});
+
+		assertThat(BulkInsertTestConnectionManager.getBulkLoadersCreated()).isEqualTo(bulkLoadersBefore);
+		assertRowsLoaded(rowCount);
+	}
+
+	@Test
+	void unconfiguredTransactionsDoNotUseTheBulkLoader() {
+		int bulkLoadersBefore = BulkInsertTestConnectionManager.getBulkLoadersCreated();
+		int rowCount = BulkInsertTestConnectionManager.BULK_INSERT_THRESHOLD * 5;
+
+		MithraManagerProvider.getMithraManager().executeTransactionalCommand((transaction) -> {
+			newItems(rowCount).insertAll();
+			return null;
+		});
+
+		assertThat(BulkInsertTestConnectionManager.getBulkLoadersCreated()).isEqualTo(bulkLoadersBefore);
+		assertRowsLoaded(rowCount);
+	}
+
+	@Test
+	void serverConnectionsStreamRowsInsteadOfUsingCsvRead() throws SQLException, BulkLoaderException {
+		Server server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+		try (
+			Connection connection = DriverManager.getConnection(
+				"jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:bulk-insert-remote",
+				"sa",
+				""
+			);
+			Statement statement = connection.createStatement()
+		) {
+			statement.execute(
+				"CREATE TABLE BULK_ITEM (id BIGINT NOT NULL PRIMARY KEY, description VARCHAR(256), quantity INT)"
+			);
+
+			var bulkLoader = new H2BulkLoader();
+			bulkLoader.initialize(
+				TimeZone.getTimeZone("UTC"),
+				"PUBLIC",
+				"BULK_ITEM",
+				BulkItemFinder.getFinderInstance().getPersistentAttributes(),
+				LoggerFactory.getLogger(H2BulkLoaderTest.class),
+				null,
+				null,
+				connection
+			);
+			bulkLoader.bindObjectsAndExecute(newItems(3), connection);
+
+			var resultSet = statement.executeQuery("SELECT id, description, quantity FROM BULK_ITEM ORDER BY id");
+			assertThat(resultSet.next()).isTrue();
+			assertThat(resultSet.getString("description")).isEqualTo("item \"0\", with quotes");
+			assertThat(resultSet.getObject("quantity")).isNull();
+			assertThat(resultSet.next()).isTrue();
+			assertThat(resultSet.getInt("quantity")).isEqualTo(1);
+			assertThat(resultSet.next()).isTrue();
+			assertThat(resultSet.next()).isFalse();
+		} finally {
+			server.stop();
+		}
+	}
+
+	private static BulkItemList newItems(int count) {
+		var items = new BulkItemList();
+		IntStream.range(0, count).forEach((i) -> {
+			var item = new BulkItem();
+			item.setId(i);
+			item.setDescription("item \"" + i + "\", with quotes");
+			if (i % 3 == 0) {
+				item.setQuantityNull();
+			} else {
+				item.setQuantity(i);
+			}
+			items.add(item);
+		});
+		return items;
+	}
+
+	private static void assertRowsLoaded(int rowCount) {
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		BulkItemList items = BulkItemFinder.findMany(BulkItemFinder.all());
+		items.setOrderBy(BulkItemFinder.id().ascendingOrderBy());
+
+		assertThat(items).hasSize(rowCount);
+		List<String> descriptions = items.asEcList().collect(BulkItem::getDescription);
+		assertThat(descriptions).startsWith("item \"0\", with quotes", "item \"1\", with quotes");
+		assertThat(items.get(0).isQuantityNull()).isTrue();
+		assertThat(items.get(1).getQuantity()).isEqualTo(1);
+	}
+}
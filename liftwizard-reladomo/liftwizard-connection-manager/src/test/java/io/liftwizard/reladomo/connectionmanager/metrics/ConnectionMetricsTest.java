@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.metrics;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionMetricsTest {
+
+	private static final String PREFIX = "liftwizard.reladomo.connectionManager.test.";
+	private static final long DELAY_MILLIS = 50;
+	private static final Duration LEAK_THRESHOLD = Duration.ofMillis(100);
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+	private final AtomicInteger connectionsClosed = new AtomicInteger();
+	private final Connection pooledConnection = stub(Connection.class, (methodName) -> {
+		if (methodName.equals("close")) {
+			this.connectionsClosed.incrementAndGet();
+		}
+		return null;
+	});
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(ConnectionMetrics.class);
+	private final ListAppender<ILoggingEvent> logAppender = new ListAppender<>();
+
+	@BeforeEach
+	void setUp() {
+		this.logAppender.start();
+		this.logger.addAppender(this.logAppender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.logger.detachAppender(this.logAppender);
+		this.logAppender.stop();
+	}
+
+	@Test
+	void borrowAndHoldTiming() throws Exception {
+		var connectionMetrics = new ConnectionMetrics(this.metricRegistry, "test", null);
+		DataSource slowDataSource = stub(DataSource.class, (methodName) -> {
+			Thread.sleep(DELAY_MILLIS);
+			return this.pooledConnection;
+		});
+
+		Connection connection = connectionMetrics.getConnection(slowDataSource);
+		assertThat(this.metricRegistry.getGauges().get(PREFIX + "inUse").getValue()).isEqualTo(1);
+		assertThat(this.metricRegistry.getGauges().get(PREFIX + "pending").getValue()).isEqualTo(0);
+
+		Thread.sleep(DELAY_MILLIS);
+		connection.close();
+
+		long delayNanos = TimeUnit.MILLISECONDS.toNanos(DELAY_MILLIS);
+		Timer borrowTimer = this.metricRegistry.timer(PREFIX + "borrow");
+		Timer holdTimer = this.metricRegistry.timer(PREFIX + "hold");
+		assertThat(borrowTimer.getCount()).isEqualTo(1);
+		assertThat(borrowTimer.getSnapshot().getMax()).isGreaterThanOrEqualTo(delayNanos);
+		assertThat(holdTimer.getCount()).isEqualTo(1);
+		assertThat(holdTimer.getSnapshot().getMax()).isGreaterThanOrEqualTo(delayNanos);
+		assertThat(this.metricRegistry.getGauges().get(PREFIX + "inUse").getValue()).isEqualTo(0);
+		assertThat(this.connectionsClosed).hasValue(1);
+	}
+
+	@Test
+	void doubleCloseCountedOnce() throws Exception {
+		var connectionMetrics = new ConnectionMetrics(this.metricRegistry, "test", null);
+
+		Connection connection = connectionMetrics.getConnection(this.dataSource());
+		connection.close();
+		connection.close();
+
+		assertThat(this.metricRegistry.timer(PREFIX + "hold").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.getGauges().get(PREFIX + "inUse").getValue()).isEqualTo(0);
+		// The pool sees both calls; only the metrics ignore the second one
+		assertThat(this.connectionsClosed).hasValue(2);
+	}
+
+	@Test
+	void borrowFailure() {
+		var connectionMetrics = new ConnectionMetrics(this.metricRegistry, "test", null);
+		DataSource failingDataSource = stub(DataSource.class, (methodName) -> {
+			throw new SQLException("Pool exhausted");
+		});
+
+		assertThatThrownBy(() -> connectionMetrics.getConnection(failingDataSource))
+			.isInstanceOf(SQLException.class)
+			.hasMessage("Pool exhausted");
+
+		assertThat(this.metricRegistry.counter(PREFIX + "borrowFailures").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.timer(PREFIX + "borrow").getCount()).isEqualTo(0);
+		assertThat(this.metricRegistry.getGauges().get(PREFIX + "pending").getValue()).isEqualTo(0);
+		assertThat(this.metricRegistry.getGauges().get(PREFIX + "inUse").getValue()).isEqualTo(0);
+	}
+
+	@Test
+	void leakDetectedAndReturnedLate() throws Exception {
+		var connectionMetrics = new ConnectionMetrics(this.metricRegistry, "test", LEAK_THRESHOLD);
+
+		Connection connection = connectionMetrics.getConnection(this.dataSource());
+		this.awaitLeaks(1);
+		connection.close();
+
+		assertThat(this.metricRegistry.counter(PREFIX + "leaks").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.timer(PREFIX + "hold").getCount()).isEqualTo(1);
+
+		List<ILoggingEvent> events = this.logAppender.list;
+		assertThat(events).hasSize(2);
+		assertThat(events.get(0).getLevel()).isEqualTo(Level.WARN);
+		assertThat(events.get(0).getFormattedMessage()).isEqualTo(
+			"Connection from connection manager 'test' has been held for more than PT0.1S. It may have leaked."
+		);
+		assertThat(events.get(0).getThrowableProxy().getMessage()).isEqualTo(
+			"Connection borrowed by thread " + Thread.currentThread().getName()
+		);
+		assertThat(events.get(1).getLevel()).isEqualTo(Level.INFO);
+		assertThat(events.get(1).getFormattedMessage()).startsWith(
+			"Connection from connection manager 'test' previously reported as a possible leak was returned after "
+		);
+	}
+
+	@Test
+	void connectionReturnedBeforeThresholdIsNotALeak() throws Exception {
+		var connectionMetrics = new ConnectionMetrics(this.metricRegistry, "test", LEAK_THRESHOLD);
+
+		connectionMetrics.getConnection(this.dataSource()).close();
+		Thread.sleep(LEAK_THRESHOLD.toMillis() * 2);
+
+		assertThat(this.metricRegistry.counter(PREFIX + "leaks").getCount()).isEqualTo(0);
+		assertThat(this.logAppender.list).isEmpty();
+	}
+
+	@Test
+	void duplicateConnectionManagerNameIsRejected() {
+		new ConnectionMetrics(this.metricRegistry, "test", null);
+
+		assertThatThrownBy(() -> new ConnectionMetrics(this.metricRegistry, "test", null))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining(PREFIX + "inUse");
+	}
+
+	private DataSource dataSource() {
+		return stub(DataSource.class, (methodName) -> this.pooledConnection);
+	}
+
+	private void awaitLeaks(long expectedLeaks) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (this.metricRegistry.counter(PREFIX + "leaks").getCount() < expectedLeaks) {
+			assertThat(System.nanoTime()).as("Timed out waiting for leak detection").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Answer {
+		Object answer(String methodName) throws Exception;
+	}
+
+	private static <T> T stub(Class<T> type, Answer answer) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+			Object result = answer.answer(method.getName());
+			if (result != null || !method.getReturnType().isPrimitive()) {
+				return result;
+			}
+			return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+		});
+		return type.cast(proxy);
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.TimeZone;
+
+import javax.sql.DataSource;
+
+import com.codahale.metrics.MetricRegistry;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import io.liftwizard.reladomo.connectionmanager.metrics.ConnectionMetrics;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingConnectionManagerTest {
+
+	private static final DataSource PRIMARY = createDataSource("primary");
+	private static final DataSource REPLICA_1 = createDataSource("replica1");
+	private static final DataSource REPLICA_2 = createDataSource("replica2");
+
+	@Test
+	void readsOutsideTransactionGoToReplicas() throws SQLException {
+		var connectionManager = newConnectionManager(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+		assertThat(readRole(connectionManager)).isEqualTo("replica1");
+		assertThat(readRole(connectionManager)).isEqualTo("replica2");
+		assertThat(readRole(connectionManager)).isEqualTo("replica1");
+	}
+
+	@Test
+	void readsInsideTransactionGoToPrimary() {
+		var connectionManager = newConnectionManager(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+		String role = MithraManagerProvider.getMithraManager().executeTransactionalCommand((tx) ->
+			readRole(connectionManager)
+		);
+
+		assertThat(role).isEqualTo("primary");
+	}
+
+	@Test
+	void leastActive() throws SQLException {
+		var connectionManager = newConnectionManager(ReplicaSelectionStrategy.LEAST_ACTIVE);
+
+		try (Connection held = connectionManager.getConnection()) {
+			assertThat(readRole(held)).isEqualTo("replica1");
+			assertThat(readRole(connectionManager)).isEqualTo("replica2");
+			assertThat(readRole(connectionManager)).isEqualTo("replica2");
+		}
+		assertThat(readRole(connectionManager)).isEqualTo("replica1");
+	}
+
+	@Test
+	void primaryConnectionOutsideTransaction() throws SQLException {
+		var connectionManager = newConnectionManager(ReplicaSelectionStrategy.ROUND_ROBIN);
+
+		try (Connection connection = connectionManager.getPrimaryConnection()) {
+			assertThat(readRole(connection)).isEqualTo("primary");
+		}
+		assertThat(readRole(connectionManager)).isEqualTo("replica1");
+	}
+
+	@Test
+	void replicaConnectionsAreMetered() throws SQLException {
+		var metricRegistry = new MetricRegistry();
+		var connectionMetrics = new ConnectionMetrics(metricRegistry, "routing", null);
+		var connectionManager = newConnectionManager(ReplicaSelectionStrategy.LEAST_ACTIVE, connectionMetrics);
+		String prefix = "liftwizard.reladomo.connectionManager.routing.";
+
+		try (Connection held = connectionManager.getConnection()) {
+			assertThat(readRole(held)).isEqualTo("replica1");
+			assertThat(metricRegistry.getGauges().get(prefix + "inUse").getValue()).isEqualTo(1);
+			assertThat(readRole(connectionManager)).isEqualTo("replica2");
+		}
+		assertThat(readRole(connectionManager)).isEqualTo("replica1");
+
+		assertThat(metricRegistry.timer(prefix + "borrow").getCount()).isEqualTo(3);
+		assertThat(metricRegistry.timer(prefix + "hold").getCount()).isEqualTo(3);
+		assertThat(metricRegistry.getGauges().get(prefix + "inUse").getValue()).isEqualTo(0);
+	}
+
+	private static ReplicaRoutingConnectionManager newConnectionManager(ReplicaSelectionStrategy strategy) {
+		return newConnectionManager(strategy, null);
+	}
+
+	private static ReplicaRoutingConnectionManager newConnectionManager(
+		ReplicaSelectionStrategy strategy,
+		ConnectionMetrics connectionMetrics
+	) {
+		return new ReplicaRoutingConnectionManager(
+			"routing",
+			"primary",
+			PRIMARY,
+			H2DatabaseType.getInstance(),
+			TimeZone.getTimeZone("UTC"),
+			"PUBLIC",
+			null,
+			0,
+			connectionMetrics,
+			List.of(REPLICA_1, REPLICA_2),
+			strategy
+		);
+	}
+
+	private static String readRole(ReplicaRoutingConnectionManager connectionManager) throws SQLException {
+		try (Connection connection = connectionManager.getConnection()) {
+			return readRole(connection);
+		}
+	}
+
+	private static String readRole(Connection connection) throws SQLException {
+		try (
+			Statement statement = connection.createStatement();
+			ResultSet resultSet = statement.executeQuery("SELECT role FROM DATABASE_ROLE")
+		) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	private static DataSource createDataSource(String role) {
+		var dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + role + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		dataSource.setPassword("");
+
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE DATABASE_ROLE (role VARCHAR(32) NOT NULL)");
+			statement.execute("INSERT INTO DATABASE_ROLE VALUES ('" + role + "')");
+		} catch (SQLException e) {
+			throw new RuntimeException(e);
+		}
+		return dataSource;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.routing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import javax.sql.DataSource;
+
+import com.example.bulk.BulkItem;
+import com.example.bulk.BulkItemFinder;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.mithraruntime.MithraRuntimeType;
+import com.gs.fw.common.mithra.util.MithraConfigurationManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs Reladomo queries against a primary and a replica that hold the same ids with different descriptions, so each result shows where it was read.
+ */
+class ReplicaRoutingTempTableTest {
+
+	private static final String RUNTIME_CONFIGURATION_PATH =
+		"reladomo-runtime-configuration/RoutingReladomoRuntimeConfiguration.xml";
+
+	// Large enough that Reladomo puts the IN clause in a temporary table
+	private static final int LARGE_IN_CLAUSE_SIZE = 5_000;
+
+	@BeforeEach
+	void setUp() throws IOException, SQLException {
+		try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(RUNTIME_CONFIGURATION_PATH)) {
+			MithraConfigurationManager mithraConfigurationManager =
+				MithraManagerProvider.getMithraManager().getConfigManager();
+			MithraRuntimeType mithraRuntimeType = mithraConfigurationManager.parseConfiguration(inputStream);
+			mithraConfigurationManager.initializeRuntime(mithraRuntimeType);
+			mithraConfigurationManager.fullyInitialize();
+		}
+		insertItems(ReplicaRoutingTestConnectionManager.PRIMARY, "primary");
+		insertItems(ReplicaRoutingTestConnectionManager.REPLICA, "replica");
+	}
+
+	@AfterEach
+	void tearDown() {
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+	}
+
+	@Test
+	void smallInClauseOutsideTransactionReadsTheReplica() {
+		assertThat(findDescriptions(3)).containsOnly("replica").hasSize(3);
+	}
+
+	@Test
+	void largeInClauseOutsideTransactionRunsOnThePrimary() {
+		assertThat(findDescriptions(LARGE_IN_CLAUSE_SIZE)).containsOnly("primary").hasSize(LARGE_IN_CLAUSE_SIZE);
+		assertThat(findDescriptions(1)).containsExactly("replica");
+	}
+
+	// Finds ids 1 through count with an IN clause
+	private static List<String> findDescriptions(int count) {
+		List<BulkItem> keys = LongStream.rangeClosed(1, count)
+			.mapToObj((id) -> {
+				var key = new BulkItem();
+				key.setId(id);
+				return key;
+			})
+			.toList();
+		return BulkItemFinder.findMany(BulkItemFinder.id().in(keys, BulkItemFinder.id()))
+			.stream()
+			.map(BulkItem::getDescription)
+			.toList();
+	}
+
+	private static void insertItems(DataSource dataSource, String description) throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("DELETE FROM BULK_ITEM");
+			}
+			try (
+				PreparedStatement statement = connection.prepareStatement(
+					"INSERT INTO BULK_ITEM (id, description, quantity) VALUES (?, ?, 0)"
+				)
+			) {
+				for (long id = 1; id <= LARGE_IN_CLAUSE_SIZE; id++) {
+					statement.setLong(1, id);
+					statement.setString(2, description);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.connectionmanager.routing;
+
+import java.util.List;
+import java.util.TimeZone;
+
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import io.liftwizard.reladomo.test.domain.H2TestConnectionManager;
+import org.h2.jdbcx.JdbcDataSource;
+
+public final class ReplicaRoutingTestConnectionManager extends ReplicaRoutingConnectionManager {
+
+	public static final JdbcDataSource PRIMARY = H2TestConnectionManager.createDataSource(
+		"routing-primary",
+		"sql/bulk-insert-test.ddl"
+	);
+	public static final JdbcDataSource REPLICA = H2TestConnectionManager.createDataSource(
+		"routing-replica",
+		"sql/bulk-insert-test.ddl"
+	);
+
+	private static final ReplicaRoutingTestConnectionManager INSTANCE = new ReplicaRoutingTestConnectionManager();
+
+	private ReplicaRoutingTestConnectionManager() {
+		super(
+			"routing-test",
+			"routing-primary",
+			PRIMARY,
+			H2DatabaseType.getInstance(),
+			TimeZone.getTimeZone("UTC"),
+			"PUBLIC",
+			null,
+			0,
+			null,
+			List.of(REPLICA),
+			ReplicaSelectionStrategy.ROUND_ROBIN
+		);
+	}
+
+	@SuppressWarnings("unused")
+	public static ReplicaRoutingTestConnectionManager getInstance() {
+		return INSTANCE;
+	}
+}
@@ -16,16 +16,252 @@
 
 package io.liftwizard.dropwizard.healthcheck.reladomo;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+
 import com.codahale.metrics.health.HealthCheck;
+import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
+import io.liftwizard.reladomo.connection.manager.holder.ConnectionManagerHolder;
+import io.liftwizard.reladomo.connectionmanager.LiftwizardConnectionManager;
 import io.liftwizard.reladomo.simseq.ObjectSequenceFinder;
 import io.liftwizard.reladomo.simseq.ObjectSequenceList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.tuple.Pair;
 
+/**
+ * Probes the primary connection of each connection manager in {@link ConnectionManagerHolder} with {@link Connection#isValid(int)}, and reads at most one row of the simulated sequence table, bypassing the cache.
+ *
+ * <p>
+ * The result is cached for {@code cacheTtl}, so frequent polling by a load balancer does not turn into database load. Each probe reports its latency in the result details, and a probe that takes longer than {@code timeout} is unhealthy.
+ *
+ * <p>
+ * The probes run on an {@link Executor}, and {@link #check()} waits at most {@code timeout} for them, so a hung database can't block the thread that polls health checks. Concurrent checks share one run of the probes. Its result is cached when it finishes, even after the checks that started it have timed out.
+ */
 public class ReladomoHealthCheck extends HealthCheck {
 
+	@Nonnull
+	private final Clock clock;
+
+	private final boolean connectionProbes;
+	private final boolean finderProbe;
+
+	@Nonnull
+	private final Duration timeout;
+
+	@Nonnull
+	private final Duration cacheTtl;
+
+	@Nonnull
+	private final Executor executor;
+
+	private final AtomicReference<CachedResult> cachedResult = new AtomicReference<>();
+	private final AtomicReference<CompletableFuture<Result>> runningProbes = new AtomicReference<>();
+
+	public ReladomoHealthCheck() {
+		this(true, true, Duration.ofSeconds(5), Duration.ofSeconds(10));
+	}
+
+	/**
+	 * Creates a health check that runs the enabled probes at most once per {@code cacheTtl}.
+	 *
+	 * @param connectionProbes Check out a connection from each connection manager in {@link ConnectionManagerHolder} and call {@link Connection#isValid(int)}. Default is {@code true}
+	 * @param finderProbe      Read at most one row of the simulated sequence table, bypassing the cache. Default is {@code true}
+	 * @param timeout          How long {@link #check()} waits for the probes. Probes that take longer are unhealthy. Also passed to {@link Connection#isValid(int)}, rounded up to whole seconds. Default is 5 seconds
+	 * @param cacheTtl         How long to reuse the last result. Default is 10 seconds
+	 */
+	public ReladomoHealthCheck(
+		boolean connectionProbes,
+		boolean finderProbe,
+		@Nonnull Duration timeout,
+		@Nonnull Duration cacheTtl
+	) {
+		this(Clock.systemUTC(), ForkJoinPool.commonPool(), connectionProbes, finderProbe, timeout, cacheTtl);
+	}
+
+	/**
+	 * @param executor Runs the probes, which block on JDBC calls. A dedicated, managed executor keeps them off shared pools
+	 */
+	public ReladomoHealthCheck(
+		@Nonnull Clock clock,
+		@Nonnull Executor executor,
+		boolean connectionProbes,
+		boolean finderProbe,
+		@Nonnull Duration timeout,
+		@Nonnull Duration cacheTtl
+	) {
+		this.clock = Objects.requireNonNull(clock);
+		this.executor = Objects.requireNonNull(executor);
+		this.connectionProbes = connectionProbes;
+		this.finderProbe = finderProbe;
+		this.timeout = Objects.requireNonNull(timeout);
+		this.cacheTtl = Objects.requireNonNull(cacheTtl);
+	}
+
+	@Nonnull
 	@Override
-	protected Result check() {
-		ObjectSequenceList objectSequences = ObjectSequenceFinder.findMany(ObjectSequenceFinder.all());
-		int size = objectSequences.size();
-		return Result.healthy("Found " + size + " rows.");
+	protected Result check() throws InterruptedException {
+		Result cachedResult = this.getCachedResult();
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+
+		try {
+			return this.startProbes().get(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			return Result.unhealthy("Probes did not finish within %d ms.", this.timeout.toMillis());
+		} catch (ExecutionException e) {
+			return Result.unhealthy(e.getCause());
+		}
+	}
+
+	private Result getCachedResult() {
+		CachedResult cachedResult = this.cachedResult.get();
+		if (cachedResult != null && this.clock.instant().isBefore(cachedResult.expiry())) {
+			return cachedResult.result();
+		}
+		return null;
+	}
+
+	// Joins the probes that are already running, or starts them
+	@Nonnull
+	private CompletableFuture<Result> startProbes() {
+		CompletableFuture<Result> probes = new CompletableFuture<>();
+		CompletableFuture<Result> runningProbes = this.runningProbes.compareAndExchange(null, probes);
+		if (runningProbes != null) {
+			return runningProbes;
+		}
+
+		// The probes that just finished may have refreshed the cache
+		Result cachedResult = this.getCachedResult();
+		if (cachedResult != null) {
+			this.runningProbes.set(null);
+			probes.complete(cachedResult);
+			return probes;
+		}
+
+		try {
+			this.executor.execute(() -> this.runProbes(probes));
+		} catch (RejectedExecutionException e) {
+			this.runningProbes.set(null);
+			probes.completeExceptionally(e);
+		}
+		return probes;
+	}
+
+	private void runProbes(CompletableFuture<Result> probes) {
+		try {
+			Result result = this.probe();
+			this.cachedResult.set(new CachedResult(result, this.clock.instant().plus(this.cacheTtl)));
+			probes.complete(result);
+		} catch (RuntimeException e) {
+			probes.completeExceptionally(e);
+		} finally {
+			this.runningProbes.set(null);
+		}
+	}
+
+	@Nonnull
+	private Result probe() {
+		ResultBuilder builder = Result.builder();
+		boolean healthy = true;
+
+		if (this.connectionProbes) {
+			ImmutableMap<String, SourcelessConnectionManager> connectionManagersByName =
+				ConnectionManagerHolder.getConnectionManagersByName();
+			for (Pair<String, SourcelessConnectionManager> pair : connectionManagersByName.keyValuesView()) {
+				SourcelessConnectionManager connectionManager = pair.getTwo();
+				ProbeResult probeResult = this.runProbe(() -> this.probeConnection(connectionManager));
+				builder.withDetail("connectionManager." + pair.getOne(), probeResult.toDetails());
+				healthy &= probeResult.isHealthy();
+			}
+		}
+
+		if (this.finderProbe) {
+			ProbeResult probeResult = this.runProbe(this::probeFinder);
+			builder.withDetail("finder", probeResult.toDetails());
+			healthy &= probeResult.isHealthy();
+		}
+
+		return healthy ? builder.healthy().build() : builder.unhealthy().withMessage("A probe failed.").build();
+	}
+
+	@Nonnull
+	private ProbeResult runProbe(Probe probe) {
+		long start = System.nanoTime();
+		String error;
+		try {
+			error = probe.run();
+		} catch (SQLException | RuntimeException e) {
+			error = e.toString();
+		}
+		long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		if (error == null && latencyMillis > this.timeout.toMillis()) {
+			error = "Took %d ms, longer than the timeout of %d ms".formatted(latencyMillis, this.timeout.toMillis());
+		}
+		return new ProbeResult(latencyMillis, error);
+	}
+
+	private String probeConnection(SourcelessConnectionManager connectionManager) throws SQLException {
+		int timeoutSeconds = Math.toIntExact(Math.max(1, (this.timeout.toMillis() + 999) / 1000));
+		try (Connection connection = getPrimaryConnection(connectionManager)) {
+			return connection.isValid(timeoutSeconds) ? null : "Connection is not valid";
+		}
+	}
+
+	// Probe the primary, since a connection manager that routes reads to replicas would otherwise hide its failure
+	private static Connection getPrimaryConnection(SourcelessConnectionManager connectionManager) {
+		if (connectionManager instanceof LiftwizardConnectionManager liftwizardConnectionManager) {
+			return liftwizardConnectionManager.getPrimaryConnection();
+		}
+		return connectionManager.getConnection();
+	}
+
+	private String probeFinder() {
+		ObjectSequenceList objectSequences = ObjectSequenceFinder.findManyBypassCache(ObjectSequenceFinder.all());
+		objectSequences.setMaxObjectsToRetrieve(1);
+		objectSequences.forceResolve();
+		return null;
+	}
+
+	@FunctionalInterface
+	private interface Probe {
+		/**
+		 * @return an error message, or null if the probe succeeded
+		 */
+		String run() throws SQLException;
+	}
+
+	private record CachedResult(Result result, Instant expiry) {}
+
+	private record ProbeResult(long latencyMillis, String error) {
+		boolean isHealthy() {
+			return this.error == null;
+		}
+
+		Map<String, Object> toDetails() {
+			Map<String, Object> details = new LinkedHashMap<>();
+			details.put("healthy", this.isHealthy());
+			details.put("latencyMillis", this.latencyMillis);
+			if (this.error != null) {
+				details.put("error", this.error);
+			}
+			return details;
+		}
 	}
 }
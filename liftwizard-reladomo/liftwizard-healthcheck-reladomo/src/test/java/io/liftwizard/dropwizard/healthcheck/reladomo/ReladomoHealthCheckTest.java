@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.healthcheck.reladomo;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.codahale.metrics.health.HealthCheck.Result;
+import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
+import com.gs.fw.common.mithra.databasetype.GenericDatabaseType;
+import io.liftwizard.reladomo.connection.manager.holder.ConnectionManagerHolder;
+import io.liftwizard.reladomo.connectionmanager.routing.ReplicaRoutingConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.routing.ReplicaSelectionStrategy;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.eclipse.collections.api.factory.Maps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoHealthCheckTest {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+	private static final Duration CACHE_TTL = Duration.ofSeconds(10);
+
+	private final MutableClock clock = new MutableClock(Instant.EPOCH);
+	private final AtomicInteger connectionsBorrowed = new AtomicInteger();
+	private final AtomicBoolean connectionValid = new AtomicBoolean(true);
+	private volatile CountDownLatch connectionReleased = new CountDownLatch(0);
+
+	@BeforeEach
+	void setUp() {
+		SourcelessConnectionManager connectionManager = stub(SourcelessConnectionManager.class, methodName -> {
+			if (methodName.equals("getConnection")) {
+				this.connectionsBorrowed.incrementAndGet();
+				return stub(Connection.class, connectionMethodName -> {
+					if (connectionMethodName.equals("isValid")) {
+						this.connectionReleased.await();
+						return this.connectionValid.get();
+					}
+					return null;
+				});
+			}
+			return null;
+		});
+		ConnectionManagerHolder.setConnectionManagersByName(Maps.immutable.with("test", connectionManager));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ConnectionManagerHolder.setConnectionManagersByName(Maps.immutable.empty());
+	}
+
+	@Test
+	void reusesTheResultUntilTheTtlExpires() throws InterruptedException {
+		var healthCheck = new ReladomoHealthCheck(this.clock, Runnable::run, true, false, TIMEOUT, CACHE_TTL);
+
+		Result first = healthCheck.check();
+		assertThat(first.isHealthy()).isTrue();
+		assertThat(first.getDetails()).containsKey("connectionManager.test");
+		assertThat(this.connectionsBorrowed).hasValue(1);
+
+		this.clock.advance(Duration.ofSeconds(9));
+		assertThat(healthCheck.check()).isSameAs(first);
+		assertThat(this.connectionsBorrowed).hasValue(1);
+
+		this.clock.advance(Duration.ofSeconds(1));
+		Result second = healthCheck.check();
+		assertThat(second).isNotSameAs(first);
+		assertThat(this.connectionsBorrowed).hasValue(2);
+	}
+
+	@Test
+	void cachesAnUnhealthyResultForTheTtlToo() throws InterruptedException {
+		var healthCheck = new ReladomoHealthCheck(this.clock, Runnable::run, true, false, TIMEOUT, CACHE_TTL);
+		this.connectionValid.set(false);
+
+		Result unhealthy = healthCheck.check();
+		assertThat(unhealthy.isHealthy()).isFalse();
+		assertThat(unhealthy.getMessage()).isEqualTo("A probe failed.");
+		assertThat(unhealthy.getDetails().get("connectionManager.test"))
+			.asInstanceOf(InstanceOfAssertFactories.MAP)
+			.containsEntry("error", "Connection is not valid");
+
+		this.connectionValid.set(true);
+		this.clock.advance(Duration.ofSeconds(5));
+		assertThat(healthCheck.check()).isSameAs(unhealthy);
+
+		this.clock.advance(Duration.ofSeconds(5));
+		assertThat(healthCheck.check().isHealthy()).isTrue();
+		assertThat(this.connectionsBorrowed).hasValue(2);
+	}
+
+	@Test
+	void zeroTtlProbesEveryTime() throws InterruptedException {
+		var healthCheck = new ReladomoHealthCheck(this.clock, Runnable::run, true, false, TIMEOUT, Duration.ZERO);
+
+		healthCheck.check();
+		healthCheck.check();
+
+		assertThat(this.connectionsBorrowed).hasValue(2);
+	}
+
+	@Test
+	void stopsWaitingForHungProbesAfterTheTimeout() throws InterruptedException {
+		this.connectionReleased = new CountDownLatch(1);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		try {
+			var healthCheck = new ReladomoHealthCheck(
+				this.clock,
+				executorService,
+				true,
+				false,
+				Duration.ofMillis(100),
+				CACHE_TTL
+			);
+
+			Result first = healthCheck.check();
+			Result second = healthCheck.check();
+
+			assertThat(first.isHealthy()).isFalse();
+			assertThat(first.getMessage()).isEqualTo("Probes did not finish within 100 ms.");
+			assertThat(second.isHealthy()).isFalse();
+			// The second check joined the probes that were still running
+			assertThat(this.connectionsBorrowed).hasValue(1);
+
+			this.connectionReleased.countDown();
+			executorService.shutdown();
+			assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+			// The probes that finished late still cached their result
+			Result cached = healthCheck.check();
+			assertThat(cached.getDetails().get("connectionManager.test"))
+				.asInstanceOf(InstanceOfAssertFactories.MAP)
+				.hasEntrySatisfying("error", error -> assertThat(error).asString().startsWith("Took "));
+			assertThat(this.connectionsBorrowed).hasValue(1);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	void disabledProbesAreSkipped() throws InterruptedException {
+		var healthCheck = new ReladomoHealthCheck(this.clock, Runnable::run, false, false, TIMEOUT, CACHE_TTL);
+
+		Result result = healthCheck.check();
+
+		assertThat(result.isHealthy()).isTrue();
+		assertThat(result.getDetails()).isNullOrEmpty();
+		assertThat(this.connectionsBorrowed).hasValue(0);
+	}
+
+	@Test
+	void probesThePrimaryOfARoutingConnectionManager() throws InterruptedException {
+		DataSource primary = stub(DataSource.class, methodName -> {
+			throw new SQLException("Primary is down");
+		});
+		DataSource replica = stub(DataSource.class, methodName ->
+			stub(Connection.class, connectionMethodName -> connectionMethodName.equals("isValid") ? true : null)
+		);
+		var connectionManager = new ReplicaRoutingConnectionManager(
+			"routing",
+			"primary",
+			primary,
+			GenericDatabaseType.getInstance(),
+			TimeZone.getTimeZone("UTC"),
+			"PUBLIC",
+			null,
+			0,
+			null,
+			List.of(replica),
+			ReplicaSelectionStrategy.ROUND_ROBIN
+		);
+		ConnectionManagerHolder.setConnectionManagersByName(Maps.immutable.with("routing", connectionManager));
+		var healthCheck = new ReladomoHealthCheck(this.clock, Runnable::run, true, false, TIMEOUT, CACHE_TTL);
+
+		Result result = healthCheck.check();
+
+		assertThat(result.isHealthy()).isFalse();
+		assertThat(result.getDetails().get("connectionManager.routing"))
+			.asInstanceOf(InstanceOfAssertFactories.MAP)
+			.hasEntrySatisfying("error", error -> assertThat(error).asString().contains("Primary is down"));
+	}
+
+	@FunctionalInterface
+	private interface Answer {
+		Object answer(String methodName) throws Exception;
+	}
+
+	private static <T> T stub(Class<T> type, Answer answer) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+			Object result = answer.answer(method.getName());
+			if (result != null || !method.getReturnType().isPrimitive()) {
+				return result;
+			}
+			return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+		});
+		return type.cast(proxy);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		private void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -22,9 +22,11 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.dropwizard.db.DataSourceFactory;
 import io.dropwizard.db.ManagedDataSource;
+import org.apache.tomcat.jdbc.pool.DataSourceProxy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,7 +58,29 @@ public class NamedDataSourceFactory extends DataSourceFactory {
 			);
 		}
 
-		return super.build(metricRegistry, equalNameParameter);
+		ManagedDataSource managedDataSource = super.build(metricRegistry, equalNameParameter);
+		if (managedDataSource instanceof DataSourceProxy dataSourceProxy) {
+			this.registerSaturationGauge(metricRegistry, equalNameParameter, dataSourceProxy);
+		}
+		return managedDataSource;
+	}
+
+	// Dropwizard's pool gauges report the active count but not how close it is to the pool's maximum, which is what to alert on before the pool starves.
+	private void registerSaturationGauge(
+		MetricRegistry metricRegistry,
+		String dataSourceName,
+		DataSourceProxy dataSourceProxy
+	) {
+		String saturationName = MetricRegistry.name(NamedDataSourceFactory.class, dataSourceName, "saturation");
+		metricRegistry.register(
+			saturationName,
+			new RatioGauge() {
+				@Override
+				protected Ratio getRatio() {
+					return Ratio.of(dataSourceProxy.getNumActive(), dataSourceProxy.getMaxActive());
+				}
+			}
+		);
 	}
 
 	public ManagedDataSource build(MetricRegistry metricRegistry) {
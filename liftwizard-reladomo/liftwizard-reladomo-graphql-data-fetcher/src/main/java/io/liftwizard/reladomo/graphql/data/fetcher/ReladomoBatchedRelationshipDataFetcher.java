@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.graphql.data.fetcher;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.gs.fw.common.mithra.finder.DeepRelationshipAttribute;
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import graphql.schema.GraphQLNamedType;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+
+/**
+ * A batching alternative to {@link ReladomoRelationshipDataFetcher}.
+ *
+ * <p>
+ * Each fetch enqueues its source object in a per-request {@link DataLoader} named after the parent type and field. When graphql-java dispatches the DataLoaders at the end of an execution level, {@link ReladomoRelationshipBatchLoader} resolves every queued source object with one deep fetch. The size of each batch is recorded in the histogram {@code liftwizard.graphql.field.<type>.<field>.batch-size}.
+ *
+ * <p>
+ * Requires a DataLoaderRegistry on the ExecutionInput. Use a new registry for each request, so that batches and cached results aren't shared between requests. {@code GraphQLDeepFetcher} finds these fetchers in the schema's code registry and doesn't deep fetch through them.
+ */
+public class ReladomoBatchedRelationshipDataFetcher<Input, T> implements DataFetcher<CompletableFuture<T>> {
+
+	@Nonnull
+	private final DeepRelationshipAttribute<Input, T> relationshipAttribute;
+
+	@Nonnull
+	private final MetricRegistry metricRegistry;
+
+	public ReladomoBatchedRelationshipDataFetcher(
+		@Nonnull DeepRelationshipAttribute<Input, T> relationshipAttribute,
+		@Nonnull MetricRegistry metricRegistry
+	) {
+		this.relationshipAttribute = Objects.requireNonNull(relationshipAttribute);
+		this.metricRegistry = Objects.requireNonNull(metricRegistry);
+	}
+
+	@Nonnull
+	@Override
+	public CompletableFuture<T> get(@Nonnull DataFetchingEnvironment environment) {
+		Input persistentInstance = environment.getSource();
+		if (persistentInstance == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		DataLoader<Input, T> dataLoader = this.getDataLoader(environment);
+		return dataLoader.load(persistentInstance);
+	}
+
+	private DataLoader<Input, T> getDataLoader(DataFetchingEnvironment environment) {
+		String typeName = ((GraphQLNamedType) environment.getParentType()).getName();
+		String fieldName = environment.getField().getName();
+		String dataLoaderName = typeName + "." + fieldName;
+		return environment
+			.getDataLoaderRegistry()
+			.computeIfAbsent(dataLoaderName, (ignored) -> this.createDataLoader(typeName, fieldName));
+	}
+
+	private DataLoader<Input, T> createDataLoader(String typeName, String fieldName) {
+		String histogramName = MetricRegistry.name("liftwizard", "graphql", "field", typeName, fieldName, "batch-size");
+		Histogram batchSizeHistogram = this.metricRegistry.histogram(histogramName);
+		var batchLoader = new ReladomoRelationshipBatchLoader<>(this.relationshipAttribute, batchSizeHistogram);
+		return DataLoaderFactory.newDataLoader(batchLoader);
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.graphql.data.fetcher;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Histogram;
+import com.gs.fw.common.mithra.MithraList;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.finder.DeepRelationshipAttribute;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import org.dataloader.BatchLoader;
+import org.eclipse.collections.impl.list.mutable.ListAdapter;
+
+/**
+ * Resolves one relationship for a whole batch of source objects with a single deep fetch, instead of one query per source object.
+ */
+public class ReladomoRelationshipBatchLoader<Input, T> implements BatchLoader<Input, T> {
+
+	@Nonnull
+	private final DeepRelationshipAttribute<Input, T> relationshipAttribute;
+
+	@Nonnull
+	private final Histogram batchSizeHistogram;
+
+	public ReladomoRelationshipBatchLoader(
+		@Nonnull DeepRelationshipAttribute<Input, T> relationshipAttribute,
+		@Nonnull Histogram batchSizeHistogram
+	) {
+		this.relationshipAttribute = Objects.requireNonNull(relationshipAttribute);
+		this.batchSizeHistogram = Objects.requireNonNull(batchSizeHistogram);
+	}
+
+	@Override
+	public CompletionStage<List<T>> load(List<Input> persistentInstances) {
+		this.batchSizeHistogram.update(persistentInstances.size());
+
+		MithraList<Input> mithraList = ReladomoRelationshipBatchLoader.constructList(persistentInstances);
+		mithraList.deepFetch(this.relationshipAttribute);
+		// A list built from objects runs its deep fetches when it's resolved, not when they're added
+		mithraList.forceResolve();
+
+		List<T> result = ListAdapter.adapt(persistentInstances).collect(this.relationshipAttribute::valueOf);
+		return CompletableFuture.completedFuture(result);
+	}
+
+	private static <Input> MithraList<Input> constructList(List<Input> persistentInstances) {
+		var firstInstance = (MithraObject) persistentInstances.get(0);
+		RelatedFinder<Input> finder = firstInstance.zGetPortal().getFinder();
+		var mithraList = (MithraList<Input>) finder.constructEmptyList();
+		mithraList.addAll(persistentInstances);
+		return mithraList;
+	}
+}
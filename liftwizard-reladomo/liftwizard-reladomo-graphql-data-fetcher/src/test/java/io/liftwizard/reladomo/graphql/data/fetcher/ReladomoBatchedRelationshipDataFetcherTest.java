@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.graphql.data.fetcher;
+
+import java.util.List;
+import java.util.Map;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.example.pet.Owner;
+import com.example.pet.OwnerFinder;
+import com.example.pet.OwnerList;
+import com.example.pet.Pet;
+import com.example.pet.PetList;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import io.liftwizard.reladomo.test.extension.ExecuteSqlExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoLoadDataExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoPurgeAllExtension;
+import org.dataloader.DataLoaderRegistry;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoBatchedRelationshipDataFetcherTest {
+
+	private static final String SCHEMA = """
+		type Query {
+			owners: [Owner]
+		}
+
+		type Owner {
+			name: String
+			pets: [Pet]
+		}
+
+		type Pet {
+			name: String
+		}
+		""";
+
+	@RegisterExtension
+	@Order(1)
+	final ExecuteSqlExtension executeSqlExtension = new ExecuteSqlExtension();
+
+	@RegisterExtension
+	@Order(2)
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	@RegisterExtension
+	@Order(3)
+	final ReladomoPurgeAllExtension purgeAllExtension = new ReladomoPurgeAllExtension();
+
+	@RegisterExtension
+	@Order(4)
+	final ReladomoLoadDataExtension loadDataExtension = new ReladomoLoadDataExtension(
+		"test-data/owners-and-pets.txt"
+	);
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@Test
+	void loadsTheRelationshipOfEveryOwnerWithOneRetrieve() {
+		OwnerList owners = OwnerFinder.findMany(OwnerFinder.all());
+		owners.setOrderBy(OwnerFinder.id().ascendingOrderBy());
+		List<Owner> ownerList = List.copyOf(owners);
+		Histogram batchSizeHistogram = this.metricRegistry.histogram("batch-size");
+		var batchLoader = new ReladomoRelationshipBatchLoader<>(OwnerFinder.pets(), batchSizeHistogram);
+
+		MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+		int retrieveCountBefore = mithraManager.getDatabaseRetrieveCount();
+		List<PetList> pets = batchLoader.load(ownerList).toCompletableFuture().join();
+		List<List<String>> petNames = pets
+			.stream()
+			.<List<String>>map((eachPets) -> eachPets.asEcList().collect(Pet::getName).toSortedList())
+			.toList();
+
+		assertThat(mithraManager.getDatabaseRetrieveCount() - retrieveCountBefore).isEqualTo(1);
+		assertThat(petNames).containsExactly(List.of("Rex", "Tom"), List.of("Fido"), List.of("Felix", "Spot"));
+		assertThat(batchSizeHistogram.getSnapshot().getMax()).isEqualTo(3);
+	}
+
+	@Test
+	void resolvesEveryOwnersPetsInOneBatch() {
+		MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+		int retrieveCountBefore = mithraManager.getDatabaseRetrieveCount();
+
+		ExecutionResult result = this.execute("{ owners { name pets { name } } }");
+
+		assertThat(result.getErrors()).isEmpty();
+		Map<String, List<Map<String, Object>>> data = result.getData();
+		assertThat(data.get("owners")).hasSize(3);
+		// One retrieve for the owners and one for all of their pets
+		assertThat(mithraManager.getDatabaseRetrieveCount() - retrieveCountBefore).isEqualTo(2);
+		Histogram batchSizeHistogram = this.metricRegistry.histogram("liftwizard.graphql.field.Owner.pets.batch-size");
+		assertThat(batchSizeHistogram.getCount()).isEqualTo(1);
+		assertThat(batchSizeHistogram.getSnapshot().getMax()).isEqualTo(3);
+	}
+
+	private ExecutionResult execute(String query) {
+		RuntimeWiring runtimeWiring = RuntimeWiring.newRuntimeWiring()
+			.type("Query", (builder) ->
+				builder.dataFetcher("owners", (environment) -> OwnerFinder.findMany(OwnerFinder.all()))
+			)
+			.type("Owner", (builder) ->
+				builder.dataFetcher(
+					"pets",
+					new ReladomoBatchedRelationshipDataFetcher<>(OwnerFinder.pets(), this.metricRegistry)
+				)
+			)
+			.build();
+		GraphQLSchema schema = new SchemaGenerator().makeExecutableSchema(
+			new SchemaParser().parse(SCHEMA),
+			runtimeWiring
+		);
+		ExecutionInput executionInput = ExecutionInput.newExecutionInput(query)
+			.dataLoaderRegistry(new DataLoaderRegistry())
+			.build();
+		return GraphQL.newGraphQL(schema).build().execute(executionInput);
+	}
+}
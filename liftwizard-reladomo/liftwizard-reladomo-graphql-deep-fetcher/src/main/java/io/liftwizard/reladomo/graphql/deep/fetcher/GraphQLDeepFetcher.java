@@ -17,14 +17,18 @@
 package io.liftwizard.reladomo.graphql.deep.fetcher;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import com.gs.fw.common.mithra.finder.RelatedFinder;
 import com.gs.fw.finder.DomainList;
 import com.gs.fw.finder.Navigation;
+import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.GraphQLCodeRegistry;
 import graphql.schema.SelectedField;
+import io.liftwizard.reladomo.graphql.data.fetcher.ReladomoBatchedRelationshipDataFetcher;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 
 public final class GraphQLDeepFetcher {
 
@@ -32,22 +36,46 @@ public final class GraphQLDeepFetcher {
 		throw new AssertionError("Suppress default constructor for noninstantiability");
 	}
 
+	/**
+	 * Deep fetches the relationships in the selection set, except for relationships resolved by a {@link ReladomoBatchedRelationshipDataFetcher}. Those are loaded once per execution level by their DataLoader, so deep fetching stops at the first batched relationship in each path.
+	 */
+	public static <T> void deepFetch(
+		DomainList<T> result,
+		RelatedFinder<T> finderInstance,
+		DataFetchingEnvironment environment
+	) {
+		GraphQLCodeRegistry codeRegistry = environment.getGraphQLSchema().getCodeRegistry();
+		GraphQLDeepFetcher.deepFetch(result, finderInstance, environment.getSelectionSet(), (selectedField) ->
+			GraphQLDeepFetcher.isBatched(codeRegistry, selectedField)
+		);
+	}
+
 	public static <T> void deepFetch(
 		DomainList<T> result,
 		RelatedFinder<T> finderInstance,
 		DataFetchingFieldSelectionSet selectionSet
+	) {
+		GraphQLDeepFetcher.deepFetch(result, finderInstance, selectionSet, (selectedField) -> false);
+	}
+
+	private static <T> void deepFetch(
+		DomainList<T> result,
+		RelatedFinder<T> finderInstance,
+		DataFetchingFieldSelectionSet selectionSet,
+		Predicate<SelectedField> isBatched
 	) {
 		for (SelectedField selectedField : selectionSet.getFields()) {
-			GraphQLDeepFetcher.deepFetchSelectedField(result, finderInstance, selectedField);
+			GraphQLDeepFetcher.deepFetchSelectedField(result, finderInstance, selectedField, isBatched);
 		}
 	}
 
 	private static <T> void deepFetchSelectedField(
 		DomainList<T> result,
 		RelatedFinder<T> finderInstance,
-		SelectedField selectedField
+		SelectedField selectedField,
+		Predicate<SelectedField> isBatched
 	) {
-		MutableList<String> navigationNames = getNavigationNames(selectedField);
+		MutableList<String> navigationNames = getNavigationNames(selectedField, isBatched);
 		if (navigationNames.isEmpty()) {
 			return;
 		}
@@ -61,10 +89,29 @@ public final class GraphQLDeepFetcher {
 		result.deepFetch(navigation);
 	}
 
-	private static MutableList<String> getNavigationNames(SelectedField selectedField) {
-		String qualifiedName = selectedField.getQualifiedName();
-		MutableList<String> fieldNamesNames = ArrayAdapter.adapt(qualifiedName.split("/"));
-		MutableList<String> navigationNames = fieldNamesNames.take(fieldNamesNames.size() - 1);
-		return navigationNames;
+	// The names of the selected field's ancestors, from the root, up to the first batched relationship
+	private static MutableList<String> getNavigationNames(
+		SelectedField selectedField,
+		Predicate<SelectedField> isBatched
+	) {
+		// getParentField() continues past the selection set to the field being fetched, so count ancestors in the qualified name
+		long depth = selectedField.getQualifiedName().chars().filter((each) -> each == '/').count();
+		MutableList<SelectedField> ancestors = Lists.mutable.empty();
+		SelectedField parent = selectedField.getParentField();
+		for (long i = 0; i < depth; i++) {
+			ancestors.add(parent);
+			parent = parent.getParentField();
+		}
+		return ancestors.reverseThis().takeWhile((each) -> !isBatched.test(each)).collect(SelectedField::getName);
+	}
+
+	private static boolean isBatched(GraphQLCodeRegistry codeRegistry, SelectedField selectedField) {
+		return selectedField
+			.getObjectTypes()
+			.stream()
+			.anyMatch((objectType) ->
+				codeRegistry.getDataFetcher(objectType, objectType.getFieldDefinition(selectedField.getName()))
+					instanceof ReladomoBatchedRelationshipDataFetcher<?, ?>
+			);
 	}
 }
@@ -45,7 +45,7 @@ public class GraphQLPropertyDataDeepFetcher<Output> implements DataFetcher<Domai
 		}
 
 		DomainList<Output> domainList = this.function.apply(source);
-		GraphQLDeepFetcher.deepFetch(domainList, this.finderInstance, environment.getSelectionSet());
+		GraphQLDeepFetcher.deepFetch(domainList, this.finderInstance, environment);
 		return domainList;
 	}
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.graphql.deep.fetcher;
+
+import java.util.Objects;
+import java.util.Set;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+import com.gs.reladomo.metadata.ReladomoClassMetaData;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLFieldsContainer;
+import io.liftwizard.graphql.instrumentation.cost.GraphQLFieldCostCalculator;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.multimap.list.MutableListMultimap;
+import org.eclipse.collections.impl.factory.Multimaps;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link GraphQLFieldCostCalculator} that costs Reladomo relationships from finder metadata.
+ *
+ * <p>
+ * A field whose parent type maps to a Reladomo class and whose name is one of its relationships costs {@code relationshipCost}, since each one can become a query or a deep fetch. To-many relationships multiply their selections by {@code toManyListSize}. Other fields are costed by the delegate.
+ */
+public class ReladomoGraphQLFieldCostCalculator implements GraphQLFieldCostCalculator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReladomoGraphQLFieldCostCalculator.class);
+
+	private final GraphQLFieldCostCalculator delegate;
+	private final ImmutableMap<String, RelatedFinder<?>> findersByTypeName;
+	private final int relationshipCost;
+	private final int toManyListSize;
+
+	public ReladomoGraphQLFieldCostCalculator(
+		GraphQLFieldCostCalculator delegate,
+		ImmutableMap<String, RelatedFinder<?>> findersByTypeName,
+		int relationshipCost,
+		int toManyListSize
+	) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.findersByTypeName = Objects.requireNonNull(findersByTypeName);
+		this.relationshipCost = relationshipCost;
+		this.toManyListSize = toManyListSize;
+	}
+
+	/**
+	 * Maps each GraphQL type to the finder of the Reladomo class with the same simple name. Call it after Reladomo is initialized.
+	 */
+	public static ReladomoGraphQLFieldCostCalculator fromMithraManager(
+		GraphQLFieldCostCalculator delegate,
+		int relationshipCost,
+		int toManyListSize
+	) {
+		return ReladomoGraphQLFieldCostCalculator.fromMithraManager(
+			delegate,
+			Maps.immutable.empty(),
+			relationshipCost,
+			toManyListSize
+		);
+	}
+
+	/**
+	 * Maps each GraphQL type to the finder of the Reladomo class with the same simple name, or to the fully qualified class name in {@code classNamesByTypeName}. Simple names shared by classes in different packages are ambiguous, and only match through {@code classNamesByTypeName}. Call it after Reladomo is initialized.
+	 *
+	 * @throws IllegalArgumentException if {@code classNamesByTypeName} names a class that Reladomo doesn't manage.
+	 */
+	public static ReladomoGraphQLFieldCostCalculator fromMithraManager(
+		GraphQLFieldCostCalculator delegate,
+		ImmutableMap<String, String> classNamesByTypeName,
+		int relationshipCost,
+		int toManyListSize
+	) {
+		MutableMap<String, RelatedFinder<?>> findersByClassName = Maps.mutable.empty();
+		Set<MithraRuntimeCacheController> cacheControllers =
+			MithraManagerProvider.getMithraManager().getRuntimeCacheControllerSet();
+		for (MithraRuntimeCacheController cacheController : cacheControllers) {
+			ReladomoClassMetaData metaData = cacheController.getMetaData();
+			findersByClassName.put(metaData.getBusinessOrInterfaceClassName(), metaData.getFinderInstance());
+		}
+
+		MutableListMultimap<String, String> classNamesBySimpleName = findersByClassName
+			.keysView()
+			.groupBy(ReladomoGraphQLFieldCostCalculator::getSimpleName, Multimaps.mutable.list.empty());
+		MutableMap<String, RelatedFinder<?>> findersByTypeName = Maps.mutable.empty();
+		classNamesBySimpleName.forEachKeyMultiValues((simpleName, classNames) -> {
+			if (classNames.size() == 1) {
+				findersByTypeName.put(simpleName, findersByClassName.get(classNames.getFirst()));
+			} else {
+				LOGGER.warn(
+					"GraphQL type {} is ambiguous between Reladomo classes {}. Map it to one of them to cost its relationships.",
+					simpleName,
+					classNames
+				);
+			}
+		});
+
+		classNamesByTypeName.forEachKeyValue((typeName, className) -> {
+			RelatedFinder<?> finder = findersByClassName.get(className);
+			if (finder == null) {
+				throw new IllegalArgumentException(
+					"GraphQL type %s maps to %s, which is not a Reladomo class. Expected one of %s".formatted(
+						typeName,
+						className,
+						findersByClassName.keysView().toSortedList()
+					)
+				);
+			}
+			findersByTypeName.put(typeName, finder);
+		});
+
+		return new ReladomoGraphQLFieldCostCalculator(
+			delegate,
+			findersByTypeName.toImmutable(),
+			relationshipCost,
+			toManyListSize
+		);
+	}
+
+	private static String getSimpleName(String className) {
+		return className.substring(className.lastIndexOf('.') + 1);
+	}
+
+	@Override
+	public int getFieldCost(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+		if (this.getRelationshipFinder(parentType, fieldDefinition) != null) {
+			return this.relationshipCost;
+		}
+		return this.delegate.getFieldCost(parentType, fieldDefinition);
+	}
+
+	@Override
+	public int getListSize(GraphQLFieldsContainer parentType, GraphQLFieldDefinition fieldDefinition) {
+		RelatedFinder<?> relationshipFinder = this.getRelationshipFinder(parentType, fieldDefinition);
+		if (
+			relationshipFinder instanceof AbstractRelatedFinder<?, ?, ?, ?, ?> abstractRelatedFinder
+			&& !abstractRelatedFinder.isToOne()
+		) {
+			return this.toManyListSize;
+		}
+		return this.delegate.getListSize(parentType, fieldDefinition);
+	}
+
+	private RelatedFinder<?> getRelationshipFinder(
+		GraphQLFieldsContainer parentType,
+		GraphQLFieldDefinition fieldDefinition
+	) {
+		RelatedFinder<?> finder = this.findersByTypeName.get(parentType.getName());
+		if (finder == null) {
+			return null;
+		}
+		return finder.getRelationshipFinderByName(fieldDefinition.getName());
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.graphql.deep.fetcher;
+
+import java.util.Map;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.google.auto.service.AutoService;
+import io.liftwizard.dropwizard.configuration.graphql.GraphQLFieldCostCalculatorFactory;
+import io.liftwizard.graphql.instrumentation.cost.GraphQLFieldCostCalculator;
+import org.eclipse.collections.api.factory.Maps;
+
+/**
+ * Configures a {@link ReladomoGraphQLFieldCostCalculator} with {@code type: "reladomo"}.
+ *
+ * <p>
+ * GraphQL types match the Reladomo classes with the same simple name. {@code typeNames} maps other GraphQL types, or simple names shared by several Reladomo classes, to fully qualified class names. Reladomo must be initialized before the GraphQL bundle runs.
+ */
+@JsonTypeName("reladomo")
+@AutoService(GraphQLFieldCostCalculatorFactory.class)
+public class ReladomoGraphQLFieldCostCalculatorFactory implements GraphQLFieldCostCalculatorFactory {
+
+	@Min(0)
+	private int relationshipCost = 10;
+
+	@Min(0)
+	private int toManyListSize = 100;
+
+	@NotNull
+	private Map<String, String> typeNames = Map.of();
+
+	@Override
+	public GraphQLFieldCostCalculator createFieldCostCalculator(GraphQLFieldCostCalculator configuredCalculator) {
+		return ReladomoGraphQLFieldCostCalculator.fromMithraManager(
+			configuredCalculator,
+			Maps.immutable.ofMap(this.typeNames),
+			this.relationshipCost,
+			this.toManyListSize
+		);
+	}
+
+	@JsonProperty
+	public int getRelationshipCost() {
+		return this.relationshipCost;
+	}
+
+	@JsonProperty
+	public void setRelationshipCost(int relationshipCost) {
+		this.relationshipCost = relationshipCost;
+	}
+
+	@JsonProperty
+	public int getToManyListSize() {
+		return this.toManyListSize;
+	}
+
+	@JsonProperty
+	public void setToManyListSize(int toManyListSize) {
+		this.toManyListSize = toManyListSize;
+	}
+
+	@JsonProperty
+	public Map<String, String> getTypeNames() {
+		return this.typeNames;
+	}
+
+	@JsonProperty
+	public void setTypeNames(Map<String, String> typeNames) {
+		this.typeNames = typeNames;
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.model.reladomo.operation.compiler;
+
+import java.util.Objects;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+
+/**
+ * A {@link ReladomoOperationCompiler} that remembers the Operations it has compiled, keyed by finder and operation text.
+ *
+ * <p>
+ * Compiled Operations are immutable, so the same instance is safely shared across threads and requests. Inputs that fail to compile are not cached.
+ *
+ * <p>
+ * Metrics are registered under {@code io.liftwizard.model.reladomo.operation.compiler.CachingReladomoOperationCompiler.<name>}, so each cache needs its own name.
+ */
+public class CachingReladomoOperationCompiler extends ReladomoOperationCompiler {
+
+	private final Cache<CompiledOperationKey, Operation> cache;
+
+	private final Meter hits;
+	private final Meter misses;
+	private final Meter evictions;
+
+	public CachingReladomoOperationCompiler(String name, long maximumSize, MetricRegistry metricRegistry) {
+		Objects.requireNonNull(name);
+		this.cache = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.removalListener(this::onRemoval)
+			.build();
+
+		this.hits = metricRegistry.meter(MetricRegistry.name(CachingReladomoOperationCompiler.class, name, "hits"));
+		this.misses = metricRegistry.meter(MetricRegistry.name(CachingReladomoOperationCompiler.class, name, "misses"));
+		this.evictions = metricRegistry.meter(
+			MetricRegistry.name(CachingReladomoOperationCompiler.class, name, "evictions")
+		);
+
+		String sizeName = MetricRegistry.name(CachingReladomoOperationCompiler.class, name, "size");
+		metricRegistry.register(sizeName, (Gauge<Long>) this.cache::size);
+	}
+
+	@Override
+	public Operation compile(RelatedFinder<?> finder, String sourceCodeText) {
+		var key = new CompiledOperationKey(finder, sourceCodeText.strip());
+
+		Operation cachedOperation = this.cache.getIfPresent(key);
+		if (cachedOperation != null) {
+			this.hits.mark();
+			return cachedOperation;
+		}
+
+		this.misses.mark();
+		Operation operation = super.compile(finder, sourceCodeText);
+		this.cache.put(key, operation);
+		return operation;
+	}
+
+	public long size() {
+		return this.cache.size();
+	}
+
+	public void invalidateAll() {
+		this.cache.invalidateAll();
+	}
+
+	private void onRemoval(RemovalNotification<CompiledOperationKey, Operation> notification) {
+		if (notification.wasEvicted()) {
+			this.evictions.mark();
+		}
+	}
+
+	private record CompiledOperationKey(RelatedFinder<?> finder, String operationText) {
+		private CompiledOperationKey {
+			Objects.requireNonNull(finder);
+			Objects.requireNonNull(operationText);
+		}
+	}
+}
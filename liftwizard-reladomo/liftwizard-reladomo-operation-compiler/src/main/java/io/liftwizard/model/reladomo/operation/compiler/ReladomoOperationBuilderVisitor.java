@@ -32,12 +32,18 @@ import com.gs.fw.common.mithra.attribute.LongAttribute;
 import com.gs.fw.common.mithra.attribute.StringAttribute;
 import com.gs.fw.common.mithra.attribute.TimestampAttribute;
 import com.gs.fw.common.mithra.finder.AbstractRelatedFinder;
+import com.gs.fw.common.mithra.finder.All;
+import com.gs.fw.common.mithra.finder.AndOperation;
+import com.gs.fw.common.mithra.finder.AtomicEqualityOperation;
+import com.gs.fw.common.mithra.finder.MultiEqualityOperation;
 import com.gs.fw.common.mithra.finder.None;
 import com.gs.fw.common.mithra.finder.Operation;
+import com.gs.fw.common.mithra.finder.OrOperation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.AttributeContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.BinaryOperatorContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompilationUnitContext;
+import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompositeOperationContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.ExistsOperatorContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.NavigationContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.OperationAllContext;
@@ -48,6 +54,7 @@ import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.OperationG
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.OperationNoneContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.OperationOrContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.OperationUnaryOperatorContext;
+import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.PrimaryOperationContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.UnaryOperatorContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationVisitor;
 import io.liftwizard.model.reladomo.operation.compiler.literal.many.BooleanListLiteralVisitor;
@@ -91,6 +98,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ParseTreeVisitor;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.list.mutable.ListAdapter;
@@ -122,18 +130,102 @@ public class ReladomoOperationBuilderVisitor<T> extends ReladomoOperationThrowin
 		return this.finder.all();
 	}
 
+	@Override
+	public Operation visitCompositeOperation(CompositeOperationContext ctx) {
+		return ctx.operationOr().accept(this);
+	}
+
+	// The grammar parses a chain like a && b && c as one flat list, so long chains are visited in a loop rather than by recursion
 	@Override
 	public Operation visitOperationAnd(OperationAndContext ctx) {
-		return ListAdapter.adapt(ctx.compositeOperation())
-			.collect(this::visit)
-			.injectInto(this.finder.all(), Operation::and);
+		List<PrimaryOperationContext> operands = ctx.primaryOperation();
+		if (operands.size() == 1) {
+			return this.visit(operands.getFirst());
+		}
+
+		MutableList<Operation> operations = ListAdapter.adapt(operands).collect(this::visit);
+		Operation none = operations.detect(None.class::isInstance);
+		if (none != null) {
+			return none;
+		}
+
+		// Equality conjuncts are merged by Operation.and() into one MultiEqualityOperation, which Reladomo can match against an index
+		MutableList<Operation> conjuncts = Lists.mutable.withInitialCapacity(operations.size());
+		int equalitiesIndex = -1;
+		for (Operation operation : operations) {
+			if (operation instanceof All) {
+				continue;
+			}
+			if (!(operation instanceof AtomicEqualityOperation || operation instanceof MultiEqualityOperation)) {
+				conjuncts.add(operation);
+			} else if (equalitiesIndex == -1) {
+				equalitiesIndex = conjuncts.size();
+				conjuncts.add(operation);
+			} else {
+				conjuncts.set(equalitiesIndex, conjuncts.get(equalitiesIndex).and(operation));
+			}
+		}
+
+		if (conjuncts.isEmpty()) {
+			return this.finder.all();
+		}
+		if (equalitiesIndex != -1 && conjuncts.get(equalitiesIndex) instanceof None equalities) {
+			return equalities;
+		}
+		return combineConjuncts(conjuncts, 0, conjuncts.size());
 	}
 
 	@Override
 	public Operation visitOperationOr(OperationOrContext ctx) {
-		return ListAdapter.adapt(ctx.compositeOperation())
-			.collect(this::visit)
-			.injectInto(this.getNone(), Operation::or);
+		List<OperationAndContext> operands = ctx.operationAnd();
+		if (operands.size() == 1) {
+			return this.visit(operands.getFirst());
+		}
+
+		MutableList<Operation> operations = Lists.mutable.withInitialCapacity(operands.size());
+		this.collectDisjuncts(ctx, operations);
+		Operation all = operations.detect(All.class::isInstance);
+		if (all != null) {
+			return all;
+		}
+		MutableList<Operation> disjuncts = operations.reject(None.class::isInstance);
+		if (disjuncts.isEmpty()) {
+			return this.getNone();
+		}
+		if (disjuncts.size() == 1) {
+			return disjuncts.getFirst();
+		}
+		return new OrOperation(disjuncts.toArray(new Operation[0]));
+	}
+
+	/**
+	 * Builds one flat AndOperation from the conjuncts that aren't equalities.
+	 *
+	 * <p>
+	 * AndOperation.and() copies and searches the operand list on every call, so folding a chain of ranges, exists and other non-equality conjuncts with it is quadratic. Reladomo has no public constructor that takes all the operands at once, but its two-operand constructor concatenates the operands of nested AndOperations, so merging halves builds the flat operation in O(n log n), with recursion only log n deep.
+	 */
+	private static Operation combineConjuncts(MutableList<Operation> conjuncts, int from, int to) {
+		if (to - from == 1) {
+			return conjuncts.get(from);
+		}
+		int middle = (from + to) >>> 1;
+		return new AndOperation(combineConjuncts(conjuncts, from, middle), combineConjuncts(conjuncts, middle, to));
+	}
+
+	// The OrOperation constructor doesn't flatten nested OrOperations, so parenthesized or-chains are flattened here, like Operation.or() would
+	private void collectDisjuncts(OperationOrContext ctx, MutableList<Operation> result) {
+		for (OperationAndContext operand : ctx.operationAnd()) {
+			List<PrimaryOperationContext> primaryOperations = operand.primaryOperation();
+			if (
+				primaryOperations.size() == 1
+				&& primaryOperations.getFirst() instanceof OperationGroupContext group
+				&& group.compositeOperation().operationOr().operationAnd().size() > 1
+			) {
+				this.collectDisjuncts(group.compositeOperation().operationOr(), result);
+			} else {
+				result.add(this.visit(operand));
+			}
+		}
 	}
 
 	@Override
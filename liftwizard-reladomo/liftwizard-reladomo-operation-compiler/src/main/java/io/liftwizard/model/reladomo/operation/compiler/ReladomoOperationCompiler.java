@@ -16,7 +16,7 @@
 
 package io.liftwizard.model.reladomo.operation.compiler;
 
-import java.util.regex.Pattern;
+import java.util.List;
 
 import com.gs.fw.common.mithra.finder.Operation;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
@@ -24,30 +24,126 @@ import io.liftwizard.model.reladomo.operation.ReladomoOperationLexer;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompilationUnitContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationVisitor;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CodePointCharStream;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 
+/**
+ * Compiles Reladomo operation text into {@link Operation}s.
+ *
+ * <p>
+ * Each thread reuses one lexer and parser. Parsing first runs in ANTLR's faster SLL prediction mode and bails out on the first error; only input that fails there is parsed again in full LL mode, which reports errors through {@link ThrowingErrorListener}. The DFA that ANTLR builds while parsing is shared by all parsers, and {@link #warmUp()} fills it ahead of the first request.
+ */
 public class ReladomoOperationCompiler {
 
-	private static final Pattern NEWLINE_PATTERN = Pattern.compile("\\r?\\n");
+	private static final ThreadLocal<ReusableParser> PARSERS = ThreadLocal.withInitial(ReusableParser::new);
+
+	// One example of each grammar construct. The attribute names don't matter, since warming up only parses.
+	private static final List<String> WARM_UP_OPERATIONS = List.of(
+		"all",
+		"all of Example",
+		"none",
+		"this.name == \"value\" && this.count > 1 || this.count <= 2",
+		"(this.name != \"value\" and this.count >= 1) or this.count < 2",
+		"this.name in [\"a\", \"b\"] & this.name not in ['c'] | this.flag == true",
+		"this.count in [1, 2] && this.amount notIn [1.5, 2.5d] && this.flag in [true, false]",
+		"this.letter == 'c'",
+		"this.name startsWith \"a\" && this.name not startsWith \"b\" && this.name endsWith \"c\"",
+		"this.name notEndsWith \"a\" && this.name contains \"b\" && this.name not contains \"c\"",
+		"this.name wildCardEquals \"a*\" && this.name wildCardNotEquals \"b?\" && this.name wildCardIn [\"c*\"]",
+		"this.name is null && this.name is not null && this.name == null && this.name != null",
+		"this.name eq \"a\" && this.name notEq \"b\" && this.count greaterThan 1 && this.count lessThanEquals 2",
+		"lower(this.name) == \"a\" && toLowerCase(this.name) == \"a\" && substring(this.name, 0, 1) == \"a\"",
+		"abs(this.count) == 1 && year(this.date) == 1999 && month(this.date) == 12 && dayOfMonth(this.date) == 31",
+		"this.target.value == \"value\" && Example.target.value == 0x1F",
+		"this.target exists && this.target not exists && this.target { Example.source.value == 1L } not exists",
+		"this.system equalsEdgePoint"
+	);
 
 	public Operation compile(RelatedFinder<?> finder, String sourceCodeText) {
-		String[] lines = NEWLINE_PATTERN.split(sourceCodeText);
-		CodePointCharStream charStream = CharStreams.fromString(sourceCodeText);
+		ReusableParser reusableParser = ReladomoOperationCompiler.acquireParser();
+		try {
+			CompilationUnitContext compilationUnitContext = reusableParser.parse(sourceCodeText);
+			ReladomoOperationVisitor<Operation> visitor = new ReladomoOperationBuilderVisitor<>(
+				finder,
+				reusableParser.tokenStream
+			);
+			return compilationUnitContext.accept(visitor);
+		} finally {
+			reusableParser.release();
+		}
+	}
+
+	/**
+	 * Parses one example of each grammar construct, so that the shared DFA is already built when the first real operation is compiled. Safe to call from several threads and more than once.
+	 */
+	public static void warmUp() {
+		ReusableParser reusableParser = ReladomoOperationCompiler.acquireParser();
+		try {
+			for (String operation : WARM_UP_OPERATIONS) {
+				reusableParser.parse(operation);
+			}
+		} finally {
+			reusableParser.release();
+		}
+	}
+
+	// The visitor compiles the inner operation of 'exists' clauses while the outer operation's tokens are still in use, so nested calls get a parser of their own
+	private static ReusableParser acquireParser() {
+		ReusableParser reusableParser = PARSERS.get();
+		if (reusableParser.inUse) {
+			reusableParser = new ReusableParser();
+		}
+		reusableParser.inUse = true;
+		return reusableParser;
+	}
+
+	private static final class ReusableParser {
+
+		private final ReladomoOperationLexer lexer = new ReladomoOperationLexer(CharStreams.fromString(""));
+		private final CommonTokenStream tokenStream = new CommonTokenStream(this.lexer);
+		private final ReladomoOperationParser parser = new ReladomoOperationParser(this.tokenStream);
+
+		private boolean inUse;
 
-		var lexer = new ReladomoOperationLexer(charStream);
-		var errorListener = new ThrowingErrorListener(lines);
-		var tokenStream = new CommonTokenStream(lexer);
-		var parser = new ReladomoOperationParser(tokenStream);
+		private CompilationUnitContext parse(String sourceCodeText) {
+			var errorListener = new ThrowingErrorListener(sourceCodeText);
+			this.lexer.setInputStream(CharStreams.fromString(sourceCodeText));
+			this.lexer.removeErrorListeners();
+			this.lexer.addErrorListener(errorListener);
+			this.tokenStream.setTokenSource(this.lexer);
+			this.parser.setTokenStream(this.tokenStream);
 
-		lexer.addErrorListener(errorListener);
-		parser.removeErrorListeners();
-		parser.addErrorListener(errorListener);
+			this.parser.removeErrorListeners();
+			this.parser.setErrorHandler(new BailErrorStrategy());
+			this.parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			try {
+				return this.parser.compilationUnit();
+			} catch (ParseCancellationException e) {
+				// Lexer errors come from the ThrowingErrorListener and are final; only parser bail-outs are worth retrying
+				if (!(e.getCause() instanceof RecognitionException)) {
+					throw e;
+				}
+			}
 
-		ReladomoOperationVisitor<Operation> visitor = new ReladomoOperationBuilderVisitor<>(finder, tokenStream);
+			this.tokenStream.seek(0);
+			this.parser.reset();
+			this.parser.addErrorListener(errorListener);
+			this.parser.setErrorHandler(new DefaultErrorStrategy());
+			this.parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			return this.parser.compilationUnit();
+		}
 
-		CompilationUnitContext compilationUnitContext = parser.compilationUnit();
-		return compilationUnitContext.accept(visitor);
+		// Drop the tokens and input of the last operation, so an idle thread doesn't hold on to them
+		private void release() {
+			this.inUse = false;
+			this.lexer.setInputStream(CharStreams.fromString(""));
+			this.tokenStream.setTokenSource(this.lexer);
+			this.parser.setTokenStream(this.tokenStream);
+		}
 	}
 }
@@ -16,6 +16,8 @@
 
 package io.liftwizard.model.reladomo.operation.compiler;
 
+import java.util.regex.Pattern;
+
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
@@ -23,10 +25,19 @@ import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 public class ThrowingErrorListener extends BaseErrorListener {
 
-	private final String[] lines;
+	private static final Pattern NEWLINE_PATTERN = Pattern.compile("\\r?\\n");
+
+	private final String sourceCodeText;
+
+	/**
+	 * @param sourceCodeText the text being parsed. It is only split into lines when there is an error to report.
+	 */
+	public ThrowingErrorListener(String sourceCodeText) {
+		this.sourceCodeText = sourceCodeText;
+	}
 
 	public ThrowingErrorListener(String[] lines) {
-		this.lines = lines;
+		this(String.join("\n", lines));
 	}
 
 	@Override
@@ -44,10 +55,12 @@ public class ThrowingErrorListener extends BaseErrorListener {
 	}
 
 	private String getSourceLine(int line) {
+		// Keep trailing empty lines, since an error at the end of input is reported on the last line
+		String[] lines = NEWLINE_PATTERN.split(this.sourceCodeText, -1);
 		if (line == 1) {
-			return this.lines[0];
+			return lines[0];
 		}
 
-		return this.lines[line - 2] + "\n" + this.lines[line - 1];
+		return lines[line - 2] + "\n" + lines[line - 1];
 	}
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.model.reladomo.operation.compiler;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.example.operation.MyTypeFinder;
+import com.example.operation.RelatedTypeFinder;
+import com.gs.fw.common.mithra.finder.Operation;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingReladomoOperationCompilerTest {
+
+	private static final String PREFIX = "io.liftwizard.model.reladomo.operation.compiler.CachingReladomoOperationCompiler.";
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@Test
+	void hitsReturnTheCachedOperation() {
+		var compiler = new CachingReladomoOperationCompiler("test", 10, this.metricRegistry);
+
+		Operation first = compiler.compile(MyTypeFinder.getFinderInstance(), "this.stringProperty = \"value\"");
+		Operation second = compiler.compile(MyTypeFinder.getFinderInstance(), "  this.stringProperty = \"value\"\n");
+
+		assertThat(second).isSameAs(first);
+		assertThat(this.metricRegistry.meter(PREFIX + "test.misses").getCount()).isEqualTo(1);
+		assertThat(this.metricRegistry.meter(PREFIX + "test.hits").getCount()).isEqualTo(1);
+		assertThat(compiler.size()).isEqualTo(1);
+	}
+
+	@Test
+	void sameTextOnDifferentFindersMisses() {
+		var compiler = new CachingReladomoOperationCompiler("test", 10, this.metricRegistry);
+
+		Operation myTypeOperation = compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = 1");
+		Operation relatedTypeOperation = compiler.compile(RelatedTypeFinder.getFinderInstance(), "this.id = 1");
+
+		assertThat(myTypeOperation).isEqualTo(MyTypeFinder.id().eq(1));
+		assertThat(relatedTypeOperation).isEqualTo(RelatedTypeFinder.id().eq(1));
+		assertThat(this.metricRegistry.meter(PREFIX + "test.misses").getCount()).isEqualTo(2);
+		assertThat(this.metricRegistry.meter(PREFIX + "test.hits").getCount()).isZero();
+	}
+
+	@Test
+	void failuresAreNotCached() {
+		var compiler = new CachingReladomoOperationCompiler("test", 10, this.metricRegistry);
+
+		assertThatThrownBy(() -> compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = "))
+			.isInstanceOf(ParseCancellationException.class);
+
+		assertThat(compiler.size()).isZero();
+	}
+
+	@Test
+	void evictsBeyondMaximumSize() {
+		var compiler = new CachingReladomoOperationCompiler("test", 2, this.metricRegistry);
+
+		compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = 1");
+		compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = 2");
+		compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = 3");
+
+		assertThat(compiler.size()).isEqualTo(2);
+		assertThat(this.metricRegistry.meter(PREFIX + "test.evictions").getCount()).isEqualTo(1);
+	}
+
+	@Test
+	void invalidateAllEmptiesTheCache() {
+		var compiler = new CachingReladomoOperationCompiler("test", 10, this.metricRegistry);
+		compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = 1");
+
+		compiler.invalidateAll();
+
+		assertThat(compiler.size()).isZero();
+		assertThat(this.metricRegistry.meter(PREFIX + "test.evictions").getCount()).isZero();
+		compiler.compile(MyTypeFinder.getFinderInstance(), "this.id = 1");
+		assertThat(this.metricRegistry.meter(PREFIX + "test.misses").getCount()).isEqualTo(2);
+	}
+
+	@Test
+	void eachNamedCacheRegistersItsOwnSizeGauge() {
+		var first = new CachingReladomoOperationCompiler("first", 10, this.metricRegistry);
+		var second = new CachingReladomoOperationCompiler("second", 10, this.metricRegistry);
+
+		first.compile(MyTypeFinder.getFinderInstance(), "this.id = 1");
+		second.compile(MyTypeFinder.getFinderInstance(), "this.id = 1");
+		second.compile(MyTypeFinder.getFinderInstance(), "this.id = 2");
+
+		assertThat(this.getGaugeValue(PREFIX + "first.size")).isEqualTo(1L);
+		assertThat(this.getGaugeValue(PREFIX + "second.size")).isEqualTo(2L);
+	}
+
+	@Test
+	void duplicateNameIsRejected() {
+		new CachingReladomoOperationCompiler("test", 10, this.metricRegistry);
+
+		assertThatThrownBy(() -> new CachingReladomoOperationCompiler("test", 10, this.metricRegistry))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining(PREFIX + "test.size");
+	}
+
+	private Object getGaugeValue(String name) {
+		Gauge<?> gauge = this.metricRegistry.getGauges().get(name);
+		assertThat(gauge).as(name).isNotNull();
+		return gauge.getValue();
+	}
+}
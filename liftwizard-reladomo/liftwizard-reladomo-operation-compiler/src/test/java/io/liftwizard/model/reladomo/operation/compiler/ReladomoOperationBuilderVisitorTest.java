@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.model.reladomo.operation.compiler;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.example.operation.MyTypeFinder;
+import com.example.operation.RelatedTypeFinder;
+import com.gs.fw.common.mithra.finder.None;
+import com.gs.fw.common.mithra.finder.Operation;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoOperationBuilderVisitorTest {
+
+	private static final int LONG_CHAIN_LENGTH = 5_000;
+
+	@RegisterExtension
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	private final ReladomoOperationCompiler compiler = new ReladomoOperationCompiler();
+
+	@Test
+	void andChain() {
+		Operation operation = this.compile("this.id == 1 && this.stringProperty == \"a\" && this.integerProperty > 2");
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.id()
+				.eq(1)
+				.and(MyTypeFinder.stringProperty().eq("a"))
+				.and(MyTypeFinder.integerProperty().greaterThan(2))
+		);
+	}
+
+	@Test
+	void equalitiesAreMerged() {
+		Operation operation = this.compile("this.id == 1 && this.integerProperty > 2 && this.stringProperty == \"a\"");
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.id()
+				.eq(1)
+				.and(MyTypeFinder.stringProperty().eq("a"))
+				.and(MyTypeFinder.integerProperty().greaterThan(2))
+		);
+	}
+
+	@Test
+	void orChain() {
+		Operation operation = this.compile("this.id == 1 || this.stringProperty == \"a\" || this.integerProperty > 2");
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.id()
+				.eq(1)
+				.or(MyTypeFinder.stringProperty().eq("a"))
+				.or(MyTypeFinder.integerProperty().greaterThan(2))
+		);
+	}
+
+	@Test
+	void andBindsTighterThanOr() {
+		Operation operation = this.compile("this.id == 1 || this.id == 2 && this.stringProperty == \"a\" || this.id == 3");
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.id()
+				.eq(1)
+				.or(MyTypeFinder.id().eq(2).and(MyTypeFinder.stringProperty().eq("a")))
+				.or(MyTypeFinder.id().eq(3))
+		);
+	}
+
+	@Test
+	void groupsAreFlattened() {
+		Operation andOperation = this.compile(
+			"(this.id == 1 && this.stringProperty == \"a\") && (this.integerProperty == 3 && this.longProperty == 4)"
+		);
+		Operation orOperation = this.compile(
+			"(this.id == 1 || this.stringProperty == \"a\") || (this.integerProperty == 3 || this.longProperty == 4)"
+		);
+
+		assertThat(andOperation).isEqualTo(
+			MyTypeFinder.id()
+				.eq(1)
+				.and(MyTypeFinder.stringProperty().eq("a"))
+				.and(MyTypeFinder.integerProperty().eq(3))
+				.and(MyTypeFinder.longProperty().eq(4))
+		);
+		assertThat(orOperation).isEqualTo(
+			MyTypeFinder.id()
+				.eq(1)
+				.or(MyTypeFinder.stringProperty().eq("a"))
+				.or(MyTypeFinder.integerProperty().eq(3))
+				.or(MyTypeFinder.longProperty().eq(4))
+		);
+	}
+
+	@Test
+	void allAndNone() {
+		assertThat(this.compile("all && this.id == 1")).isEqualTo(MyTypeFinder.id().eq(1));
+		assertThat(this.compile("all && all")).isEqualTo(MyTypeFinder.all());
+		assertThat(this.compile("none && this.id == 1")).isInstanceOf(None.class);
+		assertThat(this.compile("none || this.id == 1")).isEqualTo(MyTypeFinder.id().eq(1));
+		assertThat(this.compile("none || none")).isInstanceOf(None.class);
+		assertThat(this.compile("all || this.id == 1")).isEqualTo(MyTypeFinder.all());
+	}
+
+	@Test
+	void existsInChain() {
+		Operation operation = this.compile(
+			"this.target exists && this.id == 1 && this.target { this.value == \"x\" } not exists"
+		);
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.target()
+				.exists()
+				.and(MyTypeFinder.id().eq(1))
+				.and(MyTypeFinder.target().notExists(RelatedTypeFinder.value().eq("x")))
+		);
+	}
+
+	@Test
+	void longAndChain() {
+		Operation operation = this.compile(longChain("this.id != %d", " && "));
+
+		Operation expected = MyTypeFinder.id().notEq(0);
+		for (int i = 1; i < LONG_CHAIN_LENGTH; i++) {
+			expected = expected.and(MyTypeFinder.id().notEq(i));
+		}
+		assertThat(operation).isEqualTo(expected);
+	}
+
+	@Test
+	void longOrChain() {
+		Operation operation = this.compile(longChain("this.id == %d", " || "));
+
+		Operation expected = MyTypeFinder.id().eq(0);
+		for (int i = 1; i < LONG_CHAIN_LENGTH; i++) {
+			expected = expected.or(MyTypeFinder.id().eq(i));
+		}
+		assertThat(operation).isEqualTo(expected);
+	}
+
+	private static String longChain(String clause, String separator) {
+		return IntStream.range(0, LONG_CHAIN_LENGTH).mapToObj(clause::formatted).collect(Collectors.joining(separator));
+	}
+
+	private Operation compile(String sourceCodeText) {
+		return this.compiler.compile(MyTypeFinder.getFinderInstance(), sourceCodeText);
+	}
+}
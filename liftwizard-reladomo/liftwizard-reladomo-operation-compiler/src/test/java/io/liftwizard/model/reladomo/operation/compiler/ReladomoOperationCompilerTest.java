@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.model.reladomo.operation.compiler;
+
+import com.example.operation.MyTypeFinder;
+import com.example.operation.RelatedTypeFinder;
+import com.gs.fw.common.mithra.finder.Operation;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReladomoOperationCompilerTest {
+
+	@RegisterExtension
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	private final ReladomoOperationCompiler compiler = new ReladomoOperationCompiler();
+
+	@Test
+	void validInputCompiles() {
+		Operation operation = this.compile("this.stringProperty == \"value\" && this.integerProperty > 1");
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.stringProperty().eq("value").and(MyTypeFinder.integerProperty().greaterThan(1))
+		);
+	}
+
+	@Test
+	void ambiguousInputResolvesToTheUnaryOperator() {
+		// '== null' matches both the unary operator and a binary operator with a null literal
+		Operation operation = this.compile("this.stringProperty == null");
+
+		assertThat(operation).isEqualTo(MyTypeFinder.stringProperty().isNull());
+	}
+
+	@Test
+	void syntaxErrorIsReportedByTheLlFallback() {
+		assertThatThrownBy(() -> this.compile("this.stringProperty == "))
+			.isInstanceOf(ParseCancellationException.class)
+			.hasMessage(
+				"(1) no viable alternative at input 'this.stringProperty == ' [1:23]%nthis.stringProperty == ".formatted()
+			);
+	}
+
+	@Test
+	void syntaxErrorReportsLineNumberAndPreviousLine() {
+		// The error is reported at the start of the empty last line
+		assertThatThrownBy(() -> this.compile("this.id == 1\n&& this.stringProperty ==\n"))
+			.isInstanceOf(ParseCancellationException.class)
+			.hasMessage(
+				"(3) no viable alternative at input 'this.stringProperty ==\\n' [3:0]%n&& this.stringProperty ==\n".formatted()
+			);
+	}
+
+	@Test
+	void lexerErrorIsNotRetried() {
+		assertThatThrownBy(() -> this.compile("this.id == 1 #"))
+			.isInstanceOf(ParseCancellationException.class)
+			.hasMessage("(1) token recognition error at: '#' [1:13]%nthis.id == 1 #".formatted());
+	}
+
+	@Test
+	void nestedExistsCompiles() {
+		Operation operation = this.compile("this.target { this.value == \"x\" } not exists && this.id == 1");
+
+		assertThat(operation).isEqualTo(
+			MyTypeFinder.target().notExists(RelatedTypeFinder.value().eq("x")).and(MyTypeFinder.id().eq(1))
+		);
+		assertThat(this.compile("this.target exists")).isEqualTo(MyTypeFinder.target().exists());
+	}
+
+	@Test
+	void parserIsReusedAfterSyntaxError() {
+		assertThatThrownBy(() -> this.compile("this.stringProperty == \"value\" &&"))
+			.isInstanceOf(ParseCancellationException.class);
+
+		Operation operation = this.compile("this.stringProperty == \"value\"");
+
+		assertThat(operation).isEqualTo(MyTypeFinder.stringProperty().eq("value"));
+	}
+
+	@Test
+	void warmUpLeavesTheParserReusable() {
+		ReladomoOperationCompiler.warmUp();
+		ReladomoOperationCompiler.warmUp();
+
+		assertThat(this.compile("this.id == 1")).isEqualTo(MyTypeFinder.id().eq(1));
+	}
+
+	private Operation compile(String sourceCodeText) {
+		return this.compiler.compile(MyTypeFinder.getFinderInstance(), sourceCodeText);
+	}
+}
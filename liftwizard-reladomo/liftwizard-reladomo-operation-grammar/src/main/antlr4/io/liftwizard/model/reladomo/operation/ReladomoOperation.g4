@@ -8,10 +8,15 @@ grammar ReladomoOperation;
 
 compilationUnit: compositeOperation EOF;
 
-compositeOperation
-    : compositeOperation ('&' | '&&' | 'and') compositeOperation                 # OperationAnd
-    | compositeOperation ('|' | '||' | 'or')  compositeOperation                 # OperationOr
-    | '(' compositeOperation ')'                                                 # OperationGroup
+compositeOperation: operationOr;
+
+// And/or chains are flat lists rather than left-recursive pairs, so long chains don't build deep parse trees
+// '&&' binds tighter than '||'
+operationOr:  operationAnd     (('|' | '||' | 'or')  operationAnd)*;
+operationAnd: primaryOperation (('&' | '&&' | 'and') primaryOperation)*;
+
+primaryOperation
+    : '(' compositeOperation ')'                                                 # OperationGroup
     | 'all' ('of' className)?                                                    # OperationAll
     | 'none'                                                                     # OperationNone
     // Order matters here because '== null' can match both unary and binary
@@ -26,6 +26,7 @@ import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CharacterL
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CharacterLiteralContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.ClassNameContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompilationUnitContext;
+import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompositeOperationContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.EqualsEdgePointContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.ExistsOperatorContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.FloatingPointListLiteralContext;
@@ -97,6 +98,20 @@ public class ReladomoOperationThrowingListener implements ReladomoOperationListe
 		);
 	}
 
+	@Override
+	public void enterCompositeOperation(CompositeOperationContext ctx) {
+		throw new UnsupportedOperationException(
+			this.getClass().getSimpleName() + ".enterCompositeOperation() not implemented yet"
+		);
+	}
+
+	@Override
+	public void exitCompositeOperation(CompositeOperationContext ctx) {
+		throw new UnsupportedOperationException(
+			this.getClass().getSimpleName() + ".exitCompositeOperation() not implemented yet"
+		);
+	}
+
 	@Override
 	public void enterOperationGroup(OperationGroupContext ctx) {
 		throw new UnsupportedOperationException(
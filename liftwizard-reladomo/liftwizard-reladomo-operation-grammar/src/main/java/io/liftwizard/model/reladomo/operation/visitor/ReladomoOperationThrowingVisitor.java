@@ -25,6 +25,7 @@ import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CharacterL
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CharacterLiteralContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.ClassNameContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompilationUnitContext;
+import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.CompositeOperationContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.EqualsEdgePointContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.ExistsOperatorContext;
 import io.liftwizard.model.reladomo.operation.ReladomoOperationParser.FloatingPointListLiteralContext;
@@ -90,6 +91,13 @@ public class ReladomoOperationThrowingVisitor<T>
 		);
 	}
 
+	@Override
+	public T visitCompositeOperation(CompositeOperationContext ctx) {
+		throw new UnsupportedOperationException(
+			this.getClass().getSimpleName() + ".visitCompositeOperation() not implemented yet"
+		);
+	}
+
 	@Override
 	public T visitOperationGroup(OperationGroupContext ctx) {
 		throw new UnsupportedOperationException(
@@ -23,6 +23,8 @@ import io.dropwizard.Application;
 import io.dropwizard.Configuration;
 import io.dropwizard.cli.EnvironmentCommand;
 import io.dropwizard.setup.Environment;
+import io.liftwizard.reladomo.rollback.ReladomoTemporalRollback.RollbackTableCount;
+import net.sourceforge.argparse4j.impl.Arguments;
 import net.sourceforge.argparse4j.inf.Namespace;
 import net.sourceforge.argparse4j.inf.Subparser;
 import org.slf4j.Logger;
@@ -34,6 +36,8 @@ import org.slf4j.LoggerFactory;
  * <p>Usage:
  * <pre>
  * java -jar app.jar rollback-temporal config.yml --date=2026-01-18T00:00:00Z
+ * java -jar app.jar rollback-temporal config.yml --date=2026-01-18T00:00:00Z --parallelism=4
+ * java -jar app.jar rollback-temporal config.yml --date=2026-01-18T00:00:00Z --dry-run
  * </pre>
  *
  * <p>This command extends {@link EnvironmentCommand} which initializes all bundles (including
@@ -67,6 +71,18 @@ public class ReladomoRollbackCommand<T extends Configuration> extends Environmen
 			.dest("date")
 			.required(true)
 			.help("The target date/time to roll back to in ISO-8601 format (e.g., 2026-01-18T00:00:00Z)");
+		subparser
+			.addArgument("--parallelism")
+			.dest("parallelism")
+			.type(Integer.class)
+			.help(
+				"Roll back each table in its own transaction, this many tables at a time. By default, all tables are rolled back in a single transaction."
+			);
+		subparser
+			.addArgument("--dry-run")
+			.dest("dryRun")
+			.action(Arguments.storeTrue())
+			.help("Print the number of rows each table's rollback would change, without changing anything");
 	}
 
 	@Override
@@ -74,10 +90,31 @@ public class ReladomoRollbackCommand<T extends Configuration> extends Environmen
 		String dateString = namespace.getString("date");
 		Instant targetDate = this.parseDate(dateString);
 
-		LOGGER.info("Starting temporal rollback to: {}", targetDate);
+		Integer parallelism = namespace.getInt("parallelism");
+		boolean dryRun = namespace.getBoolean("dryRun");
 
 		var rollback = new ReladomoTemporalRollback(targetDate);
-		rollback.rollbackAllTables();
+
+		if (dryRun) {
+			LOGGER.info("Counting rows to roll back to: {}", targetDate);
+			for (RollbackTableCount tableCount : rollback.countAllTables()) {
+				LOGGER.info(
+					"{}: {} future versions to purge, {} superseded versions to restore",
+					tableCount.tableName(),
+					tableCount.futureVersions(),
+					tableCount.supersededVersions()
+				);
+			}
+			return;
+		}
+
+		LOGGER.info("Starting temporal rollback to: {}", targetDate);
+
+		if (parallelism == null) {
+			rollback.rollbackAllTables();
+		} else {
+			rollback.rollbackAllTables(parallelism);
+		}
 
 		LOGGER.info("Temporal rollback completed successfully");
 	}
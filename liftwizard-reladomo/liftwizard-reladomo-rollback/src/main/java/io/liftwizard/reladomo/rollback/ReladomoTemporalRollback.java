@@ -18,12 +18,18 @@ package io.liftwizard.reladomo.rollback;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraManagerProvider;
@@ -39,6 +45,7 @@ import com.gs.fw.finder.TemporalTransactionalDomainList;
 import com.gs.reladomo.metadata.ReladomoClassMetaData;
 import io.liftwizard.reladomo.utc.infinity.timestamp.UtcInfinityTimestamp;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -54,6 +61,8 @@ import org.slf4j.LoggerFactory;
  *   <li>Restore versions that were superseded after the rollback point</li>
  * </ol>
  *
+ * <p>{@link #rollbackAllTables()} rolls back every table in a single transaction. {@link #rollbackAllTables(int)} instead rolls back each table in its own transaction on a bounded thread pool, so tables don't wait on each other and no transaction holds locks on the whole schema. Use the single transaction when foreign keys link the temporal tables, since the per-table transactions commit independently.
+ *
  * @see <a href="https://github.com/goldmansachs/reladomo/issues/261">Reladomo Issue #261</a>
  */
 public class ReladomoTemporalRollback {
@@ -77,21 +86,97 @@ public class ReladomoTemporalRollback {
 	public void rollbackAllTables() {
 		LOGGER.info("Rolling back all bitemporal tables to: {}", this.targetDate);
 
+		ImmutableList<TemporalTable> temporalTables = ReladomoTemporalRollback.getTemporalTables();
 		MithraManagerProvider.getMithraManager().executeTransactionalCommand((tx) -> {
-				MithraManagerProvider.getMithraManager().getRuntimeCacheControllerSet().forEach(this::rollbackTable);
+				temporalTables.forEach(this::rollbackTable);
 				return null;
 			});
 
 		LOGGER.info("Rollback completed for all bitemporal tables");
 	}
 
-	private void rollbackTable(MithraRuntimeCacheController cacheController) {
+	/**
+	 * Rolls back each table in its own transaction, running up to {@code parallelism} tables at a time.
+	 */
+	public void rollbackAllTables(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Expected parallelism >= 1 but got " + parallelism);
+		}
+
+		ImmutableList<TemporalTable> temporalTables = ReladomoTemporalRollback.getTemporalTables();
+		int tableCount = temporalTables.size();
+		LOGGER.info(
+			"Rolling back {} bitemporal tables to: {} with parallelism {}",
+			tableCount,
+			this.targetDate,
+			parallelism
+		);
+
+		var completedCount = new AtomicInteger();
+		try (ExecutorService executorService = Executors.newFixedThreadPool(parallelism)) {
+			ImmutableList<Future<?>> futures = temporalTables.collect((temporalTable) ->
+				executorService.submit(() -> {
+					MithraManagerProvider.getMithraManager().executeTransactionalCommand((tx) -> {
+							this.rollbackTable(temporalTable);
+							return null;
+						});
+					LOGGER.info(
+						"Rolled back table {} ({}/{})",
+						temporalTable.tableName(),
+						completedCount.incrementAndGet(),
+						tableCount
+					);
+				})
+			);
+			ReladomoTemporalRollback.awaitAll(futures);
+		}
+
+		LOGGER.info("Rollback completed for all bitemporal tables");
+	}
+
+	/**
+	 * Counts the rows each table's rollback would change, without changing anything.
+	 */
+	public ImmutableList<RollbackTableCount> countAllTables() {
+		return ReladomoTemporalRollback.getTemporalTables().collect(this::countTable);
+	}
+
+	private static void awaitAll(ListIterable<Future<?>> futures) {
+		RuntimeException failure = null;
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} catch (ExecutionException e) {
+				if (failure == null) {
+					failure = new RuntimeException("Rollback failed", e.getCause());
+				} else {
+					failure.addSuppressed(e.getCause());
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static ImmutableList<TemporalTable> getTemporalTables() {
+		return Lists.immutable
+			.withAll(MithraManagerProvider.getMithraManager().getRuntimeCacheControllerSet())
+			.collect(ReladomoTemporalRollback::getTemporalTable)
+			.select(Optional::isPresent)
+			.collect(Optional::get);
+	}
+
+	private static Optional<TemporalTable> getTemporalTable(MithraRuntimeCacheController cacheController) {
 		ReladomoClassMetaData metaData = cacheController.getMetaData();
 
 		AsOfAttribute[] asOfAttributes = metaData.getAsOfAttributes();
 		if (ArrayIterate.isEmpty(asOfAttributes)) {
 			LOGGER.debug("Skipping non-temporal table: {}", metaData.getBusinessOrInterfaceClassName());
-			return;
+			return Optional.empty();
 		}
 
 		Optional<AsOfAttribute> maybeSystemAttribute = ArrayIterate.detectOptional(
@@ -100,25 +185,47 @@ public class ReladomoTemporalRollback {
 		);
 		if (maybeSystemAttribute.isEmpty()) {
 			LOGGER.debug("Skipping non-system-temporal table: {}", metaData.getBusinessOrInterfaceClassName());
-			return;
+			return Optional.empty();
 		}
 
 		RelatedFinder<?> finder = metaData.getFinderInstance();
 		MithraObjectPortal portal = finder.getMithraObjectPortal();
 		String tableName = portal.getDatabaseObject().getDefaultTableName();
-		AsOfAttribute systemColumn = maybeSystemAttribute.orElseThrow(() ->
-			new IllegalStateException("No system temporal attribute found")
-		);
+		return Optional.of(new TemporalTable(metaData, finder, portal, tableName, maybeSystemAttribute.get()));
+	}
+
+	private void rollbackTable(TemporalTable temporalTable) {
+		AsOfAttribute systemColumn = temporalTable.systemAttribute();
 
 		LOGGER.info(
 			"Rolling back table: {} (system_from={}, system_to={})",
-			tableName,
+			temporalTable.tableName(),
 			systemColumn.getFromAttribute().getColumnName(),
 			systemColumn.getToAttribute().getColumnName()
 		);
 
-		this.purgeFutureVersions(metaData, finder, systemColumn, tableName);
-		this.restoreSupersededVersions(portal, tableName, systemColumn);
+		this.purgeFutureVersions(
+			temporalTable.metaData(),
+			temporalTable.finder(),
+			systemColumn,
+			temporalTable.tableName()
+		);
+		this.restoreSupersededVersions(temporalTable.portal(), temporalTable.tableName(), systemColumn);
+	}
+
+	private RollbackTableCount countTable(TemporalTable temporalTable) {
+		Operation futureVersionsOperation = this.getFutureVersionsOperation(
+			temporalTable.metaData(),
+			temporalTable.finder(),
+			temporalTable.systemAttribute()
+		);
+		int futureVersions = temporalTable.finder().findManyBypassCache(futureVersionsOperation).count();
+		int supersededVersions = this.countSupersededVersions(
+			temporalTable.portal(),
+			temporalTable.tableName(),
+			temporalTable.systemAttribute()
+		);
+		return new RollbackTableCount(temporalTable.tableName(), futureVersions, supersededVersions);
 	}
 
 	/**
@@ -130,21 +237,7 @@ public class ReladomoTemporalRollback {
 		AsOfAttribute systemAttribute,
 		String tableName
 	) {
-		TimestampAttribute systemFromAttribute = systemAttribute.getFromAttribute();
-
-		ListIterable<AsOfAttribute> asOfAttributes = metaData.getAsOfAttributes() == null
-			? Lists.immutable.empty()
-			: ArrayAdapter.adapt(metaData.getAsOfAttributes());
-
-		Operation edgePointOperation = asOfAttributes
-			.collect(AsOfAttribute::equalsEdgePoint)
-			.reduce(Operation::and)
-			.orElseGet(finder::all);
-
-		Operation futureVersionsOperation = edgePointOperation.and(
-			systemFromAttribute.greaterThan(this.targetTimestamp)
-		);
-
+		Operation futureVersionsOperation = this.getFutureVersionsOperation(metaData, finder, systemAttribute);
 		MithraList<?> futureVersions = finder.findMany(futureVersionsOperation);
 		int count = futureVersions.size();
 
@@ -161,6 +254,25 @@ public class ReladomoTemporalRollback {
 		LOGGER.info("Purged {} future versions from {}", count, tableName);
 	}
 
+	private Operation getFutureVersionsOperation(
+		ReladomoClassMetaData metaData,
+		RelatedFinder<?> finder,
+		AsOfAttribute systemAttribute
+	) {
+		TimestampAttribute systemFromAttribute = systemAttribute.getFromAttribute();
+
+		ListIterable<AsOfAttribute> asOfAttributes = metaData.getAsOfAttributes() == null
+			? Lists.immutable.empty()
+			: ArrayAdapter.adapt(metaData.getAsOfAttributes());
+
+		Operation edgePointOperation = asOfAttributes
+			.collect(AsOfAttribute::equalsEdgePoint)
+			.reduce(Operation::and)
+			.orElseGet(finder::all);
+
+		return edgePointOperation.and(systemFromAttribute.greaterThan(this.targetTimestamp));
+	}
+
 	/**
 	 * Restores superseded versions by setting system_to = infinity for rows
 	 * where system_from &lt;= targetDate AND system_to &gt; targetDate AND system_to &lt; infinity.
@@ -202,4 +314,53 @@ public class ReladomoTemporalRollback {
 			throw new RuntimeException("Failed to execute SQL: " + sql, e);
 		}
 	}
+
+	/**
+	 * Counts the superseded versions that {@link #restoreSupersededVersions} would restore.
+	 */
+	private int countSupersededVersions(MithraObjectPortal portal, String tableName, AsOfAttribute systemAttribute) {
+		String systemFromColumn = systemAttribute.getFromAttribute().getColumnName();
+		String systemToColumn = systemAttribute.getToAttribute().getColumnName();
+
+		String sql = String.format(
+			"SELECT COUNT(*) FROM %s WHERE %s <= ? AND %s > ? AND %s < ?",
+			tableName,
+			systemFromColumn,
+			systemToColumn,
+			systemToColumn
+		);
+
+		var connectionManager = (SourcelessConnectionManager) portal.getDatabaseObject().getConnectionManager();
+		DatabaseType databaseType = connectionManager.getDatabaseType();
+		TimeZone timeZone = connectionManager.getDatabaseTimeZone();
+
+		try (
+			Connection connection = connectionManager.getConnection();
+			PreparedStatement statement = connection.prepareStatement(sql)
+		) {
+			databaseType.setTimestamp(statement, 1, this.targetTimestamp, false, timeZone);
+			databaseType.setTimestamp(statement, 2, this.targetTimestamp, false, timeZone);
+			databaseType.setTimestamp(statement, 3, this.infinityTimestamp, false, timeZone);
+
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getInt(1);
+			}
+		} catch (SQLException e) {
+			throw new RuntimeException("Failed to execute SQL: " + sql, e);
+		}
+	}
+
+	/**
+	 * The number of rows a rollback would purge and restore in one table.
+	 */
+	public record RollbackTableCount(String tableName, int futureVersions, int supersededVersions) {}
+
+	private record TemporalTable(
+		ReladomoClassMetaData metaData,
+		RelatedFinder<?> finder,
+		MithraObjectPortal portal,
+		String tableName,
+		AsOfAttribute systemAttribute
+	) {}
 }
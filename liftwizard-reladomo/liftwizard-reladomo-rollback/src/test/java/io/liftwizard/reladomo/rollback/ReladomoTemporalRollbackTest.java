@@ -25,12 +25,14 @@ import com.example.helloworld.core.PersonFinder;
 import com.gs.fw.common.mithra.MithraList;
 import com.gs.fw.common.mithra.MithraManagerProvider;
 import io.liftwizard.junit.extension.log.marker.LogMarkerTestExtension;
+import io.liftwizard.reladomo.rollback.ReladomoTemporalRollback.RollbackTableCount;
 import io.liftwizard.reladomo.test.extension.ExecuteSqlExtension;
 import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
 import io.liftwizard.reladomo.test.extension.ReladomoLoadDataExtension;
 import io.liftwizard.reladomo.test.extension.ReladomoPurgeAllExtension;
 import io.liftwizard.reladomo.test.extension.ReladomoTestFile;
 import io.liftwizard.reladomo.utc.infinity.timestamp.UtcInfinityTimestamp;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -121,4 +123,35 @@ class ReladomoTemporalRollbackTest {
 		MithraList<Person> allPersonsAfter = PersonFinder.findMany(PersonFinder.system().equalsEdgePoint());
 		assertThat(allPersonsAfter).hasSize(countBefore);
 	}
+
+	@Test
+	@ReladomoTestFile("test-data/rollback-test-data.txt")
+	void parallelRollbackPurgesFutureVersionsAndRestoresSupersededVersions() {
+		var rollback = new ReladomoTemporalRollback(ROLLBACK_DATE, INFINITY);
+		rollback.rollbackAllTables(4);
+
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+
+		MithraList<Person> allPersonsAfter = PersonFinder.findMany(PersonFinder.system().equalsEdgePoint());
+		assertThat(allPersonsAfter).hasSize(2);
+
+		Person bob = PersonFinder.findOne(PersonFinder.id().eq(2L).and(PersonFinder.system().equalsEdgePoint()));
+		assertThat(bob.getSystemTo()).isEqualTo(PersonFinder.systemTo().getAsOfAttributeInfinity());
+
+		Person charlie = PersonFinder.findOne(PersonFinder.id().eq(3L).and(PersonFinder.system().equalsEdgePoint()));
+		assertThat(charlie).isNull();
+	}
+
+	@Test
+	@ReladomoTestFile("test-data/rollback-test-data.txt")
+	void countAllTablesDoesNotChangeAnything() {
+		var rollback = new ReladomoTemporalRollback(ROLLBACK_DATE, INFINITY);
+		ImmutableList<RollbackTableCount> tableCounts = rollback.countAllTables();
+
+		assertThat(tableCounts).containsExactly(new RollbackTableCount("PERSON", 1, 1));
+
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraList<Person> allPersons = PersonFinder.findMany(PersonFinder.system().equalsEdgePoint());
+		assertThat(allPersons).hasSize(3);
+	}
 }
@@ -16,39 +16,87 @@
 
 package io.liftwizard.reladomo.serialize;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.annotation.Nonnull;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.gs.fw.common.mithra.MithraObject;
 import com.gs.fw.common.mithra.finder.RelatedFinder;
 import com.gs.fw.common.mithra.util.serializer.SerializationConfig;
 import com.gs.fw.common.mithra.util.serializer.Serialized;
+import com.gs.reladomo.serial.jackson.JacksonReladomoModule;
 import io.dropwizard.jackson.Jackson;
 import io.liftwizard.serialization.jackson.config.ObjectMapperConfig;
 
+/**
+ * Serializes Reladomo objects with their default attributes and no relationships.
+ *
+ * <p>
+ * The overloads without an {@link ObjectMapper} share one mapper, configured once with {@link ObjectMapperConfig} and {@link JacksonReladomoModule}, so Jackson's serializer lookups are cached across calls. Overloads that take an {@link ObjectMapper} expect it to have {@link JacksonReladomoModule} registered. The {@link SerializationConfig} for each Reladomo class is also computed once and reused.
+ */
 public final class ReladomoDefaultSerializer {
 
+	private static final ObjectMapper OBJECT_MAPPER = ObjectMapperConfig.configure(Jackson.newObjectMapper())
+		.registerModule(new JacksonReladomoModule());
+
+	private static final ConcurrentMap<Class<?>, SerializationConfig> SERIALIZATION_CONFIGS =
+		new ConcurrentHashMap<>();
+
 	private ReladomoDefaultSerializer() {
 		throw new AssertionError("Suppress default constructor for noninstantiability");
 	}
 
 	public static String serialize(@Nonnull MithraObject mithraObject) {
-		// TODO: Initialize with shared ObjectMapper
-		ObjectMapper objectMapper = Jackson.newObjectMapper();
-		ObjectMapperConfig.configure(objectMapper);
-		return serialize(mithraObject, objectMapper);
+		return serialize(mithraObject, OBJECT_MAPPER);
 	}
 
 	public static String serialize(@Nonnull MithraObject mithraObject, @Nonnull ObjectMapper objectMapper) {
-		RelatedFinder finder = mithraObject.zGetPortal().getFinder();
-		SerializationConfig serializationConfig = SerializationConfig.shallowWithDefaultAttributes(finder);
-		var serialized = new Serialized<MithraObject>(mithraObject, serializationConfig);
-
 		try {
-			return objectMapper.writeValueAsString(serialized);
+			return objectMapper.writeValueAsString(getSerialized(mithraObject));
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException(e);
 		}
 	}
+
+	/**
+	 * Writes the objects as a JSON array straight to the generator, without building an intermediate String for each object. Formatting is left to the generator, so the mapper's {@link SerializationFeature#INDENT_OUTPUT} is ignored.
+	 */
+	public static void writeList(
+		@Nonnull List<? extends MithraObject> mithraObjects,
+		@Nonnull JsonGenerator jsonGenerator
+	) throws IOException {
+		writeList(mithraObjects, OBJECT_MAPPER, jsonGenerator);
+	}
+
+	public static void writeList(
+		@Nonnull List<? extends MithraObject> mithraObjects,
+		@Nonnull ObjectMapper objectMapper,
+		@Nonnull JsonGenerator jsonGenerator
+	) throws IOException {
+		ObjectWriter objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		jsonGenerator.writeStartArray(mithraObjects, mithraObjects.size());
+		for (MithraObject mithraObject : mithraObjects) {
+			objectWriter.writeValue(jsonGenerator, getSerialized(mithraObject));
+		}
+		jsonGenerator.writeEndArray();
+	}
+
+	private static Serialized<MithraObject> getSerialized(MithraObject mithraObject) {
+		SerializationConfig serializationConfig = SERIALIZATION_CONFIGS.computeIfAbsent(
+			mithraObject.getClass(),
+			(ignored) -> {
+				RelatedFinder<?> finder = mithraObject.zGetPortal().getFinder();
+				return SerializationConfig.shallowWithDefaultAttributes(finder);
+			}
+		);
+		return new Serialized<>(mithraObject, serializationConfig);
+	}
 }
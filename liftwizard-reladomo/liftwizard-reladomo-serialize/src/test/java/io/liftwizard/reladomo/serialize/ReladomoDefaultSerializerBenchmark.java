@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.serialize;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.example.helloworld.core.Person;
+import com.example.helloworld.core.PersonList;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.fw.common.mithra.MithraObject;
+import com.gs.fw.common.mithra.util.serializer.SerializationConfig;
+import com.gs.fw.common.mithra.util.serializer.Serialized;
+import com.gs.reladomo.serial.jackson.JacksonReladomoModule;
+import io.dropwizard.jackson.Jackson;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import io.liftwizard.serialization.jackson.config.ObjectMapperConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the throughput of a fresh ObjectMapper and SerializationConfig per call, which is what {@link ReladomoDefaultSerializer} used to do, against the shared mapper and cached configs.
+ *
+ * <p>
+ * The class name doesn't match surefire's default includes, so it only runs on demand: {@code mvn test -Dtest=ReladomoDefaultSerializerBenchmark}.
+ */
+class ReladomoDefaultSerializerBenchmark {
+
+	private static final int LIST_SIZE = 100;
+	private static final int WARM_UP_ITERATIONS = 2_000;
+	private static final int MEASURED_ITERATIONS = 20_000;
+
+	@RegisterExtension
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	@Test
+	void serializeOne() {
+		Person person = newPerson(1L);
+
+		double perCallMapper = measure("new mapper per call", () -> serializeWithNewMapper(person));
+		double sharedMapper = measure("shared mapper", () -> ReladomoDefaultSerializer.serialize(person));
+
+		assertThat(sharedMapper).isGreaterThan(perCallMapper);
+	}
+
+	@Test
+	void serializeList() {
+		var persons = new PersonList();
+		for (long id = 1; id <= LIST_SIZE; id++) {
+			persons.add(newPerson(id));
+		}
+
+		measure("list of strings, new mapper per call", () -> {
+			StringBuilder stringBuilder = new StringBuilder("[");
+			for (Person person : persons) {
+				stringBuilder.append(serializeWithNewMapper(person)).append(',');
+			}
+			return stringBuilder.append(']').toString();
+		});
+		measure("list to generator, shared mapper", () -> {
+			var stringWriter = new StringWriter();
+			try (JsonGenerator jsonGenerator = new ObjectMapper().createGenerator(stringWriter)) {
+				ReladomoDefaultSerializer.writeList(persons, jsonGenerator);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return stringWriter.toString();
+		});
+	}
+
+	private static String serializeWithNewMapper(MithraObject mithraObject) {
+		ObjectMapper objectMapper = ObjectMapperConfig.configure(Jackson.newObjectMapper());
+		objectMapper.registerModule(new JacksonReladomoModule());
+		var serializationConfig = SerializationConfig.shallowWithDefaultAttributes(
+			mithraObject.zGetPortal().getFinder()
+		);
+		try {
+			return objectMapper.writeValueAsString(new Serialized<>(mithraObject, serializationConfig));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static double measure(String name, Supplier<String> supplier) {
+		int length = 0;
+		for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+			length += supplier.get().length();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+			length += supplier.get().length();
+		}
+		long durationNanos = System.nanoTime() - start;
+
+		double operationsPerSecond = MEASURED_ITERATIONS * (double) TimeUnit.SECONDS.toNanos(1) / durationNanos;
+		System.out.printf("%-40s %,12.0f ops/s (%d chars)%n", name, operationsPerSecond, length);
+		return operationsPerSecond;
+	}
+
+	private static Person newPerson(long id) {
+		Person person = new Person();
+		person.setId(id);
+		person.setFullName("Person " + id);
+		person.setJobTitle("Engineer");
+		return person;
+	}
+}
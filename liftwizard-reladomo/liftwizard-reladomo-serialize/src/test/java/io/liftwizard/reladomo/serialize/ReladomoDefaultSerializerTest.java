@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.serialize;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.example.helloworld.core.Person;
+import com.example.helloworld.core.PersonFinder;
+import com.example.helloworld.core.PersonList;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import io.liftwizard.reladomo.test.extension.ExecuteSqlExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoInitializeExtension;
+import io.liftwizard.reladomo.test.extension.ReladomoPurgeAllExtension;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoDefaultSerializerTest {
+
+	@RegisterExtension
+	@Order(1)
+	final ExecuteSqlExtension executeSqlExtension = new ExecuteSqlExtension();
+
+	@RegisterExtension
+	@Order(2)
+	final ReladomoInitializeExtension initializeExtension = new ReladomoInitializeExtension(
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml"
+	);
+
+	@RegisterExtension
+	@Order(3)
+	final ReladomoPurgeAllExtension purgeAllExtension = new ReladomoPurgeAllExtension();
+
+	@Test
+	void serialize() {
+		Person person = newPerson(1L, "Alice Smith", "Engineer");
+
+		String json = ReladomoDefaultSerializer.serialize(person);
+
+		// language=JSON
+		var expectedJson = """
+			{
+				"_rdoClassName": "com.example.helloworld.core.Person",
+				"_rdoState": 30,
+				"id": 1,
+				"fullName": "Alice Smith",
+				"jobTitle": "Engineer",
+				"systemFrom": null,
+				"systemTo": null,
+				"system": "9999-12-01T23:59:00.000+00:00"
+			}
+			""";
+
+		assertThat(json).isEqualTo(expectedJson);
+		assertThat(ReladomoDefaultSerializer.serialize(person)).isEqualTo(json);
+	}
+
+	@Test
+	void writeList() throws IOException {
+		MithraManagerProvider.getMithraManager().executeTransactionalCommand((tx) -> {
+			newPerson(1L, "Alice Smith", "Engineer").insert();
+			newPerson(2L, "Bob Jones", "Manager").insert();
+			return null;
+		});
+		PersonList persons = PersonFinder.findMany(PersonFinder.all());
+		persons.setOrderBy(PersonFinder.id().ascendingOrderBy());
+
+		var objectMapper = new ObjectMapper();
+		var stringWriter = new StringWriter();
+		try (JsonGenerator jsonGenerator = objectMapper.createGenerator(stringWriter)) {
+			ReladomoDefaultSerializer.writeList(persons, jsonGenerator);
+		}
+
+		JsonNode jsonNode = objectMapper.readTree(stringWriter.toString());
+		assertThat(jsonNode.findValuesAsText("fullName")).containsExactly("Alice Smith", "Bob Jones");
+		assertThat(jsonNode.findValuesAsText("jobTitle")).containsExactly("Engineer", "Manager");
+	}
+
+	private static Person newPerson(long id, String fullName, String jobTitle) {
+		Person person = new Person();
+		person.setId(id);
+		person.setFullName(fullName);
+		person.setJobTitle(jobTitle);
+		return person;
+	}
+}
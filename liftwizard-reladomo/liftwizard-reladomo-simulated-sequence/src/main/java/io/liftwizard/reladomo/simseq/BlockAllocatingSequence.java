@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.simseq;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+import com.codahale.metrics.Meter;
+import com.gs.fw.common.mithra.MithraSequence;
+import com.gs.fw.common.mithra.MithraTransactionException;
+
+/**
+ * A {@link MithraSequence} that reserves ids from the ObjectSequence table in blocks of {@code blockSize}, and hands them to Reladomo from memory.
+ *
+ * <p>
+ * Reladomo's SimulatedSequencePrimaryKeyGenerator calls {@link #getNextId()} and then {@link #setNextId(long)} each time it runs out of ids, asking for its configured batch size or the size of the bulk insert, whichever is larger. This sequence only goes to the database when its reserved block cannot cover the request. Each reservation is a single atomic {@code UPDATE ... SET next_id = next_id + ?} and a read-back in a short transaction on its own connection, so concurrent reservations never retry each other, and the sequence row is never locked for the length of a Reladomo transaction.
+ *
+ * <p>
+ * When a request runs past the end of the block, the block is extended by the missing ids plus another block. If another process reserved the following ids first, the extension is not contiguous. The rest of the old block is dropped, the extension becomes the new block, and a retriable {@link MithraTransactionException} makes Reladomo retry from its start.
+ */
+public class BlockAllocatingSequence implements MithraSequence {
+
+	@Nonnull
+	private final ObjectSequenceDatabaseObject databaseObject;
+
+	private final long initialValue;
+	private final int blockSize;
+
+	@Nonnull
+	private final Meter reservations;
+
+	@Nonnull
+	private final Meter contention;
+
+	private String sequenceName;
+
+	// Ids in [nextId, limit) are reserved in the database and have not been handed to Reladomo yet.
+	private long nextId;
+	private long limit;
+
+	public BlockAllocatingSequence(
+		@Nonnull ObjectSequenceDatabaseObject databaseObject,
+		@Nonnull String sequenceName,
+		long initialValue,
+		int blockSize,
+		@Nonnull Meter reservations,
+		@Nonnull Meter contention
+	) {
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("Expected a positive block size but got " + blockSize);
+		}
+		this.databaseObject = Objects.requireNonNull(databaseObject);
+		this.sequenceName = Objects.requireNonNull(sequenceName);
+		this.initialValue = initialValue;
+		this.blockSize = blockSize;
+		this.reservations = Objects.requireNonNull(reservations);
+		this.contention = Objects.requireNonNull(contention);
+	}
+
+	@Override
+	public synchronized void setSequenceName(String sequenceName) {
+		this.sequenceName = Objects.requireNonNull(sequenceName);
+	}
+
+	@Override
+	public synchronized long getNextId() {
+		if (this.nextId >= this.limit) {
+			this.reserve();
+		}
+		return this.nextId;
+	}
+
+	@Override
+	public synchronized void setNextId(long nextId) {
+		if (nextId <= this.limit) {
+			this.nextId = nextId;
+			return;
+		}
+
+		long increment = nextId - this.limit + this.blockSize;
+		Long newLimit = this.databaseObject.incrementNextId(this.sequenceName, increment);
+		if (newLimit != null && newLimit - increment == this.limit) {
+			this.reservations.mark();
+			this.nextId = nextId;
+			this.limit = newLimit;
+			return;
+		}
+
+		this.contention.mark();
+		if (newLimit == null) {
+			this.nextId = 0;
+			this.limit = 0;
+		} else {
+			this.setBlock(newLimit - increment, newLimit);
+		}
+		throw new MithraTransactionException(
+			"Sequence %s was advanced by another process while extending a block. Retrying with a new block.".formatted(
+				this.sequenceName
+			),
+			true
+		);
+	}
+
+	private void reserve() {
+		while (true) {
+			Long newLimit = this.databaseObject.incrementNextId(this.sequenceName, this.blockSize);
+			if (newLimit != null) {
+				this.setBlock(newLimit - this.blockSize, newLimit);
+				return;
+			}
+			if (this.databaseObject.insertNextId(this.sequenceName, this.initialValue + this.blockSize)) {
+				this.setBlock(this.initialValue, this.initialValue + this.blockSize);
+				return;
+			}
+			// Another process inserted the row first, so the next UPDATE finds it
+			this.contention.mark();
+		}
+	}
+
+	private void setBlock(long start, long limit) {
+		this.reservations.mark();
+		this.nextId = start;
+		this.limit = limit;
+	}
+}
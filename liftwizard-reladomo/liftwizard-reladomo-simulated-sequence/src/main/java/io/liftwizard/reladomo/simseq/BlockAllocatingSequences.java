@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.simseq;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.codahale.metrics.MetricRegistry;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+
+/**
+ * The block sizes and metrics used by {@link ObjectSequenceObjectFactory}, along with the {@link BlockAllocatingSequence}s created so far.
+ *
+ * <p>
+ * Reladomo asks for a sequence object whenever it creates a generator, so the reserved blocks are kept here where they outlive the generators.
+ */
+public class BlockAllocatingSequences {
+
+	@Nonnull
+	private final ImmutableMap<String, Integer> blockSizesBySequenceName;
+
+	@Nonnull
+	private final MetricRegistry metricRegistry;
+
+	private final ConcurrentHashMap<String, BlockAllocatingSequence> sequencesByName = new ConcurrentHashMap<>();
+
+	/**
+	 * @param blockSizesBySequenceName sequences without a block size keep reading and writing their row through Reladomo.
+	 * @param metricRegistry registry for the reservations and contention meters of each sequence.
+	 */
+	public BlockAllocatingSequences(
+		@Nonnull Map<String, Integer> blockSizesBySequenceName,
+		@Nonnull MetricRegistry metricRegistry
+	) {
+		this.blockSizesBySequenceName = Maps.immutable.withAll(blockSizesBySequenceName);
+		this.metricRegistry = Objects.requireNonNull(metricRegistry);
+	}
+
+	/**
+	 * @return the sequence for {@code sequenceName}, or null if it has no block size
+	 */
+	@Nullable
+	public BlockAllocatingSequence getSequence(String sequenceName, int initialValue) {
+		Integer blockSize = this.blockSizesBySequenceName.get(sequenceName);
+		if (blockSize == null) {
+			return null;
+		}
+		return this.sequencesByName.computeIfAbsent(sequenceName, name ->
+			new BlockAllocatingSequence(
+				(ObjectSequenceDatabaseObject) ObjectSequenceFinder.getMithraObjectPortal().getDatabaseObject(),
+				name,
+				initialValue,
+				blockSize,
+				this.metricRegistry.meter(MetricRegistry.name(BlockAllocatingSequence.class, name, "reservations")),
+				this.metricRegistry.meter(MetricRegistry.name(BlockAllocatingSequence.class, name, "contention"))
+			)
+		);
+	}
+}
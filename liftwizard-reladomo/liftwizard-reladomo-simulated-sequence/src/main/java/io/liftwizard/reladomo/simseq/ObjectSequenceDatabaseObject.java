@@ -14,6 +14,113 @@
  * limitations under the License.
  */
 
+
 package io.liftwizard.reladomo.simseq;
 
-public class ObjectSequenceDatabaseObject extends ObjectSequenceDatabaseObjectAbstract {}
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.gs.fw.common.mithra.MithraDatabaseException;
+import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
+import io.liftwizard.reladomo.connectionmanager.LiftwizardConnectionManager;
+
+/**
+ * Adds the statements used by {@link BlockAllocatingSequence}. Each one runs on its own connection and commits on its own, outside of any Reladomo transaction.
+ */
+public class ObjectSequenceDatabaseObject extends ObjectSequenceDatabaseObjectAbstract {
+
+	/**
+	 * Advances the sequence by {@code increment} with a single atomic UPDATE, and reads the new value back in the same transaction. The row stays locked until the commit, so the ids between the returned value minus {@code increment} and the returned value belong to the caller alone.
+	 *
+	 * @return the new next id of the sequence, or null if the row does not exist
+	 */
+	public Long incrementNextId(String sequenceName, long increment) {
+		String tableName = this.getFullyQualifiedTableName();
+		String updateSql = "UPDATE " + tableName + " SET next_id = next_id + ? WHERE sequence_name = ?";
+		String selectSql = "SELECT next_id FROM " + tableName + " WHERE sequence_name = ?";
+		try (Connection connection = this.getSequenceConnection(false)) {
+			try {
+				Long nextId = incrementNextId(connection, updateSql, selectSql, sequenceName, increment);
+				connection.commit();
+				return nextId;
+			} catch (SQLException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			throw new MithraDatabaseException("Could not update sequence " + sequenceName, e);
+		}
+	}
+
+	private static Long incrementNextId(
+		Connection connection,
+		String updateSql,
+		String selectSql,
+		String sequenceName,
+		long increment
+	) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+			statement.setLong(1, increment);
+			statement.setString(2, sequenceName);
+			if (statement.executeUpdate() == 0) {
+				return null;
+			}
+		}
+		try (PreparedStatement statement = connection.prepareStatement(selectSql)) {
+			statement.setString(1, sequenceName);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				if (!resultSet.next()) {
+					throw new SQLException("Sequence " + sequenceName + " disappeared after it was updated");
+				}
+				return resultSet.getLong(1);
+			}
+		}
+	}
+
+	/**
+	 * @return false if another process inserted the row first
+	 */
+	public boolean insertNextId(String sequenceName, long nextId) {
+		String sql = "INSERT INTO " + this.getFullyQualifiedTableName() + " (sequence_name, next_id) VALUES (?, ?)";
+		try (
+			Connection connection = this.getSequenceConnection(true);
+			PreparedStatement statement = connection.prepareStatement(sql)
+		) {
+			statement.setString(1, sequenceName);
+			statement.setLong(2, nextId);
+			statement.executeUpdate();
+			return true;
+		} catch (SQLException e) {
+			if (this.getDatabaseType().violatesUniqueIndex(e)) {
+				return false;
+			}
+			throw new MithraDatabaseException("Could not insert sequence " + sequenceName, e);
+		}
+	}
+
+	private String getFullyQualifiedTableName() {
+		return this.getDatabaseType().getFullyQualifiedTableName(
+			this.getSchemaGenericSource(null),
+			this.getObjectSequenceTableName()
+		);
+	}
+
+	// These statements run outside any Reladomo transaction, so they must not be routed to a read replica
+	private Connection getSequenceConnection(boolean autoCommit) throws SQLException {
+		Object connectionManager = this.getConnectionManager();
+		Connection connection = connectionManager instanceof LiftwizardConnectionManager liftwizardConnectionManager
+			? liftwizardConnectionManager.getPrimaryConnection()
+			: ((SourcelessConnectionManager) connectionManager).getConnection();
+		try {
+			connection.setAutoCommit(autoCommit);
+			return connection;
+		} catch (SQLException e) {
+			connection.close();
+			throw e;
+		}
+	}
+}
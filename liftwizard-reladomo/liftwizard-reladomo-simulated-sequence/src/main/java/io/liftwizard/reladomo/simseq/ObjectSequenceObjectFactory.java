@@ -14,15 +14,65 @@
  * limitations under the License.
  */
 
+
 package io.liftwizard.reladomo.simseq;
 
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
 import com.gs.fw.common.mithra.MithraSequence;
 import com.gs.fw.common.mithra.MithraSequenceObjectFactory;
 
+/**
+ * The factory named by {@code sequenceObjectFactoryName} in Reladomo's SimulatedSequence configuration.
+ *
+ * <p>
+ * Reladomo creates this class reflectively through its no-arg constructor, so it cannot take its configuration as a constructor argument. Instances created that way use the {@link BlockAllocatingSequences} passed to {@link #install(BlockAllocatingSequences)}, which ReladomoBundle calls with the configured block sizes and the environment's MetricRegistry. Until then, every sequence reads and writes its row through Reladomo.
+ */
 public class ObjectSequenceObjectFactory implements MithraSequenceObjectFactory {
 
+	@Nullable
+	private static volatile BlockAllocatingSequences installed;
+
+	@Nullable
+	private final BlockAllocatingSequences blockAllocatingSequences;
+
+	public ObjectSequenceObjectFactory() {
+		this.blockAllocatingSequences = null;
+	}
+
+	public ObjectSequenceObjectFactory(@Nonnull BlockAllocatingSequences blockAllocatingSequences) {
+		this.blockAllocatingSequences = Objects.requireNonNull(blockAllocatingSequences);
+	}
+
+	/**
+	 * Sets the sequences used by factories that Reladomo creates. Reladomo asks for sequence objects lazily, so this must run before the first insert.
+	 */
+	public static void install(@Nonnull BlockAllocatingSequences blockAllocatingSequences) {
+		installed = Objects.requireNonNull(blockAllocatingSequences);
+	}
+
+	/**
+	 * Restores the default, where every sequence reads and writes its row through Reladomo.
+	 */
+	public static void uninstall() {
+		installed = null;
+	}
+
 	@Override
 	public MithraSequence getMithraSequenceObject(String sequenceName, Object sourceAttribute, int initialValue) {
+		BlockAllocatingSequences sequences = this.blockAllocatingSequences == null
+			? installed
+			: this.blockAllocatingSequences;
+		BlockAllocatingSequence blockAllocatingSequence = sequences == null
+			? null
+			: sequences.getSequence(sequenceName, initialValue);
+		if (blockAllocatingSequence != null) {
+			return blockAllocatingSequence;
+		}
+
 		ObjectSequence objectSequence = ObjectSequenceFinder.findByPrimaryKey(sequenceName);
 		if (objectSequence != null) {
 			return objectSequence;
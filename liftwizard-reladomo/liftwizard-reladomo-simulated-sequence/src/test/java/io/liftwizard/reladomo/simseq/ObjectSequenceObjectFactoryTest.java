@@ -0,0 +1,222 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.simseq;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import com.codahale.metrics.MetricRegistry;
+import com.example.simseq.Widget;
+import com.example.simseq.WidgetList;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.MithraPrimaryKeyGenerator;
+import com.gs.fw.common.mithra.MithraTransactionException;
+import com.gs.fw.common.mithra.mithraruntime.MithraRuntimeType;
+import com.gs.fw.common.mithra.util.MithraConfigurationManager;
+import io.liftwizard.reladomo.test.domain.H2TestConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ObjectSequenceObjectFactoryTest {
+
+	private static final String DATABASE_NAME = "simulated-sequence-test";
+
+	private static final String RUNTIME_CONFIGURATION_PATH =
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml";
+
+	private static final int BLOCK_SIZE = 100;
+
+	private final MetricRegistry metricRegistry = new MetricRegistry();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		ObjectSequenceObjectFactory.install(
+			new BlockAllocatingSequences(Map.of("Widget", BLOCK_SIZE), this.metricRegistry)
+		);
+
+		try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(RUNTIME_CONFIGURATION_PATH)) {
+			MithraConfigurationManager mithraConfigurationManager =
+				MithraManagerProvider.getMithraManager().getConfigManager();
+			MithraRuntimeType mithraRuntimeType = mithraConfigurationManager.parseConfiguration(inputStream);
+			mithraConfigurationManager.initializeRuntime(mithraRuntimeType);
+			mithraConfigurationManager.fullyInitialize();
+		}
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM WIDGET");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM OBJECT_SEQUENCE");
+	}
+
+	@AfterEach
+	void tearDown() {
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+		// Reladomo keeps its sequence generators, and the sequence objects they hold, across runtime resets
+		MithraPrimaryKeyGenerator.getInstance().clearPrimaryKeyGenerators();
+		ObjectSequenceObjectFactory.uninstall();
+	}
+
+	@Test
+	void manyInsertsReserveOneBlockPerBlockSize() throws SQLException {
+		int rowCount = BLOCK_SIZE * 2 + 50;
+
+		for (int i = 0; i < rowCount; i++) {
+			insertWidgets(1);
+		}
+
+		assertIdsAreUnique(rowCount);
+		assertThat(this.metricRegistry.meter(reservationsName()).getCount()).isEqualTo(3);
+		assertThat(this.metricRegistry.meter(contentionName()).getCount()).isZero();
+		assertThat(selectLong("SELECT next_id FROM OBJECT_SEQUENCE WHERE sequence_name = 'Widget'")).isEqualTo(
+			1L + BLOCK_SIZE * 3
+		);
+	}
+
+	@Test
+	void reservedBlockOutlivesReladomoGenerators() throws SQLException {
+		insertWidgets(10);
+		MithraPrimaryKeyGenerator.getInstance().clearPrimaryKeyGenerators();
+		insertWidgets(10);
+
+		assertIdsAreUnique(20);
+		assertThat(this.metricRegistry.meter(reservationsName()).getCount()).isEqualTo(1);
+		assertThat(selectLong("SELECT next_id FROM OBJECT_SEQUENCE WHERE sequence_name = 'Widget'")).isEqualTo(
+			1L + BLOCK_SIZE
+		);
+	}
+
+	@Test
+	void bulkInsertLargerThanTheBlockGetsUniqueIds() throws SQLException {
+		int rowCount = BLOCK_SIZE * 2 + 50;
+
+		insertWidgets(rowCount);
+		insertWidgets(1);
+
+		assertIdsAreUnique(rowCount + 1);
+		assertThat(this.metricRegistry.meter(contentionName()).getCount()).isZero();
+	}
+
+	@Test
+	void concurrentInsertsShareTheReservedBlocks() throws SQLException {
+		int threadCount = 4;
+		int rowsPerThread = 50;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (int thread = 0; thread < threadCount; thread++) {
+				futures.add(
+					CompletableFuture.runAsync(
+						() -> {
+							for (int i = 0; i < rowsPerThread; i++) {
+								insertWidgets(1);
+							}
+						},
+						executorService
+					)
+				);
+			}
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} finally {
+			executorService.shutdown();
+		}
+
+		assertIdsAreUnique(threadCount * rowsPerThread);
+		assertThat(this.metricRegistry.meter(reservationsName()).getCount()).isEqualTo(2);
+	}
+
+	@Test
+	void processesSharingASequenceReserveDisjointBlocks() throws SQLException {
+		var firstProcess = new BlockAllocatingSequences(Map.of("Widget", BLOCK_SIZE), new MetricRegistry());
+		var secondProcess = new BlockAllocatingSequences(Map.of("Widget", BLOCK_SIZE), new MetricRegistry());
+		BlockAllocatingSequence first = firstProcess.getSequence("Widget", 1);
+		BlockAllocatingSequence second = secondProcess.getSequence("Widget", 1);
+
+		assertThat(first.getNextId()).isEqualTo(1);
+		assertThat(second.getNextId()).isEqualTo(1 + BLOCK_SIZE);
+
+		assertThatThrownBy(() -> first.setNextId(1 + BLOCK_SIZE + 10))
+			.isInstanceOfSatisfying(MithraTransactionException.class, e -> assertThat(e.isRetriable()).isTrue());
+		assertThat(first.getNextId()).isEqualTo(1 + BLOCK_SIZE * 2);
+		first.setNextId(1 + BLOCK_SIZE * 2 + 10);
+
+		assertThat(selectLong("SELECT next_id FROM OBJECT_SEQUENCE WHERE sequence_name = 'Widget'")).isEqualTo(
+			1L + BLOCK_SIZE * 3 + 10
+		);
+	}
+
+	@Test
+	void sequencesWithoutABlockSizeGoThroughReladomo() throws SQLException {
+		ObjectSequenceObjectFactory.uninstall();
+
+		insertWidgets(3);
+
+		assertIdsAreUnique(3);
+		assertThat(ObjectSequenceFinder.findByPrimaryKey("Widget").getNextId()).isGreaterThan(3);
+		assertThat(this.metricRegistry.getMeters()).isEmpty();
+	}
+
+	private static void insertWidgets(int count) {
+		MithraManagerProvider.getMithraManager().executeTransactionalCommand((transaction) -> {
+			var widgets = new WidgetList();
+			IntStream.range(0, count).forEach((i) -> {
+				var widget = new Widget();
+				widget.setDescription("widget " + i);
+				widgets.add(widget);
+			});
+			widgets.insertAll();
+			return null;
+		});
+	}
+
+	private static void assertIdsAreUnique(int expectedRowCount) throws SQLException {
+		assertThat(selectLong("SELECT COUNT(*) FROM WIDGET")).isEqualTo(expectedRowCount);
+		assertThat(selectLong("SELECT COUNT(DISTINCT id) FROM WIDGET")).isEqualTo(expectedRowCount);
+	}
+
+	private static long selectLong(String sql) throws SQLException {
+		try (
+			Connection connection = H2TestConnectionManager.getInstance(DATABASE_NAME).getConnection();
+			Statement statement = connection.createStatement();
+			ResultSet resultSet = statement.executeQuery(sql)
+		) {
+			assertThat(resultSet.next()).isTrue();
+			return resultSet.getLong(1);
+		}
+	}
+
+	private static String reservationsName() {
+		return MetricRegistry.name(BlockAllocatingSequence.class, "Widget", "reservations");
+	}
+
+	private static String contentionName() {
+		return MetricRegistry.name(BlockAllocatingSequence.class, "Widget", "contention");
+	}
+}
@@ -0,0 +1,11 @@
+package com.example.bulk;
+import java.sql.Timestamp;
+public class BulkItem extends BulkItemAbstract
+{
+	public BulkItem()
+	{
+		super();
+		// You must not modify this constructor. Mithra calls this internally.
+		// You can call this constructor. You can also add new constructors.
+	}
+}
@@ -0,0 +1,4 @@
+package com.example.bulk;
+public class BulkItemDatabaseObject extends BulkItemDatabaseObjectAbstract
+{
+}
@@ -0,0 +1,25 @@
+package com.example.bulk;
+import com.gs.fw.finder.Operation;
+import java.util.*;
+public class BulkItemList extends BulkItemListAbstract
+{
+	public BulkItemList()
+	{
+		super();
+	}
+
+	public BulkItemList(int initialSize)
+	{
+		super(initialSize);
+	}
+
+	public BulkItemList(Collection c)
+	{
+		super(c);
+	}
+
+	public BulkItemList(Operation operation)
+	{
+		super(operation);
+	}
+}
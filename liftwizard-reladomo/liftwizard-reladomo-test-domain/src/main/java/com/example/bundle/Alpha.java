@@ -0,0 +1,11 @@
+package com.example.bundle;
+import java.sql.Timestamp;
+public class Alpha extends AlphaAbstract
+{
+	public Alpha()
+	{
+		super();
+		// You must not modify this constructor. Mithra calls this internally.
+		// You can call this constructor. You can also add new constructors.
+	}
+}
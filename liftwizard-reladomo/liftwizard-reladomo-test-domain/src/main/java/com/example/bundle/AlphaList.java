@@ -0,0 +1,25 @@
+package com.example.bundle;
+import com.gs.fw.finder.Operation;
+import java.util.*;
+public class AlphaList extends AlphaListAbstract
+{
+	public AlphaList()
+	{
+		super();
+	}
+
+	public AlphaList(int initialSize)
+	{
+		super(initialSize);
+	}
+
+	public AlphaList(Collection c)
+	{
+		super(c);
+	}
+
+	public AlphaList(Operation operation)
+	{
+		super(operation);
+	}
+}
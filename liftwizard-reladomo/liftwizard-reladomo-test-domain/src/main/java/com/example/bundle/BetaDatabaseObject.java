@@ -0,0 +1,4 @@
+package com.example.bundle;
+public class BetaDatabaseObject extends BetaDatabaseObjectAbstract
+{
+}
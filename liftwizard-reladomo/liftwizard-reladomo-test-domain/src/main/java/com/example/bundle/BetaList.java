@@ -0,0 +1,25 @@
+package com.example.bundle;
+import com.gs.fw.finder.Operation;
+import java.util.*;
+public class BetaList extends BetaListAbstract
+{
+	public BetaList()
+	{
+		super();
+	}
+
+	public BetaList(int initialSize)
+	{
+		super(initialSize);
+	}
+
+	public BetaList(Collection c)
+	{
+		super(c);
+	}
+
+	public BetaList(Operation operation)
+	{
+		super(operation);
+	}
+}
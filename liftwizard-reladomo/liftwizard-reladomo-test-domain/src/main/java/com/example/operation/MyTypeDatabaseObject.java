@@ -0,0 +1,3 @@
+package com.example.operation;
+
+public class MyTypeDatabaseObject extends MyTypeDatabaseObjectAbstract {}
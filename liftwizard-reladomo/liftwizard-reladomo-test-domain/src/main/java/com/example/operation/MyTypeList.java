@@ -0,0 +1,22 @@
+package com.example.operation;
+
+import java.util.Collection;
+
+import com.gs.fw.finder.Operation;
+
+public class MyTypeList extends MyTypeListAbstract {
+
+	public MyTypeList() {}
+
+	public MyTypeList(int initialSize) {
+		super(initialSize);
+	}
+
+	public MyTypeList(Collection c) {
+		super(c);
+	}
+
+	public MyTypeList(Operation operation) {
+		super(operation);
+	}
+}
@@ -0,0 +1,9 @@
+package com.example.operation;
+
+public class RelatedType extends RelatedTypeAbstract {
+
+	public RelatedType() {
+		// You must not modify this constructor. Mithra calls this internally.
+		// You can call this constructor. You can also add new constructors.
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.operation;
+
+import java.util.Collection;
+
+import com.gs.fw.finder.Operation;
+
+public class RelatedTypeList extends RelatedTypeListAbstract {
+
+	public RelatedTypeList() {}
+
+	public RelatedTypeList(int initialSize) {
+		super(initialSize);
+	}
+
+	public RelatedTypeList(Collection c) {
+		super(c);
+	}
+
+	public RelatedTypeList(Operation operation) {
+		super(operation);
+	}
+}
@@ -0,0 +1,3 @@
+package com.example.pet;
+
+public class OwnerDatabaseObject extends OwnerDatabaseObjectAbstract {}
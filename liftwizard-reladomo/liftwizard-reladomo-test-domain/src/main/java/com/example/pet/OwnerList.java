@@ -0,0 +1,22 @@
+package com.example.pet;
+
+import java.util.Collection;
+
+import com.gs.fw.finder.Operation;
+
+public class OwnerList extends OwnerListAbstract {
+
+	public OwnerList() {}
+
+	public OwnerList(int initialSize) {
+		super(initialSize);
+	}
+
+	public OwnerList(Collection c) {
+		super(c);
+	}
+
+	public OwnerList(Operation operation) {
+		super(operation);
+	}
+}
@@ -0,0 +1,9 @@
+package com.example.pet;
+
+public class Pet extends PetAbstract {
+
+	public Pet() {
+		// You must not modify this constructor. Mithra calls this internally.
+		// You can call this constructor. You can also add new constructors.
+	}
+}
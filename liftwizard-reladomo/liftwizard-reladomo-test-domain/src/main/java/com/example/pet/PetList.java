@@ -0,0 +1,22 @@
+package com.example.pet;
+
+import java.util.Collection;
+
+import com.gs.fw.finder.Operation;
+
+public class PetList extends PetListAbstract {
+
+	public PetList() {}
+
+	public PetList(int initialSize) {
+		super(initialSize);
+	}
+
+	public PetList(Collection c) {
+		super(c);
+	}
+
+	public PetList(Operation operation) {
+		super(operation);
+	}
+}
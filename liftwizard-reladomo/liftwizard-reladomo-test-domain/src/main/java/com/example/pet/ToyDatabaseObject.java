@@ -0,0 +1,3 @@
+package com.example.pet;
+
+public class ToyDatabaseObject extends ToyDatabaseObjectAbstract {}
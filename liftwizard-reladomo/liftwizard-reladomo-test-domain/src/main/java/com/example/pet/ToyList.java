@@ -0,0 +1,22 @@
+package com.example.pet;
+
+import java.util.Collection;
+
+import com.gs.fw.finder.Operation;
+
+public class ToyList extends ToyListAbstract {
+
+	public ToyList() {}
+
+	public ToyList(int initialSize) {
+		super(initialSize);
+	}
+
+	public ToyList(Collection c) {
+		super(c);
+	}
+
+	public ToyList(Operation operation) {
+		super(operation);
+	}
+}
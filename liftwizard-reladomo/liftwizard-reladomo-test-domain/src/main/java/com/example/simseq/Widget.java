@@ -0,0 +1,11 @@
+package com.example.simseq;
+import java.sql.Timestamp;
+public class Widget extends WidgetAbstract
+{
+	public Widget()
+	{
+		super();
+		// You must not modify this constructor. Mithra calls this internally.
+		// You can call this constructor. You can also add new constructors.
+	}
+}
@@ -0,0 +1,4 @@
+package com.example.simseq;
+public class WidgetDatabaseObject extends WidgetDatabaseObjectAbstract
+{
+}
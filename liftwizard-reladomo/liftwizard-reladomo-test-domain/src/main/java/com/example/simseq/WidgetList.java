@@ -0,0 +1,25 @@
+package com.example.simseq;
+import com.gs.fw.finder.Operation;
+import java.util.*;
+public class WidgetList extends WidgetListAbstract
+{
+	public WidgetList()
+	{
+		super();
+	}
+
+	public WidgetList(int initialSize)
+	{
+		super(initialSize);
+	}
+
+	public WidgetList(Collection c)
+	{
+		super(c);
+	}
+
+	public WidgetList(Operation operation)
+	{
+		super(operation);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.reladomo.test.domain;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.gs.fw.common.mithra.bulkloader.BulkLoader;
+import com.gs.fw.common.mithra.connectionmanager.SourcelessConnectionManager;
+import com.gs.fw.common.mithra.databasetype.DatabaseType;
+import com.gs.fw.common.mithra.databasetype.H2DatabaseType;
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * A connection manager for tests, backed by a named H2 in-memory database.
+ *
+ * <p>
+ * Reladomo calls {@link #getInstance(Properties)} with the properties of the {@code ConnectionManager} element in the runtime configuration. {@code databaseName} is required and names the database. {@code ddl} is optional and names a classpath script that creates the tables when the database is first used.
+ *
+ * <pre>{@code
+ * <ConnectionManager className="io.liftwizard.reladomo.test.domain.H2TestConnectionManager">
+ *     <Property name="databaseName" value="my-test" />
+ *     <Property name="ddl" value="sql/my-test.ddl" />
+ *     ...
+ * </ConnectionManager>
+ * }</pre>
+ */
+public final class H2TestConnectionManager implements SourcelessConnectionManager {
+
+	private static final ConcurrentMap<String, H2TestConnectionManager> INSTANCES = new ConcurrentHashMap<>();
+
+	private final String databaseName;
+	private final JdbcDataSource dataSource;
+
+	private H2TestConnectionManager(String databaseName, JdbcDataSource dataSource) {
+		this.databaseName = Objects.requireNonNull(databaseName);
+		this.dataSource = Objects.requireNonNull(dataSource);
+	}
+
+	@Nonnull
+	@SuppressWarnings("unused")
+	public static H2TestConnectionManager getInstance(Properties properties) {
+		String databaseName = properties.getProperty("databaseName");
+		if (databaseName == null) {
+			throw new IllegalArgumentException("H2TestConnectionManager requires a databaseName property");
+		}
+		String ddl = properties.getProperty("ddl");
+		return INSTANCES.computeIfAbsent(databaseName, (name) ->
+			new H2TestConnectionManager(name, createDataSource(name, ddl))
+		);
+	}
+
+	/**
+	 * Returns the connection manager that Reladomo created for {@code databaseName}.
+	 */
+	@Nonnull
+	public static H2TestConnectionManager getInstance(String databaseName) {
+		H2TestConnectionManager result = INSTANCES.get(databaseName);
+		if (result == null) {
+			throw new IllegalStateException(
+				"No H2TestConnectionManager for database '" + databaseName + "'. Initialize Reladomo first."
+			);
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a data source for the H2 in-memory database {@code databaseName}, and runs the {@code ddl} classpath script against it if one is given.
+	 */
+	@Nonnull
+	public static JdbcDataSource createDataSource(String databaseName, @Nullable String ddl) {
+		var dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1");
+		dataSource.setUser("sa");
+		dataSource.setPassword("");
+
+		if (ddl != null) {
+			try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+				statement.execute("RUNSCRIPT FROM 'classpath:" + ddl + "'");
+			} catch (SQLException e) {
+				throw new RuntimeException("Could not run " + ddl + " against " + databaseName, e);
+			}
+		}
+		return dataSource;
+	}
+
+	public void execute(String sql) {
+		try (Connection connection = this.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		} catch (SQLException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public Connection getConnection() {
+		try {
+			return this.dataSource.getConnection();
+		} catch (SQLException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	@Override
+	public BulkLoader createBulkLoader() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public DatabaseType getDatabaseType() {
+		return H2DatabaseType.getInstance();
+	}
+
+	@Override
+	public TimeZone getDatabaseTimeZone() {
+		return TimeZone.getTimeZone("UTC");
+	}
+
+	@Override
+	public String getDatabaseIdentifier() {
+		return this.databaseName;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.task.reladomo.clear.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.finder.RelatedFinder;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+import com.gs.fw.finder.DomainList;
+import com.gs.fw.finder.Navigation;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads every object of the configured classes into the Reladomo cache, along with the configured deep-fetch paths, so the first requests after startup or a cache clear don't load them one query at a time.
+ *
+ * <p>
+ * Classes are loaded in parallel on a fixed pool of {@code parallelism} threads that only lives for the duration of {@link #warmUp()}. Class names can be simple or fully qualified, and {@link #warmUp()} throws if a simple name matches more than one class. Only classes with a full cache are loaded, by reloading the cache and then deep fetching from it. Partial caches are skipped, since they can evict the objects as soon as they are loaded. Deep-fetch paths are relationship names separated by dots, like {@code "owner.address"}.
+ */
+public class ReladomoCacheWarmer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReladomoCacheWarmer.class);
+
+	@Nonnull
+	private final Map<String, List<String>> deepFetchPathsByClassName;
+
+	private final int parallelism;
+
+	public ReladomoCacheWarmer(@Nonnull Map<String, List<String>> deepFetchPathsByClassName, int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Expected positive parallelism but got " + parallelism);
+		}
+		this.deepFetchPathsByClassName = Objects.requireNonNull(deepFetchPathsByClassName);
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * @return one summary line per configured class
+	 * @throws IllegalArgumentException if a configured simple name matches more than one class, before anything is loaded
+	 */
+	public ImmutableList<String> warmUp() {
+		MutableList<String> results = Lists.mutable.empty();
+		MutableList<Pair<MithraRuntimeCacheController, List<String>>> work = Lists.mutable.empty();
+		Map<String, MithraRuntimeCacheController> cacheControllersByClassName = MithraManagerProvider.getMithraManager()
+			.getRuntimeCacheControllerSet()
+			.stream()
+			.collect(Collectors.toMap(MithraRuntimeCacheController::getClassName, Function.identity()));
+		for (Entry<String, List<String>> entry : this.deepFetchPathsByClassName.entrySet()) {
+			String className = resolveClassName(entry.getKey(), cacheControllersByClassName.keySet());
+			if (className == null) {
+				String message = "Skipped unknown class " + entry.getKey();
+				LOGGER.warn(message);
+				results.add(message);
+				continue;
+			}
+			MithraRuntimeCacheController cacheController = cacheControllersByClassName.get(className);
+			if (cacheController.isPartialCache()) {
+				String message = "Skipped %s, which does not have a full cache".formatted(className);
+				LOGGER.warn(message);
+				results.add(message);
+				continue;
+			}
+			work.add(Tuples.pair(cacheController, entry.getValue()));
+		}
+		if (work.isEmpty()) {
+			return results.toImmutable();
+		}
+
+		long start = System.nanoTime();
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, work.size()), (runnable) -> {
+			var thread = new Thread(runnable, "reladomo-cache-warm-up-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			MutableList<Future<String>> futures = work.collect((pair) ->
+				executor.submit(() -> this.warmUpClass(pair.getOne(), pair.getTwo()))
+			);
+			for (int i = 0; i < futures.size(); i++) {
+				results.add(this.getResult(work.get(i).getOne(), futures.get(i)));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		String message = "Warmed up %d classes in %d ms".formatted(work.size(), durationMillis);
+		LOGGER.info(message);
+		results.add(message);
+		return results.toImmutable();
+	}
+
+	/**
+	 * @return the fully qualified name of the class named by {@code configuredName}, or null if there is none
+	 * @throws IllegalArgumentException if {@code configuredName} is a simple name shared by more than one class
+	 */
+	@Nullable
+	static String resolveClassName(String configuredName, Collection<String> classNames) {
+		List<String> matches = classNames
+			.stream()
+			.filter((className) -> ReladomoClearClassCacheTask.matches(className, List.of(configuredName), List.of()))
+			.sorted()
+			.toList();
+		if (matches.size() > 1) {
+			throw new IllegalArgumentException(
+				"Class name %s is ambiguous. Use one of %s".formatted(configuredName, matches)
+			);
+		}
+		return matches.isEmpty() ? null : matches.getFirst();
+	}
+
+	private String getResult(MithraRuntimeCacheController cacheController, Future<String> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			String message = "Failed to warm up %s: %s".formatted(cacheController.getClassName(), e.getCause());
+			LOGGER.warn(message, e.getCause());
+			return message;
+		}
+	}
+
+	private String warmUpClass(MithraRuntimeCacheController cacheController, List<String> deepFetchPaths) {
+		long start = System.nanoTime();
+		// A full cache answers finds from memory, so it has to be loaded explicitly
+		cacheController.reloadCache();
+		int size = ReladomoCacheWarmer.load(cacheController.getFinderInstance(), deepFetchPaths);
+		long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		String message = "Warmed up %s with %d objects and %d deep-fetch paths in %d ms".formatted(
+			cacheController.getClassName(),
+			size,
+			deepFetchPaths.size(),
+			durationMillis
+		);
+		LOGGER.info(message);
+		return message;
+	}
+
+	private static <T> int load(RelatedFinder<T> finder, List<String> deepFetchPaths) {
+		var result = (DomainList<T>) finder.findMany(finder.all());
+		for (String deepFetchPath : deepFetchPaths) {
+			RelatedFinder<T> currentFinder = finder;
+			for (String relationshipName : deepFetchPath.split("\\.")) {
+				currentFinder = currentFinder.getRelationshipFinderByName(relationshipName);
+				if (currentFinder == null) {
+					throw new IllegalArgumentException("Unknown relationship %s in deep-fetch path %s".formatted(
+						relationshipName,
+						deepFetchPath
+					));
+				}
+			}
+			result.deepFetch((Navigation<T>) currentFinder);
+		}
+		return result.size();
+	}
+}
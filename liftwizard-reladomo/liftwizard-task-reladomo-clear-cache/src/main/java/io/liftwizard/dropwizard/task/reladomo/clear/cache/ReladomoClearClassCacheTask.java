@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.task.reladomo.clear.cache;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.util.MithraRuntimeCacheController;
+import io.dropwizard.servlets.tasks.Task;
+
+/**
+ * Clears the query caches of selected classes, instead of every query cache like {@link ReladomoClearCacheTask}.
+ *
+ * <p>
+ * Parameters: {@code class} takes a simple or fully qualified class name, and {@code package} takes a package name that also matches its subpackages. Both can be repeated. With {@code reload=true}, partial caches are cleared and full caches are reloaded from the database, in addition to clearing the query cache.
+ */
+public class ReladomoClearClassCacheTask extends Task {
+
+	public ReladomoClearClassCacheTask() {
+		super("reladomo-clear-class-cache");
+	}
+
+	@Override
+	public void execute(Map<String, List<String>> parameters, PrintWriter output) {
+		List<String> classNames = parameters.getOrDefault("class", List.of());
+		List<String> packageNames = parameters.getOrDefault("package", List.of());
+		boolean reload = parameters.getOrDefault("reload", List.of()).contains("true");
+		if (classNames.isEmpty() && packageNames.isEmpty()) {
+			output.println("Expected at least one class or package parameter.");
+			return;
+		}
+
+		int count = 0;
+		for (MithraRuntimeCacheController cacheController : MithraManagerProvider.getMithraManager()
+			.getRuntimeCacheControllerSet()) {
+			String className = cacheController.getClassName();
+			if (matches(className, classNames, packageNames)) {
+				if (reload) {
+					cacheController.clearPartialCacheOrReloadFullCache();
+				}
+				cacheController.clearQueryCache();
+				output.println((reload ? "Reloaded " : "Cleared ") + className);
+				count++;
+			}
+		}
+		output.println("Cleared the caches of " + count + " classes.");
+	}
+
+	static boolean matches(String className, List<String> classNames, List<String> packageNames) {
+		String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
+		return (
+			classNames.contains(className)
+			|| classNames.contains(simpleClassName)
+			|| packageNames.stream().anyMatch((packageName) -> className.startsWith(packageName + "."))
+		);
+	}
+}
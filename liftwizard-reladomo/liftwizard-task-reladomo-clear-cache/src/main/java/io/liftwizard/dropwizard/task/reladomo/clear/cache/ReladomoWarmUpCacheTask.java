@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.task.reladomo.clear.cache;
+
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import io.dropwizard.servlets.tasks.Task;
+
+public class ReladomoWarmUpCacheTask extends Task {
+
+	private final ReladomoCacheWarmer cacheWarmer;
+
+	public ReladomoWarmUpCacheTask(ReladomoCacheWarmer cacheWarmer) {
+		super("reladomo-warm-up-cache");
+		this.cacheWarmer = Objects.requireNonNull(cacheWarmer);
+	}
+
+	@Override
+	public void execute(Map<String, List<String>> parameters, PrintWriter output) {
+		this.cacheWarmer.warmUp().forEach(output::println);
+	}
+}
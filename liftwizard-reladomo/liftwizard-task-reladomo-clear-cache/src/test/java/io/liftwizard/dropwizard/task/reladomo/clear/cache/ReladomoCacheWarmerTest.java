@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.task.reladomo.clear.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+import com.example.pet.Owner;
+import com.example.pet.OwnerFinder;
+import com.example.pet.Pet;
+import com.example.pet.PetFinder;
+import com.example.pet.ToyFinder;
+import com.gs.fw.common.mithra.MithraManager;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.mithraruntime.MithraRuntimeType;
+import com.gs.fw.common.mithra.util.MithraConfigurationManager;
+import io.liftwizard.reladomo.test.domain.H2TestConnectionManager;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReladomoCacheWarmerTest {
+
+	private static final String DATABASE_NAME = "clear-cache-test";
+
+	private static final String RUNTIME_CONFIGURATION_PATH =
+		"reladomo-runtime-configuration/WarmUpReladomoRuntimeConfiguration.xml";
+
+	@BeforeEach
+	void setUp() throws IOException {
+		try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(RUNTIME_CONFIGURATION_PATH)) {
+			MithraConfigurationManager mithraConfigurationManager =
+				MithraManagerProvider.getMithraManager().getConfigManager();
+			MithraRuntimeType mithraRuntimeType = mithraConfigurationManager.parseConfiguration(inputStream);
+			mithraConfigurationManager.initializeRuntime(mithraRuntimeType);
+			mithraConfigurationManager.fullyInitialize();
+		}
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM OWNER");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM PET");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM TOY");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("INSERT INTO OWNER VALUES (1, 'Alice'), (2, 'Bob')");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute(
+			"INSERT INTO PET VALUES (10, 1, 'Rex'), (11, 1, 'Tom'), (12, 2, 'Kit')"
+		);
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute(
+			"INSERT INTO TOY VALUES (100, 10, 'Ball'), (101, 12, 'Rope')"
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+	}
+
+	@Test
+	void loadsTheClassAndItsDeepFetchPaths() {
+		var warmer = new ReladomoCacheWarmer(Map.of("Owner", List.of("pets.toys")), 2);
+
+		ImmutableList<String> results = warmer.warmUp();
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0)).startsWith(
+			"Warmed up com.example.pet.Owner with 2 objects and 1 deep-fetch paths in "
+		);
+		assertThat(results.get(1)).startsWith("Warmed up 1 classes in ");
+		assertThat(OwnerFinder.getMithraObjectPortal().getCache().size()).isEqualTo(2);
+		assertThat(PetFinder.getMithraObjectPortal().getCache().size()).isEqualTo(3);
+		assertThat(ToyFinder.getMithraObjectPortal().getCache().size()).isEqualTo(2);
+
+		MithraManager mithraManager = MithraManagerProvider.getMithraManager();
+		int retrievesBefore = mithraManager.getDatabaseRetrieveCount();
+		int toyCount = 0;
+		for (Owner owner : OwnerFinder.findMany(OwnerFinder.all())) {
+			for (Pet pet : owner.getPets()) {
+				toyCount += pet.getToys().size();
+			}
+		}
+		assertThat(toyCount).isEqualTo(2);
+		assertThat(mithraManager.getDatabaseRetrieveCount()).isEqualTo(retrievesBefore);
+	}
+
+	@Test
+	void acceptsFullyQualifiedClassNames() {
+		var warmer = new ReladomoCacheWarmer(Map.of("com.example.pet.Owner", List.of()), 1);
+
+		ImmutableList<String> results = warmer.warmUp();
+
+		assertThat(results.get(0)).startsWith("Warmed up com.example.pet.Owner with 2 objects and 0 deep-fetch paths");
+		assertThat(OwnerFinder.getMithraObjectPortal().getCache().size()).isEqualTo(2);
+		assertThat(PetFinder.getMithraObjectPortal().getCache().size()).isZero();
+	}
+
+	@Test
+	void skipsUnknownClasses() {
+		var warmer = new ReladomoCacheWarmer(Map.of("Unknown", List.of()), 1);
+
+		assertThat(warmer.warmUp()).containsExactly("Skipped unknown class Unknown");
+	}
+
+	@Test
+	void skipsClassesWithoutAFullCache() {
+		var warmer = new ReladomoCacheWarmer(Map.of("Pet", List.of("toys")), 1);
+
+		assertThat(warmer.warmUp()).containsExactly("Skipped com.example.pet.Pet, which does not have a full cache");
+		assertThat(PetFinder.getMithraObjectPortal().getCache().size()).isZero();
+		assertThat(ToyFinder.getMithraObjectPortal().getCache().size()).isZero();
+	}
+
+	@Test
+	void rejectsAmbiguousSimpleNames() {
+		List<String> classNames = List.of("com.example.pet.Owner", "com.example.shop.Owner", "com.example.pet.Pet");
+
+		assertThat(ReladomoCacheWarmer.resolveClassName("Pet", classNames)).isEqualTo("com.example.pet.Pet");
+		assertThat(ReladomoCacheWarmer.resolveClassName("com.example.shop.Owner", classNames)).isEqualTo(
+			"com.example.shop.Owner"
+		);
+		assertThat(ReladomoCacheWarmer.resolveClassName("Toy", classNames)).isNull();
+		assertThatThrownBy(() -> ReladomoCacheWarmer.resolveClassName("Owner", classNames))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Class name Owner is ambiguous. Use one of [com.example.pet.Owner, com.example.shop.Owner]");
+	}
+
+	@Test
+	void reportsUnknownRelationships() {
+		var warmer = new ReladomoCacheWarmer(Map.of("Owner", List.of("pets.unknown")), 1);
+
+		ImmutableList<String> results = warmer.warmUp();
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0)).isEqualTo(
+			"Failed to warm up com.example.pet.Owner: "
+			+ "java.lang.IllegalArgumentException: Unknown relationship unknown in deep-fetch path pets.unknown"
+		);
+		assertThat(results.getLast()).startsWith("Warmed up 1 classes in ");
+	}
+
+	@Test
+	void rejectsNonPositiveParallelism() {
+		assertThatThrownBy(() -> new ReladomoCacheWarmer(Map.of(), 0))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("Expected positive parallelism but got 0");
+	}
+}
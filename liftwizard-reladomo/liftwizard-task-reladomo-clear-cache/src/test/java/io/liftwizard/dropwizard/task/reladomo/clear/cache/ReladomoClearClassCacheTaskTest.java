@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.task.reladomo.clear.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import com.example.pet.OwnerFinder;
+import com.example.pet.OwnerList;
+import com.example.pet.PetFinder;
+import com.gs.fw.common.mithra.MithraManagerProvider;
+import com.gs.fw.common.mithra.mithraruntime.MithraRuntimeType;
+import com.gs.fw.common.mithra.util.MithraConfigurationManager;
+import io.liftwizard.reladomo.test.domain.H2TestConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoClearClassCacheTaskTest {
+
+	private static final String DATABASE_NAME = "clear-cache-test";
+
+	private static final String RUNTIME_CONFIGURATION_PATH =
+		"reladomo-runtime-configuration/TestReladomoRuntimeConfiguration.xml";
+
+	@BeforeEach
+	void setUp() throws IOException {
+		try (InputStream inputStream = this.getClass().getClassLoader().getResourceAsStream(RUNTIME_CONFIGURATION_PATH)) {
+			MithraConfigurationManager mithraConfigurationManager =
+				MithraManagerProvider.getMithraManager().getConfigManager();
+			MithraRuntimeType mithraRuntimeType = mithraConfigurationManager.parseConfiguration(inputStream);
+			mithraConfigurationManager.initializeRuntime(mithraRuntimeType);
+			mithraConfigurationManager.fullyInitialize();
+		}
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM OWNER");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("DELETE FROM PET");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("INSERT INTO OWNER VALUES (1, 'Alice'), (2, 'Bob')");
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("INSERT INTO PET VALUES (10, 1, 'Rex')");
+	}
+
+	@AfterEach
+	void tearDown() {
+		MithraManagerProvider.getMithraManager().clearAllQueryCaches();
+		MithraManagerProvider.getMithraManager().getConfigManager().resetAllInitializedClasses();
+	}
+
+	@Test
+	void matchesSimpleAndFullyQualifiedClassNames() {
+		assertThat(matchesOwner(List.of("Owner"), List.of())).isTrue();
+		assertThat(matchesOwner(List.of("com.example.pet.Owner"), List.of())).isTrue();
+		assertThat(matchesOwner(List.of("Own", "pet.Owner", "Pet"), List.of())).isFalse();
+	}
+
+	@Test
+	void matchesPackagesAndTheirSubpackages() {
+		assertThat(matchesOwner(List.of(), List.of("com.example.pet"))).isTrue();
+		assertThat(matchesOwner(List.of(), List.of("com.example"))).isTrue();
+		assertThat(matchesOwner(List.of(), List.of("com.exam", "com.example.p"))).isFalse();
+		assertThat(matchesOwner(List.of(), List.of("com.example.pet.Owner"))).isFalse();
+	}
+
+	@Test
+	void requiresAClassOrPackage() {
+		assertThat(execute(Map.of())).containsExactly("Expected at least one class or package parameter.");
+	}
+
+	@Test
+	void clearsOnlyTheQueryCachesOfTheSelectedClasses() {
+		OwnerFinder.findMany(OwnerFinder.all()).forceResolve();
+		PetFinder.findMany(PetFinder.all()).forceResolve();
+
+		List<String> output = execute(Map.of("class", List.of("Owner")));
+
+		assertThat(output).containsExactly("Cleared com.example.pet.Owner", "Cleared the caches of 1 classes.");
+		assertThat(OwnerFinder.getMithraObjectPortal().getQueryCache().roughSize()).isZero();
+		assertThat(OwnerFinder.getMithraObjectPortal().getCache().size()).isEqualTo(2);
+		assertThat(PetFinder.getMithraObjectPortal().getQueryCache().roughSize()).isPositive();
+	}
+
+	@Test
+	void clearsEveryClassInAPackage() {
+		List<String> output = execute(Map.of("package", List.of("com.example")));
+
+		assertThat(output).containsExactlyInAnyOrder(
+			"Cleared com.example.pet.Owner",
+			"Cleared com.example.pet.Pet",
+			"Cleared com.example.pet.Toy",
+			"Cleared the caches of 3 classes."
+		);
+	}
+
+	@Test
+	void unknownClassesClearNothing() {
+		OwnerFinder.findMany(OwnerFinder.all()).forceResolve();
+
+		List<String> output = execute(Map.of("class", List.of("Unknown", "com.example.pet.Unknown")));
+
+		assertThat(output).containsExactly("Cleared the caches of 0 classes.");
+		assertThat(OwnerFinder.getMithraObjectPortal().getQueryCache().roughSize()).isPositive();
+	}
+
+	@Test
+	void reloadAlsoRefreshesCachedObjects() {
+		// Hold the owners so the partial cache cannot drop them
+		OwnerList owners = OwnerFinder.findMany(OwnerFinder.all());
+		owners.forceResolve();
+		H2TestConnectionManager.getInstance(DATABASE_NAME).execute("UPDATE OWNER SET owner_name = 'Alicia' WHERE id = 1");
+
+		List<String> output = execute(Map.of("class", List.of("Owner"), "reload", List.of("true")));
+
+		assertThat(output).containsExactly("Reloaded com.example.pet.Owner", "Cleared the caches of 1 classes.");
+		assertThat(OwnerFinder.findByPrimaryKey(1).getName()).isEqualTo("Alicia");
+		assertThat(owners).hasSize(2);
+	}
+
+	private static boolean matchesOwner(List<String> classNames, List<String> packageNames) {
+		return ReladomoClearClassCacheTask.matches("com.example.pet.Owner", classNames, packageNames);
+	}
+
+	private static List<String> execute(Map<String, List<String>> parameters) {
+		var output = new StringWriter();
+		new ReladomoClearClassCacheTask().execute(parameters, new PrintWriter(output, true));
+		return output.toString().lines().toList();
+	}
+}
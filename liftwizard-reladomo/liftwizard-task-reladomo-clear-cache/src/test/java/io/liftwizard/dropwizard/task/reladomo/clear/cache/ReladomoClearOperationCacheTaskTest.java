@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.dropwizard.task.reladomo.clear.cache;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+
+import com.codahale.metrics.MetricRegistry;
+import com.example.pet.OwnerFinder;
+import io.liftwizard.model.reladomo.operation.compiler.CachingReladomoOperationCompiler;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReladomoClearOperationCacheTaskTest {
+
+	@Test
+	void clearsTheCompiledOperations() {
+		var compiler = new CachingReladomoOperationCompiler("test", 10, new MetricRegistry());
+		compiler.compile(OwnerFinder.getFinderInstance(), "this.id = 1");
+		compiler.compile(OwnerFinder.getFinderInstance(), "this.name = \"Alice\"");
+
+		var output = new StringWriter();
+		new ReladomoClearOperationCacheTask(compiler).execute(Map.of(), new PrintWriter(output, true));
+
+		assertThat(output.toString()).isEqualToIgnoringNewLines("Cleared 2 compiled operations.");
+		assertThat(compiler.size()).isZero();
+	}
+}
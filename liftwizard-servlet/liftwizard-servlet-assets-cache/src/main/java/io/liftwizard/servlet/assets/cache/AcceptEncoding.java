@@ -0,0 +1,47 @@
+package io.liftwizard.servlet.assets.cache;
+
+import javax.annotation.Nullable;
+
+final class AcceptEncoding {
+
+	private AcceptEncoding() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	/**
+	 * @return true if the Accept-Encoding header allows the coding, either by name or through a wildcard, with a nonzero quality
+	 */
+	static boolean accepts(@Nullable String acceptEncoding, String coding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+
+		Boolean wildcard = null;
+		for (String element : acceptEncoding.split(",")) {
+			String[] parameters = element.split(";");
+			String name = parameters[0].strip();
+			boolean acceptable = getQuality(parameters) > 0;
+			if (name.equalsIgnoreCase(coding)) {
+				return acceptable;
+			}
+			if (name.equals("*")) {
+				wildcard = acceptable;
+			}
+		}
+		return Boolean.TRUE.equals(wildcard);
+	}
+
+	private static double getQuality(String[] parameters) {
+		for (int i = 1; i < parameters.length; i++) {
+			String parameter = parameters[i].strip();
+			if (parameter.startsWith("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2));
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+}
@@ -0,0 +1,259 @@
+package io.liftwizard.servlet.assets.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory index of the assets under a classpath directory, built once at startup.
+ *
+ * <p>
+ * Each asset gets a strong ETag from a SHA-256 hash of its content. Sibling {@code .gz} and {@code .br} files are served as precompressed variants. Text assets without a {@code .gz} sibling are gzipped at startup when that makes them smaller.
+ *
+ * <p>
+ * Every asset is indexed with its ETag and variants, but only variants up to the maximum in-memory size hold their bytes. Larger variants are hashed as a stream at startup and streamed from the directory or jar on each request, so they never sit on the heap.
+ */
+public final class AssetIndex {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AssetIndex.class);
+
+	public static final long DEFAULT_MAX_INDEXED_ASSET_SIZE = 1024 * 1024;
+
+	private static final int MIN_COMPRESSIBLE_SIZE = 1024;
+
+	private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(
+		"css",
+		"csv",
+		"htm",
+		"html",
+		"js",
+		"json",
+		"map",
+		"mjs",
+		"svg",
+		"txt",
+		"wasm",
+		"xml"
+	);
+
+	private static final AssetIndex EMPTY = new AssetIndex(Map.of());
+
+	private final Map<String, IndexedAsset> assetsByPath;
+
+	private AssetIndex(Map<String, IndexedAsset> assetsByPath) {
+		this.assetsByPath = Map.copyOf(assetsByPath);
+	}
+
+	public static AssetIndex empty() {
+		return EMPTY;
+	}
+
+	@Nullable
+	public IndexedAsset get(@Nonnull String relativePath) {
+		return this.assetsByPath.get(Objects.requireNonNull(relativePath));
+	}
+
+	public int size() {
+		return this.assetsByPath.size();
+	}
+
+	/**
+	 * Indexes every file under {@code resourcePath}, holding variants up to {@link #DEFAULT_MAX_INDEXED_ASSET_SIZE} bytes in memory.
+	 */
+	public static AssetIndex scan(@Nonnull String resourcePath) {
+		return scan(resourcePath, DEFAULT_MAX_INDEXED_ASSET_SIZE);
+	}
+
+	/**
+	 * Indexes every file under {@code resourcePath} on the context class loader's classpath, from a directory or a jar.
+	 * Variants larger than {@code maxAssetSize} bytes are streamed per request instead of held in memory, and are not gzipped at startup.
+	 * Returns an empty index when the resource path cannot be found.
+	 */
+	public static AssetIndex scan(@Nonnull String resourcePath, long maxAssetSize) {
+		String trimmedPath = trimSlashes(resourcePath);
+		URL root = getClassLoader().getResource(trimmedPath);
+		if (root == null) {
+			LOGGER.warn(
+				"Could not find asset resource path '{}'. Assets will be served without the index.",
+				resourcePath
+			);
+			return EMPTY;
+		}
+
+		try {
+			URI rootUri = root.toURI();
+			if ("jar".equals(rootUri.getScheme())) {
+				return scanJar(rootUri, maxAssetSize);
+			}
+			return scanDirectory(Path.of(rootUri), maxAssetSize);
+		} catch (IOException | URISyntaxException | UncheckedIOException e) {
+			LOGGER.warn("Could not index assets under '{}'. Assets will be served without the index.", resourcePath, e);
+			return EMPTY;
+		}
+	}
+
+	private static AssetIndex scanJar(URI rootUri, long maxAssetSize) throws IOException {
+		try (FileSystem fileSystem = FileSystems.newFileSystem(rootUri, Map.of())) {
+			return scanDirectory(fileSystem.provider().getPath(rootUri), maxAssetSize);
+		} catch (FileSystemAlreadyExistsException e) {
+			return scanDirectory(FileSystems.getFileSystem(rootUri).provider().getPath(rootUri), maxAssetSize);
+		}
+	}
+
+	private static AssetIndex scanDirectory(Path root, long maxAssetSize) throws IOException {
+		Map<String, IndexedAsset> assetsByPath = new HashMap<>();
+		int streamedVariants = 0;
+		long inMemoryBytes = 0;
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+				String relativePath = trimSlashes(root.relativize(path).toString().replace('\\', '/'));
+				if (relativePath.endsWith(".gz") || relativePath.endsWith(".br")) {
+					continue;
+				}
+
+				IndexedAsset asset = readAsset(path, relativePath, maxAssetSize);
+				assetsByPath.put(relativePath, asset);
+				for (AssetVariant variant : asset.variants()) {
+					if (variant.isInMemory()) {
+						inMemoryBytes += variant.contentLength();
+					} else {
+						streamedVariants++;
+					}
+				}
+			}
+		}
+
+		LOGGER.info(
+			"Indexed {} assets under {}, holding {} bytes in memory. Streaming {} variants larger than {} bytes.",
+			assetsByPath.size(),
+			root,
+			inMemoryBytes,
+			streamedVariants,
+			maxAssetSize
+		);
+		return new AssetIndex(assetsByPath);
+	}
+
+	private static IndexedAsset readAsset(Path path, String relativePath, long maxAssetSize) throws IOException {
+		long size = Files.size(path);
+		byte[] content = size <= maxAssetSize ? Files.readAllBytes(path) : null;
+		String contentHash = content == null ? hash(path) : hash(content);
+		AssetVariant identity = content == null
+			? AssetVariant.streamed(null, contentHash, size, path.toUri())
+			: AssetVariant.of(null, contentHash, content);
+
+		AssetVariant gzip = readSibling(path, ".gz", "gzip", contentHash, maxAssetSize);
+		if (gzip == null && content != null && isCompressible(relativePath, content)) {
+			byte[] compressed = gzip(content);
+			gzip = compressed == null ? null : AssetVariant.of("gzip", contentHash, compressed);
+		}
+		AssetVariant brotli = readSibling(path, ".br", "br", contentHash, maxAssetSize);
+
+		return new IndexedAsset(relativePath, identity, gzip, brotli);
+	}
+
+	@Nullable
+	private static AssetVariant readSibling(
+		Path path,
+		String extension,
+		String contentEncoding,
+		String contentHash,
+		long maxAssetSize
+	) throws IOException {
+		Path sibling = path.resolveSibling(path.getFileName() + extension);
+		if (!Files.isRegularFile(sibling)) {
+			return null;
+		}
+
+		long size = Files.size(sibling);
+		if (size > maxAssetSize) {
+			return AssetVariant.streamed(contentEncoding, contentHash, size, sibling.toUri());
+		}
+		return AssetVariant.of(contentEncoding, contentHash, Files.readAllBytes(sibling));
+	}
+
+	private static boolean isCompressible(String relativePath, byte[] identity) {
+		if (identity.length < MIN_COMPRESSIBLE_SIZE) {
+			return false;
+		}
+		int extensionIndex = relativePath.lastIndexOf('.');
+		return (
+			extensionIndex >= 0
+			&& COMPRESSIBLE_EXTENSIONS.contains(relativePath.substring(extensionIndex + 1).toLowerCase(Locale.ROOT))
+		);
+	}
+
+	@Nullable
+	private static byte[] gzip(byte[] identity) throws IOException {
+		var byteArrayOutputStream = new ByteArrayOutputStream(identity.length / 2);
+		try (var gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+			gzipOutputStream.write(identity);
+		}
+		byte[] compressed = byteArrayOutputStream.toByteArray();
+		return compressed.length < identity.length ? compressed : null;
+	}
+
+	private static String hash(byte[] content) {
+		MessageDigest messageDigest = newMessageDigest();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest(content));
+	}
+
+	private static String hash(Path path) throws IOException {
+		MessageDigest messageDigest = newMessageDigest();
+		try (var inputStream = new DigestInputStream(Files.newInputStream(path), messageDigest)) {
+			inputStream.transferTo(OutputStream.nullOutputStream());
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest());
+	}
+
+	private static MessageDigest newMessageDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static ClassLoader getClassLoader() {
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		return contextClassLoader == null ? AssetIndex.class.getClassLoader() : contextClassLoader;
+	}
+
+	static String trimSlashes(String path) {
+		int start = 0;
+		int end = path.length();
+		while (start < end && path.charAt(start) == '/') {
+			start++;
+		}
+		while (end > start && path.charAt(end - 1) == '/') {
+			end--;
+		}
+		return path.substring(start, end);
+	}
+}
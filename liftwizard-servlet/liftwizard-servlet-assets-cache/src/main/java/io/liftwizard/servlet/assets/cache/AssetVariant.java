@@ -0,0 +1,63 @@
+package io.liftwizard.servlet.assets.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * One encoding of an {@link IndexedAsset}. The strong ETag is derived from the asset's content hash and the encoding, since each encoding is a different representation.
+ *
+ * <p>
+ * Small variants hold their {@code content} in memory. Larger ones have no content and are streamed from {@code source}, a {@code file} or {@code jar} URI, on each request.
+ */
+public record AssetVariant(
+	@Nullable String contentEncoding,
+	@Nonnull String etag,
+	long contentLength,
+	@Nullable byte[] content,
+	@Nullable URI source
+) {
+	public AssetVariant {
+		Objects.requireNonNull(etag);
+		if (content == null && source == null) {
+			throw new IllegalArgumentException("Expected content or a source for " + etag);
+		}
+	}
+
+	public static AssetVariant of(@Nullable String contentEncoding, @Nonnull String contentHash, @Nonnull byte[] content) {
+		return new AssetVariant(contentEncoding, etag(contentEncoding, contentHash), content.length, content, null);
+	}
+
+	public static AssetVariant streamed(
+		@Nullable String contentEncoding,
+		@Nonnull String contentHash,
+		long contentLength,
+		@Nonnull URI source
+	) {
+		return new AssetVariant(contentEncoding, etag(contentEncoding, contentHash), contentLength, null, source);
+	}
+
+	public boolean isInMemory() {
+		return this.content != null;
+	}
+
+	public void writeTo(@Nonnull OutputStream outputStream) throws IOException {
+		if (this.content != null) {
+			outputStream.write(this.content);
+			return;
+		}
+		try (InputStream inputStream = this.source.toURL().openStream()) {
+			inputStream.transferTo(outputStream);
+		}
+	}
+
+	private static String etag(@Nullable String contentEncoding, String contentHash) {
+		String suffix = contentEncoding == null ? "" : "-" + contentEncoding;
+		return "\"" + contentHash + suffix + "\"";
+	}
+}
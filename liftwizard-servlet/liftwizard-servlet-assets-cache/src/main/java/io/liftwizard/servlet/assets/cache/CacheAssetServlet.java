@@ -6,18 +6,29 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.TemporalUnit;
+import java.util.Locale;
+import java.util.Objects;
 
+import javax.annotation.Nullable;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.dropwizard.servlets.assets.AssetServlet;
 
+/**
+ * An {@link AssetServlet} that adds Cache-Control and Expires headers.
+ *
+ * <p>
+ * When given an {@link AssetIndex}, indexed assets are served with strong ETags, small ones from memory and large ones streamed from their directory or jar, {@code If-None-Match} is answered with 304 without reading the resource, and precompressed variants are chosen by {@code Accept-Encoding}. Range requests and assets missing from the index fall back to {@link AssetServlet}.
+ */
 public class CacheAssetServlet extends AssetServlet {
 
 	private final Clock clock;
 	private final long amountToAdd;
 	private final TemporalUnit temporalUnit;
+	private final AssetIndex assetIndex;
+	private final String cacheControl;
 
 	public CacheAssetServlet(
 		String resourcePath,
@@ -27,22 +38,103 @@ public class CacheAssetServlet extends AssetServlet {
 		long amountToAdd,
 		TemporalUnit temporalUnit,
 		Clock clock
+	) {
+		this(resourcePath, uriPath, indexFile, charset, amountToAdd, temporalUnit, clock, AssetIndex.empty());
+	}
+
+	public CacheAssetServlet(
+		String resourcePath,
+		String uriPath,
+		String indexFile,
+		Charset charset,
+		long amountToAdd,
+		TemporalUnit temporalUnit,
+		Clock clock,
+		AssetIndex assetIndex
 	) {
 		super(resourcePath, uriPath, indexFile, charset);
 		this.amountToAdd = amountToAdd;
 		this.temporalUnit = temporalUnit;
 		this.clock = clock;
+		this.assetIndex = Objects.requireNonNull(assetIndex);
+
+		long maxAgeSeconds = Duration.of(amountToAdd, temporalUnit).toSeconds();
+		this.cacheControl = "public, max-age=" + maxAgeSeconds;
 	}
 
 	@Override
 	protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
-		super.doGet(req, resp);
+		IndexedAsset asset = this.findAsset(req);
+		if (asset == null || req.getHeader("Range") != null) {
+			super.doGet(req, resp);
+			this.setCacheHeaders(resp);
+			return;
+		}
 
-		Instant now = this.clock.instant();
-		Instant expires = now.plus(this.amountToAdd, this.temporalUnit);
+		AssetVariant variant = asset.selectVariant(req.getHeader("Accept-Encoding"));
+		resp.setHeader("ETag", variant.etag());
+		if (asset.hasVariants()) {
+			resp.setHeader("Vary", "Accept-Encoding");
+		}
+		this.setCacheHeaders(resp);
+
+		if (matchesAny(req.getHeader("If-None-Match"), variant.etag())) {
+			resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		resp.setContentType(this.getContentType(req, asset));
+		if (variant.contentEncoding() != null) {
+			resp.setHeader("Content-Encoding", variant.contentEncoding());
+		}
+		resp.setContentLengthLong(variant.contentLength());
+		variant.writeTo(resp.getOutputStream());
+	}
+
+	private void setCacheHeaders(HttpServletResponse resp) {
+		Instant expires = this.clock.instant().plus(this.amountToAdd, this.temporalUnit);
+		resp.setHeader("Cache-Control", this.cacheControl);
+		resp.setDateHeader("Expires", expires.toEpochMilli());
+	}
+
+	@Nullable
+	private IndexedAsset findAsset(HttpServletRequest req) {
+		String pathInfo = req.getPathInfo();
+		String requestPath = pathInfo == null ? req.getServletPath() : req.getServletPath() + pathInfo;
+		if (!requestPath.startsWith(this.getUriPath())) {
+			return null;
+		}
+
+		String relativePath = AssetIndex.trimSlashes(requestPath.substring(this.getUriPath().length()));
+		IndexedAsset asset = this.assetIndex.get(relativePath);
+		if (asset != null || this.getIndexFile() == null) {
+			return asset;
+		}
+
+		String indexPath = relativePath.isEmpty() ? this.getIndexFile() : relativePath + "/" + this.getIndexFile();
+		return this.assetIndex.get(indexPath);
+	}
+
+	// Matches AssetServlet, which adds the default charset to text types. The type comes from the resolved asset, since a directory request resolves to its index file.
+	private String getContentType(HttpServletRequest req, IndexedAsset asset) {
+		String mimeType = req.getServletContext().getMimeType(asset.path());
+		String mediaType = mimeType == null ? this.getDefaultMediaType() : mimeType;
+		if (mediaType.startsWith("text/") && this.getDefaultCharset() != null) {
+			return mediaType + "; charset=" + this.getDefaultCharset().name().toLowerCase(Locale.ROOT);
+		}
+		return mediaType;
+	}
 
-		long number = Duration.of(this.amountToAdd, this.temporalUnit).toSeconds();
-		resp.setHeader("Cache-Control", "public, max-age=" + number);
-		resp.setHeader("Expires", String.valueOf(expires.toEpochMilli()));
+	private static boolean matchesAny(@Nullable String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String trimmed = candidate.strip();
+			if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+				return true;
+			}
+		}
+		return false;
 	}
 }
@@ -0,0 +1,49 @@
+package io.liftwizard.servlet.assets.cache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An asset read at startup, with its identity representation and any precompressed variants.
+ */
+public record IndexedAsset(
+	@Nonnull String path,
+	@Nonnull AssetVariant identity,
+	@Nullable AssetVariant gzip,
+	@Nullable AssetVariant brotli
+) {
+	public IndexedAsset {
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(identity);
+	}
+
+	/**
+	 * The identity variant followed by the precompressed variants that exist.
+	 */
+	@Nonnull
+	public List<AssetVariant> variants() {
+		return Stream.of(this.identity, this.gzip, this.brotli).filter(Objects::nonNull).toList();
+	}
+
+	public boolean hasVariants() {
+		return this.gzip != null || this.brotli != null;
+	}
+
+	/**
+	 * Picks the smallest representation the client accepts, preferring brotli, then gzip, then identity.
+	 */
+	@Nonnull
+	public AssetVariant selectVariant(@Nullable String acceptEncoding) {
+		if (this.brotli != null && AcceptEncoding.accepts(acceptEncoding, "br")) {
+			return this.brotli;
+		}
+		if (this.gzip != null && AcceptEncoding.accepts(acceptEncoding, "gzip")) {
+			return this.gzip;
+		}
+		return this.identity;
+	}
+}
@@ -0,0 +1,175 @@
+package io.liftwizard.servlet.assets.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetIndexTest {
+
+	private static final byte[] APP_JS = TestAssets.repeated("console.log('liftwizard');\n", 100);
+	private static final byte[] STYLE_CSS = TestAssets.text("body { margin: 0; }\n");
+	private static final byte[] STYLE_CSS_GZ = TestAssets.text("precompressed gzip");
+	private static final byte[] APP_JS_BR = TestAssets.text("precompressed brotli");
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void scansDirectory() throws IOException {
+		Path classpathRoot = TestAssets.writeDirectory(
+			this.tempDir,
+			Map.of(
+				"assets/index.html",
+				TestAssets.text("<html></html>"),
+				"assets/js/app.js",
+				APP_JS,
+				"assets/js/app.js.br",
+				APP_JS_BR,
+				"assets/css/style.css",
+				STYLE_CSS,
+				"assets/css/style.css.gz",
+				STYLE_CSS_GZ
+			)
+		);
+
+		AssetIndex assetIndex = TestAssets.scan(classpathRoot, "/assets/", AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE);
+
+		assertThat(assetIndex.size()).isEqualTo(3);
+		assertThat(assetIndex.get("js/app.js.br")).isNull();
+		assertThat(assetIndex.get("css/style.css.gz")).isNull();
+
+		IndexedAsset index = assetIndex.get("index.html");
+		assertThat(index).isNotNull();
+		assertThat(index.hasVariants()).isFalse();
+
+		IndexedAsset app = assetIndex.get("js/app.js");
+		assertThat(app).isNotNull();
+		assertThat(app.identity().content()).isEqualTo(APP_JS);
+		assertThat(app.brotli().content()).isEqualTo(APP_JS_BR);
+		assertThat(gunzip(app.gzip().content())).isEqualTo(APP_JS);
+		assertThat(app.gzip().content().length).isLessThan(APP_JS.length);
+
+		IndexedAsset style = assetIndex.get("css/style.css");
+		assertThat(style).isNotNull();
+		assertThat(style.gzip().content()).isEqualTo(STYLE_CSS_GZ);
+		assertThat(style.brotli()).isNull();
+	}
+
+	@Test
+	void etagsAreStrongAndDistinctPerEncoding() throws IOException {
+		Path classpathRoot = TestAssets.writeDirectory(
+			this.tempDir,
+			Map.of("assets/app.js", APP_JS, "assets/app.js.br", APP_JS_BR)
+		);
+
+		IndexedAsset app = TestAssets.scan(classpathRoot, "assets", AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE).get(
+			"app.js"
+		);
+
+		assertThat(app.identity().etag()).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+		assertThat(app.gzip().etag()).isEqualTo(app.identity().etag().replaceFirst("\"$", "-gzip\""));
+		assertThat(app.brotli().etag()).isEqualTo(app.identity().etag().replaceFirst("\"$", "-br\""));
+	}
+
+	@Test
+	void scansJar() throws IOException {
+		Path jar = TestAssets.writeJar(
+			this.tempDir.resolve("assets.jar"),
+			Map.of(
+				"assets/",
+				new byte[0],
+				"assets/index.html",
+				TestAssets.text("<html></html>"),
+				"assets/js/app.js",
+				APP_JS,
+				"assets/js/app.js.br",
+				APP_JS_BR
+			)
+		);
+
+		AssetIndex assetIndex = TestAssets.scan(jar, "assets", AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE);
+
+		assertThat(assetIndex.size()).isEqualTo(2);
+		assertThat(assetIndex.get("index.html").identity().content()).isEqualTo(TestAssets.text("<html></html>"));
+		IndexedAsset app = assetIndex.get("js/app.js");
+		assertThat(app.brotli().content()).isEqualTo(APP_JS_BR);
+		assertThat(gunzip(app.gzip().content())).isEqualTo(APP_JS);
+	}
+
+	@Test
+	void streamsVariantsLargerThanTheMaximum() throws IOException {
+		byte[] large = TestAssets.repeated("x", 101);
+		Path classpathRoot = TestAssets.writeDirectory(
+			this.tempDir,
+			Map.of(
+				"assets/small.txt",
+				TestAssets.text("small"),
+				"assets/large.txt",
+				large,
+				"assets/precompressed.txt",
+				TestAssets.text("small"),
+				"assets/precompressed.txt.br",
+				large
+			)
+		);
+
+		AssetIndex assetIndex = TestAssets.scan(classpathRoot, "assets", 100);
+
+		assertThat(assetIndex.size()).isEqualTo(3);
+		assertThat(assetIndex.get("small.txt").identity().isInMemory()).isTrue();
+
+		AssetVariant largeIdentity = assetIndex.get("large.txt").identity();
+		assertThat(largeIdentity.isInMemory()).isFalse();
+		assertThat(largeIdentity.contentLength()).isEqualTo(101);
+		assertThat(largeIdentity.etag()).isEqualTo(
+			TestAssets.scan(classpathRoot, "assets", 1000).get("large.txt").identity().etag()
+		);
+		assertThat(read(largeIdentity)).isEqualTo(large);
+
+		IndexedAsset precompressed = assetIndex.get("precompressed.txt");
+		assertThat(precompressed.identity().isInMemory()).isTrue();
+		assertThat(precompressed.brotli().isInMemory()).isFalse();
+		assertThat(read(precompressed.brotli())).isEqualTo(large);
+	}
+
+	@Test
+	void streamsLargeVariantsFromJars() throws IOException {
+		byte[] large = TestAssets.repeated("x", 101);
+		Path jar = TestAssets.writeJar(
+			this.tempDir.resolve("assets.jar"),
+			Map.of("assets/", new byte[0], "assets/large.txt", large)
+		);
+
+		AssetVariant identity = TestAssets.scan(jar, "assets", 100).get("large.txt").identity();
+
+		assertThat(identity.isInMemory()).isFalse();
+		assertThat(read(identity)).isEqualTo(large);
+	}
+
+	@Test
+	void missingResourcePathIsEmpty() {
+		AssetIndex assetIndex = TestAssets.scan(this.tempDir, "missing", AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE);
+
+		assertThat(assetIndex.size()).isZero();
+	}
+
+	private static byte[] read(AssetVariant variant) throws IOException {
+		var outputStream = new ByteArrayOutputStream();
+		variant.writeTo(outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private static byte[] gunzip(byte[] compressed) throws IOException {
+		try (var gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+			return gzipInputStream.readAllBytes();
+		}
+	}
+}
@@ -0,0 +1,260 @@
+package io.liftwizard.servlet.assets.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheAssetServletTest {
+
+	private static final byte[] INDEX_HTML = TestAssets.text("<html></html>");
+	private static final byte[] APP_JS = TestAssets.repeated("console.log('liftwizard');\n", 100);
+	private static final byte[] APP_JS_BR = TestAssets.text("precompressed brotli");
+	private static final byte[] LARGE_JS = TestAssets.repeated("x", (int) AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE + 1);
+
+	private static final Map<String, String> MIME_TYPES_BY_EXTENSION = Map.of(
+		"html",
+		"text/html",
+		"js",
+		"application/javascript"
+	);
+
+	@TempDir
+	Path tempDir;
+
+	private final List<String> mimeTypeLookups = new ArrayList<>();
+
+	private CacheAssetServlet servlet;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Path classpathRoot = TestAssets.writeDirectory(
+			this.tempDir,
+			Map.of(
+				"assets/index.html",
+				INDEX_HTML,
+				"assets/docs/index.html",
+				INDEX_HTML,
+				"assets/app.js",
+				APP_JS,
+				"assets/app.js.br",
+				APP_JS_BR,
+				"assets/large.js",
+				LARGE_JS
+			)
+		);
+		AssetIndex assetIndex = TestAssets.scan(classpathRoot, "/assets", AssetIndex.DEFAULT_MAX_INDEXED_ASSET_SIZE);
+		this.servlet = new CacheAssetServlet(
+			"/assets",
+			"/static",
+			"index.html",
+			StandardCharsets.UTF_8,
+			1,
+			ChronoUnit.HOURS,
+			Clock.fixed(Instant.EPOCH, ZoneOffset.UTC),
+			assetIndex
+		);
+	}
+
+	@Test
+	void servesIdentityWithStrongEtagAndCacheHeaders() throws ServletException, IOException {
+		RecordedResponse response = this.get("/app.js", Map.of());
+
+		assertThat(response.status).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(response.body.toByteArray()).isEqualTo(APP_JS);
+		assertThat(response.contentType).isEqualTo("application/javascript");
+		assertThat(response.contentLength).isEqualTo(APP_JS.length);
+		assertThat(response.headers)
+			.containsEntry("Vary", "Accept-Encoding")
+			.containsEntry("Cache-Control", "public, max-age=3600")
+			.doesNotContainKey("Content-Encoding");
+		assertThat(response.headers.get("ETag")).startsWith("\"").doesNotStartWith("W/");
+		assertThat(response.dateHeaders).containsEntry("Expires", 3_600_000L);
+	}
+
+	@Test
+	void selectsVariantByAcceptEncoding() throws ServletException, IOException {
+		RecordedResponse brotli = this.get("/app.js", Map.of("Accept-Encoding", "gzip, br"));
+		assertThat(brotli.headers).containsEntry("Content-Encoding", "br");
+		assertThat(brotli.body.toByteArray()).isEqualTo(APP_JS_BR);
+
+		RecordedResponse gzip = this.get("/app.js", Map.of("Accept-Encoding", "br;q=0, gzip"));
+		assertThat(gzip.headers).containsEntry("Content-Encoding", "gzip");
+		assertThat(gzip.body.size()).isLessThan(APP_JS.length);
+
+		RecordedResponse identity = this.get("/app.js", Map.of("Accept-Encoding", "identity"));
+		assertThat(identity.headers).doesNotContainKey("Content-Encoding");
+		assertThat(identity.body.toByteArray()).isEqualTo(APP_JS);
+
+		assertThat(List.of(brotli.headers.get("ETag"), gzip.headers.get("ETag"), identity.headers.get("ETag")))
+			.doesNotHaveDuplicates();
+	}
+
+	@Test
+	void matchingIfNoneMatchReturnsNotModified() throws ServletException, IOException {
+		String etag = this.get("/app.js", Map.of("Accept-Encoding", "br")).headers.get("ETag");
+
+		for (String ifNoneMatch : List.of(etag, "W/" + etag, "\"other\", " + etag, "*")) {
+			RecordedResponse response = this.get("/app.js", Map.of("Accept-Encoding", "br", "If-None-Match", ifNoneMatch));
+			assertThat(response.status).as(ifNoneMatch).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+			assertThat(response.body.size()).as(ifNoneMatch).isZero();
+			assertThat(response.headers).as(ifNoneMatch).containsEntry("ETag", etag);
+		}
+	}
+
+	@Test
+	void etagOfAnotherEncodingIsNotAMatch() throws ServletException, IOException {
+		String brotliEtag = this.get("/app.js", Map.of("Accept-Encoding", "br")).headers.get("ETag");
+
+		RecordedResponse response = this.get("/app.js", Map.of("If-None-Match", brotliEtag));
+
+		assertThat(response.status).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(response.body.toByteArray()).isEqualTo(APP_JS);
+	}
+
+	@Test
+	void streamsAssetsLargerThanTheMaximumInMemorySize() throws ServletException, IOException {
+		RecordedResponse response = this.get("/large.js", Map.of("Accept-Encoding", "gzip"));
+
+		assertThat(response.status).isEqualTo(HttpServletResponse.SC_OK);
+		assertThat(response.body.toByteArray()).isEqualTo(LARGE_JS);
+		assertThat(response.contentLength).isEqualTo(LARGE_JS.length);
+		assertThat(response.headers).doesNotContainKey("Content-Encoding").doesNotContainKey("Vary");
+		String etag = response.headers.get("ETag");
+		assertThat(etag).startsWith("\"").doesNotStartWith("W/");
+
+		RecordedResponse notModified = this.get("/large.js", Map.of("If-None-Match", etag));
+		assertThat(notModified.status).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+		assertThat(notModified.body.size()).isZero();
+	}
+
+	@Test
+	void directoryRequestTakesTheContentTypeOfItsIndexFile() throws ServletException, IOException {
+		RecordedResponse root = this.get("/", Map.of());
+		RecordedResponse docs = this.get("/docs/", Map.of());
+
+		assertThat(root.body.toByteArray()).isEqualTo(INDEX_HTML);
+		assertThat(root.contentType).isEqualTo("text/html; charset=utf-8");
+		assertThat(docs.body.toByteArray()).isEqualTo(INDEX_HTML);
+		assertThat(docs.contentType).isEqualTo("text/html; charset=utf-8");
+		assertThat(this.mimeTypeLookups).containsExactly("index.html", "docs/index.html");
+	}
+
+	private RecordedResponse get(String pathInfo, Map<String, String> headers) throws ServletException, IOException {
+		var response = new RecordedResponse();
+		this.servlet.doGet(this.request(pathInfo, headers), response.stub());
+		return response;
+	}
+
+	private HttpServletRequest request(String pathInfo, Map<String, String> headers) {
+		ServletContext servletContext = stub(ServletContext.class, (methodName, args) -> {
+			if (methodName.equals("getMimeType")) {
+				String path = (String) args[0];
+				this.mimeTypeLookups.add(path);
+				return MIME_TYPES_BY_EXTENSION.get(path.substring(path.lastIndexOf('.') + 1));
+			}
+			return null;
+		});
+		return stub(HttpServletRequest.class, (methodName, args) ->
+			switch (methodName) {
+				case "getServletPath" -> "/static";
+				case "getPathInfo" -> pathInfo;
+				case "getRequestURI" -> "/static" + pathInfo;
+				case "getHeader" -> headers.get((String) args[0]);
+				case "getServletContext" -> servletContext;
+				default -> null;
+			}
+		);
+	}
+
+	@FunctionalInterface
+	private interface Answer {
+		Object answer(String methodName, Object[] args);
+	}
+
+	private static <T> T stub(Class<T> type, Answer answer) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+			Object result = answer.answer(method.getName(), args);
+			if (result != null || !method.getReturnType().isPrimitive()) {
+				return result;
+			}
+			if (method.getReturnType() == boolean.class) {
+				return false;
+			}
+			return method.getReturnType() == void.class ? null : 0;
+		});
+		return type.cast(proxy);
+	}
+
+	private static final class RecordedResponse {
+
+		private final Map<String, String> headers = new HashMap<>();
+		private final Map<String, Long> dateHeaders = new HashMap<>();
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		private int status = HttpServletResponse.SC_OK;
+		private String contentType;
+		private long contentLength = -1;
+
+		private HttpServletResponse stub() {
+			ServletOutputStream outputStream = new RecordingServletOutputStream(this.body);
+			return CacheAssetServletTest.stub(HttpServletResponse.class, (methodName, args) -> {
+				switch (methodName) {
+					case "setHeader" -> this.headers.put((String) args[0], (String) args[1]);
+					case "setDateHeader" -> this.dateHeaders.put((String) args[0], (Long) args[1]);
+					case "setStatus" -> this.status = (Integer) args[0];
+					case "setContentType" -> this.contentType = (String) args[0];
+					case "setContentLengthLong" -> this.contentLength = (Long) args[0];
+					case "getOutputStream" -> {
+						return outputStream;
+					}
+					default -> {}
+				}
+				return null;
+			});
+		}
+	}
+
+	private static final class RecordingServletOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream delegate;
+
+		private RecordingServletOutputStream(ByteArrayOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) {
+			this.delegate.write(b);
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {}
+	}
+}
@@ -0,0 +1,72 @@
+package io.liftwizard.servlet.assets.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Writes asset trees into directories or jars and scans them through a context class loader that sees only that classpath root.
+ */
+final class TestAssets {
+
+	private TestAssets() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	static byte[] text(String content) {
+		return content.getBytes(StandardCharsets.UTF_8);
+	}
+
+	static byte[] repeated(String content, int times) {
+		return text(content.repeat(times));
+	}
+
+	static Path writeDirectory(Path classpathRoot, Map<String, byte[]> filesByPath) throws IOException {
+		for (Map.Entry<String, byte[]> entry : filesByPath.entrySet()) {
+			Path file = classpathRoot.resolve(entry.getKey());
+			Files.createDirectories(file.getParent());
+			Files.write(file, entry.getValue());
+		}
+		return classpathRoot;
+	}
+
+	static Path writeJar(Path jar, Map<String, byte[]> filesByPath) throws IOException {
+		try (var jarOutputStream = new JarOutputStream(Files.newOutputStream(jar))) {
+			for (Map.Entry<String, byte[]> entry : filesByPath.entrySet()) {
+				jarOutputStream.putNextEntry(new JarEntry(entry.getKey()));
+				jarOutputStream.write(entry.getValue());
+				jarOutputStream.closeEntry();
+			}
+		}
+		return jar;
+	}
+
+	static AssetIndex scan(Path classpathRoot, String resourcePath, long maxAssetSize) {
+		Thread thread = Thread.currentThread();
+		ClassLoader previous = thread.getContextClassLoader();
+		try (var classLoader = new URLClassLoader(new URL[] {toUrl(classpathRoot)}, null)) {
+			thread.setContextClassLoader(classLoader);
+			return AssetIndex.scan(resourcePath, maxAssetSize);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+
+	private static URL toUrl(Path path) {
+		try {
+			return path.toUri().toURL();
+		} catch (MalformedURLException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -19,15 +19,15 @@ package io.liftwizard.servlet.logging.log4j.map;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsLogger;
 import org.apache.log4j.Logger;
 
-public class StructuredArgumentsLog4jMapLogger implements Consumer<StructuredArguments> {
+public class StructuredArgumentsLog4jMapLogger implements StructuredArgumentsLogger {
 
 	private static final Logger LOGGER = Logger.getLogger(StructuredArgumentsLog4jMapLogger.class);
 
@@ -38,6 +38,11 @@ public class StructuredArgumentsLog4jMapLogger implements Consumer<StructuredArg
 		this.objectMapper = Objects.requireNonNull(objectMapper);
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return LOGGER.isDebugEnabled();
+	}
+
 	@Override
 	public void accept(StructuredArguments structuredArguments) {
 		Map<?, ?> structuredArgumentsMap = this.objectMapper.convertValue(structuredArguments, Map.class);
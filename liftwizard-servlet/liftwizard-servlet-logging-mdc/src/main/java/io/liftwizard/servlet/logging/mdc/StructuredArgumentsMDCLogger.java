@@ -18,7 +18,6 @@ package io.liftwizard.servlet.logging.mdc;
 
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -27,14 +26,13 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.liftwizard.logging.slf4j.mdc.MultiMDCCloseable;
 import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsLogger;
 import org.eclipse.collections.api.factory.Lists;
-import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.api.stack.ImmutableStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class StructuredArgumentsMDCLogger implements Consumer<StructuredArguments> {
+public class StructuredArgumentsMDCLogger implements StructuredArgumentsLogger {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(StructuredArgumentsMDCLogger.class);
 
@@ -45,8 +43,18 @@ public class StructuredArgumentsMDCLogger implements Consumer<StructuredArgument
 		this.objectMapper = Objects.requireNonNull(objectMapper);
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return LOGGER.isDebugEnabled();
+	}
+
 	@Override
 	public void accept(@Nonnull StructuredArguments structuredArguments) {
+		// Skip the tree conversion, body decoding, and MDC population when the message would be discarded anyway
+		if (!LOGGER.isDebugEnabled()) {
+			return;
+		}
+
 		ObjectNode objectNode = this.objectMapper.valueToTree(structuredArguments);
 		try (MultiMDCCloseable ignored = this.structuredArgumentsToMDC(objectNode)) {
 			LOGGER.debug("Response sent");
@@ -55,35 +63,32 @@ public class StructuredArgumentsMDCLogger implements Consumer<StructuredArgument
 
 	private MultiMDCCloseable structuredArgumentsToMDC(@Nonnull ObjectNode objectNode) {
 		var result = new MultiMDCCloseable();
-		this.structuredArgumentsToMDC(result, Stacks.immutable.empty(), objectNode);
+		this.structuredArgumentsToMDC(result, "", objectNode);
 		return result;
 	}
 
 	private void structuredArgumentsToMDC(
 		@Nonnull MultiMDCCloseable mdc,
-		@Nonnull ImmutableStack<String> stack,
+		@Nonnull String keyPrefix,
 		@Nonnull ObjectNode objectNode
 	) {
-		objectNode.fields().forEachRemaining((entry) -> this.structuredArgumentToMDC(mdc, stack, entry));
+		objectNode.fields().forEachRemaining((entry) -> this.structuredArgumentToMDC(mdc, keyPrefix, entry));
 	}
 
 	private void structuredArgumentToMDC(
 		@Nonnull MultiMDCCloseable mdc,
-		@Nonnull ImmutableStack<String> stack,
+		@Nonnull String keyPrefix,
 		@Nonnull Entry<String, JsonNode> entry
 	) {
-		String key = entry.getKey();
+		String keyString = keyPrefix + entry.getKey();
 		JsonNode value = entry.getValue();
 
 		if (value.isObject()) {
-			ImmutableStack<String> nextStack = stack.push(key);
 			var nextObjectNode = (ObjectNode) value;
-			this.structuredArgumentsToMDC(mdc, nextStack, nextObjectNode);
+			this.structuredArgumentsToMDC(mdc, keyString + ".", nextObjectNode);
 			return;
 		}
 
-		String keyString = stack.isEmpty() ? key : stack.toList().toReversed().makeString("", ".", "." + key);
-
 		if (value.isArray()) {
 			MutableList<String> list = Lists.mutable.empty();
 			value.iterator().forEachRemaining((each) -> list.add(each.textValue()));
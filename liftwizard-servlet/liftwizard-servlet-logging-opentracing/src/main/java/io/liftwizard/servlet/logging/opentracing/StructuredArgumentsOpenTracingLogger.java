@@ -18,7 +18,6 @@ package io.liftwizard.servlet.logging.opentracing;
 
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
 
@@ -26,6 +25,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsLogger;
 import io.opentracing.Span;
 import io.opentracing.util.GlobalTracer;
 import org.eclipse.collections.api.factory.Lists;
@@ -35,7 +35,7 @@ import org.eclipse.collections.api.stack.ImmutableStack;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class StructuredArgumentsOpenTracingLogger implements Consumer<StructuredArguments> {
+public class StructuredArgumentsOpenTracingLogger implements StructuredArgumentsLogger {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(StructuredArgumentsOpenTracingLogger.class);
 
@@ -46,6 +46,11 @@ public class StructuredArgumentsOpenTracingLogger implements Consumer<Structured
 		this.objectMapper = Objects.requireNonNull(objectMapper);
 	}
 
+	@Override
+	public boolean isEnabled() {
+		return LOGGER.isInfoEnabled() || GlobalTracer.get().activeSpan() != null;
+	}
+
 	@Override
 	public void accept(StructuredArguments structuredArguments) {
 		ObjectNode objectNode = this.objectMapper.valueToTree(structuredArguments);
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.typesafe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The GraphQL operations served by a request. A batched request holds several operations, so the cost is the total and the depth is the deepest.
+ */
+public class StructuredArgumentsGraphQL {
+
+	private final List<String> operationNames = new ArrayList<>();
+	private int operationCount;
+	private int depth;
+	private long cost;
+
+	public synchronized void addOperation(@Nullable String operationName, int depth, long cost) {
+		if (operationName != null) {
+			this.operationNames.add(operationName);
+		}
+		this.operationCount++;
+		this.depth = Math.max(this.depth, depth);
+		this.cost += cost;
+	}
+
+	@JsonProperty
+	public synchronized List<String> getOperationNames() {
+		return List.copyOf(this.operationNames);
+	}
+
+	@JsonProperty
+	public synchronized int getOperationCount() {
+		return this.operationCount;
+	}
+
+	@JsonProperty
+	public synchronized int getDepth() {
+		return this.depth;
+	}
+
+	@JsonProperty
+	public synchronized long getCost() {
+		return this.cost;
+	}
+}
@@ -17,6 +17,7 @@
 package io.liftwizard.servlet.logging.typesafe;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.collections.api.list.ImmutableList;
@@ -27,7 +28,7 @@ public class StructuredArgumentsHttp {
 
 	private MapIterable<String, String> headers;
 	private ImmutableList<String> excludedHeaders;
-	private String body;
+	private Supplier<String> body;
 	private Long contentLength;
 
 	@JsonProperty
@@ -58,10 +59,18 @@ public class StructuredArgumentsHttp {
 
 	@JsonProperty
 	public String getBody() {
-		return this.body;
+		return this.body == null ? null : this.body.get();
 	}
 
 	public void setBody(String body) {
+		Objects.requireNonNull(body);
+		this.setBody(() -> body);
+	}
+
+	/**
+	 * Sets a body that is only computed if {@link #getBody()} is called, so bodies that are never logged are never decoded.
+	 */
+	public void setBody(Supplier<String> body) {
 		if (this.body != null) {
 			throw new AssertionError(this.body);
 		}
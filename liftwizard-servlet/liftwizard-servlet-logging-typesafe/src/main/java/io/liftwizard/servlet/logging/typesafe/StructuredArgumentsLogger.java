@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.typesafe;
+
+import java.util.function.Consumer;
+
+/**
+ * A structured logger that can tell whether it would emit anything.
+ *
+ * <p>The servlet filter checks {@link #isEnabled()} before each request and skips capturing the request entirely when it returns false.
+ */
+public interface StructuredArgumentsLogger extends Consumer<StructuredArguments> {
+	boolean isEnabled();
+}
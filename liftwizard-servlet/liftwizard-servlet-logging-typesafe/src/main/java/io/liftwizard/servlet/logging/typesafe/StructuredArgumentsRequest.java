@@ -21,6 +21,8 @@ import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 public class StructuredArgumentsRequest {
@@ -29,6 +31,7 @@ public class StructuredArgumentsRequest {
 
 	private Class<?> resourceClass;
 	private String resourceMethod;
+	private StructuredArgumentsGraphQL graphQL;
 
 	public StructuredArgumentsRequestHttp getHttp() {
 		return this.http;
@@ -56,4 +59,17 @@ public class StructuredArgumentsRequest {
 		}
 		this.resourceMethod = Objects.requireNonNull(resourceMethod.getName());
 	}
+
+	@JsonProperty
+	@JsonInclude(Include.NON_NULL)
+	public synchronized StructuredArgumentsGraphQL getGraphQL() {
+		return this.graphQL;
+	}
+
+	public synchronized StructuredArgumentsGraphQL getOrCreateGraphQL() {
+		if (this.graphQL == null) {
+			this.graphQL = new StructuredArgumentsGraphQL();
+		}
+		return this.graphQL;
+	}
 }
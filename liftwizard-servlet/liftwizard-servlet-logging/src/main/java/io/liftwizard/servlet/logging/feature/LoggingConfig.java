@@ -103,6 +103,9 @@ public class LoggingConfig {
 		return this.includedResponseHeaders;
 	}
 
+	/**
+	 * The maximum number of bytes captured from each request and response body. Longer bodies are cut at this many bytes, which may split a multibyte character, and logged with {@code ...more...} appended.
+	 */
 	public int getMaxEntitySize() {
 		return this.maxEntitySize;
 	}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * An {@link HttpServletRequestWrapper} that captures up to the pool's buffer size of the request body as the application reads it.
+ *
+ * <p>Unlike Spring's {@code ContentCachingRequestWrapper}, this wrapper borrows its capture buffer from a {@link CaptureBufferPool} and never copies more than the capture limit.
+ */
+public class BodyCaptureRequestWrapper extends HttpServletRequestWrapper {
+
+	private final CapturedBody capturedBody;
+	private ServletInputStream wrappedStream;
+	private BufferedReader wrappedReader;
+
+	public BodyCaptureRequestWrapper(HttpServletRequest request, CaptureBufferPool pool) {
+		super(request);
+		this.capturedBody = new CapturedBody(pool);
+	}
+
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		if (this.wrappedStream == null) {
+			this.wrappedStream = new TeeServletInputStream(super.getInputStream());
+		}
+		return this.wrappedStream;
+	}
+
+	@Override
+	public BufferedReader getReader() throws IOException {
+		if (this.wrappedReader == null) {
+			String encoding = this.getCharacterEncoding();
+			InputStreamReader reader = encoding == null
+				? new InputStreamReader(this.getInputStream(), StandardCharsets.ISO_8859_1)
+				: new InputStreamReader(this.getInputStream(), encoding);
+			this.wrappedReader = new BufferedReader(reader);
+		}
+		return this.wrappedReader;
+	}
+
+	public CapturedBody getCapturedBody() {
+		return this.capturedBody;
+	}
+
+	private class TeeServletInputStream extends ServletInputStream {
+
+		private final ServletInputStream delegate;
+
+		TeeServletInputStream(ServletInputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = this.delegate.read();
+			if (b != -1) {
+				BodyCaptureRequestWrapper.this.capturedBody.write(b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = this.delegate.read(b, off, len);
+			if (count > 0) {
+				BodyCaptureRequestWrapper.this.capturedBody.write(b, off, count);
+			}
+			return count;
+		}
+
+		@Override
+		public boolean isFinished() {
+			return this.delegate.isFinished();
+		}
+
+		@Override
+		public boolean isReady() {
+			return this.delegate.isReady();
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			this.delegate.setReadListener(readListener);
+		}
+	}
+}
@@ -27,24 +27,21 @@ import javax.servlet.http.HttpServletResponseWrapper;
 
 /**
  * An {@link HttpServletResponseWrapper} that streams the response through to the client
- * immediately while capturing up to {@code maxCapture} bytes in a side buffer for logging.
+ * immediately while capturing up to the pool's buffer size in a {@link CapturedBody} for logging.
  *
- * <p>Unlike {@link org.springframework.web.util.ContentCachingResponseWrapper}, this wrapper
+ * <p>Unlike Spring's {@code ContentCachingResponseWrapper}, this wrapper
  * does not buffer the entire response in memory. The response is written to the real output
  * stream as it arrives, so there is no need to call {@code copyBodyToResponse()}.
  */
 public class BodyCaptureResponseWrapper extends HttpServletResponseWrapper {
 
-	private final int maxCapture;
-	private final byte[] captureBuffer;
-	private int capturedBytes;
+	private final CapturedBody capturedBody;
 	private ServletOutputStream wrappedStream;
 	private PrintWriter wrappedWriter;
 
-	public BodyCaptureResponseWrapper(HttpServletResponse response, int maxCapture) {
+	public BodyCaptureResponseWrapper(HttpServletResponse response, CaptureBufferPool pool) {
 		super(response);
-		this.maxCapture = maxCapture;
-		this.captureBuffer = new byte[maxCapture];
+		this.capturedBody = new CapturedBody(pool);
 	}
 
 	@Override
@@ -76,35 +73,16 @@ public class BodyCaptureResponseWrapper extends HttpServletResponseWrapper {
 		super.flushBuffer();
 	}
 
-	public byte[] getCapturedBody() {
-		byte[] result = new byte[this.capturedBytes];
-		System.arraycopy(this.captureBuffer, 0, result, 0, this.capturedBytes);
-		return result;
+	public CapturedBody getCapturedBody() {
+		return this.capturedBody;
 	}
 
 	public int getCapturedSize() {
-		return this.capturedBytes;
+		return this.capturedBody.size();
 	}
 
 	public boolean isTruncated() {
-		return this.capturedBytes >= this.maxCapture;
-	}
-
-	private void capture(byte[] data, int offset, int length) {
-		int remaining = this.maxCapture - this.capturedBytes;
-		if (remaining <= 0) {
-			return;
-		}
-		int toCopy = Math.min(length, remaining);
-		System.arraycopy(data, offset, this.captureBuffer, this.capturedBytes, toCopy);
-		this.capturedBytes += toCopy;
-	}
-
-	private void capture(int b) {
-		if (this.capturedBytes < this.maxCapture) {
-			this.captureBuffer[this.capturedBytes] = (byte) b;
-			this.capturedBytes++;
-		}
+		return this.capturedBody.isTruncated();
 	}
 
 	private class TeeServletOutputStream extends ServletOutputStream {
@@ -118,13 +96,13 @@ public class BodyCaptureResponseWrapper extends HttpServletResponseWrapper {
 		@Override
 		public void write(int b) throws IOException {
 			this.delegate.write(b);
-			BodyCaptureResponseWrapper.this.capture(b);
+			BodyCaptureResponseWrapper.this.capturedBody.write(b);
 		}
 
 		@Override
 		public void write(byte[] b, int off, int len) throws IOException {
 			this.delegate.write(b, off, len);
-			BodyCaptureResponseWrapper.this.capture(b, off, len);
+			BodyCaptureResponseWrapper.this.capturedBody.write(b, off, len);
 		}
 
 		@Override
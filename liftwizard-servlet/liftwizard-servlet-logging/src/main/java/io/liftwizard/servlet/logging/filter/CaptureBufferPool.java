@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of fixed-size byte buffers used to capture request and response bodies for logging.
+ *
+ * <p>{@link #acquire()} never blocks. When the pool is empty it allocates a new buffer, and {@link #release(byte[])} drops buffers once the pool is full, so the pool holds at most {@code capacity} idle buffers.
+ */
+public class CaptureBufferPool {
+
+	private final int bufferSize;
+	private final BlockingQueue<byte[]> buffers;
+
+	public CaptureBufferPool(int bufferSize, int capacity) {
+		if (bufferSize < 0) {
+			throw new IllegalArgumentException("Expected bufferSize >= 0 but got " + bufferSize);
+		}
+		this.bufferSize = bufferSize;
+		this.buffers = new ArrayBlockingQueue<>(capacity);
+	}
+
+	public int getBufferSize() {
+		return this.bufferSize;
+	}
+
+	public byte[] acquire() {
+		byte[] buffer = this.buffers.poll();
+		return buffer == null ? new byte[this.bufferSize] : buffer;
+	}
+
+	public void release(byte[] buffer) {
+		if (buffer.length == this.bufferSize) {
+			this.buffers.offer(buffer);
+		}
+	}
+}
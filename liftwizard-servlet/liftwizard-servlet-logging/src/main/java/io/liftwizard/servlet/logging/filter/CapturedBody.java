@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Captures the first {@code maxCapture} bytes of a body into a buffer borrowed from a {@link CaptureBufferPool}.
+ *
+ * <p>The buffer is borrowed on the first write, so empty bodies never touch the pool. The bytes are decoded only when {@link #decode(String)} is called, and the result is cached.
+ *
+ * <p>{@link #release()} always returns the buffer to the pool. Decode the body first if a logger may still read it, because a body released before it was decoded decodes to an empty string.
+ *
+ * <p>Only the request thread writes, so {@code write} is not synchronized. The structured logger may decode on another thread, so {@link #decode(String)}, {@link #release()}, and {@link #toByteArray()} are. Handing the body to the logger happens after the last write, which publishes the captured bytes.
+ */
+public class CapturedBody {
+
+	private final CaptureBufferPool pool;
+
+	private byte[] buffer;
+	private boolean pooled;
+	private int capturedBytes;
+	private long totalBytes;
+	private String decoded;
+
+	public CapturedBody(CaptureBufferPool pool) {
+		this.pool = Objects.requireNonNull(pool);
+	}
+
+	public void write(int b) {
+		this.totalBytes++;
+		if (this.capturedBytes < this.pool.getBufferSize()) {
+			this.getBuffer()[this.capturedBytes] = (byte) b;
+			this.capturedBytes++;
+		}
+	}
+
+	public void write(byte[] data, int offset, int length) {
+		this.totalBytes += length;
+		int toCopy = Math.min(length, this.pool.getBufferSize() - this.capturedBytes);
+		if (toCopy <= 0) {
+			return;
+		}
+		System.arraycopy(data, offset, this.getBuffer(), this.capturedBytes, toCopy);
+		this.capturedBytes += toCopy;
+	}
+
+	public int size() {
+		return this.capturedBytes;
+	}
+
+	public boolean isTruncated() {
+		return this.totalBytes > this.capturedBytes;
+	}
+
+	public synchronized byte[] toByteArray() {
+		return this.buffer == null ? new byte[0] : Arrays.copyOf(this.buffer, this.capturedBytes);
+	}
+
+	/**
+	 * Decodes the captured bytes, appending {@code ...more...} if the body was longer than the capture limit. The result is cached.
+	 */
+	public synchronized String decode(String characterEncoding) {
+		if (this.decoded == null) {
+			this.decoded = this.decodeBuffer(characterEncoding);
+		}
+		return this.decoded;
+	}
+
+	public synchronized void release() {
+		if (!this.pooled) {
+			return;
+		}
+		this.pooled = false;
+		this.pool.release(this.buffer);
+		this.buffer = null;
+	}
+
+	private byte[] getBuffer() {
+		if (this.buffer == null) {
+			this.buffer = this.pool.acquire();
+			this.pooled = true;
+		}
+		return this.buffer;
+	}
+
+	private String decodeBuffer(String characterEncoding) {
+		if (this.buffer == null) {
+			return "";
+		}
+
+		Charset charset;
+		try {
+			charset = characterEncoding == null ? StandardCharsets.UTF_8 : Charset.forName(characterEncoding);
+		} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+			return "Unsupported-Encoding";
+		}
+
+		String payload = new String(this.buffer, 0, this.capturedBytes, charset);
+		return this.isTruncated() ? payload + "...more..." : payload;
+	}
+}
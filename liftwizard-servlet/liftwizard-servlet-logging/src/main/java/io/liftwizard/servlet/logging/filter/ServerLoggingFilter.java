@@ -17,7 +17,6 @@
 package io.liftwizard.servlet.logging.filter;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -27,6 +26,8 @@ import java.util.Objects;
 import java.util.function.Consumer;
 
 import javax.annotation.Nonnull;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -37,8 +38,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import io.liftwizard.servlet.logging.feature.LoggingConfig;
+import io.liftwizard.servlet.logging.sampling.SamplingDecision;
+import io.liftwizard.servlet.logging.sampling.SamplingStructuredLogger;
 import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
 import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsClient;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsLogger;
 import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsPath;
 import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsRequestHttp;
 import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsResponseHttp;
@@ -50,24 +54,41 @@ import org.eclipse.collections.impl.map.mutable.MapAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 
 public class ServerLoggingFilter implements Filter {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ServerLoggingFilter.class);
 
+	private static final int CAPTURE_BUFFER_POOL_CAPACITY = 256;
+
 	private final LoggingConfig loggingConfig;
 	private final Consumer<StructuredArguments> structuredLogger;
 	private final Clock clock;
+	private final CaptureBufferPool captureBufferPool;
 
 	public ServerLoggingFilter(
 		LoggingConfig loggingConfig,
 		Consumer<StructuredArguments> structuredLogger,
 		Clock clock
+	) {
+		this(
+			loggingConfig,
+			structuredLogger,
+			clock,
+			new CaptureBufferPool(loggingConfig.getMaxEntitySize(), CAPTURE_BUFFER_POOL_CAPACITY)
+		);
+	}
+
+	ServerLoggingFilter(
+		LoggingConfig loggingConfig,
+		Consumer<StructuredArguments> structuredLogger,
+		Clock clock,
+		CaptureBufferPool captureBufferPool
 	) {
 		this.loggingConfig = Objects.requireNonNull(loggingConfig);
 		this.structuredLogger = Objects.requireNonNull(structuredLogger);
 		this.clock = Objects.requireNonNull(clock);
+		this.captureBufferPool = Objects.requireNonNull(captureBufferPool);
 	}
 
 	@Override
@@ -87,6 +108,11 @@ public class ServerLoggingFilter implements Filter {
 			return;
 		}
 
+		if (this.structuredLogger instanceof StructuredArgumentsLogger logger && !logger.isEnabled()) {
+			chain.doFilter(request, response);
+			return;
+		}
+
 		Instant startTime = this.clock.instant();
 
 		var structuredArguments = new StructuredArguments();
@@ -94,22 +120,101 @@ public class ServerLoggingFilter implements Filter {
 
 		this.addInitialRequestAttributes(structuredArguments, httpServletRequest);
 
-		int maxEntitySize = this.loggingConfig.getMaxEntitySize();
+		// Sample before the request runs, so only sampled requests capture bodies. Undecided requests are logged without bodies if they turn out to be errors or slow.
+		SamplingDecision samplingDecision = this.structuredLogger instanceof SamplingStructuredLogger samplingLogger
+			? samplingLogger.sampleRequest(structuredArguments)
+			: SamplingDecision.SAMPLED;
+		boolean captureBodies = samplingDecision == SamplingDecision.SAMPLED;
+
+		// Only wrap the sides whose bodies are logged, so requests that don't log bodies pay nothing per byte
+		BodyCaptureRequestWrapper requestWrapper = captureBodies && this.loggingConfig.isLogRequestBodies()
+			? new BodyCaptureRequestWrapper(httpServletRequest, this.captureBufferPool)
+			: null;
+		BodyCaptureResponseWrapper responseWrapper = captureBodies && this.loggingConfig.isLogResponseBodies()
+			? new BodyCaptureResponseWrapper(httpServletResponse, this.captureBufferPool)
+			: null;
+		boolean asyncStarted = false;
+		try {
+			chain.doFilter(
+				requestWrapper == null ? httpServletRequest : requestWrapper,
+				responseWrapper == null ? httpServletResponse : responseWrapper
+			);
+			asyncStarted = httpServletRequest.isAsyncStarted();
+		} finally {
+			if (asyncStarted) {
+				// The response is still being written, so log it and release the buffers once the async request completes
+				httpServletRequest
+					.getAsyncContext()
+					.addListener(
+						new CompletionListener(() ->
+							this.finish(
+								structuredArguments,
+								httpServletResponse,
+								startTime,
+								samplingDecision,
+								requestWrapper,
+								responseWrapper
+							)
+						)
+					);
+				MDC.clear();
+			} else {
+				this.finish(
+					structuredArguments,
+					httpServletResponse,
+					startTime,
+					samplingDecision,
+					requestWrapper,
+					responseWrapper
+				);
+			}
+		}
+	}
 
-		var requestWrapper = new ContentCachingRequestWrapper(httpServletRequest, maxEntitySize);
-		var responseWrapper = new BodyCaptureResponseWrapper(httpServletResponse, maxEntitySize);
+	private void finish(
+		StructuredArguments structuredArguments,
+		HttpServletResponse httpServletResponse,
+		Instant startTime,
+		SamplingDecision samplingDecision,
+		BodyCaptureRequestWrapper requestWrapper,
+		BodyCaptureResponseWrapper responseWrapper
+	) {
+		Instant endTime = this.clock.instant();
+		Duration duration = Duration.between(startTime, endTime);
 		try {
-			chain.doFilter(requestWrapper, responseWrapper);
+			if (requestWrapper != null) {
+				this.addRequestBody(structuredArguments, requestWrapper);
+			}
+			this.addFinalResponseAttributes(structuredArguments, httpServletResponse, duration);
+			if (responseWrapper != null) {
+				this.addResponseBody(structuredArguments, responseWrapper);
+			}
+			this.log(structuredArguments, samplingDecision);
 		} finally {
-			Instant endTime = this.clock.instant();
-			Duration duration = Duration.between(startTime, endTime);
-			this.addFinalRequestAttributes(structuredArguments, requestWrapper);
-			this.addFinalResponseAttributes(structuredArguments, responseWrapper, httpServletResponse, duration);
-			this.structuredLogger.accept(structuredArguments);
+			if (requestWrapper != null) {
+				release(requestWrapper.getCapturedBody(), requestWrapper.getCharacterEncoding());
+			}
+			if (responseWrapper != null) {
+				release(responseWrapper.getCapturedBody(), responseWrapper.getCharacterEncoding());
+			}
 			MDC.clear();
 		}
 	}
 
+	// Decode before returning the buffer to the pool, so loggers that serialize on another thread still see the body
+	private static void release(CapturedBody capturedBody, String characterEncoding) {
+		capturedBody.decode(characterEncoding);
+		capturedBody.release();
+	}
+
+	private void log(StructuredArguments structuredArguments, SamplingDecision samplingDecision) {
+		if (this.structuredLogger instanceof SamplingStructuredLogger samplingLogger) {
+			samplingLogger.accept(structuredArguments, samplingDecision);
+		} else {
+			this.structuredLogger.accept(structuredArguments);
+		}
+	}
+
 	private void addInitialRequestAttributes(
 		StructuredArguments structuredArguments,
 		@Nonnull HttpServletRequest httpServletRequest
@@ -170,31 +275,19 @@ public class ServerLoggingFilter implements Filter {
 		}
 	}
 
-	private void addFinalRequestAttributes(
-		StructuredArguments structuredArguments,
-		ContentCachingRequestWrapper requestWrapper
-	) {
-		if (
-			!this.loggingConfig.isLogRequestBodies()
-			|| requestWrapper == null
-			|| requestWrapper.getContentLengthLong() <= 0
-		) {
+	private void addRequestBody(StructuredArguments structuredArguments, BodyCaptureRequestWrapper requestWrapper) {
+		if (requestWrapper.getContentLengthLong() <= 0) {
 			return;
 		}
 
-		String payload = this.getPayloadFromByteArray(
-			requestWrapper.getContentAsByteArray(),
-			requestWrapper.getCharacterEncoding()
-		);
-
-		String truncatedPayload = this.getTruncatedPayload(payload);
-		structuredArguments.getRequest().getHttp().setBody(truncatedPayload);
+		CapturedBody capturedBody = requestWrapper.getCapturedBody();
+		String characterEncoding = requestWrapper.getCharacterEncoding();
+		structuredArguments.getRequest().getHttp().setBody(() -> capturedBody.decode(characterEncoding));
 		structuredArguments.getRequest().getHttp().setContentLength(requestWrapper.getContentLengthLong());
 	}
 
 	private void addFinalResponseAttributes(
 		@Nonnull StructuredArguments structuredArguments,
-		@Nonnull BodyCaptureResponseWrapper responseWrapper,
 		@Nonnull HttpServletResponse httpServletResponse,
 		@Nonnull Duration elapsed
 	) {
@@ -210,29 +303,16 @@ public class ServerLoggingFilter implements Filter {
 		http.getStatus().setCode(httpServletResponse.getStatus());
 
 		this.addResponseHeaders(httpServletResponse, http);
-
-		if (this.loggingConfig.isLogResponseBodies() && responseWrapper.getCapturedSize() > 0) {
-			String payload = this.getPayloadFromByteArray(
-				responseWrapper.getCapturedBody(),
-				responseWrapper.getCharacterEncoding()
-			);
-
-			if (responseWrapper.isTruncated()) {
-				payload += "...more...";
-			}
-
-			http.setBody(payload);
-		}
 	}
 
-	@Nonnull
-	private String getTruncatedPayload(@Nonnull String payload) {
-		int maxEntitySize = this.loggingConfig.getMaxEntitySize();
-		if (payload.length() <= maxEntitySize) {
-			return payload;
+	private void addResponseBody(StructuredArguments structuredArguments, BodyCaptureResponseWrapper responseWrapper) {
+		if (responseWrapper.getCapturedSize() <= 0) {
+			return;
 		}
 
-		return payload.substring(0, maxEntitySize) + "...more...";
+		CapturedBody capturedBody = responseWrapper.getCapturedBody();
+		String characterEncoding = responseWrapper.getCharacterEncoding();
+		structuredArguments.getResponse().getHttp().setBody(() -> capturedBody.decode(characterEncoding));
 	}
 
 	private void addResponseHeaders(
@@ -261,12 +341,30 @@ public class ServerLoggingFilter implements Filter {
 		}
 	}
 
-	@Nonnull
-	private String getPayloadFromByteArray(byte[] requestBuffer, String charEncoding) {
-		try {
-			return new String(requestBuffer, charEncoding);
-		} catch (UnsupportedEncodingException unsupportedEncodingException) {
-			return "Unsupported-Encoding";
+	private static final class CompletionListener implements AsyncListener {
+
+		private final Runnable onComplete;
+
+		private CompletionListener(Runnable onComplete) {
+			this.onComplete = onComplete;
+		}
+
+		// Called after timeouts and errors too, once the response has been completed
+		@Override
+		public void onComplete(AsyncEvent event) {
+			this.onComplete.run();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {}
+
+		@Override
+		public void onError(AsyncEvent event) {}
+
+		// Restarting async removes the listeners, so register again to log the request when it finally completes
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
 		}
 	}
 }
@@ -65,6 +65,11 @@ public final class ServerLoggingRequestFilter implements ContainerRequestFilter
 	@Override
 	public void filter(@Nonnull ContainerRequestContext requestContext) throws IOException {
 		var structuredArguments = (StructuredArguments) requestContext.getProperty("structuredArguments");
+		// ServerLoggingFilter skips requests when the structured logger is disabled
+		if (structuredArguments == null) {
+			return;
+		}
+
 		UriInfo uriInfo = requestContext.getUriInfo();
 
 		StructuredArgumentsRequestHttp http = structuredArguments.getRequest().getHttp();
@@ -41,6 +41,10 @@ public final class ServerLoggingResponseFilter implements ContainerResponseFilte
 		@Nonnull ContainerResponseContext responseContext
 	) throws IOException {
 		var structuredArguments = (StructuredArguments) requestContext.getProperty("structuredArguments");
+		// ServerLoggingFilter skips requests when the structured logger is disabled
+		if (structuredArguments == null) {
+			return;
+		}
 
 		if (structuredArguments.getResponse() == null) {
 			throw new IllegalStateException();
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.sampling;
+
+/**
+ * The sampling decision {@link SamplingStructuredLogger} can make before a request runs, from the request alone.
+ */
+public enum SamplingDecision {
+	/**
+	 * The request is logged.
+	 */
+	SAMPLED,
+
+	/**
+	 * The request is not logged, so its bodies don't need to be captured.
+	 */
+	NOT_SAMPLED,
+
+	/**
+	 * The request lost the sample, but is still logged if it turns out to be an error or slow. Its bodies are not captured, so it is logged without them.
+	 */
+	UNDECIDED
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.sampling;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsLogger;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsPath;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsResponseHttp;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+
+/**
+ * Forwards a sample of {@link StructuredArguments} to a delegate logger and drops the rest.
+ *
+ * <p>
+ * Server errors and slow requests can be forwarded unconditionally. Other requests are forwarded with the rate configured for the longest matching path prefix, or the default rate when no prefix matches. Dropped requests never reach the delegate, so their bodies are never decoded or serialized.
+ *
+ * <p>
+ * The sample is drawn from the request path alone, so a servlet filter can call {@link #sampleRequest(StructuredArguments)} before the request runs and capture bodies only for requests that are {@link SamplingDecision#SAMPLED}. It then passes the decision to {@link #accept(StructuredArguments, SamplingDecision)} once the response is known.
+ */
+public class SamplingStructuredLogger implements StructuredArgumentsLogger {
+
+	@Nonnull
+	private final Consumer<StructuredArguments> delegate;
+
+	private final double sampleRate;
+	private final boolean alwaysLogErrors;
+
+	@Nullable
+	private final Duration slowRequestThreshold;
+
+	@Nonnull
+	private final ImmutableMap<String, Double> pathSampleRates;
+
+	public SamplingStructuredLogger(
+		@Nonnull Consumer<StructuredArguments> delegate,
+		double sampleRate,
+		boolean alwaysLogErrors,
+		@Nullable Duration slowRequestThreshold,
+		@Nonnull Map<String, Double> pathSampleRates
+	) {
+		this.delegate = Objects.requireNonNull(delegate);
+		this.sampleRate = sampleRate;
+		this.alwaysLogErrors = alwaysLogErrors;
+		this.slowRequestThreshold = slowRequestThreshold;
+		this.pathSampleRates = Maps.immutable.withAll(pathSampleRates);
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return !(this.delegate instanceof StructuredArgumentsLogger logger) || logger.isEnabled();
+	}
+
+	@Override
+	public void accept(@Nonnull StructuredArguments structuredArguments) {
+		this.accept(structuredArguments, this.sampleRequest(structuredArguments));
+	}
+
+	/**
+	 * Forwards the request if the earlier decision sampled it, or if it is undecided and turned out to be an error or slow.
+	 */
+	public void accept(@Nonnull StructuredArguments structuredArguments, @Nonnull SamplingDecision decision) {
+		if (
+			decision == SamplingDecision.SAMPLED
+			|| decision == SamplingDecision.UNDECIDED && this.isAlwaysLogged(structuredArguments)
+		) {
+			this.delegate.accept(structuredArguments);
+		}
+	}
+
+	/**
+	 * Draws the sample for a request whose path is known but whose response is not.
+	 */
+	@Nonnull
+	public SamplingDecision sampleRequest(@Nonnull StructuredArguments structuredArguments) {
+		if (this.isSampledByRate(structuredArguments.getRequest().getHttp().getPath())) {
+			return SamplingDecision.SAMPLED;
+		}
+		if (this.alwaysLogErrors || this.slowRequestThreshold != null) {
+			return SamplingDecision.UNDECIDED;
+		}
+		return SamplingDecision.NOT_SAMPLED;
+	}
+
+	private boolean isAlwaysLogged(@Nonnull StructuredArguments structuredArguments) {
+		StructuredArgumentsResponseHttp response = structuredArguments.getResponse().getHttp();
+		return this.alwaysLogErrors && this.isError(response) || this.isSlow(response);
+	}
+
+	private boolean isSampledByRate(@Nullable StructuredArgumentsPath path) {
+		double rate = this.getSampleRate(path);
+		if (rate >= 1.0) {
+			return true;
+		}
+		if (rate <= 0.0) {
+			return false;
+		}
+		return ThreadLocalRandom.current().nextDouble() < rate;
+	}
+
+	private boolean isError(@Nonnull StructuredArgumentsResponseHttp response) {
+		Integer code = response.getStatus().getCode();
+		return code != null && code >= 500;
+	}
+
+	private boolean isSlow(@Nonnull StructuredArgumentsResponseHttp response) {
+		if (this.slowRequestThreshold == null) {
+			return false;
+		}
+		Long elapsedNanos = response.getElapsedNanos();
+		return elapsedNanos != null && elapsedNanos >= this.slowRequestThreshold.toNanos();
+	}
+
+	private double getSampleRate(@Nullable StructuredArgumentsPath path) {
+		if (path == null || this.pathSampleRates.isEmpty()) {
+			return this.sampleRate;
+		}
+
+		String fullPath = path.getFull();
+		String longestPrefix = null;
+		for (String prefix : this.pathSampleRates.keysView()) {
+			if (fullPath.startsWith(prefix) && (longestPrefix == null || prefix.length() > longestPrefix.length())) {
+				longestPrefix = prefix;
+			}
+		}
+		return longestPrefix == null ? this.sampleRate : this.pathSampleRates.get(longestPrefix);
+	}
+}
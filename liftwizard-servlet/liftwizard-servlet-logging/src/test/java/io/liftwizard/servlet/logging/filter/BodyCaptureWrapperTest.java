@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BodyCaptureWrapperTest {
+
+	@Test
+	void requestWrapperCapturesWhatTheApplicationReads() throws IOException {
+		byte[] body = "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+		var wrapper = new BodyCaptureRequestWrapper(
+			ServletStubs.request(body, "UTF-8"),
+			new CaptureBufferPool(1024, 1)
+		);
+
+		ServletInputStream inputStream = wrapper.getInputStream();
+		int first = inputStream.read();
+		byte[] rest = inputStream.readAllBytes();
+
+		assertThat((char) first).isEqualTo('{');
+		assertThat(rest).hasSize(body.length - 1);
+		assertThat(wrapper.getInputStream()).isSameAs(inputStream);
+		assertThat(wrapper.getCapturedBody().decode("UTF-8")).isEqualTo("{\"key\":\"value\"}");
+	}
+
+	@Test
+	void requestWrapperReaderCapturesToo() throws IOException {
+		byte[] body = "line one\nline two".getBytes(StandardCharsets.UTF_8);
+		var wrapper = new BodyCaptureRequestWrapper(ServletStubs.request(body, "UTF-8"), new CaptureBufferPool(4, 1));
+
+		assertThat(wrapper.getReader().readLine()).isEqualTo("line one");
+		assertThat(wrapper.getCapturedBody().decode("UTF-8")).isEqualTo("line...more...");
+	}
+
+	@Test
+	void responseWrapperStreamsThroughAndCaptures() throws IOException {
+		var sent = new ByteArrayOutputStream();
+		var wrapper = new BodyCaptureResponseWrapper(ServletStubs.response(sent, "UTF-8"), new CaptureBufferPool(5, 1));
+
+		PrintWriter writer = wrapper.getWriter();
+		writer.write("response body");
+		wrapper.flushBuffer();
+
+		assertThat(sent.toString(StandardCharsets.UTF_8)).isEqualTo("response body");
+		assertThat(wrapper.getCapturedSize()).isEqualTo(5);
+		assertThat(wrapper.isTruncated()).isTrue();
+		assertThat(wrapper.getCapturedBody().decode("UTF-8")).isEqualTo("respo...more...");
+	}
+}
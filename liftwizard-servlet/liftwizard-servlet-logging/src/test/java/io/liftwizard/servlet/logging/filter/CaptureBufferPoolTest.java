@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaptureBufferPoolTest {
+
+	@Test
+	void acquireAllocatesWhenEmpty() {
+		var pool = new CaptureBufferPool(16, 2);
+
+		byte[] first = pool.acquire();
+		byte[] second = pool.acquire();
+
+		assertThat(first).hasSize(16);
+		assertThat(second).hasSize(16).isNotSameAs(first);
+	}
+
+	@Test
+	void releasedBuffersAreReused() {
+		var pool = new CaptureBufferPool(16, 2);
+		byte[] buffer = pool.acquire();
+
+		pool.release(buffer);
+
+		assertThat(pool.acquire()).isSameAs(buffer);
+	}
+
+	@Test
+	void releaseDropsBuffersBeyondCapacity() {
+		var pool = new CaptureBufferPool(16, 1);
+		byte[] first = pool.acquire();
+		byte[] second = pool.acquire();
+
+		pool.release(first);
+		pool.release(second);
+
+		assertThat(pool.acquire()).isSameAs(first);
+		assertThat(pool.acquire()).isNotSameAs(second);
+	}
+
+	@Test
+	void releaseDropsBuffersOfTheWrongSize() {
+		var pool = new CaptureBufferPool(16, 2);
+		byte[] foreign = new byte[8];
+
+		pool.release(foreign);
+
+		assertThat(pool.acquire()).hasSize(16);
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CapturedBodyTest {
+
+	@Test
+	void emptyBodyNeverBorrowsABuffer() {
+		var pool = new CaptureBufferPool(16, 1);
+		byte[] pooled = pool.acquire();
+		pool.release(pooled);
+		var capturedBody = new CapturedBody(pool);
+
+		capturedBody.release();
+
+		assertThat(capturedBody.decode("UTF-8")).isEmpty();
+		assertThat(pool.acquire()).isSameAs(pooled);
+	}
+
+	@Test
+	void capturesUpToTheBufferSize() {
+		var capturedBody = new CapturedBody(new CaptureBufferPool(8, 1));
+		byte[] bytes = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+		capturedBody.write(bytes, 0, 6);
+		capturedBody.write(bytes, 6, 4);
+		capturedBody.write('!');
+
+		assertThat(capturedBody.size()).isEqualTo(8);
+		assertThat(capturedBody.isTruncated()).isTrue();
+		assertThat(capturedBody.toByteArray()).isEqualTo("01234567".getBytes(StandardCharsets.UTF_8));
+		assertThat(capturedBody.decode("UTF-8")).isEqualTo("01234567...more...");
+	}
+
+	@Test
+	void decodesWithTheGivenCharset() {
+		var capturedBody = new CapturedBody(new CaptureBufferPool(16, 1));
+		byte[] bytes = "héllo".getBytes(StandardCharsets.ISO_8859_1);
+
+		capturedBody.write(bytes, 0, bytes.length);
+
+		assertThat(capturedBody.decode("ISO-8859-1")).isEqualTo("héllo");
+	}
+
+	@Test
+	void unsupportedEncoding() {
+		var capturedBody = new CapturedBody(new CaptureBufferPool(16, 1));
+		capturedBody.write('a');
+
+		assertThat(capturedBody.decode("no-such-charset")).isEqualTo("Unsupported-Encoding");
+	}
+
+	@Test
+	void releaseAfterDecodeReturnsTheBuffer() {
+		var pool = new CaptureBufferPool(16, 1);
+		var capturedBody = new CapturedBody(pool);
+		capturedBody.write('a');
+		String decoded = capturedBody.decode(null);
+
+		capturedBody.release();
+
+		assertThat(capturedBody.decode(null)).isSameAs(decoded);
+		byte[] reused = pool.acquire();
+		assertThat(reused[0]).isEqualTo((byte) 'a');
+	}
+
+	@Test
+	void releaseBeforeDecodeReturnsTheBuffer() {
+		var pool = new CaptureBufferPool(16, 1);
+		byte[] pooled = pool.acquire();
+		pool.release(pooled);
+		var capturedBody = new CapturedBody(pool);
+		capturedBody.write("abc".getBytes(StandardCharsets.UTF_8), 0, 3);
+
+		capturedBody.release();
+
+		assertThat(pool.acquire()).isSameAs(pooled);
+		assertThat(capturedBody.decode("UTF-8")).isEmpty();
+	}
+
+	@Test
+	void truncatesMultibyteCharactersAtTheByteLimit() {
+		var capturedBody = new CapturedBody(new CaptureBufferPool(3, 1));
+		byte[] bytes = "ééé".getBytes(StandardCharsets.UTF_8);
+
+		capturedBody.write(bytes, 0, bytes.length);
+
+		assertThat(capturedBody.size()).isEqualTo(3);
+		assertThat(capturedBody.decode("UTF-8")).isEqualTo("é\uFFFD...more...");
+	}
+}
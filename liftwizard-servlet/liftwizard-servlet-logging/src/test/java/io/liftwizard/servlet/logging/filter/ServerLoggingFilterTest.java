@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.liftwizard.servlet.logging.feature.LoggingConfig;
+import io.liftwizard.servlet.logging.sampling.SamplingStructuredLogger;
+import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsLogger;
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerLoggingFilterTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2000-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+	private final List<StructuredArguments> logged = new ArrayList<>();
+
+	@Test
+	void logsRequestAndResponseBodies() throws Exception {
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), this.logged::add, CLOCK);
+		HttpServletRequest request = ServletStubs.request("ping".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		var sent = new ByteArrayOutputStream();
+		HttpServletResponse response = ServletStubs.response(sent, "UTF-8");
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+			filteredRequest.getInputStream().readAllBytes();
+			filteredResponse.getOutputStream().write("pong".getBytes(StandardCharsets.UTF_8));
+		});
+
+		assertThat(sent.toString(StandardCharsets.UTF_8)).isEqualTo("pong");
+		assertThat(this.logged).hasSize(1);
+		StructuredArguments structuredArguments = this.logged.get(0);
+		assertThat(structuredArguments.getRequest().getHttp().getBody()).isEqualTo("ping");
+		assertThat(structuredArguments.getRequest().getHttp().getContentLength()).isEqualTo(4L);
+		assertThat(structuredArguments.getResponse().getHttp().getBody()).isEqualTo("pong");
+	}
+
+	@Test
+	void skipsWrappersWhenBodiesAreNotLogged() throws Exception {
+		var filter = new ServerLoggingFilter(newLoggingConfig(false), this.logged::add, CLOCK);
+		HttpServletRequest request = ServletStubs.request("ping".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8");
+		List<ServletRequest> seenRequests = new ArrayList<>();
+		List<ServletResponse> seenResponses = new ArrayList<>();
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+			seenRequests.add(filteredRequest);
+			seenResponses.add(filteredResponse);
+		});
+
+		assertThat(seenRequests).singleElement().isSameAs(request);
+		assertThat(seenResponses).singleElement().isSameAs(response);
+		assertThat(this.logged).hasSize(1);
+		assertThat(this.logged.get(0).getRequest().getHttp().getBody()).isNull();
+		assertThat(this.logged.get(0).getResponse().getHttp().getBody()).isNull();
+	}
+
+	@Test
+	void requestsThatAreNotSampledSkipBodyCapture() throws Exception {
+		var samplingLogger = new SamplingStructuredLogger(this.logged::add, 0.0, false, null, Map.of());
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), samplingLogger, CLOCK);
+		HttpServletRequest request = ServletStubs.request("ping".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8");
+		List<ServletRequest> seenRequests = new ArrayList<>();
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> seenRequests.add(filteredRequest));
+
+		assertThat(seenRequests).singleElement().isSameAs(request);
+		assertThat(this.logged).isEmpty();
+	}
+
+	@Test
+	void undecidedErrorsAreLoggedWithoutBodies() throws Exception {
+		var samplingLogger = new SamplingStructuredLogger(this.logged::add, 0.0, true, null, Map.of());
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), samplingLogger, CLOCK);
+		HttpServletRequest request = ServletStubs.request("ping".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8", 500);
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+			filteredRequest.getInputStream().readAllBytes();
+			filteredResponse.getOutputStream().write("boom".getBytes(StandardCharsets.UTF_8));
+		});
+
+		assertThat(this.logged).hasSize(1);
+		assertThat(this.logged.get(0).getResponse().getHttp().getStatus().getCode()).isEqualTo(500);
+		assertThat(this.logged.get(0).getRequest().getHttp().getBody()).isNull();
+		assertThat(this.logged.get(0).getResponse().getHttp().getBody()).isNull();
+	}
+
+	@Test
+	void undecidedSuccessesAllocateNoCaptureBuffer() throws Exception {
+		var pool = new CountingCaptureBufferPool();
+		var samplingLogger = new SamplingStructuredLogger(this.logged::add, 0.0, true, null, Map.of());
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), samplingLogger, CLOCK, pool);
+		HttpServletRequest request = ServletStubs.request("ping".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8");
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+			filteredRequest.getInputStream().readAllBytes();
+			filteredResponse.getOutputStream().write("pong".getBytes(StandardCharsets.UTF_8));
+		});
+
+		assertThat(pool.acquired).isZero();
+		assertThat(this.logged).isEmpty();
+	}
+
+	@Test
+	void disabledLoggersSkipTheRequest() throws Exception {
+		var logger = new StructuredArgumentsLogger() {
+			@Override
+			public boolean isEnabled() {
+				return false;
+			}
+
+			@Override
+			public void accept(StructuredArguments structuredArguments) {
+				ServerLoggingFilterTest.this.logged.add(structuredArguments);
+			}
+		};
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), logger, CLOCK);
+		HttpServletRequest request = ServletStubs.request("ping".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8");
+		List<ServletRequest> seenRequests = new ArrayList<>();
+		List<ServletResponse> seenResponses = new ArrayList<>();
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+			seenRequests.add(filteredRequest);
+			seenResponses.add(filteredResponse);
+		});
+
+		assertThat(seenRequests).singleElement().isSameAs(request);
+		assertThat(seenResponses).singleElement().isSameAs(response);
+		assertThat(this.logged).isEmpty();
+	}
+
+	@Test
+	void asyncRequestsAreLoggedWhenTheyComplete() throws Exception {
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), this.logged::add, CLOCK);
+		List<AsyncListener> asyncListeners = new ArrayList<>();
+		HttpServletRequest request = ServletStubs.asyncRequest(
+			"ping".getBytes(StandardCharsets.UTF_8),
+			"UTF-8",
+			asyncListeners
+		);
+		var sent = new ByteArrayOutputStream();
+		HttpServletResponse response = ServletStubs.response(sent, "UTF-8");
+		List<ServletResponse> seenResponses = new ArrayList<>();
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) -> {
+			filteredRequest.getInputStream().readAllBytes();
+			seenResponses.add(filteredResponse);
+		});
+
+		// The servlet has suspended the request, so the response is written after the filter returns
+		assertThat(this.logged).isEmpty();
+		assertThat(asyncListeners).hasSize(1);
+
+		seenResponses.get(0).getOutputStream().write("pong".getBytes(StandardCharsets.UTF_8));
+		asyncListeners.get(0).onComplete(null);
+
+		assertThat(sent.toString(StandardCharsets.UTF_8)).isEqualTo("pong");
+		assertThat(this.logged).hasSize(1);
+		assertThat(this.logged.get(0).getRequest().getHttp().getBody()).isEqualTo("ping");
+		assertThat(this.logged.get(0).getResponse().getHttp().getBody()).isEqualTo("pong");
+	}
+
+	@Test
+	void bodiesOutliveTheirPooledBuffers() throws Exception {
+		List<StructuredArguments> unread = new ArrayList<>();
+		var filter = new ServerLoggingFilter(newLoggingConfig(true), unread::add, CLOCK);
+
+		for (String body : List.of("first", "second")) {
+			HttpServletRequest request = ServletStubs.request(body.getBytes(StandardCharsets.UTF_8), "UTF-8");
+			HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8");
+			filter.doFilter(request, response, (filteredRequest, filteredResponse) ->
+				filteredRequest.getInputStream().readAllBytes()
+			);
+		}
+
+		// The second request reuses the first request's buffer, which must not change what the first request logs
+		assertThat(unread).hasSize(2);
+		assertThat(unread.get(0).getRequest().getHttp().getBody()).isEqualTo("first");
+		assertThat(unread.get(1).getRequest().getHttp().getBody()).isEqualTo("second");
+	}
+
+	@Test
+	void truncatesRequestBodiesInBytes() throws Exception {
+		var filter = new ServerLoggingFilter(newLoggingConfig(true, 4), this.logged::add, CLOCK);
+		HttpServletRequest request = ServletStubs.request("héllo".getBytes(StandardCharsets.UTF_8), "UTF-8");
+		HttpServletResponse response = ServletStubs.response(new ByteArrayOutputStream(), "UTF-8");
+
+		filter.doFilter(request, response, (filteredRequest, filteredResponse) ->
+			filteredRequest.getInputStream().readAllBytes()
+		);
+
+		assertThat(this.logged).hasSize(1);
+		assertThat(this.logged.get(0).getRequest().getHttp().getBody()).isEqualTo("hél...more...");
+		assertThat(this.logged.get(0).getRequest().getHttp().getContentLength()).isEqualTo(6L);
+	}
+
+	private static LoggingConfig newLoggingConfig(boolean logBodies) {
+		return newLoggingConfig(logBodies, 1024);
+	}
+
+	private static LoggingConfig newLoggingConfig(boolean logBodies, int maxEntitySize) {
+		return new LoggingConfig(
+			true,
+			logBodies,
+			true,
+			logBodies,
+			false,
+			false,
+			false,
+			false,
+			Lists.immutable.empty(),
+			Lists.immutable.empty(),
+			maxEntitySize
+		);
+	}
+
+	private static final class CountingCaptureBufferPool extends CaptureBufferPool {
+
+		private int acquired;
+
+		private CountingCaptureBufferPool() {
+			super(1024, 1);
+		}
+
+		@Override
+		public byte[] acquire() {
+			this.acquired++;
+			return super.acquire();
+		}
+	}
+}
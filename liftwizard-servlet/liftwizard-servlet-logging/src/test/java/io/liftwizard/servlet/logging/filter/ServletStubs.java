@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.filter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Minimal {@link HttpServletRequest} and {@link HttpServletResponse} stubs backed by byte arrays. Methods without an explicit answer return null, zero, or false.
+ */
+final class ServletStubs {
+
+	private ServletStubs() {
+		throw new AssertionError("Suppress default constructor for noninstantiability");
+	}
+
+	static HttpServletRequest request(byte[] body, String characterEncoding) {
+		return stub(HttpServletRequest.class, requestAnswers(body, characterEncoding));
+	}
+
+	/**
+	 * A request whose servlet has started async processing. Listeners added to its {@link AsyncContext} are collected in {@code asyncListeners}.
+	 */
+	static HttpServletRequest asyncRequest(byte[] body, String characterEncoding, List<AsyncListener> asyncListeners) {
+		AsyncContext asyncContext = (AsyncContext) Proxy.newProxyInstance(
+			AsyncContext.class.getClassLoader(),
+			new Class<?>[] {AsyncContext.class},
+			(p, method, args) -> {
+				if (method.getName().equals("addListener")) {
+					asyncListeners.add((AsyncListener) args[0]);
+				}
+				return null;
+			}
+		);
+		Map<String, Object> answers = requestAnswers(body, characterEncoding);
+		answers.put("isAsyncStarted", true);
+		answers.put("getAsyncContext", asyncContext);
+		return stub(HttpServletRequest.class, answers);
+	}
+
+	private static Map<String, Object> requestAnswers(byte[] body, String characterEncoding) {
+		var inputStream = new StubServletInputStream(new ByteArrayInputStream(body));
+		Map<String, Object> answers = new HashMap<>();
+		answers.put("getInputStream", inputStream);
+		answers.put("getContentLengthLong", (long) body.length);
+		answers.put("getContentLength", body.length);
+		answers.put("getCharacterEncoding", characterEncoding);
+		answers.put("getMethod", "POST");
+		answers.put("getContextPath", "");
+		answers.put("getScheme", "http");
+		answers.put("getServerName", "localhost");
+		answers.put("getRemoteAddr", "127.0.0.1");
+		answers.put("getRemoteHost", "localhost");
+		answers.put("getRequestURI", "/stub");
+		answers.put("getRequestURL", new StringBuffer("http://localhost/stub"));
+		answers.put("getHeaderNames", Collections.emptyEnumeration());
+		return answers;
+	}
+
+	static HttpServletResponse response(ByteArrayOutputStream body, String characterEncoding) {
+		return response(body, characterEncoding, 200);
+	}
+
+	static HttpServletResponse response(ByteArrayOutputStream body, String characterEncoding, int status) {
+		Map<String, Object> answers = new HashMap<>();
+		answers.put("getOutputStream", new StubServletOutputStream(body));
+		answers.put("getCharacterEncoding", characterEncoding);
+		answers.put("getStatus", status);
+		answers.put("getHeaderNames", List.of());
+		return stub(HttpServletResponse.class, answers);
+	}
+
+	private static <T> T stub(Class<T> type, Map<String, Object> answers) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, method, args) -> {
+			if (answers.containsKey(method.getName())) {
+				return answers.get(method.getName());
+			}
+			Class<?> returnType = method.getReturnType();
+			if (returnType == boolean.class) {
+				return false;
+			}
+			if (returnType == int.class) {
+				return 0;
+			}
+			if (returnType == long.class) {
+				return 0L;
+			}
+			return null;
+		});
+		return type.cast(proxy);
+	}
+
+	private static final class StubServletInputStream extends ServletInputStream {
+
+		private final ByteArrayInputStream delegate;
+
+		private StubServletInputStream(ByteArrayInputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int read() {
+			return this.delegate.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			return this.delegate.read(b, off, len);
+		}
+
+		@Override
+		public boolean isFinished() {
+			return this.delegate.available() == 0;
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setReadListener(ReadListener readListener) {}
+	}
+
+	private static final class StubServletOutputStream extends ServletOutputStream {
+
+		private final ByteArrayOutputStream delegate;
+
+		private StubServletOutputStream(ByteArrayOutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void write(int b) {
+			this.delegate.write(b);
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Craig Motlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.liftwizard.servlet.logging.sampling;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.liftwizard.servlet.logging.typesafe.StructuredArguments;
+import io.liftwizard.servlet.logging.typesafe.StructuredArgumentsPath;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingStructuredLoggerTest {
+
+	private final List<StructuredArguments> logged = new ArrayList<>();
+
+	@Test
+	void fullRateLogsEverything() {
+		var logger = new SamplingStructuredLogger(this.logged::add, 1.0, false, null, Map.of());
+
+		StructuredArguments structuredArguments = newStructuredArguments("/api/widgets", 200, Duration.ZERO);
+		logger.accept(structuredArguments);
+
+		assertThat(logger.sampleRequest(structuredArguments)).isEqualTo(SamplingDecision.SAMPLED);
+		assertThat(this.logged).containsExactly(structuredArguments);
+	}
+
+	@Test
+	void zeroRateWithoutOverridesIsDecidedUpFront() {
+		var logger = new SamplingStructuredLogger(this.logged::add, 0.0, false, null, Map.of());
+
+		StructuredArguments structuredArguments = newStructuredArguments("/api/widgets", 500, Duration.ofMinutes(1));
+		logger.accept(structuredArguments);
+
+		assertThat(logger.sampleRequest(structuredArguments)).isEqualTo(SamplingDecision.NOT_SAMPLED);
+		assertThat(this.logged).isEmpty();
+	}
+
+	@Test
+	void longestPathPrefixWins() {
+		var logger = new SamplingStructuredLogger(
+			this.logged::add,
+			1.0,
+			false,
+			null,
+			Map.of("/api", 1.0, "/api/health", 0.0)
+		);
+
+		StructuredArguments health = newStructuredArguments("/api/health/ready", 200, Duration.ZERO);
+		StructuredArguments widgets = newStructuredArguments("/api/widgets", 200, Duration.ZERO);
+		logger.accept(health);
+		logger.accept(widgets);
+
+		assertThat(this.logged).containsExactly(widgets);
+	}
+
+	@Test
+	void errorsAreLoggedWhenUndecided() {
+		var logger = new SamplingStructuredLogger(this.logged::add, 0.0, true, null, Map.of());
+
+		StructuredArguments ok = newStructuredArguments("/api/widgets", 200, Duration.ZERO);
+		StructuredArguments error = newStructuredArguments("/api/widgets", 503, Duration.ZERO);
+
+		assertThat(logger.sampleRequest(ok)).isEqualTo(SamplingDecision.UNDECIDED);
+		logger.accept(ok, SamplingDecision.UNDECIDED);
+		logger.accept(error, SamplingDecision.UNDECIDED);
+		logger.accept(error, SamplingDecision.NOT_SAMPLED);
+
+		assertThat(this.logged).containsExactly(error);
+	}
+
+	@Test
+	void slowRequestsAreLoggedWhenUndecided() {
+		var logger = new SamplingStructuredLogger(this.logged::add, 0.0, false, Duration.ofSeconds(1), Map.of());
+
+		StructuredArguments fast = newStructuredArguments("/api/widgets", 200, Duration.ofMillis(999));
+		StructuredArguments slow = newStructuredArguments("/api/widgets", 200, Duration.ofSeconds(1));
+		logger.accept(fast);
+		logger.accept(slow);
+
+		assertThat(this.logged).containsExactly(slow);
+	}
+
+	@Test
+	void sampledDecisionIsKeptRegardlessOfTheResponse() {
+		var logger = new SamplingStructuredLogger(this.logged::add, 0.0, true, null, Map.of());
+
+		StructuredArguments structuredArguments = newStructuredArguments("/api/widgets", 200, Duration.ZERO);
+		logger.accept(structuredArguments, SamplingDecision.SAMPLED);
+
+		assertThat(this.logged).containsExactly(structuredArguments);
+	}
+
+	private static StructuredArguments newStructuredArguments(String path, int statusCode, Duration elapsed) {
+		var structuredArguments = new StructuredArguments();
+		structuredArguments
+			.getRequest()
+			.getHttp()
+			.setPath(new StructuredArgumentsPath("http://localhost" + path, path));
+		structuredArguments.getResponse().getHttp().getStatus().setCode(statusCode);
+		structuredArguments.getResponse().getHttp().setElapsed(elapsed);
+		return structuredArguments;
+	}
+}